@@ -0,0 +1,306 @@
+package br.com.fiap.mototrack.booking;
+
+import br.com.fiap.mototrack.dto.response.ConflitoResponse;
+import br.com.fiap.mototrack.repository.AgendamentoRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import static br.com.fiap.mototrack.exception.HttpExceptionUtils.conflict;
+
+/**
+ * # 🗓️ AgendaOficina
+ *
+ * Índice em memória dos horários reservados pelos agendamentos, com uma {@link IntervalTree}
+ * por moto e outra por filial (oficina).
+ *
+ * ---
+ * ## 📋 Responsabilidades:
+ * - Verificar sobreposição na agenda da moto em O(log n), sem consulta ao banco
+ * - Reservar o intervalo **antes do commit**, de forma atômica por moto: duas reservas
+ *   concorrentes para a mesma moto nunca passam juntas pela verificação
+ * - Desfazer a reserva se a transação for desfeita (ver `AgendamentoService`)
+ * - Gerar o relatório de conflitos, calculado em paralelo por filial
+ *
+ * ---
+ * ## 🏷️ Regras
+ * - Sobreposição na **mesma moto** segue a {@link PoliticaConflito} configurada
+ * - Sobreposição na **mesma filial** (motos diferentes) é sinalizada apenas quando as reservas
+ *   simultâneas passam da capacidade da oficina ({@link CapacidadeOficina})
+ * - Reservas encerradas há mais de `retencao-horas` saem da memória
+ *
+ * ---
+ * @author Rafael
+ * @since 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AgendaOficina {
+
+    // =============================
+    // 🔗 Injeção de Dependências
+    // =============================
+
+    private final AgendamentoRepository repository;
+    private final CapacidadeOficina capacidade;
+
+    @Value("${mototrack.agendamento.conflito.politica:REJEITAR}")
+    private PoliticaConflito politica;
+
+    @Value("${mototrack.agendamento.conflito.retencao-horas:24}")
+    private long retencaoHoras;
+
+    @Value("${mototrack.agendamento.conflito.tamanho-lote-carga:5000}")
+    private int tamanhoLote;
+
+    private final ConcurrentHashMap<Long, IntervalTree> porMoto = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, IntervalTree> porFilial = new ConcurrentHashMap<>();
+
+    // =============================
+    // 🚀 Carga inicial
+    // =============================
+
+    @PostConstruct
+    public void carregar() {
+        LocalDateTime desde = LocalDateTime.now().minusHours(retencaoHoras).minusDays(1);
+        long aposId = 0L;
+        int total = 0;
+        while (true) {
+            List<ReservaIntervalo> lote = repository.findReservasDesde(desde, aposId, PageRequest.of(0, tamanhoLote));
+            lote.forEach(this::inserir);
+            total += lote.size();
+            if (lote.size() < tamanhoLote) {
+                break;
+            }
+            aposId = lote.get(lote.size() - 1).agendamentoId();
+        }
+        log.info("🗓️ Agenda das oficinas carregada com {} reservas", total);
+    }
+
+    // =============================
+    // 📌 Reserva
+    // =============================
+
+    /**
+     * Reserva o intervalo, substituindo a reserva anterior do mesmo agendamento (se houver).
+     * Retorna os IDs dos agendamentos sobrepostos que foram apenas sinalizados.
+     *
+     * @throws org.springframework.web.server.ResponseStatusException 409 se a moto já estiver
+     *         reservada no horário e a política for {@link PoliticaConflito#REJEITAR}
+     */
+    public List<Long> reservar(ReservaIntervalo nova, ReservaIntervalo anterior) {
+        List<ReservaIntervalo> conflitos = new ArrayList<>();
+
+        IntervalTree agendaMoto = arvore(porMoto, nova.motoId());
+        if (agendaMoto != null) {
+            synchronized (agendaMoto) {
+                List<ReservaIntervalo> daMoto = agendaMoto.sobrepostos(
+                        nova.inicio(), nova.fim(), nova.agendamentoId(), politica == PoliticaConflito.REJEITAR ? 1 : Integer.MAX_VALUE);
+                if (!daMoto.isEmpty() && politica == PoliticaConflito.REJEITAR) {
+                    throw conflict(String.format("A moto %d já possui o agendamento %d neste horário",
+                            nova.motoId(), daMoto.get(0).agendamentoId()));
+                }
+                conflitos.addAll(daMoto);
+                if (anterior != null && Objects.equals(anterior.motoId(), nova.motoId())) {
+                    agendaMoto.remover(anterior);
+                }
+                agendaMoto.inserir(nova);
+            }
+        }
+        if (anterior != null && !Objects.equals(anterior.motoId(), nova.motoId())) {
+            remover(porMoto, anterior.motoId(), anterior);
+        }
+
+        remover(porFilial, anterior != null ? anterior.filialId() : null, anterior);
+        IntervalTree agendaFilial = arvore(porFilial, nova.filialId());
+        if (agendaFilial != null) {
+            synchronized (agendaFilial) {
+                List<ReservaIntervalo> daFilial =
+                        agendaFilial.sobrepostos(nova.inicio(), nova.fim(), nova.agendamentoId(), Integer.MAX_VALUE);
+                if (simultaneasMaximas(nova, daFilial) > capacidade.capacidade(nova.filialId())) {
+                    conflitos.addAll(daFilial);
+                }
+                agendaFilial.inserir(nova);
+            }
+        }
+
+        return conflitos.stream().map(ReservaIntervalo::agendamentoId).distinct().sorted().toList();
+    }
+
+    /**
+     * Desfaz uma reserva feita em transação que não chegou ao commit, restaurando a anterior.
+     */
+    public void desfazer(ReservaIntervalo nova, ReservaIntervalo anterior) {
+        liberar(nova);
+        if (anterior != null) {
+            inserir(anterior);
+        }
+    }
+
+    /**
+     * Libera o intervalo de um agendamento excluído.
+     */
+    public void liberar(ReservaIntervalo reserva) {
+        remover(porMoto, reserva.motoId(), reserva);
+        remover(porFilial, reserva.filialId(), reserva);
+    }
+
+    // =============================
+    // 📊 Relatório de conflitos
+    // =============================
+
+    /**
+     * Todos os pares sobrepostos ainda em memória. Cada filial é varrida em paralelo;
+     * conflitos da mesma moto entre filiais diferentes são varridos em paralelo por moto.
+     */
+    public List<ConflitoResponse> conflitos() {
+        Stream<ConflitoResponse> porOficina = porFilial.entrySet().parallelStream()
+                .flatMap(e -> varrer(e.getValue(), e.getKey(), capacidade.capacidade(e.getKey()), false).stream());
+        Stream<ConflitoResponse> entreFiliais = porMoto.values().parallelStream()
+                .flatMap(arvore -> varrer(arvore, null, Integer.MAX_VALUE, true).stream());
+
+        return Stream.concat(porOficina, entreFiliais)
+                .sorted(Comparator.comparing(ConflitoResponse::inicio)
+                        .thenComparing(ConflitoResponse::agendamentoId)
+                        .thenComparing(ConflitoResponse::conflitanteId))
+                .toList();
+    }
+
+    // =============================
+    // 🧹 Poda
+    // =============================
+
+    /**
+     * Remove da memória as reservas encerradas há mais que a retenção.
+     */
+    @Scheduled(fixedDelayString = "${mototrack.agendamento.conflito.poda-intervalo-ms:3600000}")
+    public void podar() {
+        LocalDateTime limite = LocalDateTime.now().minusHours(retencaoHoras);
+        int removidas = 0;
+        for (IntervalTree arvore : porMoto.values()) {
+            synchronized (arvore) {
+                for (ReservaIntervalo r : arvore.encerradasAte(limite)) {
+                    arvore.remover(r);
+                    removidas++;
+                }
+            }
+        }
+        for (IntervalTree arvore : porFilial.values()) {
+            synchronized (arvore) {
+                arvore.encerradasAte(limite).forEach(arvore::remover);
+            }
+        }
+        if (removidas > 0) {
+            log.debug("🧹 Agenda das oficinas: {} reservas encerradas removidas", removidas);
+        }
+    }
+
+    // =============================
+    // 🔧 Métodos auxiliares
+    // =============================
+
+    /**
+     * Varredura por início: mantém as reservas ainda abertas e emite um par para cada sobreposição da mesma
+     * moto. Pares de motos diferentes saem apenas quando a reserva que começa eleva as simultâneas acima da
+     * capacidade: a simultaneidade máxima sempre ocorre no início de alguma reserva.
+     *
+     * @param capacidade          reservas simultâneas aceitas na oficina
+     * @param somenteEntreFiliais emite apenas pares de filiais diferentes (os demais já saem na varredura da filial)
+     */
+    private List<ConflitoResponse> varrer(IntervalTree arvore, Long filialId, int capacidade, boolean somenteEntreFiliais) {
+        List<ReservaIntervalo> ordenadas = new ArrayList<>();
+        synchronized (arvore) {
+            arvore.emOrdem(ordenadas::add);
+        }
+        List<ConflitoResponse> pares = new ArrayList<>();
+        List<ReservaIntervalo> abertas = new ArrayList<>();
+        for (ReservaIntervalo atual : ordenadas) {
+            abertas.removeIf(r -> !r.fim().isAfter(atual.inicio()));
+            boolean lotada = abertas.size() + 1 > capacidade;
+            for (ReservaIntervalo aberta : abertas) {
+                boolean mesmaMoto = Objects.equals(aberta.motoId(), atual.motoId());
+                if ((somenteEntreFiliais && Objects.equals(aberta.filialId(), atual.filialId()))
+                        || (!mesmaMoto && !lotada)) {
+                    continue;
+                }
+                pares.add(new ConflitoResponse(
+                        mesmaMoto ? "MOTO" : "OFICINA",
+                        filialId,
+                        aberta.agendamentoId(),
+                        atual.agendamentoId(),
+                        atual.inicio(),
+                        aberta.fim().isBefore(atual.fim()) ? aberta.fim() : atual.fim()));
+            }
+            abertas.add(atual);
+        }
+        return pares;
+    }
+
+    /**
+     * Maior número de reservas simultâneas dentro de `nova`, contando ela mesma.
+     */
+    private static int simultaneasMaximas(ReservaIntervalo nova, List<ReservaIntervalo> sobrepostas) {
+        if (sobrepostas.isEmpty()) {
+            return 1;
+        }
+        List<LocalDateTime> inicios = new ArrayList<>();
+        List<LocalDateTime> fins = new ArrayList<>();
+        for (ReservaIntervalo r : sobrepostas) {
+            inicios.add(r.inicio().isAfter(nova.inicio()) ? r.inicio() : nova.inicio());
+            fins.add(r.fim());
+        }
+        Collections.sort(inicios);
+        Collections.sort(fins);
+        int simultaneas = 0;
+        int maximo = 0;
+        int f = 0;
+        for (LocalDateTime inicio : inicios) {
+            while (!fins.get(f).isAfter(inicio)) {
+                f++;
+                simultaneas--;
+            }
+            maximo = Math.max(maximo, ++simultaneas);
+        }
+        return maximo + 1;
+    }
+
+    private void inserir(ReservaIntervalo reserva) {
+        inserir(porMoto, reserva.motoId(), reserva);
+        inserir(porFilial, reserva.filialId(), reserva);
+    }
+
+    private static void inserir(ConcurrentHashMap<Long, IntervalTree> indice, Long chave, ReservaIntervalo reserva) {
+        IntervalTree arvore = arvore(indice, chave);
+        if (arvore != null) {
+            synchronized (arvore) {
+                arvore.inserir(reserva);
+            }
+        }
+    }
+
+    private static void remover(Map<Long, IntervalTree> indice, Long chave, ReservaIntervalo reserva) {
+        if (chave == null || reserva == null) {
+            return;
+        }
+        IntervalTree arvore = indice.get(chave);
+        if (arvore != null) {
+            synchronized (arvore) {
+                arvore.remover(reserva);
+            }
+        }
+    }
+
+    private static IntervalTree arvore(ConcurrentHashMap<Long, IntervalTree> indice, Long chave) {
+        return chave == null ? null : indice.computeIfAbsent(chave, k -> new IntervalTree());
+    }
+}
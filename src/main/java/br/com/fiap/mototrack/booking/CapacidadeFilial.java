@@ -0,0 +1,10 @@
+package br.com.fiap.mototrack.booking;
+
+/**
+ * 🧰 Capacidade configurada da oficina de uma filial (nula usa o padrão).
+ *
+ * @param filialId   ID da filial
+ * @param capacidade Motos atendidas simultaneamente por slot
+ */
+public record CapacidadeFilial(Long filialId, Integer capacidade) {
+}
@@ -0,0 +1,366 @@
+package br.com.fiap.mototrack.booking;
+
+import br.com.fiap.mototrack.dto.response.DisponibilidadeResponse;
+import br.com.fiap.mototrack.model.OficinaSlot;
+import br.com.fiap.mototrack.repository.AgendamentoRepository;
+import br.com.fiap.mototrack.repository.FilialRepository;
+import br.com.fiap.mototrack.repository.OficinaSlotRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static br.com.fiap.mototrack.exception.HttpExceptionUtils.conflict;
+import static br.com.fiap.mototrack.exception.HttpExceptionUtils.notFound;
+
+/**
+ * # 🧰 CapacidadeOficina
+ *
+ * Controle de capacidade das oficinas: cada filial atende até `N` motos por slot de horário.
+ *
+ * ---
+ * ## 📋 Funcionamento
+ * - Um contador atômico por `(filial, slot)` em memória; a reserva é um laço de CAS
+ *   (`reservas < capacidade`), sem lock nem consulta ao banco
+ * - Um agendamento ocupa todos os slots que toca; se algum estiver lotado, os já
+ *   reservados são devolvidos e a operação é recusada com 409
+ * - Ao remarcar, os slots novos são ocupados antes de soltar os antigos, que só são devolvidos
+ *   após o commit: uma vaga liberada nunca precisa ser retomada sem checar a capacidade
+ * - Os slots alterados entram em uma fila e são gravados em `tb_oficina_slot` de forma
+ *   assíncrona, com verificação otimista de versão; em conflito, as reservas gravadas pelo outro
+ *   escritor são somadas ao contador (nunca sobrescritas) e a gravação é refeita com a nova versão
+ * - Na inicialização, os contadores são reconstruídos a partir dos agendamentos (fonte da
+ *   verdade) e a tabela é reconciliada
+ * - `disponibilidade` responde inteiramente da memória
+ *
+ * ---
+ * @author Rafael
+ * @since 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CapacidadeOficina {
+
+    /** Chave de um slot: filial + índice do slot desde a época */
+    private record ChaveSlot(long filialId, long indice) {
+    }
+
+    /** Contador de um slot e seu estado de persistência */
+    private static final class Slot {
+        final AtomicInteger reservas = new AtomicInteger();
+        final AtomicBoolean sujo = new AtomicBoolean();
+        Long id;
+        Long versao;
+        /** Reservas na linha da tabela na última leitura/gravação desta instância */
+        int persistidas;
+    }
+
+    // =============================
+    // 🔗 Injeção de Dependências
+    // =============================
+
+    private final FilialRepository filialRepository;
+    private final AgendamentoRepository agendamentoRepository;
+    private final OficinaSlotRepository slotRepository;
+
+    @Value("${mototrack.oficina.duracao-slot-minutos:60}")
+    private int duracaoSlotMinutos;
+
+    @Value("${mototrack.oficina.capacidade-padrao:2}")
+    private int capacidadePadrao;
+
+    @Value("${mototrack.oficina.retencao-dias:1}")
+    private long retencaoDias;
+
+    private final ConcurrentHashMap<Long, Integer> capacidades = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<ChaveSlot, Slot> slots = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<ChaveSlot> pendentes = new ConcurrentLinkedQueue<>();
+
+    // =============================
+    // 🚀 Carga inicial
+    // =============================
+
+    @PostConstruct
+    public void carregar() {
+        filialRepository.findCapacidades().forEach(c -> definirCapacidade(c.filialId(), c.capacidade()));
+
+        LocalDateTime desde = LocalDate.now().minusDays(retencaoDias).atStartOfDay();
+        long aposId = 0L;
+        int reservas = 0;
+        while (true) {
+            List<ReservaIntervalo> lote = agendamentoRepository.findReservasDesde(desde, aposId, PageRequest.of(0, 5000));
+            lote.forEach(this::forcar);
+            reservas += lote.size();
+            if (lote.size() < 5000) {
+                break;
+            }
+            aposId = lote.get(lote.size() - 1).agendamentoId();
+        }
+
+        for (OficinaSlot persistido : slotRepository.findByInicioGreaterThanEqual(desde)) {
+            ChaveSlot chave = new ChaveSlot(persistido.getFilialId(), indice(persistido.getInicio()));
+            Slot slot = slots.computeIfAbsent(chave, k -> new Slot());
+            slot.id = persistido.getId();
+            slot.versao = persistido.getVersao();
+            slot.persistidas = persistido.getReservas();
+            if (slot.reservas.get() != persistido.getReservas()) {
+                marcarSujo(chave, slot);
+            }
+        }
+        log.info("🧰 Capacidade das oficinas carregada: {} filiais, {} reservas, {} slots",
+                capacidades.size(), reservas, slots.size());
+    }
+
+    // =============================
+    // 📌 Reserva
+    // =============================
+
+    /**
+     * Reserva as vagas da nova reserva (`anterior` nula) ou troca a anterior pela nova sem soltar nenhuma
+     * vaga antes da hora: ocupa, com verificação de capacidade, apenas os slots que a nova toca e a anterior
+     * não. Os slots que só a anterior ocupava continuam ocupados; o chamador os devolve após o commit
+     * (`liberarDiferenca(anterior, nova)`), ou devolve os da nova em rollback (`liberarDiferenca(nova, anterior)`).
+     * Nenhuma vaga é retomada sem verificar a capacidade.
+     *
+     * @throws org.springframework.web.server.ResponseStatusException 409 se algum slot estiver lotado
+     *         (nenhuma vaga nova fica ocupada)
+     */
+    public void substituir(ReservaIntervalo nova, ReservaIntervalo anterior) {
+        if (nova == null || nova.filialId() == null) {
+            return;
+        }
+        int capacidade = capacidade(nova.filialId());
+        List<ChaveSlot> ocupadas = new ArrayList<>();
+        for (long i = indice(nova.inicio()), ultimo = ultimoIndice(nova); i <= ultimo; i++) {
+            ChaveSlot chave = new ChaveSlot(nova.filialId(), i);
+            if (ocupa(anterior, chave)) {
+                continue;
+            }
+            Slot slot = slots.computeIfAbsent(chave, k -> new Slot());
+            if (!ocupar(slot, capacidade)) {
+                ocupadas.forEach(this::devolver);
+                throw conflict(String.format("A oficina da filial %d está lotada no horário %s",
+                        nova.filialId(), inicio(i)));
+            }
+            marcarSujo(chave, slot);
+            ocupadas.add(chave);
+        }
+    }
+
+    /**
+     * Devolve as vagas ocupadas pelo intervalo.
+     */
+    public void liberar(ReservaIntervalo reserva) {
+        liberarDiferenca(reserva, null);
+    }
+
+    /**
+     * Devolve as vagas dos slots que a reserva ocupa e `manter` não ocupa.
+     */
+    public void liberarDiferenca(ReservaIntervalo reserva, ReservaIntervalo manter) {
+        if (reserva == null || reserva.filialId() == null) {
+            return;
+        }
+        for (long i = indice(reserva.inicio()), ultimo = ultimoIndice(reserva); i <= ultimo; i++) {
+            ChaveSlot chave = new ChaveSlot(reserva.filialId(), i);
+            if (!ocupa(manter, chave)) {
+                devolver(chave);
+            }
+        }
+    }
+
+    /**
+     * Ocupa as vagas sem verificar a capacidade (somente na carga inicial, a partir dos agendamentos gravados).
+     */
+    private void forcar(ReservaIntervalo reserva) {
+        if (reserva == null || reserva.filialId() == null) {
+            return;
+        }
+        for (long i = indice(reserva.inicio()), ultimo = ultimoIndice(reserva); i <= ultimo; i++) {
+            ChaveSlot chave = new ChaveSlot(reserva.filialId(), i);
+            Slot slot = slots.computeIfAbsent(chave, k -> new Slot());
+            slot.reservas.incrementAndGet();
+            marcarSujo(chave, slot);
+        }
+    }
+
+    // =============================
+    // 🏢 Capacidade das filiais
+    // =============================
+
+    /**
+     * Motos atendidas simultaneamente pela oficina da filial (padrão se a filial não definiu).
+     */
+    public int capacidade(Long filialId) {
+        return capacidades.getOrDefault(filialId, capacidadePadrao);
+    }
+
+    public void definirCapacidade(Long filialId, Integer capacidade) {
+        capacidades.put(filialId, capacidade != null ? capacidade : capacidadePadrao);
+    }
+
+    public void removerFilial(Long filialId) {
+        capacidades.remove(filialId);
+    }
+
+    // =============================
+    // 📅 Disponibilidade
+    // =============================
+
+    /**
+     * Ocupação slot a slot da oficina da filial no dia informado, lida da memória.
+     */
+    public DisponibilidadeResponse disponibilidade(Long filialId, LocalDate dia) {
+        Integer capacidade = capacidades.get(filialId);
+        if (capacidade == null) {
+            throw notFound("Filial", filialId);
+        }
+        List<DisponibilidadeResponse.Slot> ocupacao = new ArrayList<>();
+        long primeiro = indice(dia.atStartOfDay());
+        long fim = indice(dia.plusDays(1).atStartOfDay());
+        for (long i = primeiro; i < fim; i++) {
+            Slot slot = slots.get(new ChaveSlot(filialId, i));
+            int reservadas = slot != null ? slot.reservas.get() : 0;
+            ocupacao.add(new DisponibilidadeResponse.Slot(
+                    inicio(i), inicio(i + 1), reservadas, Math.max(capacidade - reservadas, 0)));
+        }
+        return new DisponibilidadeResponse(filialId, dia, capacidade, duracaoSlotMinutos, ocupacao);
+    }
+
+    // =============================
+    // 💾 Persistência assíncrona
+    // =============================
+
+    /**
+     * Grava os slots alterados desde o último ciclo, com verificação otimista de versão.
+     * Em conflito de versão (ou inserção concorrente), relê a linha, incorpora ao contador as reservas
+     * que o outro escritor gravou desde a última sincronização e tenta de novo no próximo ciclo.
+     */
+    @Scheduled(fixedDelayString = "${mototrack.oficina.persistencia-intervalo-ms:1000}")
+    public void persistir() {
+        ChaveSlot chave;
+        // Apenas os pendentes no início do ciclo: os reconciliados voltam à fila para o próximo
+        for (int restantes = pendentes.size(); restantes > 0 && (chave = pendentes.poll()) != null; restantes--) {
+            Slot slot = slots.get(chave);
+            if (slot == null) {
+                continue;
+            }
+            slot.sujo.set(false);
+            int reservas = slot.reservas.get();
+            try {
+                if (slot.id == null) {
+                    OficinaSlot novo = slotRepository.save(OficinaSlot.builder()
+                            .filialId(chave.filialId()).inicio(inicio(chave.indice())).reservas(reservas).build());
+                    slot.id = novo.getId();
+                    slot.versao = novo.getVersao();
+                    slot.persistidas = reservas;
+                } else if (slotRepository.atualizarReservas(slot.id, reservas, slot.versao) == 1) {
+                    slot.versao++;
+                    slot.persistidas = reservas;
+                } else {
+                    log.warn("🧰 Slot {} alterado por outro escritor; reconciliando", slot.id);
+                    reconciliar(chave, slot);
+                }
+            } catch (DataIntegrityViolationException e) {
+                reconciliar(chave, slot);
+            }
+        }
+    }
+
+    /**
+     * Remove da memória os slots anteriores à retenção.
+     */
+    @Scheduled(fixedDelayString = "${mototrack.oficina.poda-intervalo-ms:3600000}")
+    public void podar() {
+        long limite = indice(LocalDate.now().minusDays(retencaoDias).atStartOfDay());
+        slots.keySet().removeIf(chave -> chave.indice() < limite);
+    }
+
+    // =============================
+    // 🔧 Métodos auxiliares
+    // =============================
+
+    private static boolean ocupar(Slot slot, int capacidade) {
+        while (true) {
+            int atual = slot.reservas.get();
+            if (atual >= capacidade) {
+                return false;
+            }
+            if (slot.reservas.compareAndSet(atual, atual + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /** Indica se a reserva (pode ser nula) ocupa o slot */
+    private boolean ocupa(ReservaIntervalo reserva, ChaveSlot chave) {
+        return reserva != null && reserva.filialId() != null && reserva.filialId() == chave.filialId()
+                && indice(reserva.inicio()) <= chave.indice() && chave.indice() <= ultimoIndice(reserva);
+    }
+
+    private void devolver(ChaveSlot chave) {
+        Slot slot = slots.get(chave);
+        if (slot != null) {
+            slot.reservas.updateAndGet(n -> Math.max(n - 1, 0));
+            marcarSujo(chave, slot);
+        }
+    }
+
+    private void marcarSujo(ChaveSlot chave, Slot slot) {
+        if (slot.sujo.compareAndSet(false, true)) {
+            pendentes.add(chave);
+        }
+    }
+
+    /**
+     * Relê a linha do slot e soma ao contador a diferença gravada por outro escritor desde a última
+     * sincronização; o contador reconciliado é gravado no próximo ciclo, sobre a versão relida.
+     */
+    private void reconciliar(ChaveSlot chave, Slot slot) {
+        slotRepository.findByFilialIdAndInicio(chave.filialId(), inicio(chave.indice())).ifPresentOrElse(s -> {
+            int externas = s.getReservas() - slot.persistidas;
+            int reservas = slot.reservas.updateAndGet(n -> Math.max(n + externas, 0));
+            slot.id = s.getId();
+            slot.versao = s.getVersao();
+            slot.persistidas = s.getReservas();
+            if (reservas > capacidade(chave.filialId())) {
+                log.warn("🧰 Slot {} da filial {} acima da capacidade após reconciliação: {} reservas",
+                        inicio(chave.indice()), chave.filialId(), reservas);
+            }
+        }, () -> {
+            // Linha removida por outro escritor: volta a ser inserida
+            slot.id = null;
+            slot.versao = null;
+            slot.persistidas = 0;
+        });
+        marcarSujo(chave, slot);
+    }
+
+    private long indice(LocalDateTime data) {
+        return Math.floorDiv(data.toEpochSecond(ZoneOffset.UTC) / 60, duracaoSlotMinutos);
+    }
+
+    /** Último slot tocado pelo intervalo `[inicio, fim)` */
+    private long ultimoIndice(ReservaIntervalo reserva) {
+        return Math.max(indice(reserva.fim().minusNanos(1)), indice(reserva.inicio()));
+    }
+
+    private LocalDateTime inicio(long indice) {
+        return LocalDateTime.ofEpochSecond(indice * duracaoSlotMinutos * 60, 0, ZoneOffset.UTC);
+    }
+}
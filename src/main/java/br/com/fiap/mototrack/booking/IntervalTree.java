@@ -0,0 +1,220 @@
+package br.com.fiap.mototrack.booking;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * # 🌳 IntervalTree
+ *
+ * Árvore de intervalos aumentada sobre uma árvore AVL: ordenada por `(inicio, agendamentoId)`
+ * e com o maior `fim` de cada subárvore guardado no nó.
+ *
+ * ---
+ * ## 📋 Custos
+ * - **Inserção / remoção:** O(log n)
+ * - **Existe sobreposição?** O(log n) — `sobrepostos(..., 1)`
+ * - **Todas as sobreposições:** O(log n + k)
+ *
+ * > Não é thread-safe: o chamador deve sincronizar o acesso.
+ */
+public final class IntervalTree {
+
+    private static final Comparator<ReservaIntervalo> ORDEM = Comparator
+            .comparing(ReservaIntervalo::inicio)
+            .thenComparing(ReservaIntervalo::agendamentoId);
+
+    private static final class No {
+        final ReservaIntervalo reserva;
+        LocalDateTime maxFim;
+        int altura = 1;
+        No esquerda;
+        No direita;
+
+        No(ReservaIntervalo reserva) {
+            this.reserva = reserva;
+            this.maxFim = reserva.fim();
+        }
+    }
+
+    private No raiz;
+    private int tamanho;
+
+    // =============================
+    // ➕ Inserção e remoção
+    // =============================
+
+    public void inserir(ReservaIntervalo reserva) {
+        raiz = inserir(raiz, reserva);
+    }
+
+    /**
+     * Remove a reserva (localizada por início e ID). Retorna `false` se não estava na árvore.
+     */
+    public boolean remover(ReservaIntervalo reserva) {
+        int antes = tamanho;
+        raiz = remover(raiz, reserva);
+        return tamanho < antes;
+    }
+
+    // =============================
+    // 🔍 Consultas
+    // =============================
+
+    /**
+     * Reservas que se sobrepõem a `[inicio, fim)`, ignorando o agendamento informado, até o limite.
+     */
+    public List<ReservaIntervalo> sobrepostos(LocalDateTime inicio, LocalDateTime fim, Long ignorarId, int limite) {
+        List<ReservaIntervalo> resultado = new ArrayList<>();
+        buscar(raiz, inicio, fim, ignorarId, limite, resultado);
+        return resultado;
+    }
+
+    /**
+     * Percorre as reservas em ordem de início.
+     */
+    public void emOrdem(Consumer<ReservaIntervalo> consumidor) {
+        emOrdem(raiz, consumidor);
+    }
+
+    /**
+     * Reservas que terminam até o instante informado (candidatas à poda).
+     */
+    public List<ReservaIntervalo> encerradasAte(LocalDateTime limite) {
+        List<ReservaIntervalo> resultado = new ArrayList<>();
+        emOrdem(raiz, r -> {
+            if (!r.fim().isAfter(limite)) {
+                resultado.add(r);
+            }
+        });
+        return resultado;
+    }
+
+    public int tamanho() {
+        return tamanho;
+    }
+
+    // =============================
+    // 🔧 Implementação AVL
+    // =============================
+
+    private void buscar(No no, LocalDateTime inicio, LocalDateTime fim, Long ignorarId, int limite, List<ReservaIntervalo> resultado) {
+        if (no == null || resultado.size() >= limite || !no.maxFim.isAfter(inicio)) {
+            return;
+        }
+        buscar(no.esquerda, inicio, fim, ignorarId, limite, resultado);
+        if (resultado.size() >= limite || !no.reserva.inicio().isBefore(fim)) {
+            return;
+        }
+        if (no.reserva.fim().isAfter(inicio) && !no.reserva.agendamentoId().equals(ignorarId)) {
+            resultado.add(no.reserva);
+        }
+        buscar(no.direita, inicio, fim, ignorarId, limite, resultado);
+    }
+
+    private void emOrdem(No no, Consumer<ReservaIntervalo> consumidor) {
+        if (no == null) {
+            return;
+        }
+        emOrdem(no.esquerda, consumidor);
+        consumidor.accept(no.reserva);
+        emOrdem(no.direita, consumidor);
+    }
+
+    private No inserir(No no, ReservaIntervalo reserva) {
+        if (no == null) {
+            tamanho++;
+            return new No(reserva);
+        }
+        if (ORDEM.compare(reserva, no.reserva) < 0) {
+            no.esquerda = inserir(no.esquerda, reserva);
+        } else {
+            no.direita = inserir(no.direita, reserva);
+        }
+        return balancear(no);
+    }
+
+    private No remover(No no, ReservaIntervalo reserva) {
+        if (no == null) {
+            return null;
+        }
+        int comparacao = ORDEM.compare(reserva, no.reserva);
+        if (comparacao < 0) {
+            no.esquerda = remover(no.esquerda, reserva);
+        } else if (comparacao > 0) {
+            no.direita = remover(no.direita, reserva);
+        } else {
+            tamanho--;
+            if (no.esquerda == null) {
+                return no.direita;
+            }
+            if (no.direita == null) {
+                return no.esquerda;
+            }
+            No sucessor = no.direita;
+            while (sucessor.esquerda != null) {
+                sucessor = sucessor.esquerda;
+            }
+            No substituto = new No(sucessor.reserva);
+            tamanho++;
+            substituto.direita = remover(no.direita, sucessor.reserva);
+            substituto.esquerda = no.esquerda;
+            return balancear(substituto);
+        }
+        return balancear(no);
+    }
+
+    private No balancear(No no) {
+        atualizar(no);
+        int fator = altura(no.esquerda) - altura(no.direita);
+        if (fator > 1) {
+            if (altura(no.esquerda.esquerda) < altura(no.esquerda.direita)) {
+                no.esquerda = girarEsquerda(no.esquerda);
+            }
+            return girarDireita(no);
+        }
+        if (fator < -1) {
+            if (altura(no.direita.direita) < altura(no.direita.esquerda)) {
+                no.direita = girarDireita(no.direita);
+            }
+            return girarEsquerda(no);
+        }
+        return no;
+    }
+
+    private No girarDireita(No no) {
+        No pivo = no.esquerda;
+        no.esquerda = pivo.direita;
+        pivo.direita = no;
+        atualizar(no);
+        atualizar(pivo);
+        return pivo;
+    }
+
+    private No girarEsquerda(No no) {
+        No pivo = no.direita;
+        no.direita = pivo.esquerda;
+        pivo.esquerda = no;
+        atualizar(no);
+        atualizar(pivo);
+        return pivo;
+    }
+
+    private static void atualizar(No no) {
+        no.altura = 1 + Math.max(altura(no.esquerda), altura(no.direita));
+        LocalDateTime max = no.reserva.fim();
+        if (no.esquerda != null && no.esquerda.maxFim.isAfter(max)) {
+            max = no.esquerda.maxFim;
+        }
+        if (no.direita != null && no.direita.maxFim.isAfter(max)) {
+            max = no.direita.maxFim;
+        }
+        no.maxFim = max;
+    }
+
+    private static int altura(No no) {
+        return no == null ? 0 : no.altura;
+    }
+}
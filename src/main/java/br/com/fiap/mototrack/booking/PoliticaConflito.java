@@ -0,0 +1,13 @@
+package br.com.fiap.mototrack.booking;
+
+/**
+ * ⚔️ O que fazer quando um agendamento se sobrepõe a outro da mesma moto.
+ */
+public enum PoliticaConflito {
+
+    /** Recusa o agendamento com HTTP 409 */
+    REJEITAR,
+
+    /** Aceita o agendamento e devolve os IDs conflitantes na resposta */
+    SINALIZAR
+}
@@ -0,0 +1,259 @@
+package br.com.fiap.mototrack.booking;
+
+import br.com.fiap.mototrack.dto.response.AgendamentoResponse;
+import br.com.fiap.mototrack.filter.AgendamentoFilter;
+import br.com.fiap.mototrack.model.Agendamento;
+import br.com.fiap.mototrack.model.RegraRecorrencia;
+import br.com.fiap.mototrack.repository.MotoRepository;
+import br.com.fiap.mototrack.repository.RegraRecorrenciaRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PriorityQueue;
+
+/**
+ * # 🔁 RecorrenciaExpansor
+ *
+ * Expande sob demanda as ocorrências **previstas** das regras de recorrência por dias,
+ * somente dentro da janela pedida na consulta.
+ *
+ * ---
+ * ## 📋 Regras
+ * - A expansão parte do cursor da regra (`proximaOcorrencia`): ocorrências anteriores já
+ *   foram materializadas e vêm do banco
+ * - Só expande quando a consulta informa `dataInicio` e `dataFim` e não filtra por `id`
+ * - Filtros de `motoId`, `filialId` e `descricao` valem para as regras como para os gravados
+ * - A janela é a mesma aplicada ao banco (`dataInicio <= dataAgendada <= dataFim`), limitada a
+ *   `janela-maxima-dias`
+ * - As ocorrências são geradas sob demanda, intercalando as regras por data (uma série por regra
+ *   num heap): o custo é proporcional às regras e às ocorrências consumidas, nunca ao histórico
+ *   nem ao tamanho da janela
+ * - O total da janela é calculado aritmeticamente, sem expandir as ocorrências
+ *
+ * ---
+ * @author Rafael
+ * @since 1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class RecorrenciaExpansor {
+
+    // =============================
+    // 🔗 Injeção de Dependências
+    // =============================
+
+    private final RegraRecorrenciaRepository regraRepository;
+    private final MotoRepository motoRepository;
+
+    @Value("${mototrack.recorrencia.janela-maxima-dias:366}")
+    private long janelaMaximaDias;
+
+    // =============================
+    // 🔁 Expansão
+    // =============================
+
+    /**
+     * Ocorrências previstas que atendem ao filtro, em ordem de data (e de moto), geradas sob demanda.
+     */
+    public Previstas expandir(AgendamentoFilter filtro, boolean decrescente) {
+        if (filtro.id() != null || filtro.dataInicio() == null || filtro.dataFim() == null) {
+            return new Previstas(List.of(), decrescente);
+        }
+        LocalDateTime inicio = filtro.dataInicio().atStartOfDay();
+        LocalDateTime fim = filtro.dataFim().atStartOfDay();
+        if (fim.isAfter(inicio.plusDays(janelaMaximaDias))) {
+            fim = inicio.plusDays(janelaMaximaDias);
+        }
+
+        Long filialDaMoto = filtro.motoId() == null ? null : motoRepository.findById(filtro.motoId())
+                .map(m -> m.getFilial() != null ? m.getFilial().getId() : null)
+                .orElse(null);
+
+        List<Serie> series = new ArrayList<>();
+        for (RegraRecorrencia regra : regraRepository.findAtivasPorDias()) {
+            if (!atende(regra, filtro, filialDaMoto)) {
+                continue;
+            }
+            LocalDateTime primeira = primeiraOcorrencia(regra, inicio);
+            if (primeira.isAfter(fim)) {
+                continue;
+            }
+            List<Long> motos = motosDaRegra(regra, filtro.motoId());
+            if (!motos.isEmpty()) {
+                series.add(new Serie(regra, motos, filialDaRegra(regra), primeira, fim, decrescente));
+            }
+        }
+        return new Previstas(series, decrescente);
+    }
+
+    // =============================
+    // 📦 Ocorrências sob demanda
+    // =============================
+
+    /**
+     * Iterador das ocorrências previstas: intercala as séries das regras por data e moto.
+     * `total()` informa quantas ocorrências a janela tem sem precisar percorrê-las.
+     */
+    public static final class Previstas implements Iterator<AgendamentoResponse> {
+
+        private final PriorityQueue<Serie> fila;
+        private final long total;
+
+        private Previstas(List<Serie> series, boolean decrescente) {
+            Comparator<Serie> porData = Comparator.comparing(Serie::data);
+            this.fila = new PriorityQueue<>(Math.max(1, series.size()), (decrescente ? porData.reversed() : porData)
+                    .thenComparing(Serie::motoId)
+                    .thenComparing(serie -> serie.regra.getId()));
+            this.fila.addAll(series);
+            this.total = series.stream().mapToLong(Serie::total).sum();
+        }
+
+        public long total() {
+            return total;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !fila.isEmpty();
+        }
+
+        @Override
+        public AgendamentoResponse next() {
+            Serie serie = fila.poll();
+            if (serie == null) {
+                throw new NoSuchElementException();
+            }
+            AgendamentoResponse atual = prevista(serie.regra, serie.motoId(), serie.filialId, serie.data);
+            if (serie.avancar()) {
+                fila.add(serie);
+            }
+            return atual;
+        }
+    }
+
+    /**
+     * Ocorrências de uma regra entre a primeira e a última data da janela, uma por moto em cada data.
+     * Em ordem decrescente percorre as datas de trás para frente; as motos de cada data seguem em ordem crescente.
+     */
+    private static final class Serie {
+
+        private final RegraRecorrencia regra;
+        private final List<Long> motos;
+        private final Long filialId;
+        private final LocalDateTime primeira;
+        private final LocalDateTime ultima;
+        private final boolean decrescente;
+        private LocalDateTime data;
+        private int indice;
+
+        private Serie(RegraRecorrencia regra, List<Long> motos, Long filialId, LocalDateTime primeira,
+                      LocalDateTime fim, boolean decrescente) {
+            this.regra = regra;
+            this.motos = motos;
+            this.filialId = filialId;
+            this.primeira = primeira;
+            this.ultima = primeira.plusDays(passosAte(fim) * regra.getIntervaloDias());
+            this.decrescente = decrescente;
+            this.data = decrescente ? ultima : primeira;
+        }
+
+        LocalDateTime data() {
+            return data;
+        }
+
+        Long motoId() {
+            return motos.get(indice);
+        }
+
+        long total() {
+            return (passosAte(ultima) + 1) * motos.size();
+        }
+
+        /** Passa para a próxima moto, ou para a próxima data; `false` quando a série termina. */
+        boolean avancar() {
+            if (++indice < motos.size()) {
+                return true;
+            }
+            indice = 0;
+            data = decrescente ? data.minusDays(regra.getIntervaloDias()) : data.plusDays(regra.getIntervaloDias());
+            return decrescente ? !data.isBefore(primeira) : !data.isAfter(ultima);
+        }
+
+        /** Intervalos inteiros entre a primeira ocorrência e `limite`. */
+        private long passosAte(LocalDateTime limite) {
+            return Duration.between(primeira, limite).toMinutes() / (regra.getIntervaloDias() * 1440L);
+        }
+    }
+
+    // =============================
+    // 🔧 Métodos auxiliares
+    // =============================
+
+    private static boolean atende(RegraRecorrencia regra, AgendamentoFilter filtro, Long filialDaMoto) {
+        if (filtro.descricao() != null && !filtro.descricao().isBlank()
+                && !regra.getDescricao().toLowerCase().contains(filtro.descricao().toLowerCase())) {
+            return false;
+        }
+        // Mesma oficina que o banco filtra nos gravados: a filial da regra, ou a da moto da regra
+        if (filtro.filialId() != null && !filtro.filialId().equals(filialDaRegra(regra))) {
+            return false;
+        }
+        if (filtro.motoId() == null) {
+            return true;
+        }
+        if (regra.getMoto() != null) {
+            return filtro.motoId().equals(regra.getMoto().getId());
+        }
+        return regra.getFilial() != null && Objects.equals(regra.getFilial().getId(), filialDaMoto);
+    }
+
+    private List<Long> motosDaRegra(RegraRecorrencia regra, Long motoId) {
+        if (regra.getMoto() != null) {
+            return List.of(regra.getMoto().getId());
+        }
+        return motoId != null ? List.of(motoId) : motoRepository.findIdsPorFilial(regra.getFilial().getId());
+    }
+
+    private static Long filialDaRegra(RegraRecorrencia regra) {
+        if (regra.getFilial() != null) {
+            return regra.getFilial().getId();
+        }
+        return regra.getMoto().getFilial() != null ? regra.getMoto().getFilial().getId() : null;
+    }
+
+    /**
+     * Primeira ocorrência não materializada a partir do início da janela, calculada sem iterar.
+     */
+    private static LocalDateTime primeiraOcorrencia(RegraRecorrencia regra, LocalDateTime inicio) {
+        LocalDateTime proxima = regra.getProximaOcorrencia();
+        if (!proxima.isBefore(inicio)) {
+            return proxima;
+        }
+        long intervaloMinutos = regra.getIntervaloDias() * 1440L;
+        long passos = Math.ceilDiv(Duration.between(proxima, inicio).toMinutes(), intervaloMinutos);
+        return proxima.plusDays(passos * regra.getIntervaloDias());
+    }
+
+    private static AgendamentoResponse prevista(RegraRecorrencia regra, Long motoId, Long filialId, LocalDateTime data) {
+        int duracao = regra.getDuracaoMinutos() != null ? regra.getDuracaoMinutos() : Agendamento.DURACAO_PADRAO_MINUTOS;
+        AgendamentoResponse r = new AgendamentoResponse();
+        r.setMotoId(motoId);
+        r.setFilialId(filialId);
+        r.setDataAgendada(data);
+        r.setDuracaoMinutos(duracao);
+        r.setDataFim(data.plusMinutes(duracao));
+        r.setDescricao(regra.getDescricao());
+        r.setRegraId(regra.getId());
+        r.setPrevista(true);
+        return r;
+    }
+}
@@ -0,0 +1,41 @@
+package br.com.fiap.mototrack.booking;
+
+import br.com.fiap.mototrack.model.Agendamento;
+
+import java.time.LocalDateTime;
+
+/**
+ * 📐 Intervalo ocupado por um agendamento: `[inicio, fim)`.
+ *
+ * @param agendamentoId ID do agendamento
+ * @param motoId        Moto reservada
+ * @param filialId      Filial (oficina) reservada; pode ser nula
+ * @param inicio        Início (inclusivo)
+ * @param fim           Término (exclusivo)
+ */
+public record ReservaIntervalo(Long agendamentoId, Long motoId, Long filialId, LocalDateTime inicio, LocalDateTime fim) {
+
+    /**
+     * Construtor usado nas consultas JPQL, que trazem a duração em vez do término.
+     */
+    public ReservaIntervalo(Long agendamentoId, Long motoId, Long filialId, LocalDateTime inicio, Integer duracaoMinutos) {
+        this(agendamentoId, motoId, filialId, inicio,
+                inicio.plusMinutes(duracaoMinutos != null ? duracaoMinutos : Agendamento.DURACAO_PADRAO_MINUTOS));
+    }
+
+    public static ReservaIntervalo de(Agendamento agendamento) {
+        return new ReservaIntervalo(
+                agendamento.getId(),
+                agendamento.getMoto() != null ? agendamento.getMoto().getId() : null,
+                agendamento.getFilial() != null ? agendamento.getFilial().getId() : null,
+                agendamento.getDataAgendada(),
+                agendamento.getDataFim());
+    }
+
+    /**
+     * Indica se os dois intervalos se sobrepõem (intervalos apenas encostados não conflitam).
+     */
+    public boolean sobrepoe(ReservaIntervalo outra) {
+        return inicio.isBefore(outra.fim) && outra.inicio.isBefore(fim);
+    }
+}
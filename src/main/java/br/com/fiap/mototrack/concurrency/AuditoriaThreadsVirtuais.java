@@ -0,0 +1,128 @@
+package br.com.fiap.mototrack.concurrency;
+
+import br.com.fiap.mototrack.dto.response.ThreadsVirtuaisResponse;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * # 🧵 AuditoriaThreadsVirtuais
+ *
+ * Monta o relatório de `GET /debug/threads-virtuais`: modo de execução, dimensionamento do Hikari,
+ * pinning observado em tempo de execução e os pontos sensíveis a pinning dos componentes em uso.
+ *
+ * > Pinning só custa caro quando a thread **espera** (I/O, lock) dentro de um `synchronized`.
+ * > Trechos curtos em memória prendem a thread por microssegundos e não limitam a vazão.
+ */
+@Component
+public class AuditoriaThreadsVirtuais {
+
+    private final DataSource dataSource;
+    private final ObjectProvider<MonitorPinning> monitor;
+    private final boolean virtual;
+    private final int threadsTomcat;
+
+    public AuditoriaThreadsVirtuais(DataSource dataSource,
+                                    ObjectProvider<MonitorPinning> monitor,
+                                    @Value("${mototrack.threads-virtuais.habilitado:false}") boolean virtual,
+                                    @Value("${server.tomcat.threads.max:200}") int threadsTomcat) {
+        this.dataSource = dataSource;
+        this.monitor = monitor;
+        this.virtual = virtual;
+        this.threadsTomcat = threadsTomcat;
+    }
+
+    public ThreadsVirtuaisResponse relatorio() {
+        ThreadsVirtuaisResponse.PoolConexoes pool = pool();
+        MonitorPinning pinning = monitor.getIfAvailable();
+        return new ThreadsVirtuaisResponse(
+                virtual ? "VIRTUAL" : "PLATAFORMA",
+                virtual ? null : threadsTomcat,
+                pool,
+                pinning == null ? null : pinning.ocorrencias(),
+                achados(),
+                recomendacoes(pool));
+    }
+
+    private ThreadsVirtuaisResponse.PoolConexoes pool() {
+        try {
+            HikariDataSource hikari = dataSource.unwrap(HikariDataSource.class);
+            HikariPoolMXBean estado = hikari.getHikariPoolMXBean();
+            return new ThreadsVirtuaisResponse.PoolConexoes(
+                    hikari.getMaximumPoolSize(), hikari.getMinimumIdle(), hikari.getConnectionTimeout(),
+                    estado == null ? 0 : estado.getActiveConnections(),
+                    estado == null ? 0 : estado.getIdleConnections(),
+                    estado == null ? 0 : estado.getThreadsAwaitingConnection());
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+
+    private List<String> achados() {
+        List<String> achados = new ArrayList<>();
+        achados.add("Código da aplicação: os blocos synchronized (AgendaOficina, AgendadorAgendamentos, "
+                + "PerfisMaisLentos, WebhookLocalReceptor) protegem apenas estruturas em memória, sem I/O nem espera.");
+        achados.add("Instrumentação: ContadorSql e PerfilRequisicao usam ThreadLocal por requisição "
+                + "(uma thread virtual por requisição, sem reaproveitamento entre requisições).");
+        if (presente("org.h2.Driver")) {
+            achados.add("H2 " + versao("org.h2.Driver") + " (em memória): sincroniza na sessão, mas sem I/O de rede; "
+                    + "o pinning dura apenas a execução do comando.");
+        }
+        if (presente("oracle.jdbc.OracleDriver")) {
+            achados.add("Oracle JDBC " + versao("oracle.jdbc.OracleDriver") + " no classpath: as leituras de rede do driver "
+                    + "podem ocorrer dentro de synchronized; com Oracle, confirme no monitor de pinning antes de ligar o modo virtual.");
+        }
+        achados.add("HikariCP " + versao("com.zaxxer.hikari.HikariDataSource") + ": a espera por conexão usa "
+                + "SynchronousQueue/ConcurrentBag (não prende a thread); a abertura de conexões físicas roda em thread própria do pool.");
+        achados.add("Logback " + versao("ch.qos.logback.classic.Logger") + ": os appenders de saída usam ReentrantLock; "
+                + "appenders de arquivo síncronos ainda fazem I/O por evento de log.");
+        return achados;
+    }
+
+    private List<String> recomendacoes(ThreadsVirtuaisResponse.PoolConexoes pool) {
+        List<String> recomendacoes = new ArrayList<>();
+        if (pool == null) {
+            return recomendacoes;
+        }
+        if (virtual) {
+            recomendacoes.add("O pool (" + pool.maximo() + " conexões) é o limite de concorrência no banco: "
+                    + "dimensione pelo que o banco suporta, não pelo número de requisições simultâneas.");
+            recomendacoes.add("Requisições além do pool esperam até " + pool.timeoutMs() + " ms por uma conexão; "
+                    + "reduza connection-timeout para falhar rápido sob sobrecarga.");
+        } else if (threadsTomcat > pool.maximo()) {
+            recomendacoes.add("Com " + threadsTomcat + " threads de plataforma e " + pool.maximo() + " conexões, "
+                    + "até " + (threadsTomcat - pool.maximo()) + " threads podem ficar paradas aguardando o pool: "
+                    + "com banco lento, o modo virtual libera essas threads para outras requisições.");
+        }
+        if (pool.aguardando() > 0) {
+            recomendacoes.add(pool.aguardando() + " threads aguardam conexão neste momento: o pool está saturado.");
+        }
+        return recomendacoes;
+    }
+
+    private static boolean presente(String classe) {
+        try {
+            Class.forName(classe, false, AuditoriaThreadsVirtuais.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    private static String versao(String classe) {
+        try {
+            String versao = Class.forName(classe, false, AuditoriaThreadsVirtuais.class.getClassLoader())
+                    .getPackage().getImplementationVersion();
+            return versao == null ? "(versão desconhecida)" : versao;
+        } catch (ClassNotFoundException e) {
+            return "(ausente)";
+        }
+    }
+}
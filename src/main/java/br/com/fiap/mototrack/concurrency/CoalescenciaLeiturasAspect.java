@@ -0,0 +1,199 @@
+package br.com.fiap.mototrack.concurrency;
+
+import br.com.fiap.mototrack.util.TransacaoUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * # 🧲 CoalescenciaLeiturasAspect
+ *
+ * Coalescência de leituras idênticas e simultâneas (*single-flight*) nos services principais:
+ * quando várias requisições pedem a mesma coisa ao mesmo tempo (ex: a página de uma filial popular),
+ * só a primeira executa `buscarPorId` / `consultarComFiltro`; as demais aguardam e recebem o mesmo resultado
+ * (ou a mesma exceção, ex: 404).
+ *
+ * ---
+ * ## 📋 Funcionamento:
+ * - Chave: service + método + argumentos, com os records de filtro normalizados (texto vazio = não informado,
+ *   texto sem diferença de maiúsculas/minúsculas, como nas `Specification`s) e o `Pageable` completo
+ * - `mototrack.coalescencia.reuso-ms`: reaproveita o resultado concluído por mais alguns milissegundos
+ *   (0 = só compartilha o que ainda está em execução)
+ * - Qualquer outro método dos mesmos services (`cadastrar`, `atualizar`, `excluir`, ...) descarta os
+ *   resultados reaproveitáveis após o commit
+ * - Chamadas dentro de uma transação já aberta não são coalescidas: precisam enxergar as próprias escritas
+ *
+ * > Métrica `mototrack.coalescencia.chamadas` (tags `operacao` e `resultado`: `executada`, `coalescida`,
+ * > `reaproveitada`). Os DTOs retornados são compartilhados entre as requisições: não devem ser alterados.
+ */
+@Aspect
+@Component
+@Order(0)
+public class CoalescenciaLeiturasAspect {
+
+    private static final String SERVICES = "br.com.fiap.mototrack.service.";
+
+    /**
+     * Resultado compartilhado de uma chave: em execução até o futuro concluir.
+     */
+    private static final class Voo {
+        final CompletableFuture<Object> resultado = new CompletableFuture<>();
+        volatile long concluidoEm;
+    }
+
+    private record Chave(String operacao, List<Object> argumentos) {
+    }
+
+    private final Map<Chave, Voo> voos = new ConcurrentHashMap<>();
+    private final Map<Class<?>, RecordComponent[]> componentes = new ConcurrentHashMap<>();
+    private final MeterRegistry registry;
+    private final boolean habilitado;
+    private final long reusoNanos;
+
+    public CoalescenciaLeiturasAspect(MeterRegistry registry,
+                                      @Value("${mototrack.coalescencia.habilitado:true}") boolean habilitado,
+                                      @Value("${mototrack.coalescencia.reuso-ms:0}") long reusoMs) {
+        this.registry = registry;
+        this.habilitado = habilitado;
+        this.reusoNanos = TimeUnit.MILLISECONDS.toNanos(reusoMs);
+        registry.gauge("mototrack.coalescencia.em.voo", voos, Map::size);
+    }
+
+    @Pointcut("execution(public * br.com.fiap.mototrack.service.MotoService.*(..))"
+            + " || execution(public * br.com.fiap.mototrack.service.EventoService.*(..))"
+            + " || execution(public * br.com.fiap.mototrack.service.AgendamentoService.*(..))"
+            + " || execution(public * br.com.fiap.mototrack.service.FilialService.*(..))"
+            + " || execution(public * br.com.fiap.mototrack.service.UsuarioService.*(..))")
+    void servicosPrincipais() {
+    }
+
+    @Pointcut("execution(* *.buscarPorId(..)) || execution(* *.consultarComFiltro(..))")
+    void leituras() {
+    }
+
+    @Pointcut("!execution(* *.consultar*(..)) && !execution(* *.buscar*(..))")
+    void escritas() {
+    }
+
+    @Around("servicosPrincipais() && leituras()")
+    public Object coalescer(ProceedingJoinPoint ponto) throws Throwable {
+        if (!habilitado || TransactionSynchronizationManager.isActualTransactionActive()) {
+            return ponto.proceed();
+        }
+        String operacao = ponto.getSignature().getDeclaringType().getSimpleName() + "." + ponto.getSignature().getName();
+        Chave chave = new Chave(operacao, normalizar(ponto.getArgs()));
+
+        Voo novo = new Voo();
+        Voo voo = voos.merge(chave, novo, (atual, proposto) -> reaproveitavel(atual) ? atual : proposto);
+        if (voo != novo) {
+            contar(operacao, voo.resultado.isDone() ? "reaproveitada" : "coalescida");
+            return aguardar(voo);
+        }
+
+        contar(operacao, "executada");
+        try {
+            Object retorno = ponto.proceed();
+            voo.concluidoEm = System.nanoTime();
+            voo.resultado.complete(retorno);
+            return retorno;
+        } catch (Throwable erro) {
+            voo.resultado.completeExceptionally(erro);
+            throw erro;
+        } finally {
+            if (reusoNanos == 0 || voo.resultado.isCompletedExceptionally()) {
+                voos.remove(chave, voo);
+            } else {
+                CompletableFuture.delayedExecutor(reusoNanos, TimeUnit.NANOSECONDS)
+                        .execute(() -> voos.remove(chave, voo));
+            }
+        }
+    }
+
+    /**
+     * Escritas descartam os resultados reaproveitáveis (após o commit, se houver transação).
+     * Leituras ainda em execução seguem compartilhadas: começaram antes da escrita.
+     */
+    @Around("servicosPrincipais() && escritas()")
+    public Object invalidar(ProceedingJoinPoint ponto) throws Throwable {
+        Object retorno = ponto.proceed();
+        if (reusoNanos > 0) {
+            TransacaoUtils.aposCommit(() -> voos.values().removeIf(voo -> voo.resultado.isDone()));
+        }
+        return retorno;
+    }
+
+    private boolean reaproveitavel(Voo voo) {
+        return !voo.resultado.isDone()
+                || (!voo.resultado.isCompletedExceptionally() && System.nanoTime() - voo.concluidoEm <= reusoNanos);
+    }
+
+    private static Object aguardar(Voo voo) throws Throwable {
+        try {
+            return voo.resultado.join();
+        } catch (CompletionException e) {
+            throw e.getCause();
+        }
+    }
+
+    private void contar(String operacao, String resultado) {
+        Counter.builder("mototrack.coalescencia.chamadas")
+                .description("Leituras dos services por resultado: executadas ou atendidas por outra chamada idêntica")
+                .tag("operacao", operacao)
+                .tag("resultado", resultado)
+                .register(registry)
+                .increment();
+    }
+
+    /**
+     * Argumentos como chave: records de filtro viram a lista dos valores normalizados.
+     */
+    private List<Object> normalizar(Object[] args) {
+        List<Object> chave = new ArrayList<>(args.length);
+        for (Object arg : args) {
+            if (arg != null && arg.getClass().isRecord() && arg.getClass().getPackageName().endsWith(".filter")) {
+                List<Object> valores = new ArrayList<>();
+                valores.add(arg.getClass());
+                for (RecordComponent componente : componentes.computeIfAbsent(arg.getClass(), Class::getRecordComponents)) {
+                    valores.add(normalizar(valor(componente, arg)));
+                }
+                chave.add(valores);
+            } else {
+                chave.add(arg);
+            }
+        }
+        return chave;
+    }
+
+    private static Object normalizar(Object valor) {
+        if (valor instanceof String texto) {
+            return texto.isBlank() ? null : texto.toLowerCase(Locale.ROOT);
+        }
+        return valor;
+    }
+
+    private static Object valor(RecordComponent componente, Object record) {
+        try {
+            return componente.getAccessor().invoke(record);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("Componente de filtro inacessível: " + componente.getName(), e);
+        }
+    }
+}
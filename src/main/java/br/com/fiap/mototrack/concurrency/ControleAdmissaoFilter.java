@@ -0,0 +1,220 @@
+package br.com.fiap.mototrack.concurrency;
+
+import br.com.fiap.mototrack.exception.ErrorResponse;
+import br.com.fiap.mototrack.util.CaminhoRequisicao;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * # 🚦 ControleAdmissaoFilter
+ *
+ * Controle de admissão com compartimentos (bulkheads) de concorrência por grupo de endpoints,
+ * cada um com seu `LimiteAdaptativo`: um relatório pesado ocupa apenas as vagas de `relatorios`
+ * e não consome as conexões de que a ingestão dos rastreadores depende.
+ *
+ * ---
+ * ## 📋 Grupos:
+ * - `relatorios`: rotas de `mototrack.admissao.relatorios.rotas` (filtros paginados, painel, GraphQL, ...)
+ * - `ingestao`: demais métodos de escrita (`POST`, `PUT`, `PATCH`, `DELETE`)
+ * - `leitura`: demais leituras (consultas interativas por ID e listagens)
+ *
+ * ## ⚙️ Comportamento:
+ * - Sem vaga no grupo: resposta imediata (sem fila) com o status do grupo (`429` ou `503`),
+ *   `Retry-After` proporcional ao RTT do grupo e corpo `ErrorResponse`
+ * - A latência de cada requisição aceita alimenta o limite do grupo (respostas 5xx não contam)
+ * - Requisições assíncronas liberam a vaga ao concluir o processamento assíncrono
+ * - Rotas de `mototrack.admissao.isentas` (actuator, métricas, documentação, debug) não passam pelo controle
+ * - Métricas por grupo: `mototrack.admissao.limite`, `mototrack.admissao.em.execucao`,
+ *   `mototrack.admissao.rtt.curto` / `rtt.longo` (ms) e `mototrack.admissao.requisicoes{resultado}`
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 5)
+public class ControleAdmissaoFilter extends OncePerRequestFilter {
+
+    private static final Set<String> METODOS_LEITURA = Set.of("GET", "HEAD", "OPTIONS");
+
+    /**
+     * Um grupo de endpoints com limite próprio.
+     */
+    static final class Compartimento {
+        final String nome;
+        final LimiteAdaptativo limite;
+        final HttpStatus statusRejeicao;
+        final Counter aceitas;
+        final Counter rejeitadas;
+
+        Compartimento(String nome, LimiteAdaptativo limite, HttpStatus statusRejeicao, MeterRegistry registry) {
+            this.nome = nome;
+            this.limite = limite;
+            this.statusRejeicao = statusRejeicao;
+            this.aceitas = contador(registry, nome, "aceita");
+            this.rejeitadas = contador(registry, nome, "rejeitada");
+            Gauge.builder("mototrack.admissao.limite", limite, LimiteAdaptativo::limite)
+                    .description("Limite de concorrência atual do grupo").tag("grupo", nome).register(registry);
+            Gauge.builder("mototrack.admissao.em.execucao", limite, LimiteAdaptativo::emExecucao)
+                    .description("Requisições do grupo em execução").tag("grupo", nome).register(registry);
+            Gauge.builder("mototrack.admissao.rtt.curto", limite, LimiteAdaptativo::rttCurtoMs)
+                    .description("Latência média da última janela (ms)").tag("grupo", nome).register(registry);
+            Gauge.builder("mototrack.admissao.rtt.longo", limite, LimiteAdaptativo::rttLongoMs)
+                    .description("Latência de referência do grupo (ms)").tag("grupo", nome).register(registry);
+        }
+
+        private static Counter contador(MeterRegistry registry, String grupo, String resultado) {
+            return Counter.builder("mototrack.admissao.requisicoes")
+                    .description("Requisições por grupo de admissão e resultado")
+                    .tag("grupo", grupo).tag("resultado", resultado)
+                    .register(registry);
+        }
+    }
+
+    private final boolean habilitado;
+    private final ObjectMapper objectMapper;
+    private final AntPathMatcher matcher = new AntPathMatcher();
+    private final List<String> rotasIsentas;
+    private final List<String> rotasRelatorios;
+    private final Map<String, Compartimento> compartimentos = new LinkedHashMap<>();
+
+    public ControleAdmissaoFilter(Environment env, MeterRegistry registry, ObjectMapper objectMapper) {
+        this.habilitado = env.getProperty("mototrack.admissao.habilitado", Boolean.class, true);
+        this.objectMapper = objectMapper;
+        this.rotasIsentas = List.of(env.getProperty("mototrack.admissao.isentas", String[].class,
+                new String[]{"/actuator/**", "/swagger-ui/**", "/v3/api-docs/**", "/metricas/**", "/debug/**", "/graphiql/**", "/error"}));
+        this.rotasRelatorios = List.of(env.getProperty("mototrack.admissao.relatorios.rotas", String[].class,
+                new String[]{"/*/filtro", "/graphql"}));
+        double tolerancia = env.getProperty("mototrack.admissao.tolerancia", Double.class, 1.5);
+        long janelaMs = env.getProperty("mototrack.admissao.janela-ms", Long.class, 250L);
+
+        compartimento(env, registry, "ingestao", 10, 2, 20, HttpStatus.SERVICE_UNAVAILABLE, tolerancia, janelaMs);
+        compartimento(env, registry, "leitura", 10, 2, 16, HttpStatus.SERVICE_UNAVAILABLE, tolerancia, janelaMs);
+        compartimento(env, registry, "relatorios", 4, 1, 6, HttpStatus.TOO_MANY_REQUESTS, tolerancia, janelaMs);
+        if (habilitado) {
+            compartimentos.values().forEach(c -> log.info("🚦 Admissão '{}': limite inicial {} (rejeição {})",
+                    c.nome, c.limite.limite(), c.statusRejeicao.value()));
+        }
+    }
+
+    private void compartimento(Environment env, MeterRegistry registry, String nome, int inicial, int minimo,
+                               int maximo, HttpStatus status, double tolerancia, long janelaMs) {
+        String prefixo = "mototrack.admissao." + nome + ".";
+        LimiteAdaptativo limite = new LimiteAdaptativo(
+                env.getProperty(prefixo + "limite-inicial", Integer.class, inicial),
+                env.getProperty(prefixo + "limite-minimo", Integer.class, minimo),
+                env.getProperty(prefixo + "limite-maximo", Integer.class, maximo),
+                tolerancia, janelaMs);
+        HttpStatus rejeicao = HttpStatus.valueOf(env.getProperty(prefixo + "status-rejeicao", Integer.class, status.value()));
+        compartimentos.put(nome, new Compartimento(nome, limite, rejeicao, registry));
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!habilitado) {
+            return true;
+        }
+        String caminho = CaminhoRequisicao.de(request);
+        return rotasIsentas.stream().anyMatch(padrao -> matcher.match(padrao, caminho));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        Compartimento compartimento = classificar(request);
+        if (!compartimento.limite.tentarAdquirir()) {
+            compartimento.rejeitadas.increment();
+            rejeitar(response, compartimento);
+            return;
+        }
+        compartimento.aceitas.increment();
+
+        long inicio = System.nanoTime();
+        boolean falhou = true;
+        try {
+            chain.doFilter(request, response);
+            falhou = false;
+        } finally {
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new LiberacaoAssincrona(compartimento.limite, inicio, response));
+            } else {
+                compartimento.limite.liberar(System.nanoTime() - inicio, !falhou && response.getStatus() < 500);
+            }
+        }
+    }
+
+    Compartimento classificar(HttpServletRequest request) {
+        String caminho = CaminhoRequisicao.de(request);
+        if (rotasRelatorios.stream().anyMatch(padrao -> matcher.match(padrao, caminho))) {
+            return compartimentos.get("relatorios");
+        }
+        return compartimentos.get(METODOS_LEITURA.contains(request.getMethod()) ? "leitura" : "ingestao");
+    }
+
+    private void rejeitar(HttpServletResponse response, Compartimento compartimento) throws IOException {
+        long segundos = Math.max(1, (long) Math.ceil(compartimento.limite.rttLongoMs() / 1000));
+        String mensagem = "Capacidade esgotada para '" + compartimento.nome + "' (limite "
+                + compartimento.limite.limite() + "). Tente novamente em " + segundos + " s.";
+        response.setStatus(compartimento.statusRejeicao.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(segundos));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getOutputStream(),
+                new ErrorResponse(compartimento.statusRejeicao.value(), mensagem));
+    }
+
+    /**
+     * Libera a vaga quando o processamento assíncrono (ex: GraphQL, SSE) termina, uma única vez.
+     */
+    private record LiberacaoAssincrona(LimiteAdaptativo limite, long inicio, HttpServletResponse response,
+                                       AtomicBoolean liberada) implements AsyncListener {
+
+        LiberacaoAssincrona(LimiteAdaptativo limite, long inicio, HttpServletResponse response) {
+            this(limite, inicio, response, new AtomicBoolean());
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            if (liberada.compareAndSet(false, true)) {
+                limite.liberar(System.nanoTime() - inicio, response.getStatus() < 500);
+            }
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            // onComplete é chamado em seguida
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            // onComplete é chamado em seguida
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
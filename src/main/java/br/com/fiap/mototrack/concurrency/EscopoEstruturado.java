@@ -0,0 +1,108 @@
+package br.com.fiap.mototrack.concurrency;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * # 🧵 EscopoEstruturado
+ *
+ * Concorrência estruturada sobre threads virtuais: subtarefas abertas em um escopo não sobrevivem a ele.
+ * Mesma semântica do `StructuredTaskScope.ShutdownOnFailure` (ainda em preview no Java 21):
+ * - `fork`: inicia a subtarefa em uma thread virtual própria
+ * - `juntar`: aguarda todas dentro de um prazo único, compartilhado pelas subtarefas
+ * - A primeira falha (ou o prazo esgotado) cancela as subtarefas restantes, que são interrompidas
+ * - `close`: garante que nenhuma thread do escopo continua rodando depois do bloco `try`
+ *
+ * ```java
+ * try (var escopo = new EscopoEstruturado("painel", Duration.ofSeconds(2))) {
+ *     Supplier<A> a = escopo.fork(() -> consultaA());
+ *     Supplier<B> b = escopo.fork(() -> consultaB());
+ *     escopo.juntar();
+ *     return new Resultado(a.get(), b.get());
+ * }
+ * ```
+ *
+ * > As subtarefas rodam fora da thread da requisição: `ThreadLocal`s dela (transação, `ContadorSql`,
+ * > `PerfilRequisicao`) não são vistos pelas subtarefas.
+ */
+public final class EscopoEstruturado implements AutoCloseable {
+
+    private final ExecutorService executor;
+    private final CompletionService<Object> conclusoes;
+    private final List<Future<Object>> subtarefas = new ArrayList<>();
+    private final long prazoNanos;
+    private final Duration prazo;
+
+    /**
+     * @param nome   Prefixo do nome das threads (aparece em dumps e no JFR)
+     * @param prazo  Tempo máximo para todas as subtarefas, contado a partir da criação do escopo
+     */
+    public EscopoEstruturado(String nome, Duration prazo) {
+        this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(nome + "-", 0).factory());
+        this.conclusoes = new ExecutorCompletionService<>(executor);
+        this.prazo = prazo;
+        this.prazoNanos = System.nanoTime() + prazo.toNanos();
+    }
+
+    /**
+     * Inicia uma subtarefa. O resultado só pode ser lido depois de `juntar()` concluir sem erro.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Supplier<T> fork(Callable<T> tarefa) {
+        Future<Object> futuro = conclusoes.submit((Callable<Object>) tarefa);
+        subtarefas.add(futuro);
+        return () -> (T) futuro.resultNow();
+    }
+
+    /**
+     * Aguarda todas as subtarefas. Na primeira falha, cancela as demais e relança a exceção original
+     * (exceções verificadas chegam embrulhadas em `CompletionException`).
+     *
+     * @throws TimeoutException se o prazo esgotar antes de todas concluírem (as pendentes são canceladas)
+     */
+    public void juntar() throws InterruptedException, TimeoutException {
+        for (int concluidas = 0; concluidas < subtarefas.size(); concluidas++) {
+            Future<Object> futuro = conclusoes.poll(Math.max(0, prazoNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+            if (futuro == null) {
+                cancelar();
+                throw new TimeoutException("Prazo de " + prazo.toMillis() + " ms esgotado com "
+                        + (subtarefas.size() - concluidas) + " subtarefa(s) pendente(s)");
+            }
+            try {
+                futuro.get();
+            } catch (ExecutionException e) {
+                cancelar();
+                switch (e.getCause()) {
+                    case RuntimeException erro -> throw erro;
+                    case Error erro -> throw erro;
+                    default -> throw new CompletionException(e.getCause());
+                }
+            }
+        }
+    }
+
+    private void cancelar() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Cancela o que ainda estiver rodando e aguarda o término de todas as threads do escopo.
+     */
+    @Override
+    public void close() {
+        cancelar();
+        executor.close();
+    }
+}
@@ -0,0 +1,132 @@
+package br.com.fiap.mototrack.concurrency;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * # 📉 LimiteAdaptativo
+ *
+ * Limite de concorrência ajustado pela latência medida (algoritmo de gradiente, no estilo do
+ * `Gradient2Limit` do Netflix concurrency-limits): enquanto a latência recente (RTT curto) fica
+ * próxima da latência de referência (RTT longo), o limite cresce; quando a fila se forma em algum
+ * recurso (conexões do banco, CPU), o RTT curto sobe e o limite encolhe na mesma proporção.
+ *
+ * ---
+ * ## 📋 Regras:
+ * - A cada janela (`janelaMs`, com no mínimo `AMOSTRAS_MINIMAS` respostas), o RTT curto é a média da janela
+ *   e o RTT longo é a média móvel exponencial dos RTTs curtos
+ * - `gradiente = clamp(tolerancia × rttLongo / rttCurto, 0.5, 1)` e `novo = limite × gradiente + √limite`
+ *   (a raiz é a folga de fila que permite ao limite crescer quando a latência está estável)
+ * - O limite só cresce se ao menos metade dele esteve em uso na janela (sem demanda, não há o que medir)
+ * - Suavização exponencial e faixa `[minimo, maximo]`
+ * - Se o RTT curto cair para menos da metade do longo, o longo é reduzido mais rápido (recuperação após um pico)
+ */
+public final class LimiteAdaptativo {
+
+    static final int AMOSTRAS_MINIMAS = 5;
+    private static final double SUAVIZACAO = 0.2;
+    private static final double PESO_RTT_LONGO = 2.0 / (100 + 1);
+
+    private final int minimo;
+    private final int maximo;
+    private final double tolerancia;
+    private final long janelaNanos;
+    private final AtomicInteger emExecucao = new AtomicInteger();
+
+    private volatile int limite;
+    private volatile double rttCurtoNanos;
+    private volatile double rttLongoNanos;
+
+    // Estado da janela corrente (protegido pelo monitor da instância)
+    private double limiteEstimado;
+    private long inicioJanela = System.nanoTime();
+    private long somaJanela;
+    private int amostrasJanela;
+    private int maximoEmExecucaoJanela;
+
+    public LimiteAdaptativo(int inicial, int minimo, int maximo, double tolerancia, long janelaMs) {
+        this.minimo = Math.max(1, minimo);
+        this.maximo = Math.max(this.minimo, maximo);
+        this.tolerancia = Math.max(1.0, tolerancia);
+        this.janelaNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, janelaMs));
+        this.limiteEstimado = Math.min(this.maximo, Math.max(this.minimo, inicial));
+        this.limite = (int) limiteEstimado;
+    }
+
+    /**
+     * Reserva uma vaga se houver; não bloqueia.
+     */
+    public boolean tentarAdquirir() {
+        while (true) {
+            int atual = emExecucao.get();
+            if (atual >= limite) {
+                return false;
+            }
+            if (emExecucao.compareAndSet(atual, atual + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Libera a vaga e registra a latência da requisição (ignorada quando `amostraValida` é falso, ex: erro 5xx).
+     */
+    public void liberar(long nanos, boolean amostraValida) {
+        int emUso = emExecucao.getAndDecrement();
+        if (amostraValida) {
+            registrar(nanos, emUso);
+        }
+    }
+
+    private synchronized void registrar(long nanos, int emUso) {
+        somaJanela += nanos;
+        amostrasJanela++;
+        maximoEmExecucaoJanela = Math.max(maximoEmExecucaoJanela, emUso);
+
+        long agora = System.nanoTime();
+        if (agora - inicioJanela < janelaNanos || amostrasJanela < AMOSTRAS_MINIMAS) {
+            return;
+        }
+        double curto = (double) somaJanela / amostrasJanela;
+        int maximoEmUso = maximoEmExecucaoJanela;
+        inicioJanela = agora;
+        somaJanela = 0;
+        amostrasJanela = 0;
+        maximoEmExecucaoJanela = 0;
+        ajustar(curto, maximoEmUso);
+    }
+
+    private void ajustar(double curto, int maximoEmUso) {
+        double longo = rttLongoNanos == 0 ? curto : rttLongoNanos * (1 - PESO_RTT_LONGO) + curto * PESO_RTT_LONGO;
+        if (longo / curto > 2) {
+            longo *= 0.95;
+        }
+        rttCurtoNanos = curto;
+        rttLongoNanos = longo;
+
+        double gradiente = Math.max(0.5, Math.min(1.0, tolerancia * longo / curto));
+        double novo = limiteEstimado * gradiente + Math.sqrt(limiteEstimado);
+        if (novo > limiteEstimado && maximoEmUso < limiteEstimado / 2) {
+            return;
+        }
+        novo = limiteEstimado * (1 - SUAVIZACAO) + novo * SUAVIZACAO;
+        limiteEstimado = Math.max(minimo, Math.min(maximo, novo));
+        limite = (int) limiteEstimado;
+    }
+
+    public int limite() {
+        return limite;
+    }
+
+    public int emExecucao() {
+        return emExecucao.get();
+    }
+
+    public double rttCurtoMs() {
+        return rttCurtoNanos / 1e6;
+    }
+
+    public double rttLongoMs() {
+        return rttLongoNanos / 1e6;
+    }
+}
@@ -0,0 +1,107 @@
+package br.com.fiap.mototrack.concurrency;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * # 📌 MonitorPinning
+ *
+ * Observa, via JFR (`jdk.VirtualThreadPinned`), as threads virtuais que ficaram presas à thread
+ * de plataforma por mais que o limiar: um bloqueio dentro de `synchronized` ou de código nativo.
+ * As ocorrências são agrupadas pelo frame mais interno de código de terceiros ou da aplicação.
+ *
+ * > Ativo apenas no modo de threads virtuais. O evento é raro quando não há problema,
+ * > então o custo do streaming é desprezível.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "mototrack.threads-virtuais.habilitado", havingValue = "true")
+public class MonitorPinning {
+
+    /**
+     * Ocorrências de pinning em um mesmo ponto do código.
+     */
+    public record Ocorrencia(String frame, long quantidade, long maiorDuracaoMs) {
+    }
+
+    private record Acumulado(LongAdder quantidade, AtomicLong maiorNanos) {
+    }
+
+    private static final int PROFUNDIDADE_PILHA = 64;
+
+    private final Duration limiar;
+    private final Map<String, Acumulado> ocorrencias = new ConcurrentHashMap<>();
+    private RecordingStream stream;
+
+    public MonitorPinning(@Value("${mototrack.threads-virtuais.limiar-pinning-ms:20}") long limiarMs) {
+        this.limiar = Duration.ofMillis(limiarMs);
+    }
+
+    @PostConstruct
+    void iniciar() {
+        stream = new RecordingStream();
+        stream.enable("jdk.VirtualThreadPinned").withThreshold(limiar).withStackTrace();
+        stream.onEvent("jdk.VirtualThreadPinned", this::registrar);
+        stream.startAsync();
+    }
+
+    @PreDestroy
+    void encerrar() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    private void registrar(RecordedEvent evento) {
+        String frame = frame(evento);
+        Acumulado acumulado = ocorrencias.computeIfAbsent(frame, f -> new Acumulado(new LongAdder(), new AtomicLong()));
+        acumulado.quantidade().increment();
+        acumulado.maiorNanos().accumulateAndGet(evento.getDuration().toNanos(), Math::max);
+        if (acumulado.quantidade().sum() == 1) {
+            log.warn("📌 Thread virtual presa por {} ms em {}", evento.getDuration().toMillis(), frame);
+        }
+    }
+
+    /**
+     * Primeiro frame fora do JDK: é onde está o `synchronized` (ou a chamada nativa) que prendeu a thread.
+     */
+    private static String frame(RecordedEvent evento) {
+        if (evento.getStackTrace() == null) {
+            return "(sem pilha)";
+        }
+        List<RecordedFrame> frames = evento.getStackTrace().getFrames();
+        for (int i = 0; i < Math.min(frames.size(), PROFUNDIDADE_PILHA); i++) {
+            RecordedFrame frame = frames.get(i);
+            String classe = frame.getMethod().getType().getName();
+            if (!classe.startsWith("java.") && !classe.startsWith("jdk.") && !classe.startsWith("sun.")) {
+                return classe + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+            }
+        }
+        return frames.isEmpty() ? "(sem pilha)" : frames.get(0).getMethod().getType().getName();
+    }
+
+    /**
+     * Ocorrências observadas desde a inicialização, das mais frequentes para as menos.
+     */
+    public List<Ocorrencia> ocorrencias() {
+        return ocorrencias.entrySet().stream()
+                .map(e -> new Ocorrencia(e.getKey(), e.getValue().quantidade().sum(),
+                        e.getValue().maiorNanos().get() / 1_000_000))
+                .sorted((a, b) -> Long.compare(b.quantidade(), a.quantidade()))
+                .toList();
+    }
+}
@@ -0,0 +1,42 @@
+package br.com.fiap.mototrack.concurrency;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+
+import java.util.concurrent.Executors;
+
+/**
+ * # 🧵 ThreadsVirtuaisConfig
+ *
+ * Modo de execução com threads virtuais (Java 21), ligado por `mototrack.threads-virtuais.habilitado`:
+ * - Tomcat: cada requisição roda em uma thread virtual, no lugar do pool de 200 threads de plataforma
+ * - Trabalho assíncrono (`applicationTaskExecutor`: `@Async`, requisições MVC assíncronas): uma thread virtual por tarefa
+ *
+ * > Uma thread virtual bloqueada em JDBC libera a thread de plataforma. O limite de concorrência no banco
+ * > passa a ser o pool do Hikari (`spring.datasource.hikari.maximum-pool-size`): requisições além dele
+ * > aguardam uma conexão por até `connection-timeout`. Veja `GET /debug/threads-virtuais`.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "mototrack.threads-virtuais.habilitado", havingValue = "true")
+public class ThreadsVirtuaisConfig {
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> executorVirtualTomcat() {
+        log.info("🧵 Requisições HTTP em threads virtuais");
+        return protocolHandler -> protocolHandler.setExecutor(
+                Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("http-virtual-", 0).factory()));
+    }
+
+    @Bean(name = {TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME, "taskExecutor"})
+    public AsyncTaskExecutor applicationTaskExecutor() {
+        return new TaskExecutorAdapter(
+                Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("async-virtual-", 0).factory()));
+    }
+}
@@ -1,7 +1,10 @@
 package br.com.fiap.mototrack.controller;
 
 import br.com.fiap.mototrack.dto.request.AgendamentoRequest;
+import br.com.fiap.mototrack.dto.request.BuscaLoteRequest;
 import br.com.fiap.mototrack.dto.response.AgendamentoResponse;
+import br.com.fiap.mototrack.dto.response.ConflitoResponse;
+import br.com.fiap.mototrack.dto.response.LoteResponse;
 import br.com.fiap.mototrack.filter.AgendamentoFilter;
 import br.com.fiap.mototrack.service.AgendamentoService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -22,6 +25,7 @@ import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * ## 📅 Controller: AgendamentoController
@@ -63,6 +67,29 @@ public class AgendamentoController {
         return service.consultarTodos();
     }
 
+    /**
+     * ### 🎯 GET /agendamentos?fields=id,...
+     * Lista apenas os campos pedidos, lidos por projeção direto do banco.
+     */
+    @GetMapping(params = {"fields", "!ids"})
+    @Operation(summary = "Listar agendamentos com seleção de campos", description = "Retorna somente os campos informados em fields (separados por vírgula).")
+    public List<Map<String, Object>> listarCampos(@RequestParam String fields) {
+        log.info("🎯 Listando agendamentos com campos: {}", fields);
+        return service.consultarCampos(fields);
+    }
+
+    /**
+     * ### ⚔️ GET /agendamentos/conflitos
+     * Lista os agendamentos com horários sobrepostos, por moto e por oficina.
+     */
+    @GetMapping("/conflitos")
+    @Operation(summary = "Relatório de conflitos de agenda",
+            description = "Retorna os pares de agendamentos sobrepostos na mesma moto (MOTO) ou na mesma filial (OFICINA).")
+    public List<ConflitoResponse> listarConflitos() {
+        log.info("⚔️ Gerando relatório de conflitos de agenda.");
+        return service.consultarConflitos();
+    }
+
     /**
      * ### 🔍 GET /agendamentos/{id}
      * Retorna os dados de um agendamento específico por ID.
@@ -74,6 +101,39 @@ public class AgendamentoController {
         return ResponseEntity.ok(service.buscarPorId(id));
     }
 
+    /**
+     * ### 🎯 GET /agendamentos/{id}?fields=id,...
+     * Retorna apenas os campos pedidos do registro.
+     */
+    @GetMapping(value = "/{id}", params = "fields")
+    @Operation(summary = "Buscar agendamento por ID com seleção de campos", description = "Retorna somente os campos informados em fields (separados por vírgula).")
+    public ResponseEntity<Map<String, Object>> buscarCamposPorId(@PathVariable Long id, @RequestParam String fields) {
+        log.info("🎯 Buscando agendamento ID: {} com campos: {}", id, fields);
+        return ResponseEntity.ok(service.buscarCamposPorId(id, fields));
+    }
+
+    /**
+     * ### 📦 GET /agendamentos?ids=3,1,2
+     * Retorna os agendamentos dos IDs informados, na ordem do pedido; IDs inexistentes vêm em `naoEncontrados`.
+     */
+    @GetMapping(params = "ids")
+    @Operation(summary = "Buscar agendamentos por lista de IDs", description = "Busca em lote com consultas IN em blocos, preservando a ordem dos IDs informados.")
+    public ResponseEntity<LoteResponse<AgendamentoResponse, Long>> buscarPorIds(@RequestParam List<Long> ids) {
+        log.info("📦 Buscando agendamentos em lote: {} IDs", ids.size());
+        return ResponseEntity.ok(service.buscarPorIds(ids));
+    }
+
+    /**
+     * ### 📦 POST /agendamentos/buscar
+     * Busca em lote por ids informados no corpo, na ordem do pedido.
+     */
+    @PostMapping("/buscar")
+    @Operation(summary = "Buscar agendamentos em lote", description = "Busca em lote por ids, com consultas IN em blocos; chaves inexistentes vêm em naoEncontrados.")
+    public ResponseEntity<LoteResponse<AgendamentoResponse, ?>> buscarEmLote(@RequestBody BuscaLoteRequest pedido) {
+        log.info("📦 Buscando agendamentos em lote (POST).");
+        return ResponseEntity.ok(service.buscarEmLote(pedido));
+    }
+
     /**
      * ### ✏️ PUT /agendamentos/{id}
      * Atualiza os dados de um agendamento específico.
@@ -103,14 +163,35 @@ public class AgendamentoController {
      */
     @GetMapping("/filtro")
     @Operation(summary = "Filtrar agendamentos com paginação e ordenação",
-            description = "Permite aplicar filtros nos dados dos agendamentos com suporte a paginação e ordenação por query params.")
+            description = "Permite aplicar filtros nos dados dos agendamentos com suporte a paginação e ordenação por query params. "
+                    + "Com dataInicio e dataFim, inclui as ocorrências previstas das regras de recorrência (prevista = true).")
     public ResponseEntity<Page<AgendamentoResponse>> filtrarComPaginacao(
             @ParameterObject @ModelAttribute AgendamentoFilter filtro,
             @ParameterObject
-            @PageableDefault(size = 20, sort = "dataHora", direction = Sort.Direction.ASC)
+            @PageableDefault(size = 20, sort = "dataAgendada", direction = Sort.Direction.ASC)
             Pageable pageable
     ) {
         log.info("🗃️ Filtros aplicados: {}", filtro);
         return ResponseEntity.ok(service.consultarComFiltro(filtro, pageable));
     }
+
+    /**
+     * ### 🎯 GET /agendamentos/filtro?fields=id,...
+     * Filtros dinâmicos e paginação, retornando apenas os campos pedidos.
+     */
+    @GetMapping(value = "/filtro", params = "fields")
+    @Operation(summary = "Filtrar agendamentos com seleção de campos",
+            description = "Mesmos filtros de /agendamentos/filtro; a consulta seleciona somente as colunas dos campos informados em fields.")
+    public ResponseEntity<Page<Map<String, Object>>> filtrarCampos(
+            @ParameterObject @ModelAttribute AgendamentoFilter filtro,
+
+            @ParameterObject
+            @PageableDefault(size = 20, sort = "dataAgendada", direction = Sort.Direction.ASC)
+            Pageable pageable,
+
+            @RequestParam String fields
+    ) {
+        log.info("🎯 Filtros aplicados: {} | campos: {}", filtro, fields);
+        return ResponseEntity.ok(service.consultarCamposComFiltro(filtro, pageable, fields));
+    }
 }
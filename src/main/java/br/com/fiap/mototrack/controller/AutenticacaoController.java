@@ -0,0 +1,59 @@
+package br.com.fiap.mototrack.controller;
+
+import br.com.fiap.mototrack.dto.request.LoginRequest;
+import br.com.fiap.mototrack.dto.response.TokenResponse;
+import br.com.fiap.mototrack.security.UsuarioAutenticado;
+import br.com.fiap.mototrack.service.AutenticacaoService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * ## 🔑 Controller: AutenticacaoController
+ *
+ * Login (troca de e-mail e senha por um token de acesso) e logout (revogação do token).
+ * As demais rotas exigem `Authorization: Bearer <token>`.
+ */
+@Validated
+@Tag(name = "Autenticação", description = "Emissão e revogação de tokens de acesso")
+@CrossOrigin(origins = "http://localhost:3000")
+@RestController
+@RequestMapping("/auth")
+@RequiredArgsConstructor
+public class AutenticacaoController {
+
+    private static final Logger log = LoggerFactory.getLogger(AutenticacaoController.class);
+    private final AutenticacaoService service;
+
+    /**
+     * ### 🔑 POST /auth/login
+     * Retorna um token assinado com o ID, o perfil e a filial do usuário.
+     */
+    @PostMapping("/login")
+    @Operation(summary = "Login", description = "Troca e-mail e senha por um token de acesso (Bearer).")
+    public ResponseEntity<TokenResponse> login(@RequestBody @Valid LoginRequest dto) {
+        log.info("🔑 Login de {}", dto.getEmail());
+        return ResponseEntity.ok(service.login(dto));
+    }
+
+    /**
+     * ### 🚪 POST /auth/logout
+     * Revoga o token usado nesta requisição.
+     */
+    @PostMapping("/logout")
+    @SecurityRequirement(name = "bearerAuth")
+    @Operation(summary = "Logout", description = "Revoga o token de acesso usado na requisição.")
+    public ResponseEntity<Void> logout(HttpServletRequest request) {
+        log.info("🚪 Logout");
+        service.logout(UsuarioAutenticado.de(request));
+        return ResponseEntity.noContent().build();
+    }
+}
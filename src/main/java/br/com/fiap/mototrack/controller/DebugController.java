@@ -0,0 +1,88 @@
+package br.com.fiap.mototrack.controller;
+
+import br.com.fiap.mototrack.concurrency.AuditoriaThreadsVirtuais;
+import br.com.fiap.mototrack.dto.response.DespejoJfrResponse;
+import br.com.fiap.mototrack.dto.response.PerfilRequisicaoResponse;
+import br.com.fiap.mototrack.dto.response.ThreadsVirtuaisResponse;
+import br.com.fiap.mototrack.metrics.GravacaoContinuaJfr;
+import br.com.fiap.mototrack.metrics.PerfisMaisLentos;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * ## 🐞 Controller: DebugController
+ *
+ * Endpoints de diagnóstico: perfis das requisições mais lentas
+ * (habilitados por `mototrack.perfilador.habilitado`) e despejo da gravação JFR contínua
+ * (habilitada por `mototrack.jfr.habilitado`) e relatório do modo de threads.
+ */
+@Validated
+@SecurityRequirement(name = "bearerAuth")
+@Tag(name = "Debug", description = "Diagnóstico de desempenho")
+@CrossOrigin(origins = "http://localhost:3000")
+@RestController
+@RequestMapping("/debug")
+@RequiredArgsConstructor
+public class DebugController {
+
+    private final PerfisMaisLentos maisLentos;
+    private final GravacaoContinuaJfr gravacaoJfr;
+    private final AuditoriaThreadsVirtuais auditoriaThreads;
+
+    /**
+     * ### 🐢 GET /debug/perfis
+     * Lista as requisições mais lentas com o tempo de cada fase.
+     */
+    @GetMapping("/perfis")
+    @Operation(summary = "Requisições mais lentas",
+            description = "Retorna os N perfis mais lentos (spec, sql, map, ser, bytes alocados), do mais lento para o mais rápido.")
+    public List<PerfilRequisicaoResponse> consultarPerfis() {
+        return maisLentos.consultar();
+    }
+
+    /**
+     * ### 🧹 DELETE /debug/perfis
+     * Descarta os perfis guardados.
+     */
+    @DeleteMapping("/perfis")
+    @Operation(summary = "Limpar perfis", description = "Descarta os perfis guardados, reiniciando a coleta.")
+    public ResponseEntity<Void> limparPerfis() {
+        maisLentos.limpar();
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * ### 🛩️ POST /debug/jfr
+     * Grava em `.jfr` os últimos N minutos da gravação contínua do Flight Recorder.
+     */
+    @PostMapping("/jfr")
+    @Operation(summary = "Despejar gravação JFR",
+            description = "Gera um arquivo .jfr no servidor com os eventos dos últimos N minutos (inclui as operações dos services).")
+    public DespejoJfrResponse despejarJfr(
+            @Parameter(description = "Janela em minutos (1 a 1440)")
+            @RequestParam(defaultValue = "10") @Min(1) @Max(1440) int minutos
+    ) {
+        return gravacaoJfr.despejar(minutos);
+    }
+
+    /**
+     * ### 🧵 GET /debug/threads-virtuais
+     * Relatório do modo de threads, do pool de conexões e do pinning observado.
+     */
+    @GetMapping("/threads-virtuais")
+    @Operation(summary = "Auditoria de threads virtuais",
+            description = "Modo de execução (virtual ou plataforma), dimensionamento do Hikari, pinning observado via JFR e pontos sensíveis auditados.")
+    public ThreadsVirtuaisResponse auditarThreads() {
+        return auditoriaThreads.relatorio();
+    }
+}
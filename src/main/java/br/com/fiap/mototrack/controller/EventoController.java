@@ -1,7 +1,9 @@
 package br.com.fiap.mototrack.controller;
 
+import br.com.fiap.mototrack.dto.request.BuscaLoteRequest;
 import br.com.fiap.mototrack.dto.request.EventoRequest;
 import br.com.fiap.mototrack.dto.response.EventoResponse;
+import br.com.fiap.mototrack.dto.response.LoteResponse;
 import br.com.fiap.mototrack.filter.EventoFilter;
 import br.com.fiap.mototrack.service.EventoService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -22,6 +24,7 @@ import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * ## 📑 Controller: EventoController
@@ -63,6 +66,17 @@ public class EventoController {
         return service.consultarTodos();
     }
 
+    /**
+     * ### 🎯 GET /eventos?fields=id,...
+     * Lista apenas os campos pedidos, lidos por projeção direto do banco.
+     */
+    @GetMapping(params = {"fields", "!ids"})
+    @Operation(summary = "Listar eventos com seleção de campos", description = "Retorna somente os campos informados em fields (separados por vírgula).")
+    public List<Map<String, Object>> listarCampos(@RequestParam String fields) {
+        log.info("🎯 Listando eventos com campos: {}", fields);
+        return service.consultarCampos(fields);
+    }
+
     /**
      * ### 🔍 GET /eventos/{id}
      * Retorna os dados de um evento específico por ID.
@@ -74,6 +88,39 @@ public class EventoController {
         return ResponseEntity.ok(service.buscarPorId(id));
     }
 
+    /**
+     * ### 🎯 GET /eventos/{id}?fields=id,...
+     * Retorna apenas os campos pedidos do registro.
+     */
+    @GetMapping(value = "/{id}", params = "fields")
+    @Operation(summary = "Buscar evento por ID com seleção de campos", description = "Retorna somente os campos informados em fields (separados por vírgula).")
+    public ResponseEntity<Map<String, Object>> buscarCamposPorId(@PathVariable Long id, @RequestParam String fields) {
+        log.info("🎯 Buscando evento ID: {} com campos: {}", id, fields);
+        return ResponseEntity.ok(service.buscarCamposPorId(id, fields));
+    }
+
+    /**
+     * ### 📦 GET /eventos?ids=3,1,2
+     * Retorna os eventos dos IDs informados, na ordem do pedido; IDs inexistentes vêm em `naoEncontrados`.
+     */
+    @GetMapping(params = "ids")
+    @Operation(summary = "Buscar eventos por lista de IDs", description = "Busca em lote com consultas IN em blocos, preservando a ordem dos IDs informados.")
+    public ResponseEntity<LoteResponse<EventoResponse, Long>> buscarPorIds(@RequestParam List<Long> ids) {
+        log.info("📦 Buscando eventos em lote: {} IDs", ids.size());
+        return ResponseEntity.ok(service.buscarPorIds(ids));
+    }
+
+    /**
+     * ### 📦 POST /eventos/buscar
+     * Busca em lote por ids informados no corpo, na ordem do pedido.
+     */
+    @PostMapping("/buscar")
+    @Operation(summary = "Buscar eventos em lote", description = "Busca em lote por ids, com consultas IN em blocos; chaves inexistentes vêm em naoEncontrados.")
+    public ResponseEntity<LoteResponse<EventoResponse, ?>> buscarEmLote(@RequestBody BuscaLoteRequest pedido) {
+        log.info("📦 Buscando eventos em lote (POST).");
+        return ResponseEntity.ok(service.buscarEmLote(pedido));
+    }
+
     /**
      * ### ✏️ PUT /eventos/{id}
      * Atualiza os dados de um evento específico.
@@ -113,4 +160,24 @@ public class EventoController {
         log.info("🗃️ Filtros aplicados: {}", filtro);
         return ResponseEntity.ok(service.consultarComFiltro(filtro, pageable));
     }
+
+    /**
+     * ### 🎯 GET /eventos/filtro?fields=id,...
+     * Filtros dinâmicos e paginação, retornando apenas os campos pedidos.
+     */
+    @GetMapping(value = "/filtro", params = "fields")
+    @Operation(summary = "Filtrar eventos com seleção de campos",
+            description = "Mesmos filtros de /eventos/filtro; a consulta seleciona somente as colunas dos campos informados em fields.")
+    public ResponseEntity<Page<Map<String, Object>>> filtrarCampos(
+            @ParameterObject @ModelAttribute EventoFilter filtro,
+
+            @ParameterObject
+            @PageableDefault(size = 20, sort = "dataHora", direction = Sort.Direction.DESC)
+            Pageable pageable,
+
+            @RequestParam String fields
+    ) {
+        log.info("🎯 Filtros aplicados: {} | campos: {}", filtro, fields);
+        return ResponseEntity.ok(service.consultarCamposComFiltro(filtro, pageable, fields));
+    }
 }
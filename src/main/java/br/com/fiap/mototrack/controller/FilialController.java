@@ -1,14 +1,21 @@
 package br.com.fiap.mototrack.controller;
 
+import br.com.fiap.mototrack.dto.request.BuscaLoteRequest;
 import br.com.fiap.mototrack.dto.request.FilialRequest;
+import br.com.fiap.mototrack.dto.response.DisponibilidadeResponse;
 import br.com.fiap.mototrack.dto.response.FilialResponse;
+import br.com.fiap.mototrack.dto.response.LoteResponse;
+import br.com.fiap.mototrack.dto.response.PainelFilialResponse;
 import br.com.fiap.mototrack.filter.FilialFilter;
 import br.com.fiap.mototrack.service.FilialService;
+import br.com.fiap.mototrack.service.PainelFilialService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -17,17 +24,21 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 
 /**
  * ## 🏢 Controller: FilialController
  *
  * Controlador responsável pelos endpoints REST da entidade Filial.
- * Permite cadastrar, listar, buscar, atualizar, deletar e filtrar registros de filiais.
+ * Permite cadastrar, listar, buscar, atualizar, deletar e filtrar registros de filiais,
+ * além de consultar a disponibilidade da oficina e o painel de visão geral.
  */
 @Validated
 @SecurityRequirement(name = "bearerAuth")
@@ -40,6 +51,7 @@ public class FilialController {
 
     private static final Logger log = LoggerFactory.getLogger(FilialController.class);
     private final FilialService service;
+    private final PainelFilialService painelService;
 
     /**
      * ### 🏢 POST /filiais
@@ -63,6 +75,17 @@ public class FilialController {
         return service.consultarTodos();
     }
 
+    /**
+     * ### 🎯 GET /filiais?fields=id,...
+     * Lista apenas os campos pedidos, lidos por projeção direto do banco.
+     */
+    @GetMapping(params = {"fields", "!ids"})
+    @Operation(summary = "Listar filiais com seleção de campos", description = "Retorna somente os campos informados em fields (separados por vírgula).")
+    public List<Map<String, Object>> listarCampos(@RequestParam String fields) {
+        log.info("🎯 Listando filiais com campos: {}", fields);
+        return service.consultarCampos(fields);
+    }
+
     /**
      * ### 🔍 GET /filiais/{id}
      * Retorna os dados de uma filial específica por ID.
@@ -74,6 +97,39 @@ public class FilialController {
         return ResponseEntity.ok(service.buscarPorId(id));
     }
 
+    /**
+     * ### 🎯 GET /filiais/{id}?fields=id,...
+     * Retorna apenas os campos pedidos do registro.
+     */
+    @GetMapping(value = "/{id}", params = "fields")
+    @Operation(summary = "Buscar filial por ID com seleção de campos", description = "Retorna somente os campos informados em fields (separados por vírgula).")
+    public ResponseEntity<Map<String, Object>> buscarCamposPorId(@PathVariable Long id, @RequestParam String fields) {
+        log.info("🎯 Buscando filial ID: {} com campos: {}", id, fields);
+        return ResponseEntity.ok(service.buscarCamposPorId(id, fields));
+    }
+
+    /**
+     * ### 📦 GET /filiais?ids=3,1,2
+     * Retorna as filiais dos IDs informados, na ordem do pedido; IDs inexistentes vêm em `naoEncontrados`.
+     */
+    @GetMapping(params = "ids")
+    @Operation(summary = "Buscar filiais por lista de IDs", description = "Busca em lote com consultas IN em blocos, preservando a ordem dos IDs informados.")
+    public ResponseEntity<LoteResponse<FilialResponse, Long>> buscarPorIds(@RequestParam List<Long> ids) {
+        log.info("📦 Buscando filiais em lote: {} IDs", ids.size());
+        return ResponseEntity.ok(service.buscarPorIds(ids));
+    }
+
+    /**
+     * ### 📦 POST /filiais/buscar
+     * Busca em lote por ids informados no corpo, na ordem do pedido.
+     */
+    @PostMapping("/buscar")
+    @Operation(summary = "Buscar filiais em lote", description = "Busca em lote por ids, com consultas IN em blocos; chaves inexistentes vêm em naoEncontrados.")
+    public ResponseEntity<LoteResponse<FilialResponse, ?>> buscarEmLote(@RequestBody BuscaLoteRequest pedido) {
+        log.info("📦 Buscando filiais em lote (POST).");
+        return ResponseEntity.ok(service.buscarEmLote(pedido));
+    }
+
     /**
      * ### ✏️ PUT /filiais/{id}
      * Atualiza os dados de uma filial específica.
@@ -113,4 +169,57 @@ public class FilialController {
         log.info("🗃️ Filtros aplicados: {}", filtro);
         return ResponseEntity.ok(service.consultarComFiltro(filtro, pageable));
     }
+
+    /**
+     * ### 🎯 GET /filiais/filtro?fields=id,...
+     * Filtros dinâmicos e paginação, retornando apenas os campos pedidos.
+     */
+    @GetMapping(value = "/filtro", params = "fields")
+    @Operation(summary = "Filtrar filiais com seleção de campos",
+            description = "Mesmos filtros de /filiais/filtro; a consulta seleciona somente as colunas dos campos informados em fields.")
+    public ResponseEntity<Page<Map<String, Object>>> filtrarCampos(
+            @ParameterObject @ModelAttribute FilialFilter filtro,
+
+            @ParameterObject
+            @PageableDefault(size = 20, sort = "nome", direction = Sort.Direction.ASC)
+            Pageable pageable,
+
+            @RequestParam String fields
+    ) {
+        log.info("🎯 Filtros aplicados: {} | campos: {}", filtro, fields);
+        return ResponseEntity.ok(service.consultarCamposComFiltro(filtro, pageable, fields));
+    }
+
+    /**
+     * ### 📅 GET /filiais/{id}/disponibilidade
+     * Retorna a ocupação da oficina da filial, slot a slot, no dia informado.
+     */
+    @GetMapping("/{id}/disponibilidade")
+    @Operation(summary = "Disponibilidade da oficina",
+            description = "Retorna, para cada slot do dia, as reservas e as vagas livres da oficina da filial.")
+    public ResponseEntity<DisponibilidadeResponse> consultarDisponibilidade(
+            @PathVariable Long id,
+            @Parameter(description = "Dia consultado (ISO, ex: 2025-06-01). Vazio = hoje")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dia
+    ) {
+        log.info("📅 Consultando disponibilidade da filial ID: {} no dia: {}", id, dia);
+        return ResponseEntity.ok(service.consultarDisponibilidade(id, dia != null ? dia : LocalDate.now()));
+    }
+
+    /**
+     * ### 📊 GET /filiais/{id}/painel
+     * Retorna, em uma única chamada, a filial com suas motos, eventos recentes, próximos agendamentos e usuários.
+     */
+    @GetMapping("/{id}/painel")
+    @Operation(summary = "Painel da filial",
+            description = "Agrega filial, motos, eventos, agendamentos e usuários. As consultas rodam em paralelo, com prazo único; "
+                    + "a falha de uma delas cancela as demais.")
+    public ResponseEntity<PainelFilialResponse> consultarPainel(
+            @PathVariable Long id,
+            @Parameter(description = "Registros por lista (padrão 10)")
+            @RequestParam(defaultValue = "10") @Min(1) @Max(100) int tamanho
+    ) {
+        log.info("📊 Montando painel da filial ID: {}", id);
+        return ResponseEntity.ok(painelService.montar(id, tamanho));
+    }
 }
@@ -0,0 +1,48 @@
+package br.com.fiap.mototrack.controller;
+
+import br.com.fiap.mototrack.dto.request.LoteOperacoesRequest;
+import br.com.fiap.mototrack.dto.response.LoteOperacoesResponse;
+import br.com.fiap.mototrack.service.LoteOperacoesService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * ## 📦 Controller: LoteController
+ *
+ * Endpoint de lote: várias operações de motos, eventos, agendamentos, filiais e usuários
+ * em uma única requisição, com execução opcional em uma só transação (tudo ou nada).
+ */
+@Validated
+@SecurityRequirement(name = "bearerAuth")
+@Tag(name = "Lote", description = "Várias operações em uma única requisição")
+@CrossOrigin(origins = "http://localhost:3000")
+@RestController
+@RequestMapping("/batch")
+@RequiredArgsConstructor
+public class LoteController {
+
+    private static final Logger log = LoggerFactory.getLogger(LoteController.class);
+    private final LoteOperacoesService service;
+
+    /**
+     * ### 📦 POST /batch
+     * Executa as operações em ordem e retorna uma resposta por operação (status e corpo do endpoint REST).
+     * O status HTTP do lote é 200; falhas são informadas por operação.
+     */
+    @PostMapping
+    @Operation(summary = "Executar operações em lote",
+            description = "Executa sub-requisições (GET/POST/PUT/DELETE em /motos, /eventos, /agendamentos, /filiais e /usuarios) "
+                    + "em uma única chamada. Com transacional=true, a primeira falha desfaz todas as operações.")
+    public ResponseEntity<LoteOperacoesResponse> executar(@RequestBody @Valid LoteOperacoesRequest lote) {
+        log.info("📦 Executando lote com {} operações (transacional: {})", lote.getOperacoes().size(), lote.isTransacional());
+        return ResponseEntity.ok(service.executar(lote));
+    }
+}
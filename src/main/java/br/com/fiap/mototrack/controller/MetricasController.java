@@ -0,0 +1,41 @@
+package br.com.fiap.mototrack.controller;
+
+import br.com.fiap.mototrack.dto.response.ColetaMetricasResponse;
+import br.com.fiap.mototrack.metrics.ColetorPrometheusLocal;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * ## 📊 Controller: MetricasController
+ *
+ * Consulta da última coleta do coletor Prometheus local.
+ * As métricas em si são expostas pelo Actuator em `/actuator/prometheus`.
+ */
+@SecurityRequirement(name = "bearerAuth")
+@Tag(name = "Métricas", description = "Coletor local das métricas Prometheus")
+@CrossOrigin(origins = "http://localhost:3000")
+@RestController
+@RequestMapping("/metricas")
+@RequiredArgsConstructor
+public class MetricasController {
+
+    private final ColetorPrometheusLocal coletor;
+
+    /**
+     * ### 🧪 GET /metricas/coleta
+     * Retorna as séries da última coleta, opcionalmente filtradas por prefixo.
+     */
+    @GetMapping("/coleta")
+    @Operation(summary = "Última coleta do Prometheus local",
+            description = "Retorna as séries lidas de `/actuator/prometheus` na última coleta (ex: prefixo `http_server_requests_seconds`).")
+    public ColetaMetricasResponse consultarColeta(
+            @Parameter(description = "Prefixo do nome das séries")
+            @RequestParam(required = false) String prefixo
+    ) {
+        return coletor.consultar(prefixo);
+    }
+}
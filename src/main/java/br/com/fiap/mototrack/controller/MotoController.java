@@ -1,6 +1,9 @@
 package br.com.fiap.mototrack.controller;
 
+import br.com.fiap.mototrack.dto.request.BuscaLoteRequest;
 import br.com.fiap.mototrack.dto.request.MotoRequest;
+import br.com.fiap.mototrack.dto.response.LoteResponse;
+import br.com.fiap.mototrack.dto.response.MotoEstadoResponse;
 import br.com.fiap.mototrack.dto.response.MotoResponse;
 import br.com.fiap.mototrack.filter.MotoFilter;
 import br.com.fiap.mototrack.service.MotoService;
@@ -19,11 +22,14 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 /**
  * ## 🛵 Controller: MotoController
@@ -67,6 +73,17 @@ public class MotoController {
         return service.consultarTodos();
     }
 
+    /**
+     * ### 🎯 GET /motos?fields=id,...
+     * Lista apenas os campos pedidos, lidos por projeção direto do banco.
+     */
+    @GetMapping(params = {"fields", "!ids"})
+    @Operation(summary = "Listar motos com seleção de campos", description = "Retorna somente os campos informados em fields (separados por vírgula).")
+    public List<Map<String, Object>> listarCampos(@RequestParam String fields) {
+        log.info("🎯 Listando motos com campos: {}", fields);
+        return service.consultarCampos(fields);
+    }
+
     /**
      * ### 🔍 GET /motos/{id}
      * Retorna os dados de uma moto específica por ID.
@@ -78,6 +95,39 @@ public class MotoController {
         return ResponseEntity.ok(service.buscarPorId(id));
     }
 
+    /**
+     * ### 🎯 GET /motos/{id}?fields=id,...
+     * Retorna apenas os campos pedidos do registro.
+     */
+    @GetMapping(value = "/{id}", params = "fields")
+    @Operation(summary = "Buscar moto por ID com seleção de campos", description = "Retorna somente os campos informados em fields (separados por vírgula).")
+    public ResponseEntity<Map<String, Object>> buscarCamposPorId(@PathVariable Long id, @RequestParam String fields) {
+        log.info("🎯 Buscando moto ID: {} com campos: {}", id, fields);
+        return ResponseEntity.ok(service.buscarCamposPorId(id, fields));
+    }
+
+    /**
+     * ### 📦 GET /motos?ids=3,1,2
+     * Retorna as motos dos IDs informados, na ordem do pedido; IDs inexistentes vêm em `naoEncontrados`.
+     */
+    @GetMapping(params = "ids")
+    @Operation(summary = "Buscar motos por lista de IDs", description = "Busca em lote com consultas IN em blocos, preservando a ordem dos IDs informados.")
+    public ResponseEntity<LoteResponse<MotoResponse, Long>> buscarPorIds(@RequestParam List<Long> ids) {
+        log.info("📦 Buscando motos em lote: {} IDs", ids.size());
+        return ResponseEntity.ok(service.buscarPorIds(ids));
+    }
+
+    /**
+     * ### 📦 POST /motos/buscar
+     * Busca em lote por ids ou placas informados no corpo, na ordem do pedido.
+     */
+    @PostMapping("/buscar")
+    @Operation(summary = "Buscar motos em lote", description = "Busca em lote por ids ou placas, com consultas IN em blocos; chaves inexistentes vêm em naoEncontrados.")
+    public ResponseEntity<LoteResponse<MotoResponse, ?>> buscarEmLote(@RequestBody BuscaLoteRequest pedido) {
+        log.info("📦 Buscando motos em lote (POST).");
+        return ResponseEntity.ok(service.buscarEmLote(pedido));
+    }
+
     /**
      * ### ✏️ PUT /motos/{id}
      * Atualiza os dados de uma moto específica.
@@ -120,4 +170,56 @@ public class MotoController {
         log.info("🗃️ Filtros aplicados: {}", filtro);
         return ResponseEntity.ok(service.consultarComFiltro(filtro, pageable));
     }
-}
\ No newline at end of file
+
+    /**
+     * ### 🎯 GET /motos/filtro?fields=id,...
+     * Filtros dinâmicos e paginação, retornando apenas os campos pedidos.
+     */
+    @GetMapping(value = "/filtro", params = "fields")
+    @Operation(summary = "Filtrar motos com seleção de campos",
+            description = "Mesmos filtros de /motos/filtro; a consulta seleciona somente as colunas dos campos informados em fields.")
+    public ResponseEntity<Page<Map<String, Object>>> filtrarCampos(
+            @ParameterObject @ModelAttribute MotoFilter filtro,
+
+            @ParameterObject
+            @PageableDefault(size = 20, sort = "placa", direction = Sort.Direction.ASC)
+            Pageable pageable,
+
+            @RequestParam String fields
+    ) {
+        log.info("🎯 Filtros aplicados: {} | campos: {}", filtro, fields);
+        return ResponseEntity.ok(service.consultarCamposComFiltro(filtro, pageable, fields));
+    }
+
+    /**
+     * ### 🧠 GET /motos/estado
+     * Retorna o estado da frota derivado dos eventos, atual ou em um instante (`em`).
+     */
+    @GetMapping("/estado")
+    @Operation(summary = "Estado da frota derivado dos eventos",
+            description = "Retorna status e filial de cada moto derivados do histórico de eventos. "
+                    + "Informe `em` (ISO, ex: 2025-06-01T14:00:00) para reconstruir o estado naquele instante.")
+    public List<MotoEstadoResponse> consultarEstados(
+            @Parameter(description = "Instante da reconstrução (ISO-8601). Vazio = estado atual")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime em
+    ) {
+        log.info("🧠 Consultando estado da frota em: {}", em != null ? em : "agora");
+        return service.consultarEstados(em);
+    }
+
+    /**
+     * ### 🧠 GET /motos/{id}/estado
+     * Retorna o estado de uma moto derivado dos eventos, atual ou em um instante (`em`).
+     */
+    @GetMapping("/{id}/estado")
+    @Operation(summary = "Estado da moto derivado dos eventos",
+            description = "Retorna status e filial da moto derivados do histórico de eventos, atual ou no instante `em`.")
+    public ResponseEntity<MotoEstadoResponse> consultarEstado(
+            @PathVariable Long id,
+            @Parameter(description = "Instante da reconstrução (ISO-8601). Vazio = estado atual")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime em
+    ) {
+        log.info("🧠 Consultando estado da moto ID: {} em: {}", id, em != null ? em : "agora");
+        return ResponseEntity.ok(service.consultarEstado(id, em));
+    }
+}
@@ -0,0 +1,79 @@
+package br.com.fiap.mototrack.controller;
+
+import br.com.fiap.mototrack.dto.response.AlteracaoResponse;
+import br.com.fiap.mototrack.outbox.OutboxService;
+import br.com.fiap.mototrack.outbox.WebhookLocalReceptor;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * ## 📤 Controller: OutboxController
+ *
+ * Endpoints de consumo das alterações (deltas) de motos, eventos e agendamentos.
+ * Permite leitura incremental por cursor e expõe o receptor local usado como webhook de teste.
+ */
+@Validated
+@SecurityRequirement(name = "bearerAuth")
+@Tag(name = "Outbox", description = "Alterações publicadas para consumidores externos")
+@CrossOrigin(origins = "http://localhost:3000")
+@RestController
+@RequestMapping("/outbox")
+@RequiredArgsConstructor
+public class OutboxController {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxController.class);
+    private final OutboxService service;
+    private final WebhookLocalReceptor receptor;
+
+    /**
+     * ### 📄 GET /outbox/alteracoes
+     * Retorna as alterações posteriores ao cursor `desde`, em ordem.
+     */
+    @GetMapping("/alteracoes")
+    @Operation(summary = "Consultar alterações desde um cursor",
+            description = "Retorna os deltas posteriores ao ID informado. Use o `id` da última alteração recebida como próximo cursor. "
+                    + "Alterações mais novas que `mototrack.outbox.margem-ms` aparecem na consulta seguinte.")
+    public List<AlteracaoResponse> consultarAlteracoes(
+            @Parameter(description = "ID da última alteração já processada pelo consumidor")
+            @RequestParam(defaultValue = "0") Long desde,
+            @Parameter(description = "Quantidade máxima de alterações (1 a 1000)")
+            @RequestParam(defaultValue = "100") @Min(1) @Max(1000) int limite
+    ) {
+        log.info("📤 Consultando alterações desde: {}", desde);
+        return service.consultarDesde(desde, limite);
+    }
+
+    /**
+     * ### 🧪 POST /outbox/webhook-local
+     * Receptor local que simula um consumidor de webhook.
+     */
+    @PostMapping("/webhook-local")
+    @Operation(summary = "Webhook local (teste)", description = "Recebe lotes de alterações publicados pelo outbox ou notificações avulsas (ex: disparo de agendamento).")
+    public ResponseEntity<Void> receberWebhook(@RequestBody JsonNode corpo) {
+        receptor.receber(corpo);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * ### 🧪 GET /outbox/webhook-local
+     * Lista as alterações recebidas pelo webhook local.
+     */
+    @GetMapping("/webhook-local")
+    @Operation(summary = "Alterações recebidas pelo webhook local", description = "Retorna as últimas alterações recebidas pelo receptor local.")
+    public List<JsonNode> consultarWebhook() {
+        return receptor.recebidas();
+    }
+}
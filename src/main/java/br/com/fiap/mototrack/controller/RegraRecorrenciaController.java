@@ -0,0 +1,82 @@
+package br.com.fiap.mototrack.controller;
+
+import br.com.fiap.mototrack.dto.request.RegraRecorrenciaRequest;
+import br.com.fiap.mototrack.dto.response.RegraRecorrenciaResponse;
+import br.com.fiap.mototrack.service.RecorrenciaService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * ## 🔁 Controller: RegraRecorrenciaController
+ *
+ * Endpoints das regras de manutenção recorrente (a cada N dias ou N km).
+ * As ocorrências previstas aparecem em `/agendamentos/filtro` quando a consulta informa uma janela de datas.
+ */
+@Validated
+@SecurityRequirement(name = "bearerAuth")
+@Tag(name = "Recorrência", description = "Regras de manutenção preventiva recorrente")
+@CrossOrigin(origins = "http://localhost:3000")
+@RestController
+@RequestMapping("/recorrencias")
+@RequiredArgsConstructor
+public class RegraRecorrenciaController {
+
+    private static final Logger log = LoggerFactory.getLogger(RegraRecorrenciaController.class);
+    private final RecorrenciaService service;
+
+    /**
+     * ### 🔁 POST /recorrencias
+     * Cadastra uma regra de recorrência para uma moto ou para as motos de uma filial.
+     */
+    @PostMapping
+    @Operation(summary = "Cadastrar regra de recorrência",
+            description = "Registra uma regra a cada N dias (moto ou filial) ou a cada N km (moto).")
+    public ResponseEntity<RegraRecorrenciaResponse> cadastrar(@RequestBody @Valid RegraRecorrenciaRequest dto) {
+        log.info("🔁 Cadastrando regra de recorrência: {}", dto);
+        return ResponseEntity.ok(service.cadastrar(dto));
+    }
+
+    /**
+     * ### 📄 GET /recorrencias
+     * Lista todas as regras de recorrência.
+     */
+    @GetMapping
+    @Operation(summary = "Listar regras de recorrência", description = "Retorna todas as regras cadastradas.")
+    public List<RegraRecorrenciaResponse> listarTodas() {
+        log.info("📄 Listando regras de recorrência.");
+        return service.consultarTodos();
+    }
+
+    /**
+     * ### 🔍 GET /recorrencias/{id}
+     * Retorna uma regra de recorrência por ID.
+     */
+    @GetMapping("/{id}")
+    @Operation(summary = "Buscar regra de recorrência por ID", description = "Retorna a regra e o seu cursor de materialização.")
+    public ResponseEntity<RegraRecorrenciaResponse> buscarPorId(@PathVariable Long id) {
+        log.info("🔍 Buscando regra de recorrência ID: {}", id);
+        return ResponseEntity.ok(service.buscarPorId(id));
+    }
+
+    /**
+     * ### ⏹️ DELETE /recorrencias/{id}
+     * Desativa a regra (as ocorrências já materializadas são mantidas).
+     */
+    @DeleteMapping("/{id}")
+    @Operation(summary = "Desativar regra de recorrência", description = "Interrompe novas ocorrências da regra.")
+    public ResponseEntity<Void> desativar(@PathVariable Long id) {
+        log.info("⏹️ Desativando regra de recorrência ID: {}", id);
+        service.desativar(id);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -1,6 +1,7 @@
 package br.com.fiap.mototrack.controller;
 
 import br.com.fiap.mototrack.dto.request.UsuarioRequest;
+import br.com.fiap.mototrack.dto.response.ImportacaoUsuariosResponse;
 import br.com.fiap.mototrack.dto.response.UsuarioResponse;
 import br.com.fiap.mototrack.filter.UsuarioFilter;
 import br.com.fiap.mototrack.service.UsuarioService;
@@ -8,6 +9,7 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
@@ -17,11 +19,14 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
 import java.util.List;
+import java.util.Map;
 
 /**
  * ## 👤 Controller: UsuarioController
@@ -52,6 +57,20 @@ public class UsuarioController {
         return ResponseEntity.ok(service.cadastrar(dto));
     }
 
+    /**
+     * ### 📥 POST /usuarios/lote
+     * Importa usuários em massa (CSV com cabeçalho, array JSON ou NDJSON), lidos em fluxo.
+     * Registros inválidos são ignorados e informados na resposta.
+     */
+    @PostMapping(value = "/lote", consumes = {"text/csv", MediaType.APPLICATION_JSON_VALUE, "application/x-ndjson"})
+    @Operation(summary = "Importar usuários em lote",
+            description = "CSV (nome,email,senha,perfil,filialId; separador , ou ;), array JSON ou NDJSON de usuários. "
+                    + "As senhas recebem hash em paralelo e os registros são gravados em blocos.")
+    public ResponseEntity<ImportacaoUsuariosResponse> importar(HttpServletRequest request) throws IOException {
+        log.info("📥 Importando usuários ({})", request.getContentType());
+        return ResponseEntity.ok(service.importar(request.getInputStream(), MediaType.parseMediaType(request.getContentType())));
+    }
+
     /**
      * ### 📄 GET /usuarios
      * Lista todos os usuários cadastrados.
@@ -63,6 +82,17 @@ public class UsuarioController {
         return service.consultarTodos();
     }
 
+    /**
+     * ### 🎯 GET /usuarios?fields=id,...
+     * Lista apenas os campos pedidos, lidos por projeção direto do banco.
+     */
+    @GetMapping(params = "fields")
+    @Operation(summary = "Listar usuarios com seleção de campos", description = "Retorna somente os campos informados em fields (separados por vírgula).")
+    public List<Map<String, Object>> listarCampos(@RequestParam String fields) {
+        log.info("🎯 Listando usuarios com campos: {}", fields);
+        return service.consultarCampos(fields);
+    }
+
     /**
      * ### 🔍 GET /usuarios/{id}
      * Retorna os dados de um usuário específico por ID.
@@ -74,6 +104,17 @@ public class UsuarioController {
         return ResponseEntity.ok(service.buscarPorId(id));
     }
 
+    /**
+     * ### 🎯 GET /usuarios/{id}?fields=id,...
+     * Retorna apenas os campos pedidos do registro.
+     */
+    @GetMapping(value = "/{id}", params = "fields")
+    @Operation(summary = "Buscar usuário por ID com seleção de campos", description = "Retorna somente os campos informados em fields (separados por vírgula).")
+    public ResponseEntity<Map<String, Object>> buscarCamposPorId(@PathVariable Long id, @RequestParam String fields) {
+        log.info("🎯 Buscando usuário ID: {} com campos: {}", id, fields);
+        return ResponseEntity.ok(service.buscarCamposPorId(id, fields));
+    }
+
     /**
      * ### ✏️ PUT /usuarios/{id}
      * Atualiza os dados de um usuário específico.
@@ -113,4 +154,24 @@ public class UsuarioController {
         log.info("🗃️ Filtros aplicados: {}", filtro);
         return ResponseEntity.ok(service.consultarComFiltro(filtro, pageable));
     }
+
+    /**
+     * ### 🎯 GET /usuarios/filtro?fields=id,...
+     * Filtros dinâmicos e paginação, retornando apenas os campos pedidos.
+     */
+    @GetMapping(value = "/filtro", params = "fields")
+    @Operation(summary = "Filtrar usuarios com seleção de campos",
+            description = "Mesmos filtros de /usuarios/filtro; a consulta seleciona somente as colunas dos campos informados em fields.")
+    public ResponseEntity<Page<Map<String, Object>>> filtrarCampos(
+            @ParameterObject @ModelAttribute UsuarioFilter filtro,
+
+            @ParameterObject
+            @PageableDefault(size = 20, sort = "nome", direction = Sort.Direction.ASC)
+            Pageable pageable,
+
+            @RequestParam String fields
+    ) {
+        log.info("🎯 Filtros aplicados: {} | campos: {}", filtro, fields);
+        return ResponseEntity.ok(service.consultarCamposComFiltro(filtro, pageable, fields));
+    }
 }
@@ -34,6 +34,13 @@ public class AgendamentoRequest {
     @NotNull(message = "O ID da moto é obrigatório.")
     private Long motoId;
 
+    /**
+     * ID da filial (oficina) do agendamento.
+     * Quando omitido, é usada a filial atual da moto.
+     */
+    @Schema(example = "2", description = "ID da filial onde o agendamento ocorre (padrão: filial da moto)")
+    private Long filialId;
+
     // ===========================
     // 📅 Dados do Agendamento
     // ===========================
@@ -50,6 +57,14 @@ public class AgendamentoRequest {
     @FutureOrPresent(message = "A data agendada não pode estar no passado.")
     private LocalDateTime dataAgendada;
 
+    /**
+     * Duração prevista em minutos (padrão: 60).
+     */
+    @Schema(example = "90", description = "Duração prevista em minutos (padrão: 60)")
+    @Positive(message = "A duração deve ser positiva.")
+    @Max(value = 1440, message = "A duração não pode exceder 24 horas.")
+    private Integer duracaoMinutos;
+
     /**
      * Descrição do motivo do agendamento.
      */
@@ -0,0 +1,34 @@
+package br.com.fiap.mototrack.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 📦 DTO: BuscaLoteRequest
+ *
+ * Chaves de uma busca em lote (`POST /{recurso}/buscar`).
+ * Informe `ids` **ou** `placas` (placas apenas em `/motos/buscar`).
+ *
+ * ---
+ * @author Rafael
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+public class BuscaLoteRequest {
+
+    /**
+     * IDs buscados, na ordem desejada para a resposta.
+     */
+    @Schema(example = "[3, 1, 2]", description = "IDs buscados (exclusivo com placas)")
+    private List<Long> ids;
+
+    /**
+     * Placas buscadas, na ordem desejada para a resposta.
+     */
+    @Schema(example = "[\"ABC1D23\", \"XYZ9K87\"]", description = "Placas buscadas, apenas para motos (exclusivo com ids)")
+    private List<String> placas;
+}
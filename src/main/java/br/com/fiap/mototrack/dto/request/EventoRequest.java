@@ -33,6 +33,13 @@ public class EventoRequest {
     @NotNull(message = "O ID da moto é obrigatório.")
     private Long motoId;
 
+    /**
+     * ID da filial de destino do evento (opcional).
+     * Quando informado, a projeção de estado passa a alocar a moto nesta filial.
+     */
+    @Schema(example = "2", description = "ID da filial de destino do evento (opcional)")
+    private Long filialId;
+
     // ===========================
     // 🏷️ Tipo e Motivo
     // ===========================
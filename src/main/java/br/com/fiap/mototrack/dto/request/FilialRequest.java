@@ -69,4 +69,12 @@ public class FilialRequest {
      */
     @Schema(example = "100.0", description = "Raio de atuação da filial em metros para geofencing")
     private Double raioGeofenceMetros;
+
+    /**
+     * Capacidade da oficina: motos atendidas simultaneamente por slot de horário.
+     */
+    @Schema(example = "3", description = "Motos atendidas simultaneamente pela oficina em cada slot (padrão configurável)")
+    @Positive(message = "A capacidade da oficina deve ser positiva.")
+    @Max(value = 1000, message = "A capacidade da oficina não pode exceder 1000.")
+    private Integer capacidadeOficina;
 }
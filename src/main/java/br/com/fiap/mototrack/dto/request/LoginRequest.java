@@ -0,0 +1,36 @@
+package br.com.fiap.mototrack.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 📦 DTO: LoginRequest
+ *
+ * Credenciais trocadas por um token de acesso em `POST /auth/login`.
+ *
+ * ---
+ * @author Rafael
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+public class LoginRequest {
+
+    /**
+     * E-mail cadastrado do usuário.
+     */
+    @Schema(example = "rafael@email.com", description = "E-mail do usuário")
+    @Email(message = "Email inválido.")
+    @NotBlank(message = "O email é obrigatório.")
+    private String email;
+
+    /**
+     * Senha do usuário.
+     */
+    @Schema(example = "senha123", description = "Senha do usuário")
+    @NotBlank(message = "A senha é obrigatória.")
+    private String senha;
+}
@@ -0,0 +1,36 @@
+package br.com.fiap.mototrack.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 📦 DTO: LoteOperacoesRequest
+ *
+ * Sub-requisições executadas em uma única chamada (`POST /batch`), na ordem informada.
+ *
+ * ---
+ * @author Rafael
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+public class LoteOperacoesRequest {
+
+    /**
+     * Quando verdadeiro, as operações rodam em uma única transação: a primeira falha desfaz todas.
+     */
+    @Schema(example = "true", description = "Tudo ou nada: uma falha desfaz as operações anteriores e interrompe o lote")
+    private boolean transacional;
+
+    /**
+     * Operações do lote, executadas em ordem.
+     */
+    @Valid
+    @NotEmpty(message = "Informe ao menos uma operação.")
+    private List<OperacaoLoteRequest> operacoes;
+}
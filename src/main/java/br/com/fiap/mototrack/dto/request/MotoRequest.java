@@ -59,6 +59,13 @@ public class MotoRequest {
     @NotBlank(message = "O status é obrigatório.")
     private String status;
 
+    /**
+     * Quilometragem atual (odômetro).
+     */
+    @Schema(example = "12500", description = "Quilometragem atual da moto")
+    @PositiveOrZero(message = "A quilometragem não pode ser negativa.")
+    private Integer quilometragem;
+
     // ===========================
     // 🔗 Relacionamentos
     // ===========================
@@ -0,0 +1,33 @@
+package br.com.fiap.mototrack.dto.request;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 📦 DTO: OperacaoLoteRequest
+ *
+ * Uma sub-requisição do `POST /batch`: método, caminho e corpo iguais aos do endpoint REST correspondente.
+ * Caminhos aceitos: `/motos`, `/eventos`, `/agendamentos`, `/filiais` e `/usuarios`, com ou sem `/{id}`.
+ *
+ * ---
+ * @author Rafael
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+public class OperacaoLoteRequest {
+
+    @NotBlank(message = "O método da operação é obrigatório.")
+    @Schema(example = "POST", description = "GET, POST, PUT ou DELETE")
+    private String metodo;
+
+    @NotBlank(message = "O caminho da operação é obrigatório.")
+    @Schema(example = "/eventos", description = "Caminho do recurso, como no endpoint REST (ex: /motos/3)")
+    private String caminho;
+
+    @Schema(description = "Corpo da operação (POST e PUT), no mesmo formato do endpoint REST")
+    private JsonNode corpo;
+}
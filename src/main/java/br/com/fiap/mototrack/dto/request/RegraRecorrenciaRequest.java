@@ -0,0 +1,87 @@
+package br.com.fiap.mototrack.dto.request;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 📦 DTO: RegraRecorrenciaRequest
+ *
+ * Dados para cadastrar uma regra de manutenção recorrente.
+ * Informe `motoId` **ou** `filialId` (grupo de motos) e `intervaloDias` **ou** `intervaloKm`.
+ *
+ * ---
+ * @author Rafael
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+public class RegraRecorrenciaRequest {
+
+    // ===========================
+    // 🔗 Alcance
+    // ===========================
+
+    /**
+     * Moto da regra.
+     */
+    @Schema(example = "1", description = "ID da moto (exclusivo com filialId)")
+    private Long motoId;
+
+    /**
+     * Filial cujo grupo de motos segue a regra.
+     */
+    @Schema(example = "2", description = "ID da filial cujo grupo de motos segue a regra (exclusivo com motoId)")
+    private Long filialId;
+
+    // ===========================
+    // 📆 Recorrência
+    // ===========================
+
+    /**
+     * Descrição das ocorrências.
+     */
+    @Schema(example = "Revisão preventiva", description = "Descrição de cada ocorrência")
+    @NotBlank(message = "A descrição é obrigatória.")
+    private String descricao;
+
+    /**
+     * Intervalo em dias.
+     */
+    @Schema(example = "30", description = "Repetir a cada N dias (exclusivo com intervaloKm)")
+    @Positive(message = "O intervalo em dias deve ser positivo.")
+    private Integer intervaloDias;
+
+    /**
+     * Intervalo em km.
+     */
+    @Schema(example = "5000", description = "Repetir a cada N km (exclusivo com intervaloDias; exige motoId)")
+    @Positive(message = "O intervalo em km deve ser positivo.")
+    private Integer intervaloKm;
+
+    /**
+     * Primeira ocorrência (regras por dias).
+     */
+    @Schema(example = "01/06/2025 08:00:00", description = "Primeira ocorrência no formato dd/MM/yyyy HH:mm:ss (regras por dias)")
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "dd/MM/yyyy HH:mm:ss")
+    private LocalDateTime inicio;
+
+    /**
+     * Quilometragem da primeira ocorrência (regras por km).
+     */
+    @Schema(example = "15000", description = "Km da primeira ocorrência (padrão: km atual + intervalo)")
+    @PositiveOrZero(message = "A quilometragem não pode ser negativa.")
+    private Integer kmInicial;
+
+    /**
+     * Duração de cada ocorrência em minutos.
+     */
+    @Schema(example = "60", description = "Duração de cada ocorrência em minutos (padrão: 60)")
+    @Positive(message = "A duração deve ser positiva.")
+    @Max(value = 1440, message = "A duração não pode exceder 24 horas.")
+    private Integer duracaoMinutos;
+}
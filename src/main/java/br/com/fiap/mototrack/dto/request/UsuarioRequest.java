@@ -4,6 +4,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.*;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 /**
  * 📦 DTO: UsuarioRequest
@@ -43,6 +44,7 @@ public class UsuarioRequest {
      */
     @Schema(example = "SenhaForte123!", description = "Senha de acesso do usuário")
     @NotBlank(message = "A senha é obrigatória.")
+    @ToString.Exclude
     private String senha;
 
     /**
@@ -7,6 +7,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * 📦 DTO: AgendamentoResponse
@@ -31,6 +32,10 @@ public class AgendamentoResponse {
     @Schema(example = "5", description = "ID da moto vinculada ao agendamento")
     private Long motoId;
 
+    /** Identificador da filial (oficina) do agendamento */
+    @Schema(example = "2", description = "ID da filial onde o agendamento ocorre")
+    private Long filialId;
+
     /** Data e hora do agendamento no formato brasileiro */
     @Schema(
             example = "25/05/2025 14:00",
@@ -39,8 +44,34 @@ public class AgendamentoResponse {
     @JsonFormat(pattern = "dd/MM/yyyy HH:mm")
     private LocalDateTime dataAgendada;
 
+    /** Duração prevista em minutos */
+    @Schema(example = "60", description = "Duração prevista em minutos")
+    private Integer duracaoMinutos;
+
+    /** Término previsto (data agendada + duração) */
+    @Schema(example = "25/05/2025 15:00", description = "Término previsto (formato: dd/MM/yyyy HH:mm)")
+    @JsonFormat(pattern = "dd/MM/yyyy HH:mm")
+    private LocalDateTime dataFim;
+
 
     /** Descrição do motivo do agendamento */
     @Schema(example = "Manutenção preventiva programada", description = "Descrição do agendamento")
     private String descricao;
+
+    /** Data e hora em que o agendamento foi disparado (ausente enquanto pendente) */
+    @Schema(example = "25/05/2025 14:00", description = "Data e hora do disparo pelo agendador (formato: dd/MM/yyyy HH:mm)")
+    @JsonFormat(pattern = "dd/MM/yyyy HH:mm")
+    private LocalDateTime dataDisparo;
+
+    /** IDs dos agendamentos sobrepostos (presente apenas quando o conflito foi sinalizado) */
+    @Schema(example = "[1002]", description = "Agendamentos sobrepostos sinalizados no cadastro/atualização")
+    private List<Long> conflitos;
+
+    /** Regra de recorrência de origem */
+    @Schema(example = "7", description = "ID da regra de recorrência que originou o agendamento")
+    private Long regraId;
+
+    /** Ocorrência prevista de uma recorrência, ainda não materializada (sem ID) */
+    @Schema(example = "true", description = "Indica ocorrência prevista (expandida da regra, ainda não gravada)")
+    private Boolean prevista;
 }
@@ -0,0 +1,57 @@
+package br.com.fiap.mototrack.dto.response;
+
+import br.com.fiap.mototrack.model.OutboxMensagem;
+import br.com.fiap.mototrack.outbox.OperacaoOutbox;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+/**
+ * 📦 DTO: AlteracaoResponse
+ *
+ * Delta publicado aos consumidores: qual agregado mudou, como e seu estado após a mudança.
+ *
+ * ---
+ * @param id          ID sequencial da alteração (cursor do consumidor)
+ * @param agregado    Tipo do agregado (Moto, Evento, Agendamento)
+ * @param agregadoId  ID do agregado alterado
+ * @param operacao    CRIACAO, ATUALIZACAO ou EXCLUSAO
+ * @param dataCriacao Data/hora da alteração
+ * @param payload     Estado do agregado em JSON (ausente em exclusões)
+ *
+ * @author Rafael
+ * @version 1.0
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record AlteracaoResponse(
+
+        @Schema(example = "1024", description = "ID sequencial da alteração")
+        Long id,
+
+        @Schema(example = "Moto", description = "Tipo do agregado alterado")
+        String agregado,
+
+        @Schema(example = "5", description = "ID do agregado alterado")
+        Long agregadoId,
+
+        @Schema(example = "ATUALIZACAO", description = "Operação realizada")
+        OperacaoOutbox operacao,
+
+        @Schema(example = "25/05/2025 15:45:12", description = "Data e hora da alteração (formato: dd/MM/yyyy HH:mm:ss)")
+        @JsonFormat(pattern = "dd/MM/yyyy HH:mm:ss")
+        LocalDateTime dataCriacao,
+
+        @Schema(description = "Estado do agregado após a alteração (JSON)")
+        @JsonRawValue
+        String payload
+
+) {
+
+    public static AlteracaoResponse de(OutboxMensagem m) {
+        return new AlteracaoResponse(m.getId(), m.getAgregado(), m.getAgregadoId(), m.getOperacao(),
+                m.getDataCriacao(), m.getPayload());
+    }
+}
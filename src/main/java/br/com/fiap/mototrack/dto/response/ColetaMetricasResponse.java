@@ -0,0 +1,23 @@
+package br.com.fiap.mototrack.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 📦 DTO: ColetaMetricasResponse
+ *
+ * Última coleta do endpoint Prometheus feita pelo coletor local.
+ *
+ * @param dataColeta   Momento da coleta (nulo se nenhuma coleta foi feita)
+ * @param totalSeries  Quantidade de séries expostas na coleta
+ * @param series       Séries filtradas pelo prefixo, com seus valores
+ */
+public record ColetaMetricasResponse(
+        @JsonFormat(pattern = "dd/MM/yyyy HH:mm:ss") LocalDateTime dataColeta,
+        @Schema(example = "812") int totalSeries,
+        Map<String, Double> series
+) {
+}
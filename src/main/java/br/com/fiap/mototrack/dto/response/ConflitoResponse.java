@@ -0,0 +1,28 @@
+package br.com.fiap.mototrack.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+/**
+ * 📦 DTO: ConflitoResponse
+ *
+ * Par de agendamentos com horários sobrepostos, com o trecho em comum.
+ *
+ * @param tipo            `MOTO` (mesma moto) ou `OFICINA` (mesma filial, motos diferentes, acima da capacidade)
+ * @param filialId        Filial onde o conflito ocorre (nula se as reservas estão em filiais diferentes)
+ * @param agendamentoId   Primeiro agendamento (o que começa antes)
+ * @param conflitanteId   Agendamento sobreposto
+ * @param inicio          Início do trecho sobreposto
+ * @param fim             Fim do trecho sobreposto
+ */
+public record ConflitoResponse(
+        @Schema(example = "MOTO") String tipo,
+        @Schema(example = "2") Long filialId,
+        @Schema(example = "1001") Long agendamentoId,
+        @Schema(example = "1002") Long conflitanteId,
+        @JsonFormat(pattern = "dd/MM/yyyy HH:mm") LocalDateTime inicio,
+        @JsonFormat(pattern = "dd/MM/yyyy HH:mm") LocalDateTime fim
+) {
+}
@@ -0,0 +1,19 @@
+package br.com.fiap.mototrack.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * 📦 DTO: DespejoJfrResponse
+ *
+ * Arquivo `.jfr` gerado a partir da gravação contínua.
+ *
+ * @param arquivo       Caminho absoluto do arquivo no servidor
+ * @param tamanhoBytes  Tamanho do arquivo
+ * @param minutos       Janela despejada (últimos N minutos)
+ */
+public record DespejoJfrResponse(
+        @Schema(example = "/tmp/mototrack-jfr/mototrack-20250101-120000-10min.jfr") String arquivo,
+        @Schema(example = "1048576") long tamanhoBytes,
+        @Schema(example = "10") int minutos
+) {
+}
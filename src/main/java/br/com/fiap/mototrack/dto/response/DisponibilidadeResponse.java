@@ -0,0 +1,44 @@
+package br.com.fiap.mototrack.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 📦 DTO: DisponibilidadeResponse
+ *
+ * Ocupação da oficina de uma filial, slot a slot, em um dia.
+ *
+ * @param filialId           ID da filial
+ * @param dia                Dia consultado
+ * @param capacidade         Motos atendidas simultaneamente por slot
+ * @param duracaoSlotMinutos Duração de cada slot
+ * @param slots              Slots do dia, em ordem
+ */
+public record DisponibilidadeResponse(
+        @Schema(example = "1") Long filialId,
+        @JsonFormat(pattern = "dd/MM/yyyy") LocalDate dia,
+        @Schema(example = "3") int capacidade,
+        @Schema(example = "60") int duracaoSlotMinutos,
+        List<Slot> slots
+) {
+
+    /**
+     * Ocupação de um slot.
+     *
+     * @param inicio     Início do slot
+     * @param fim        Fim do slot
+     * @param reservadas Reservas no slot
+     * @param livres     Vagas restantes (nunca negativa)
+     */
+    public record Slot(
+            @JsonFormat(pattern = "dd/MM/yyyy HH:mm") LocalDateTime inicio,
+            @JsonFormat(pattern = "dd/MM/yyyy HH:mm") LocalDateTime fim,
+            @Schema(example = "1") int reservadas,
+            @Schema(example = "2") int livres
+    ) {
+    }
+}
@@ -31,6 +31,10 @@ public class EventoResponse {
     @Schema(example = "1", description = "ID da moto vinculada ao evento")
     private Long motoId;
 
+    /** ID da filial de destino do evento */
+    @Schema(example = "2", description = "ID da filial de destino do evento, se houver")
+    private Long filialId;
+
     /** Tipo do evento (ex: Saída, Entrada, Manutenção) */
     @Schema(example = "Entrada", description = "Tipo do evento registrado")
     private String tipo;
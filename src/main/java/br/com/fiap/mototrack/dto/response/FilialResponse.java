@@ -59,4 +59,8 @@ public class FilialResponse {
     /** Raio da cerca geográfica em metros */
     @Schema(example = "150.0", description = "Raio da geofence em metros")
     private Double raioGeofenceMetros;
+
+    /** Capacidade da oficina por slot de horário */
+    @Schema(example = "3", description = "Motos atendidas simultaneamente pela oficina em cada slot")
+    private Integer capacidadeOficina;
 }
@@ -0,0 +1,40 @@
+package br.com.fiap.mototrack.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * 📦 DTO: ImportacaoUsuariosResponse
+ *
+ * Resultado de um `POST /usuarios/lote`. Registros válidos são gravados em blocos; os inválidos
+ * são ignorados e listados em `erros` (no máximo os primeiros 100).
+ *
+ * @param recebidos   Registros lidos do corpo
+ * @param inseridos   Usuários gravados
+ * @param rejeitados  Registros ignorados (inválidos, e-mail repetido, filial inexistente, ...)
+ * @param duracaoMs   Duração da importação
+ * @param erros       Primeiros registros rejeitados, com o motivo
+ */
+public record ImportacaoUsuariosResponse(
+        @Schema(example = "50000") int recebidos,
+        @Schema(example = "49998") int inseridos,
+        @Schema(example = "2") int rejeitados,
+        @Schema(example = "212345") long duracaoMs,
+        List<Erro> erros
+) {
+
+    /**
+     * Registro rejeitado.
+     *
+     * @param registro Posição do registro no corpo (linha de dados no CSV, elemento no JSON), a partir de 1
+     * @param email    E-mail do registro, se lido
+     * @param mensagem Motivo da rejeição
+     */
+    public record Erro(
+            @Schema(example = "17") long registro,
+            @Schema(example = "rafael@email.com") String email,
+            @Schema(example = "E-mail já cadastrado.") String mensagem
+    ) {
+    }
+}
@@ -0,0 +1,25 @@
+package br.com.fiap.mototrack.dto.response;
+
+import br.com.fiap.mototrack.exception.ErrorResponse;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * 📦 DTO: LoteOperacoesResponse
+ *
+ * Resultado de um `POST /batch`, com uma resposta por operação, na ordem do pedido.
+ *
+ * @param transacional  Se o lote rodou em uma única transação
+ * @param sucesso       Se todas as operações foram concluídas (e, no modo transacional, gravadas)
+ * @param resultados    Resultado de cada operação, na ordem do pedido
+ * @param erro          Falha do lote como um todo, sem operação a quem atribuir (ex: commit recusado);
+ *                      `null` quando o lote foi gravado ou a falha é de uma operação
+ */
+public record LoteOperacoesResponse(
+        boolean transacional,
+        @Schema(example = "true") boolean sucesso,
+        List<ResultadoOperacaoResponse> resultados,
+        ErrorResponse erro
+) {
+}
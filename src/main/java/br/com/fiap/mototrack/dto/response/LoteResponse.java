@@ -0,0 +1,20 @@
+package br.com.fiap.mototrack.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * 📦 DTO: LoteResponse
+ *
+ * Resultado de uma busca em lote: os registros encontrados, na ordem em que as chaves foram pedidas
+ * (repetições consideradas uma vez), e as chaves sem registro correspondente.
+ *
+ * @param encontrados     Registros encontrados, na ordem do pedido
+ * @param naoEncontrados  Chaves (IDs ou placas) sem registro, na ordem do pedido
+ */
+public record LoteResponse<T, C>(
+        List<T> encontrados,
+        @Schema(example = "[42]") List<C> naoEncontrados
+) {
+}
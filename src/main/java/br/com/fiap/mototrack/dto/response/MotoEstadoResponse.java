@@ -0,0 +1,46 @@
+package br.com.fiap.mototrack.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 📦 DTO: MotoEstadoResponse
+ *
+ * Representa o estado de uma moto derivado do seu histórico de eventos
+ * (atual ou reconstruído para um instante específico).
+ *
+ * ---
+ * @author Rafael
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class MotoEstadoResponse {
+
+    /** Identificador da moto */
+    @Schema(example = "1", description = "ID da moto")
+    private Long motoId;
+
+    /** Status derivado dos eventos */
+    @Schema(example = "Em manutenção", description = "Status derivado do histórico de eventos")
+    private String status;
+
+    /** Filial derivada dos eventos */
+    @Schema(example = "2", description = "Filial derivada do histórico de eventos")
+    private Long filialId;
+
+    /** Último evento considerado */
+    @Schema(example = "57", description = "ID do último evento aplicado")
+    private Long ultimoEventoId;
+
+    /** Data/hora do último evento considerado */
+    @Schema(example = "25/05/2025 15:45", description = "Data e hora do último evento aplicado (formato: dd/MM/yyyy HH:mm)")
+    @JsonFormat(pattern = "dd/MM/yyyy HH:mm")
+    private LocalDateTime dataUltimoEvento;
+}
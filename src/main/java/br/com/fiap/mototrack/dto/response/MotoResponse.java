@@ -47,6 +47,10 @@ public class MotoResponse {
     @Schema(example = "Disponível", description = "Status operacional da moto")
     private String status;
 
+    /** Quilometragem atual */
+    @Schema(example = "12500", description = "Quilometragem atual da moto")
+    private Integer quilometragem;
+
     /** ID da filial vinculada */
     @Schema(example = "2", description = "Filial onde a moto está alocada")
     private Long filialId;
@@ -0,0 +1,23 @@
+package br.com.fiap.mototrack.dto.response;
+
+import org.springframework.data.domain.Page;
+
+/**
+ * 📦 DTO: PainelFilialResponse
+ *
+ * Visão geral de uma filial, montada em uma única requisição.
+ *
+ * @param filial        Dados da filial
+ * @param motos         Motos da filial, por placa
+ * @param eventos       Eventos mais recentes ocorridos na filial
+ * @param agendamentos  Próximos agendamentos da oficina da filial (a partir de hoje)
+ * @param usuarios      Usuários vinculados à filial, por nome
+ */
+public record PainelFilialResponse(
+        FilialResponse filial,
+        Page<MotoResponse> motos,
+        Page<EventoResponse> eventos,
+        Page<AgendamentoResponse> agendamentos,
+        Page<UsuarioResponse> usuarios
+) {
+}
@@ -0,0 +1,33 @@
+package br.com.fiap.mototrack.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 📦 DTO: PerfilRequisicaoResponse
+ *
+ * Tempos por fase de uma requisição perfilada.
+ *
+ * @param metodo         Método HTTP
+ * @param uri            Caminho com a query string
+ * @param status         Status HTTP da resposta
+ * @param data           Início da requisição
+ * @param totalMs        Tempo até o envio da resposta
+ * @param fasesMs        Tempo por fase (`spec`, `sql`, `map`, `ser`)
+ * @param sqlComandos    Comandos SQL executados
+ * @param bytesAlocados  Bytes alocados pela thread (-1 se a JVM não suportar a medição)
+ */
+public record PerfilRequisicaoResponse(
+        @Schema(example = "GET") String metodo,
+        @Schema(example = "/motos/filtro?marca=Honda") String uri,
+        @Schema(example = "200") int status,
+        @JsonFormat(pattern = "dd/MM/yyyy HH:mm:ss") LocalDateTime data,
+        @Schema(example = "12.5") double totalMs,
+        Map<String, Double> fasesMs,
+        @Schema(example = "2") int sqlComandos,
+        @Schema(example = "1048576") long bytesAlocados
+) {
+}
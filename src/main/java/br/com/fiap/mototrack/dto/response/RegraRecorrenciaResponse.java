@@ -0,0 +1,55 @@
+package br.com.fiap.mototrack.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 📦 DTO: RegraRecorrenciaResponse
+ *
+ * Dados de uma regra de manutenção recorrente e do seu cursor de materialização.
+ *
+ * ---
+ * @author Rafael
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class RegraRecorrenciaResponse {
+
+    @Schema(example = "7", description = "ID da regra")
+    private Long id;
+
+    @Schema(example = "1", description = "Moto da regra")
+    private Long motoId;
+
+    @Schema(example = "2", description = "Filial cujo grupo de motos segue a regra")
+    private Long filialId;
+
+    @Schema(example = "Revisão preventiva", description = "Descrição das ocorrências")
+    private String descricao;
+
+    @Schema(example = "30", description = "Intervalo em dias")
+    private Integer intervaloDias;
+
+    @Schema(example = "5000", description = "Intervalo em km")
+    private Integer intervaloKm;
+
+    @Schema(example = "60", description = "Duração de cada ocorrência em minutos")
+    private Integer duracaoMinutos;
+
+    @Schema(example = "01/07/2025 08:00", description = "Próxima ocorrência ainda não materializada")
+    @JsonFormat(pattern = "dd/MM/yyyy HH:mm")
+    private LocalDateTime proximaOcorrencia;
+
+    @Schema(example = "15000", description = "Km da próxima ocorrência")
+    private Integer proximoKm;
+
+    @Schema(example = "true", description = "Indica se a regra está ativa")
+    private Boolean ativa;
+}
@@ -0,0 +1,27 @@
+package br.com.fiap.mototrack.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * 📦 DTO: ResultadoOperacaoResponse
+ *
+ * Resposta de uma operação do `POST /batch`, com o status e o corpo que o endpoint REST devolveria.
+ *
+ * @param indice    Posição da operação no pedido
+ * @param metodo    Método da operação
+ * @param caminho   Caminho da operação
+ * @param status    Status HTTP da operação (424 quando não executada por falha anterior no modo transacional)
+ * @param aplicada  Se o efeito da operação permanece gravado (falso quando desfeita pelo rollback do lote)
+ * @param corpo     Resposta do recurso ou `ErrorResponse`; ausente em `DELETE`
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ResultadoOperacaoResponse(
+        int indice,
+        String metodo,
+        String caminho,
+        @Schema(example = "200") int status,
+        boolean aplicada,
+        Object corpo
+) {
+}
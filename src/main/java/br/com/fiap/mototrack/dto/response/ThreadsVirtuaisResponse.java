@@ -0,0 +1,40 @@
+package br.com.fiap.mototrack.dto.response;
+
+import br.com.fiap.mototrack.concurrency.MonitorPinning;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * 📦 DTO: ThreadsVirtuaisResponse
+ *
+ * Relatório do modo de execução: threads, pool de conexões, pinning observado e recomendações.
+ *
+ * @param modo           `VIRTUAL` ou `PLATAFORMA`
+ * @param threadsTomcat  Máximo de threads do Tomcat (nulo no modo virtual, sem limite de threads)
+ * @param pool           Configuração e estado atual do pool de conexões
+ * @param pinning        Pinning observado desde a inicialização (nulo fora do modo virtual)
+ * @param achados        Pontos sensíveis a pinning auditados (drivers, logging, código da aplicação)
+ * @param recomendacoes  Ajustes sugeridos para a configuração atual
+ */
+public record ThreadsVirtuaisResponse(
+        @Schema(example = "VIRTUAL") String modo,
+        @Schema(example = "200") Integer threadsTomcat,
+        PoolConexoes pool,
+        List<MonitorPinning.Ocorrencia> pinning,
+        List<String> achados,
+        List<String> recomendacoes
+) {
+
+    /**
+     * @param maximo          `maximum-pool-size`
+     * @param minimoOcioso    `minimum-idle`
+     * @param timeoutMs       `connection-timeout`: espera máxima por uma conexão
+     * @param ativas          Conexões em uso
+     * @param ociosas         Conexões livres
+     * @param aguardando      Threads esperando uma conexão neste momento
+     */
+    public record PoolConexoes(int maximo, int minimoOcioso, long timeoutMs,
+                               int ativas, int ociosas, int aguardando) {
+    }
+}
@@ -0,0 +1,23 @@
+package br.com.fiap.mototrack.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.Instant;
+
+/**
+ * 📦 DTO: TokenResponse
+ *
+ * Token de acesso emitido no login (`POST /auth/login`).
+ *
+ * @param token            Token assinado, enviado em `Authorization: Bearer <token>`
+ * @param tipo             Tipo do token (sempre `Bearer`)
+ * @param expiraEmSegundos Validade do token, em segundos
+ * @param expiraEm         Instante de expiração (UTC)
+ */
+public record TokenResponse(
+        @Schema(example = "eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCIsImtpZCI6ImxvY2FsIn0...") String token,
+        @Schema(example = "Bearer") String tipo,
+        @Schema(example = "900") long expiraEmSegundos,
+        @Schema(example = "2025-06-01T10:15:00Z") Instant expiraEm
+) {
+}
@@ -101,7 +101,12 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(ResponseStatusException.class)
     public ResponseEntity<ErrorResponse> handleResponseStatus(ResponseStatusException ex) {
-        log.warn("Exceção manual: {}", ex.getReason());
+        // 404 é rotina (IDs antigos repetidos em rajada): um WARN por resposta custaria mais que a resposta
+        if (ex.getStatusCode().isSameCodeAs(HttpStatus.NOT_FOUND)) {
+            log.debug("Exceção manual: {}", ex.getReason());
+        } else {
+            log.warn("Exceção manual: {}", ex.getReason());
+        }
         return ResponseEntity.status(ex.getStatusCode())
                 .body(new ErrorResponse(ex.getStatusCode().value(), ex.getReason()));
     }
@@ -19,7 +19,9 @@ import org.springframework.web.server.ResponseStatusException;
  * throw HttpExceptionUtils.badRequest("Campo obrigatório ausente");
  * throw HttpExceptionUtils.forbidden("Acesso negado ao recurso X");
  * throw HttpExceptionUtils.unauthorized("Token inválido");
+ * throw HttpExceptionUtils.conflict("Horário já reservado");
  * throw HttpExceptionUtils.internalError("Erro inesperado na aplicação");
+ * throw HttpExceptionUtils.serviceUnavailable("Prazo da consulta esgotado");
  * ```
  *
  * > **Vantagem:** Facilita manutenção, testes, centralização e internacionalização das mensagens de erro.
@@ -48,7 +50,7 @@ public final class HttpExceptionUtils {
      *
      * @param entidade Nome da entidade (ex: "Usuario", "Moto", "Filial")
      * @param id Valor do identificador buscado
-     * @return ResponseStatusException 404, com mensagem padronizada
+     * @return ResponseStatusException 404, com mensagem padronizada (sem stack trace)
      *
      * **Exemplo:**
      * ```java
@@ -57,17 +59,14 @@ public final class HttpExceptionUtils {
      * ```
      */
     public static ResponseStatusException notFound(String entidade, Object id) {
-        return new ResponseStatusException(
-                HttpStatus.NOT_FOUND,
-                String.format("%s não encontrada para o ID: %s", entidade, id)
-        );
+        return new NaoEncontradoException(entidade + " não encontrada para o ID: " + id);
     }
 
     /**
      * Lança uma exceção HTTP 404 (`Not Found`) com uma mensagem customizada.
      *
      * @param mensagem Mensagem descritiva do erro
-     * @return ResponseStatusException 404, com mensagem customizada
+     * @return ResponseStatusException 404, com mensagem customizada (sem stack trace)
      *
      * **Exemplo:**
      * ```java
@@ -75,7 +74,7 @@ public final class HttpExceptionUtils {
      * ```
      */
     public static ResponseStatusException notFound(String mensagem) {
-        return new ResponseStatusException(HttpStatus.NOT_FOUND, mensagem);
+        return new NaoEncontradoException(mensagem);
     }
 
     // ============================
@@ -135,6 +134,25 @@ public final class HttpExceptionUtils {
         return new ResponseStatusException(HttpStatus.UNAUTHORIZED, mensagem);
     }
 
+    // ============================
+    // ⚔️ 409 - CONFLICT
+    // ============================
+
+    /**
+     * Lança uma exceção HTTP 409 (`Conflict`) quando a operação colide com o estado atual de outro recurso.
+     *
+     * @param mensagem Mensagem explicando o conflito
+     * @return ResponseStatusException 409, com mensagem customizada
+     *
+     * **Exemplo:**
+     * ```java
+     * throw HttpExceptionUtils.conflict("A moto já possui agendamento neste horário");
+     * ```
+     */
+    public static ResponseStatusException conflict(String mensagem) {
+        return new ResponseStatusException(HttpStatus.CONFLICT, mensagem);
+    }
+
     // ============================
     // 💣 500 - INTERNAL SERVER ERROR
     // ============================
@@ -153,4 +171,24 @@ public final class HttpExceptionUtils {
     public static ResponseStatusException internalError(String mensagem) {
         return new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, mensagem);
     }
+
+    // ============================
+    // ⏳ 503 - SERVICE UNAVAILABLE
+    // ============================
+
+    /**
+     * Lança uma exceção HTTP 503 (`Service Unavailable`) quando a aplicação não consegue atender
+     * a requisição no momento (ex: prazo esgotado, sobrecarga).
+     *
+     * @param mensagem Motivo da indisponibilidade
+     * @return ResponseStatusException 503, com mensagem customizada
+     *
+     * **Exemplo:**
+     * ```java
+     * throw HttpExceptionUtils.serviceUnavailable("Painel não montado dentro do prazo de 2000 ms");
+     * ```
+     */
+    public static ResponseStatusException serviceUnavailable(String mensagem) {
+        return new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, mensagem);
+    }
 }
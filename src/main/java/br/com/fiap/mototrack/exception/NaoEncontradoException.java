@@ -0,0 +1,25 @@
+package br.com.fiap.mototrack.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * # 🚫 NaoEncontradoException
+ *
+ * 404 sem stack trace: o caminho de "não encontrado" é fluxo normal da API (IDs antigos,
+ * rajadas de clientes repetindo) e o rastro nunca é lido, pois o `GlobalExceptionHandler` só usa status
+ * e mensagem. Preencher dezenas de quadros de filtros e proxies por resposta seria o custo dominante.
+ *
+ * Criada apenas por `HttpExceptionUtils.notFound`.
+ */
+final class NaoEncontradoException extends ResponseStatusException {
+
+    NaoEncontradoException(String mensagem) {
+        super(HttpStatus.NOT_FOUND, mensagem);
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
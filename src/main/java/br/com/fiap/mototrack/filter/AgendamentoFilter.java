@@ -24,6 +24,9 @@ public record AgendamentoFilter(
         /** ID da moto vinculada ao agendamento */
         Long motoId,
 
+        /** ID da filial onde o agendamento ocorre */
+        Long filialId,
+
         // 📝 Descrição
 
         /** Texto parcial ou completo da descrição */
@@ -24,6 +24,9 @@ public record EventoFilter(
         /** ID da moto vinculada ao evento */
         Long motoId,
 
+        /** ID da filial onde o evento ocorre */
+        Long filialId,
+
         // 🏷️ Características do evento
 
         /** Tipo do evento (ex: Entrada, Saída, Manutenção) */
@@ -0,0 +1,68 @@
+package br.com.fiap.mototrack.graphql;
+
+import br.com.fiap.mototrack.dto.response.AgendamentoResponse;
+import br.com.fiap.mototrack.dto.response.FilialResponse;
+import br.com.fiap.mototrack.dto.response.MotoResponse;
+import br.com.fiap.mototrack.filter.AgendamentoFilter;
+import br.com.fiap.mototrack.service.AgendamentoService;
+import br.com.fiap.mototrack.service.FilialService;
+import br.com.fiap.mototrack.service.MotoService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.BatchMapping;
+import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.stereotype.Controller;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * # 🗓️ GraphQL: Agendamento
+ *
+ * Consultas raiz de agendamentos (com as ocorrências previstas, como em `/agendamentos/filtro`);
+ * `moto` e `filial` são resolvidos com uma consulta `IN` por nível.
+ */
+@Controller
+@RequiredArgsConstructor
+public class AgendamentoGraphQlController {
+
+    private final AgendamentoService agendamentoService;
+    private final MotoService motoService;
+    private final FilialService filialService;
+
+    // =============================
+    // 🔍 Consultas raiz
+    // =============================
+
+    @QueryMapping
+    public AgendamentoResponse agendamento(@Argument Long id) {
+        return agendamentoService.buscarPorId(id);
+    }
+
+    @QueryMapping
+    public List<AgendamentoResponse> agendamentos(@Argument AgendamentoFilter filtro, @Argument int pagina,
+                                                  @Argument int tamanho) {
+        return agendamentoService.consultarComFiltro(filtro,
+                CarregamentoEmLote.pagina(pagina, tamanho, Sort.by("dataAgendada"))).getContent();
+    }
+
+    // =============================
+    // 🕸️ Campos aninhados (em lote)
+    // =============================
+
+    @BatchMapping(typeName = "Agendamento")
+    public Map<AgendamentoResponse, MotoResponse> moto(List<AgendamentoResponse> agendamentos) {
+        Set<Long> ids = CarregamentoEmLote.chaves(agendamentos, AgendamentoResponse::getMotoId);
+        List<MotoResponse> motos = ids.isEmpty() ? List.of() : motoService.buscarPorIds(List.copyOf(ids)).encontrados();
+        return CarregamentoEmLote.associar(agendamentos, AgendamentoResponse::getMotoId, motos, MotoResponse::getId);
+    }
+
+    @BatchMapping(typeName = "Agendamento")
+    public Map<AgendamentoResponse, FilialResponse> filial(List<AgendamentoResponse> agendamentos) {
+        Set<Long> ids = CarregamentoEmLote.chaves(agendamentos, AgendamentoResponse::getFilialId);
+        List<FilialResponse> filiais = ids.isEmpty() ? List.of() : filialService.buscarPorIds(List.copyOf(ids)).encontrados();
+        return CarregamentoEmLote.associar(agendamentos, AgendamentoResponse::getFilialId, filiais, FilialResponse::getId);
+    }
+}
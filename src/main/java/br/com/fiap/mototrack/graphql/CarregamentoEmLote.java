@@ -0,0 +1,128 @@
+package br.com.fiap.mototrack.graphql;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+import static br.com.fiap.mototrack.exception.HttpExceptionUtils.badRequest;
+
+/**
+ * # 🕸️ CarregamentoEmLote
+ *
+ * Utilitários dos carregadores em lote do GraphQL: os registros pais de um nível são reunidos
+ * pelo DataLoader da requisição, e os filhos de todos eles são lidos em uma única consulta `IN`.
+ *
+ * ---
+ * ## 📋 Recursos:
+ * - `chaves`: IDs distintos (sem nulos) referenciados pelos pais
+ * - `associar`: filho único por pai (ex: `Moto.filial`)
+ * - `agrupar`: lista de filhos por pai, vazia quando não há filhos (ex: `Filial.usuarios`)
+ * - `pagina`: paginação das consultas raiz, limitada a `TAMANHO_MAXIMO`
+ */
+public final class CarregamentoEmLote {
+
+    /**
+     * Maior `tamanho`/`limite` aceito em uma lista (mesmo teto dos endpoints REST paginados).
+     */
+    public static final int TAMANHO_MAXIMO = 100;
+
+    /**
+     * Chave de um carregador com argumento: o mesmo pai pode ser pedido com limites diferentes na consulta.
+     *
+     * @param id      ID do registro pai
+     * @param limite  Quantidade máxima de filhos pedida no campo
+     */
+    public record ChaveLimitada(Long id, int limite) {
+    }
+
+    private CarregamentoEmLote() {
+        // Não instanciar
+    }
+
+    public static <P> Set<Long> chaves(Collection<P> pais, Function<P, Long> chave) {
+        Set<Long> chaves = new LinkedHashSet<>();
+        for (P pai : pais) {
+            Long id = chave.apply(pai);
+            if (id != null) {
+                chaves.add(id);
+            }
+        }
+        return chaves;
+    }
+
+    public static <P, F> Map<P, F> associar(Collection<P> pais, Function<P, Long> chave,
+                                            List<F> filhos, Function<F, Long> idFilho) {
+        Map<Long, F> porId = new HashMap<>();
+        filhos.forEach(f -> porId.put(idFilho.apply(f), f));
+        Map<P, F> resultado = new HashMap<>();
+        for (P pai : pais) {
+            F filho = porId.get(chave.apply(pai));
+            if (filho != null) {
+                resultado.put(pai, filho);
+            }
+        }
+        return resultado;
+    }
+
+    public static <P, F> Map<P, List<F>> agrupar(Collection<P> pais, Function<P, Long> chave,
+                                                 List<F> filhos, Function<F, Long> idPai) {
+        Map<Long, List<F>> porPai = new HashMap<>();
+        filhos.forEach(f -> porPai.computeIfAbsent(idPai.apply(f), id -> new ArrayList<>()).add(f));
+        Map<P, List<F>> resultado = new HashMap<>();
+        for (P pai : pais) {
+            resultado.put(pai, porPai.getOrDefault(chave.apply(pai), List.of()));
+        }
+        return resultado;
+    }
+
+    /**
+     * Limita os filhos de cada pai ao limite da sua chave (o bloco foi consultado pelo maior limite).
+     */
+    public static <F> Map<ChaveLimitada, List<F>> agruparLimitado(Set<ChaveLimitada> chaves, List<F> filhos,
+                                                                  Function<F, Long> idPai) {
+        Map<Long, List<F>> porPai = new HashMap<>();
+        filhos.forEach(f -> porPai.computeIfAbsent(idPai.apply(f), id -> new ArrayList<>()).add(f));
+        Map<ChaveLimitada, List<F>> resultado = new HashMap<>();
+        for (ChaveLimitada c : chaves) {
+            List<F> doPai = porPai.getOrDefault(c.id(), List.of());
+            resultado.put(c, doPai.subList(0, Math.min(c.limite(), doPai.size())));
+        }
+        return resultado;
+    }
+
+    public static int maiorLimite(Set<ChaveLimitada> chaves) {
+        return chaves.stream().mapToInt(ChaveLimitada::limite).max().orElse(0);
+    }
+
+    public static Set<Long> ids(Set<ChaveLimitada> chaves) {
+        return chaves(chaves, ChaveLimitada::id);
+    }
+
+    public static ChaveLimitada chave(Long id, int limite) {
+        validarTamanho("limite", limite);
+        return new ChaveLimitada(Objects.requireNonNull(id), limite);
+    }
+
+    public static PageRequest pagina(int pagina, int tamanho, Sort sort) {
+        if (pagina < 0) {
+            throw badRequest("pagina deve ser maior ou igual a 0.");
+        }
+        validarTamanho("tamanho", tamanho);
+        return PageRequest.of(pagina, tamanho, sort);
+    }
+
+    private static void validarTamanho(String argumento, int valor) {
+        if (valor < 1 || valor > TAMANHO_MAXIMO) {
+            throw badRequest(argumento + " deve estar entre 1 e " + TAMANHO_MAXIMO + ".");
+        }
+    }
+}
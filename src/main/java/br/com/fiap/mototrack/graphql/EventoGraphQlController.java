@@ -0,0 +1,66 @@
+package br.com.fiap.mototrack.graphql;
+
+import br.com.fiap.mototrack.dto.response.EventoResponse;
+import br.com.fiap.mototrack.dto.response.FilialResponse;
+import br.com.fiap.mototrack.dto.response.MotoResponse;
+import br.com.fiap.mototrack.filter.EventoFilter;
+import br.com.fiap.mototrack.service.EventoService;
+import br.com.fiap.mototrack.service.FilialService;
+import br.com.fiap.mototrack.service.MotoService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.BatchMapping;
+import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.stereotype.Controller;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * # 📍 GraphQL: Evento
+ *
+ * Consultas raiz de eventos; `moto` e `filial` são resolvidos com uma consulta `IN` por nível.
+ */
+@Controller
+@RequiredArgsConstructor
+public class EventoGraphQlController {
+
+    private final EventoService eventoService;
+    private final MotoService motoService;
+    private final FilialService filialService;
+
+    // =============================
+    // 🔍 Consultas raiz
+    // =============================
+
+    @QueryMapping
+    public EventoResponse evento(@Argument Long id) {
+        return eventoService.buscarPorId(id);
+    }
+
+    @QueryMapping
+    public List<EventoResponse> eventos(@Argument EventoFilter filtro, @Argument int pagina, @Argument int tamanho) {
+        return eventoService.consultarComFiltro(filtro,
+                CarregamentoEmLote.pagina(pagina, tamanho, Sort.by("dataHora").descending())).getContent();
+    }
+
+    // =============================
+    // 🕸️ Campos aninhados (em lote)
+    // =============================
+
+    @BatchMapping(typeName = "Evento")
+    public Map<EventoResponse, MotoResponse> moto(List<EventoResponse> eventos) {
+        Set<Long> ids = CarregamentoEmLote.chaves(eventos, EventoResponse::getMotoId);
+        List<MotoResponse> motos = ids.isEmpty() ? List.of() : motoService.buscarPorIds(List.copyOf(ids)).encontrados();
+        return CarregamentoEmLote.associar(eventos, EventoResponse::getMotoId, motos, MotoResponse::getId);
+    }
+
+    @BatchMapping(typeName = "Evento")
+    public Map<EventoResponse, FilialResponse> filial(List<EventoResponse> eventos) {
+        Set<Long> ids = CarregamentoEmLote.chaves(eventos, EventoResponse::getFilialId);
+        List<FilialResponse> filiais = ids.isEmpty() ? List.of() : filialService.buscarPorIds(List.copyOf(ids)).encontrados();
+        return CarregamentoEmLote.associar(eventos, EventoResponse::getFilialId, filiais, FilialResponse::getId);
+    }
+}
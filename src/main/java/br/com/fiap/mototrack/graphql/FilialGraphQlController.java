@@ -0,0 +1,86 @@
+package br.com.fiap.mototrack.graphql;
+
+import br.com.fiap.mototrack.dto.response.FilialResponse;
+import br.com.fiap.mototrack.dto.response.MotoResponse;
+import br.com.fiap.mototrack.dto.response.UsuarioResponse;
+import br.com.fiap.mototrack.filter.FilialFilter;
+import br.com.fiap.mototrack.graphql.CarregamentoEmLote.ChaveLimitada;
+import br.com.fiap.mototrack.service.FilialService;
+import br.com.fiap.mototrack.service.MotoService;
+import br.com.fiap.mototrack.service.UsuarioService;
+import graphql.schema.DataFetchingEnvironment;
+import org.dataloader.DataLoader;
+import org.springframework.data.domain.Sort;
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.BatchMapping;
+import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.graphql.data.method.annotation.SchemaMapping;
+import org.springframework.graphql.execution.BatchLoaderRegistry;
+import org.springframework.stereotype.Controller;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * # 🏢 GraphQL: Filial
+ *
+ * Consultas raiz de filiais e resolução dos campos aninhados em lote:
+ * - `motos(limite)`: as N primeiras motos de cada filial, em uma consulta por janela (`row_number`)
+ * - `usuarios`: uma consulta `IN` para os usuários de todas as filiais do nível
+ */
+@Controller
+public class FilialGraphQlController {
+
+    static final String MOTOS_DA_FILIAL = "filialMotos";
+
+    private final FilialService filialService;
+    private final UsuarioService usuarioService;
+
+    public FilialGraphQlController(FilialService filialService, MotoService motoService,
+                                   UsuarioService usuarioService, BatchLoaderRegistry registry) {
+        this.filialService = filialService;
+        this.usuarioService = usuarioService;
+
+        registry.<ChaveLimitada, List<MotoResponse>>forName(MOTOS_DA_FILIAL)
+                .registerMappedBatchLoader((chaves, env) -> Mono.fromCallable(() -> {
+                    List<MotoResponse> motos = motoService.buscarPorFiliais(
+                            CarregamentoEmLote.ids(chaves), CarregamentoEmLote.maiorLimite(chaves));
+                    return CarregamentoEmLote.agruparLimitado(chaves, motos, MotoResponse::getFilialId);
+                }));
+    }
+
+    // =============================
+    // 🔍 Consultas raiz
+    // =============================
+
+    @QueryMapping
+    public FilialResponse filial(@Argument Long id) {
+        return filialService.buscarPorId(id);
+    }
+
+    @QueryMapping
+    public List<FilialResponse> filiais(@Argument FilialFilter filtro, @Argument int pagina, @Argument int tamanho) {
+        return filialService.consultarComFiltro(filtro, CarregamentoEmLote.pagina(pagina, tamanho, Sort.by("nome")))
+                .getContent();
+    }
+
+    // =============================
+    // 🕸️ Campos aninhados (em lote)
+    // =============================
+
+    @SchemaMapping(typeName = "Filial")
+    public CompletableFuture<List<MotoResponse>> motos(FilialResponse filial, @Argument int limite,
+                                                       DataFetchingEnvironment env) {
+        DataLoader<ChaveLimitada, List<MotoResponse>> loader = env.getDataLoader(MOTOS_DA_FILIAL);
+        return loader.load(CarregamentoEmLote.chave(filial.getId(), limite));
+    }
+
+    @BatchMapping(typeName = "Filial")
+    public Map<FilialResponse, List<UsuarioResponse>> usuarios(List<FilialResponse> filiais) {
+        List<UsuarioResponse> usuarios = usuarioService.buscarPorFiliais(
+                CarregamentoEmLote.chaves(filiais, FilialResponse::getId));
+        return CarregamentoEmLote.agrupar(filiais, FilialResponse::getId, usuarios, UsuarioResponse::getFilialId);
+    }
+}
@@ -0,0 +1,91 @@
+package br.com.fiap.mototrack.graphql;
+
+import graphql.GraphqlErrorBuilder;
+import graphql.analysis.FieldComplexityCalculator;
+import graphql.analysis.MaxQueryComplexityInstrumentation;
+import graphql.analysis.MaxQueryDepthInstrumentation;
+import graphql.execution.instrumentation.Instrumentation;
+import graphql.schema.GraphQLList;
+import graphql.schema.GraphQLNonNull;
+import graphql.schema.GraphQLType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.graphql.execution.DataFetcherExceptionResolver;
+import org.springframework.graphql.execution.DataFetcherExceptionResolverAdapter;
+import org.springframework.graphql.execution.ErrorType;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Collection;
+
+/**
+ * # 🛡️ GraphQlConfig
+ *
+ * Proteções do endpoint `/graphql` e tradução das exceções dos services.
+ *
+ * ---
+ * ## 📋 Recursos:
+ * - Profundidade máxima da consulta (`mototrack.graphql.profundidade-maxima`)
+ * - Custo máximo (`mototrack.graphql.custo-maximo`): cada campo custa 1 mais o custo dos filhos;
+ *   em listas, o custo dos filhos é multiplicado por `tamanho`/`limite`, pela quantidade de `placas`
+ *   ou, sem argumento, por `mototrack.graphql.custo-lista-sem-tamanho`
+ * - As duas verificações rodam antes da execução: uma consulta rejeitada não chega ao banco
+ * - `ResponseStatusException` (`HttpExceptionUtils`) vira erro GraphQL com a mesma mensagem
+ *   e o tipo equivalente (`NOT_FOUND`, `BAD_REQUEST`, ...)
+ */
+@Configuration
+public class GraphQlConfig {
+
+    @Bean
+    public Instrumentation limiteProfundidadeGraphQl(
+            @Value("${mototrack.graphql.profundidade-maxima:5}") int profundidadeMaxima) {
+        return new MaxQueryDepthInstrumentation(profundidadeMaxima);
+    }
+
+    @Bean
+    public Instrumentation limiteCustoGraphQl(
+            @Value("${mototrack.graphql.custo-maximo:2000}") int custoMaximo,
+            @Value("${mototrack.graphql.custo-lista-sem-tamanho:10}") int custoListaSemTamanho) {
+        FieldComplexityCalculator calculadora = (env, custoFilhos) -> {
+            if (!lista(env.getFieldDefinition().getType())) {
+                return 1 + custoFilhos;
+            }
+            Object tamanho = env.getArguments().getOrDefault("tamanho", env.getArguments().get("limite"));
+            Object placas = env.getArguments().get("placas");
+            int itens = tamanho instanceof Number n ? n.intValue()
+                    : placas instanceof Collection<?> c ? c.size()
+                    : custoListaSemTamanho;
+            return 1 + Math.max(1, itens) * custoFilhos;
+        };
+        return new MaxQueryComplexityInstrumentation(custoMaximo, calculadora);
+    }
+
+    @Bean
+    public DataFetcherExceptionResolver resolverExcecoesGraphQl() {
+        return DataFetcherExceptionResolverAdapter.from((ex, env) -> {
+            if (!(ex instanceof ResponseStatusException e)) {
+                return null;
+            }
+            return GraphqlErrorBuilder.newError(env)
+                    .errorType(tipoErro(HttpStatus.valueOf(e.getStatusCode().value())))
+                    .message(e.getReason())
+                    .build();
+        });
+    }
+
+    private static boolean lista(GraphQLType tipo) {
+        GraphQLType semNulo = tipo instanceof GraphQLNonNull n ? n.getWrappedType() : tipo;
+        return semNulo instanceof GraphQLList;
+    }
+
+    private static ErrorType tipoErro(HttpStatus status) {
+        return switch (status) {
+            case BAD_REQUEST, CONFLICT -> ErrorType.BAD_REQUEST;
+            case NOT_FOUND -> ErrorType.NOT_FOUND;
+            case UNAUTHORIZED -> ErrorType.UNAUTHORIZED;
+            case FORBIDDEN -> ErrorType.FORBIDDEN;
+            default -> ErrorType.INTERNAL_ERROR;
+        };
+    }
+}
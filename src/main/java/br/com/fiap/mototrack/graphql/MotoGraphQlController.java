@@ -0,0 +1,106 @@
+package br.com.fiap.mototrack.graphql;
+
+import br.com.fiap.mototrack.dto.response.AgendamentoResponse;
+import br.com.fiap.mototrack.dto.response.EventoResponse;
+import br.com.fiap.mototrack.dto.response.FilialResponse;
+import br.com.fiap.mototrack.dto.response.MotoResponse;
+import br.com.fiap.mototrack.filter.MotoFilter;
+import br.com.fiap.mototrack.graphql.CarregamentoEmLote.ChaveLimitada;
+import br.com.fiap.mototrack.service.AgendamentoService;
+import br.com.fiap.mototrack.service.EventoService;
+import br.com.fiap.mototrack.service.FilialService;
+import br.com.fiap.mototrack.service.MotoService;
+import graphql.schema.DataFetchingEnvironment;
+import org.dataloader.DataLoader;
+import org.springframework.data.domain.Sort;
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.BatchMapping;
+import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.graphql.data.method.annotation.SchemaMapping;
+import org.springframework.graphql.execution.BatchLoaderRegistry;
+import org.springframework.stereotype.Controller;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * # 🛵 GraphQL: Moto
+ *
+ * Consultas raiz de motos e resolução dos campos aninhados em lote:
+ * - `filial`: uma consulta `IN` para as filiais de todas as motos do nível
+ * - `eventos(limite)`: os N mais recentes de cada moto, em uma consulta por janela (`row_number`)
+ * - `proximoAgendamento`: o próximo agendamento gravado de cada moto, idem
+ */
+@Controller
+public class MotoGraphQlController {
+
+    static final String EVENTOS_RECENTES = "motoEventosRecentes";
+
+    private final MotoService motoService;
+    private final FilialService filialService;
+    private final AgendamentoService agendamentoService;
+
+    public MotoGraphQlController(MotoService motoService, FilialService filialService,
+                                 EventoService eventoService, AgendamentoService agendamentoService,
+                                 BatchLoaderRegistry registry) {
+        this.motoService = motoService;
+        this.filialService = filialService;
+        this.agendamentoService = agendamentoService;
+
+        registry.<ChaveLimitada, List<EventoResponse>>forName(EVENTOS_RECENTES)
+                .registerMappedBatchLoader((chaves, env) -> Mono.fromCallable(() -> {
+                    List<EventoResponse> eventos = eventoService.buscarRecentesPorMotos(
+                            CarregamentoEmLote.ids(chaves), CarregamentoEmLote.maiorLimite(chaves));
+                    return CarregamentoEmLote.agruparLimitado(chaves, eventos, EventoResponse::getMotoId);
+                }));
+    }
+
+    // =============================
+    // 🔍 Consultas raiz
+    // =============================
+
+    @QueryMapping
+    public MotoResponse moto(@Argument Long id) {
+        return motoService.buscarPorId(id);
+    }
+
+    @QueryMapping
+    public List<MotoResponse> motos(@Argument MotoFilter filtro, @Argument int pagina, @Argument int tamanho) {
+        return motoService.consultarComFiltro(filtro, CarregamentoEmLote.pagina(pagina, tamanho, Sort.by("placa")))
+                .getContent();
+    }
+
+    @QueryMapping
+    public List<MotoResponse> motosPorPlacas(@Argument List<String> placas) {
+        return motoService.buscarPorPlacas(placas).encontrados();
+    }
+
+    // =============================
+    // 🕸️ Campos aninhados (em lote)
+    // =============================
+
+    @BatchMapping(typeName = "Moto")
+    public Map<MotoResponse, FilialResponse> filial(List<MotoResponse> motos) {
+        Set<Long> ids = CarregamentoEmLote.chaves(motos, MotoResponse::getFilialId);
+        List<FilialResponse> filiais = ids.isEmpty() ? List.of() : filialService.buscarPorIds(List.copyOf(ids)).encontrados();
+        return CarregamentoEmLote.associar(motos, MotoResponse::getFilialId, filiais, FilialResponse::getId);
+    }
+
+    @SchemaMapping(typeName = "Moto")
+    public CompletableFuture<List<EventoResponse>> eventos(MotoResponse moto, @Argument int limite,
+                                                           DataFetchingEnvironment env) {
+        DataLoader<ChaveLimitada, List<EventoResponse>> loader = env.getDataLoader(EVENTOS_RECENTES);
+        return loader.load(CarregamentoEmLote.chave(moto.getId(), limite));
+    }
+
+    @BatchMapping(typeName = "Moto")
+    public Map<MotoResponse, AgendamentoResponse> proximoAgendamento(List<MotoResponse> motos) {
+        Set<Long> ids = CarregamentoEmLote.chaves(motos, MotoResponse::getId);
+        List<AgendamentoResponse> proximos = agendamentoService.buscarProximosPorMotos(ids, LocalDateTime.now());
+        return CarregamentoEmLote.associar(motos, MotoResponse::getId, proximos, AgendamentoResponse::getMotoId);
+    }
+}
@@ -0,0 +1,56 @@
+package br.com.fiap.mototrack.graphql;
+
+import br.com.fiap.mototrack.dto.response.FilialResponse;
+import br.com.fiap.mototrack.dto.response.UsuarioResponse;
+import br.com.fiap.mototrack.filter.UsuarioFilter;
+import br.com.fiap.mototrack.service.FilialService;
+import br.com.fiap.mototrack.service.UsuarioService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.BatchMapping;
+import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.stereotype.Controller;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * # 👤 GraphQL: Usuario
+ *
+ * Consultas raiz de usuários (sem a senha, como no REST); `filial` é resolvida com uma consulta `IN` por nível.
+ */
+@Controller
+@RequiredArgsConstructor
+public class UsuarioGraphQlController {
+
+    private final UsuarioService usuarioService;
+    private final FilialService filialService;
+
+    // =============================
+    // 🔍 Consultas raiz
+    // =============================
+
+    @QueryMapping
+    public UsuarioResponse usuario(@Argument Long id) {
+        return usuarioService.buscarPorId(id);
+    }
+
+    @QueryMapping
+    public List<UsuarioResponse> usuarios(@Argument UsuarioFilter filtro, @Argument int pagina, @Argument int tamanho) {
+        return usuarioService.consultarComFiltro(filtro, CarregamentoEmLote.pagina(pagina, tamanho, Sort.by("nome")))
+                .getContent();
+    }
+
+    // =============================
+    // 🕸️ Campos aninhados (em lote)
+    // =============================
+
+    @BatchMapping(typeName = "Usuario")
+    public Map<UsuarioResponse, FilialResponse> filial(List<UsuarioResponse> usuarios) {
+        Set<Long> ids = CarregamentoEmLote.chaves(usuarios, UsuarioResponse::getFilialId);
+        List<FilialResponse> filiais = ids.isEmpty() ? List.of() : filialService.buscarPorIds(List.copyOf(ids)).encontrados();
+        return CarregamentoEmLote.associar(usuarios, UsuarioResponse::getFilialId, filiais, FilialResponse::getId);
+    }
+}
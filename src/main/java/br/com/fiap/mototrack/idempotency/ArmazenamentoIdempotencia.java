@@ -0,0 +1,221 @@
+package br.com.fiap.mototrack.idempotency;
+
+import br.com.fiap.mototrack.model.RegistroIdempotencia;
+import br.com.fiap.mototrack.repository.RegistroIdempotenciaRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static br.com.fiap.mototrack.exception.HttpExceptionUtils.conflict;
+
+/**
+ * # 🗄️ ArmazenamentoIdempotencia
+ *
+ * Execuções por chave de idempotência: a primeira requisição de uma chave detém a execução; as repetidas
+ * aguardam o resultado dela (ou o recebem pronto) sem executar o service de novo.
+ *
+ * ---
+ * ## 📋 Regras:
+ * - Em memória: cache Caffeine limitado (`mototrack.idempotencia.maximo`) com validade de
+ *   `mototrack.idempotencia.validade-horas`; cada entrada é um futuro, concluído com a resposta
+ * - Respostas 5xx (ou exceções) não são guardadas: a chave é liberada e a próxima tentativa executa de novo;
+ *   repetições que já aguardavam recebem a mesma falha (uma tempestade de repetições não vira N execuções)
+ * - `mototrack.idempotencia.banco.habilitado=true`: a chave também é reservada em `tb_idempotencia`
+ *   (`INSERT` pela chave primária, atômico entre instâncias) e a resposta é gravada ao concluir; uma
+ *   instância que encontra a chave em andamento em outra consulta a tabela até a resposta aparecer
+ * - A reserva em andamento vale só `mototrack.idempotencia.banco.prazo-reserva-ms` (espera + tempo máximo
+ *   de uma requisição): se a instância dona cair no meio da execução, a chave é assumida por outra depois
+ *   desse prazo, e não só ao fim da validade; a validade completa vale para a resposta gravada
+ * - Chaves vencidas são removidas da tabela a cada `mototrack.idempotencia.limpeza-intervalo-ms`
+ */
+@Slf4j
+@Component
+public class ArmazenamentoIdempotencia {
+
+    private static final long INTERVALO_CONSULTA_MS = 50;
+
+    /**
+     * Execução de uma chave: o futuro termina com a resposta (guardada ou de falha), ou com `null` se a
+     * execução terminou em exceção.
+     */
+    static final class Execucao {
+        final String impressao;
+        final CompletableFuture<RespostaArmazenada> resposta = new CompletableFuture<>();
+
+        Execucao(String impressao) {
+            this.impressao = impressao;
+        }
+    }
+
+    /**
+     * Resultado de `reservar`: `dono` executa a requisição; os demais aguardam `execucao.resposta`.
+     */
+    record Reserva(Execucao execucao, boolean dono) {
+    }
+
+    private final RegistroIdempotenciaRepository repository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transacao;
+    private final Cache<String, Execucao> execucoes;
+    private final Duration validade;
+    private final Duration prazoReserva;
+    private final long esperaMs;
+    private final boolean banco;
+
+    public ArmazenamentoIdempotencia(RegistroIdempotenciaRepository repository,
+                                     EntityManager entityManager,
+                                     PlatformTransactionManager transactionManager,
+                                     @Value("${mototrack.idempotencia.maximo:10000}") long maximo,
+                                     @Value("${mototrack.idempotencia.validade-horas:24}") long validadeHoras,
+                                     @Value("${mototrack.idempotencia.espera-ms:10000}") long esperaMs,
+                                     @Value("${mototrack.idempotencia.banco.prazo-reserva-ms:40000}") long prazoReservaMs,
+                                     @Value("${mototrack.idempotencia.banco.habilitado:false}") boolean banco) {
+        this.repository = repository;
+        this.entityManager = entityManager;
+        this.transacao = new TransactionTemplate(transactionManager);
+        this.validade = Duration.ofHours(validadeHoras);
+        this.esperaMs = esperaMs;
+        this.prazoReserva = Duration.ofMillis(Math.max(prazoReservaMs, esperaMs));
+        this.banco = banco;
+        this.execucoes = Caffeine.newBuilder()
+                .maximumSize(maximo)
+                .expireAfterWrite(validade)
+                .build();
+    }
+
+    /**
+     * Reserva a chave para esta requisição, ou devolve a execução que já a detém.
+     */
+    Reserva reservar(String chave, String impressao) {
+        Execucao nova = new Execucao(impressao);
+        Execucao existente = execucoes.asMap().putIfAbsent(chave, nova);
+        if (existente != null) {
+            return new Reserva(existente, false);
+        }
+        if (!banco) {
+            return new Reserva(nova, true);
+        }
+        try {
+            Optional<RespostaArmazenada> gravada = reservarNoBanco(chave, impressao);
+            if (gravada.isEmpty()) {
+                return new Reserva(nova, true);
+            }
+            nova.resposta.complete(gravada.get());
+            return new Reserva(nova, false);
+        } catch (RuntimeException e) {
+            execucoes.asMap().remove(chave, nova);
+            nova.resposta.complete(null);
+            throw e;
+        }
+    }
+
+    /**
+     * Guarda a resposta da execução e a entrega às requisições que aguardam.
+     */
+    void concluir(String chave, Execucao execucao, RespostaArmazenada resposta) {
+        if (banco) {
+            transacao.executeWithoutResult(status ->
+                    repository.concluir(chave, resposta.status(), resposta.contentType(), resposta.corpo(),
+                            LocalDateTime.now().plus(validade)));
+        }
+        execucao.resposta.complete(resposta);
+    }
+
+    /**
+     * Libera a chave sem guardar a resposta (erro do servidor): quem já aguardava recebe a mesma falha,
+     * e a próxima tentativa executa de novo. Sem resposta (exceção), quem aguardava tenta reservar a chave.
+     */
+    void descartar(String chave, Execucao execucao, RespostaArmazenada falha) {
+        execucoes.asMap().remove(chave, execucao);
+        if (banco) {
+            try {
+                transacao.executeWithoutResult(status -> repository.deleteById(chave));
+            } catch (RuntimeException e) {
+                log.warn("🗄️ Não foi possível liberar a chave de idempotência no banco: {}", e.getMessage());
+            }
+        }
+        execucao.resposta.complete(falha);
+    }
+
+    /** Tempo máximo de espera por uma execução em andamento */
+    long esperaMs() {
+        return esperaMs;
+    }
+
+    /**
+     * Remove as chaves vencidas da tabela (somente com o armazenamento em banco).
+     */
+    @Scheduled(fixedDelayString = "${mototrack.idempotencia.limpeza-intervalo-ms:600000}")
+    public void limparVencidos() {
+        if (!banco) {
+            return;
+        }
+        Integer removidos = transacao.execute(status -> repository.excluirVencidos(LocalDateTime.now()));
+        if (removidos != null && removidos > 0) {
+            log.info("🧹 Idempotência: {} chaves vencidas removidas", removidos);
+        }
+    }
+
+    // =============================
+    // 🔧 Métodos auxiliares
+    // =============================
+
+    /**
+     * Insere a reserva na tabela; se outra instância já detém a chave, aguarda a resposta dela.
+     *
+     * @return vazio se esta instância detém a chave; senão, a resposta gravada pela outra
+     */
+    private Optional<RespostaArmazenada> reservarNoBanco(String chave, String impressao) {
+        long limite = System.currentTimeMillis() + esperaMs;
+        while (true) {
+            RegistroIdempotencia registro = repository.findById(chave).orElse(null);
+            if (registro != null && registro.getExpiraEm().isBefore(LocalDateTime.now())) {
+                // Reserva abandonada (dona caiu) ou resposta vencida: libera a chave para assumi-la
+                transacao.executeWithoutResult(status -> repository.excluirSeVencida(chave, LocalDateTime.now()));
+                registro = null;
+            }
+            if (registro == null) {
+                if (inserir(chave, impressao)) {
+                    return Optional.empty();
+                }
+            } else if (registro.getStatus() != null) {
+                return Optional.of(new RespostaArmazenada(registro.getImpressao(), registro.getStatus(),
+                        registro.getContentType(), registro.getCorpo()));
+            }
+            if (System.currentTimeMillis() >= limite) {
+                throw conflict("Requisição com esta Idempotency-Key ainda em processamento. Tente novamente.");
+            }
+            try {
+                Thread.sleep(INTERVALO_CONSULTA_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw conflict("Requisição com esta Idempotency-Key ainda em processamento. Tente novamente.");
+            }
+        }
+    }
+
+    private boolean inserir(String chave, String impressao) {
+        try {
+            transacao.executeWithoutResult(status -> entityManager.persist(RegistroIdempotencia.builder()
+                    .chave(chave)
+                    .impressao(impressao)
+                    .expiraEm(LocalDateTime.now().plus(prazoReserva))
+                    .build()));
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package br.com.fiap.mototrack.idempotency;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * # 📄 CorpoRelidoRequest
+ *
+ * Requisição com o corpo já lido em memória (para calcular a impressão), entregue de novo ao controller.
+ */
+class CorpoRelidoRequest extends HttpServletRequestWrapper {
+
+    private final byte[] corpo;
+
+    CorpoRelidoRequest(HttpServletRequest request, byte[] corpo) {
+        super(request);
+        this.corpo = corpo;
+    }
+
+    @Override
+    public ServletInputStream getInputStream() {
+        ByteArrayInputStream entrada = new ByteArrayInputStream(corpo);
+        return new ServletInputStream() {
+            @Override
+            public boolean isFinished() {
+                return entrada.available() == 0;
+            }
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setReadListener(ReadListener listener) {
+                throw new UnsupportedOperationException("Leitura assíncrona não suportada");
+            }
+
+            @Override
+            public int read() {
+                return entrada.read();
+            }
+
+            @Override
+            public int read(byte[] destino, int inicio, int tamanho) {
+                return entrada.read(destino, inicio, tamanho);
+            }
+        };
+    }
+
+    @Override
+    public BufferedReader getReader() {
+        Charset charset = getCharacterEncoding() != null ? Charset.forName(getCharacterEncoding()) : StandardCharsets.UTF_8;
+        return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+    }
+
+    @Override
+    public int getContentLength() {
+        return corpo.length;
+    }
+
+    @Override
+    public long getContentLengthLong() {
+        return corpo.length;
+    }
+}
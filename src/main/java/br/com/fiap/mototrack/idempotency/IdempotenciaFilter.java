@@ -0,0 +1,235 @@
+package br.com.fiap.mototrack.idempotency;
+
+import br.com.fiap.mototrack.exception.ErrorResponse;
+import br.com.fiap.mototrack.ratelimit.LimiteTaxaFilter;
+import br.com.fiap.mototrack.util.CaminhoRequisicao;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * # 🔁 IdempotenciaFilter
+ *
+ * Honra o cabeçalho `Idempotency-Key` nos `POST` de `mototrack.idempotencia.rotas` (`/eventos`, `/motos`,
+ * `/agendamentos`): clientes móveis que repetem a requisição após uma falha de rede recebem a resposta
+ * original, e o service roda uma única vez por chave.
+ *
+ * ---
+ * ## 📋 Regras:
+ * - A chave vale por cliente (usuário autenticado, `X-API-Key` ou IP), método e caminho
+ * - Repetição com a resposta já pronta → mesma resposta (status, `Content-Type`, corpo) e `Idempotency-Replayed: true`
+ * - Repetição simultânea → aguarda a primeira execução (até `mototrack.idempotencia.espera-ms`; depois `409`)
+ * - Mesma chave com outro corpo → `422`; chave vazia ou com mais de 255 caracteres → `400`
+ * - Respostas `5xx` não são guardadas (a próxima tentativa executa de novo); as repetições que já aguardavam
+ *   recebem a mesma falha
+ * - Roda depois da autenticação e do limite de taxa e antes do controle de admissão: repetições em espera
+ *   não ocupam vagas de concorrência
+ * - Métrica `mototrack.idempotencia.requisicoes` (tag `resultado`: `executada`, `reproduzida`,
+ *   `em-andamento`, `divergente`)
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 4)
+public class IdempotenciaFilter extends OncePerRequestFilter {
+
+    public static final String CABECALHO = "Idempotency-Key";
+    public static final String CABECALHO_REPRODUZIDA = "Idempotency-Replayed";
+
+    private static final int TAMANHO_MAXIMO_CHAVE = 255;
+    private static final int TENTATIVAS = 3;
+
+    private final ArmazenamentoIdempotencia armazenamento;
+    private final ObjectMapper objectMapper;
+    private final boolean habilitado;
+    private final AntPathMatcher matcher = new AntPathMatcher();
+    private final List<String> rotas;
+    private final Counter executadas;
+    private final Counter reproduzidas;
+    private final Counter emAndamento;
+    private final Counter divergentes;
+
+    public IdempotenciaFilter(ArmazenamentoIdempotencia armazenamento, ObjectMapper objectMapper,
+                              MeterRegistry registry, Environment env) {
+        this.armazenamento = armazenamento;
+        this.objectMapper = objectMapper;
+        this.habilitado = env.getProperty("mototrack.idempotencia.habilitado", Boolean.class, true);
+        this.rotas = List.of(env.getProperty("mototrack.idempotencia.rotas", String[].class,
+                new String[]{"/eventos", "/motos", "/agendamentos"}));
+        this.executadas = contador(registry, "executada");
+        this.reproduzidas = contador(registry, "reproduzida");
+        this.emAndamento = contador(registry, "em-andamento");
+        this.divergentes = contador(registry, "divergente");
+    }
+
+    private static Counter contador(MeterRegistry registry, String resultado) {
+        return Counter.builder("mototrack.idempotencia.requisicoes")
+                .description("Escritas com Idempotency-Key por resultado")
+                .tag("resultado", resultado)
+                .register(registry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!habilitado || !"POST".equals(request.getMethod()) || request.getHeader(CABECALHO) == null) {
+            return true;
+        }
+        String caminho = CaminhoRequisicao.de(request);
+        return rotas.stream().noneMatch(padrao -> matcher.match(padrao, caminho));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String valor = request.getHeader(CABECALHO).trim();
+        if (valor.isEmpty() || valor.length() > TAMANHO_MAXIMO_CHAVE) {
+            responderErro(response, HttpStatus.BAD_REQUEST,
+                    "Idempotency-Key deve ter entre 1 e " + TAMANHO_MAXIMO_CHAVE + " caracteres.");
+            return;
+        }
+        byte[] corpo = request.getInputStream().readAllBytes();
+        String chave = sha256((cliente(request) + '\n' + request.getMethod() + ' ' + CaminhoRequisicao.de(request) + '\n' + valor)
+                .getBytes(StandardCharsets.UTF_8));
+        String impressao = sha256(corpo);
+
+        for (int tentativa = 1; tentativa <= TENTATIVAS; tentativa++) {
+            ArmazenamentoIdempotencia.Reserva reserva;
+            try {
+                reserva = armazenamento.reservar(chave, impressao);
+            } catch (ResponseStatusException e) {
+                emAndamento.increment();
+                responderErro(response, HttpStatus.valueOf(e.getStatusCode().value()), e.getReason());
+                return;
+            }
+            ArmazenamentoIdempotencia.Execucao execucao = reserva.execucao();
+            if (reserva.dono()) {
+                executar(new CorpoRelidoRequest(request, corpo), response, chain, chave, execucao, impressao);
+                return;
+            }
+            if (!execucao.impressao.equals(impressao)) {
+                divergir(response);
+                return;
+            }
+
+            RespostaArmazenada anterior;
+            try {
+                anterior = execucao.resposta.get(armazenamento.esperaMs(), TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                emAndamento.increment();
+                responderErro(response, HttpStatus.CONFLICT,
+                        "Requisição com esta Idempotency-Key ainda em processamento. Tente novamente.");
+                return;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ServletException(e);
+            } catch (ExecutionException e) {
+                throw new ServletException(e.getCause());
+            }
+            if (anterior == null) {
+                // A primeira execução terminou em exceção e liberou a chave: tenta reservá-la de novo
+                continue;
+            }
+            if (!anterior.impressao().equals(impressao)) {
+                divergir(response);
+                return;
+            }
+            reproduzir(response, anterior);
+            return;
+        }
+        emAndamento.increment();
+        responderErro(response, HttpStatus.CONFLICT,
+                "Requisição com esta Idempotency-Key ainda em processamento. Tente novamente.");
+    }
+
+    // =============================
+    // 🔧 Métodos auxiliares
+    // =============================
+
+    private void executar(HttpServletRequest request, HttpServletResponse response, FilterChain chain,
+                          String chave, ArmazenamentoIdempotencia.Execucao execucao, String impressao)
+            throws ServletException, IOException {
+        executadas.increment();
+        ContentCachingResponseWrapper resposta = new ContentCachingResponseWrapper(response);
+        RespostaArmazenada obtida = null;
+        try {
+            chain.doFilter(request, resposta);
+            if (!request.isAsyncStarted()) {
+                obtida = new RespostaArmazenada(impressao, resposta.getStatus(), resposta.getContentType(),
+                        resposta.getContentAsByteArray());
+            }
+        } finally {
+            if (obtida != null && obtida.status() < 500) {
+                armazenamento.concluir(chave, execucao, obtida);
+            } else {
+                armazenamento.descartar(chave, execucao, obtida);
+            }
+            resposta.copyBodyToResponse();
+        }
+    }
+
+    private void reproduzir(HttpServletResponse response, RespostaArmazenada anterior) throws IOException {
+        reproduzidas.increment();
+        response.setStatus(anterior.status());
+        response.setHeader(CABECALHO_REPRODUZIDA, "true");
+        if (anterior.contentType() != null) {
+            response.setContentType(anterior.contentType());
+        }
+        response.setContentLength(anterior.corpo().length);
+        response.getOutputStream().write(anterior.corpo());
+    }
+
+    private void divergir(HttpServletResponse response) throws IOException {
+        divergentes.increment();
+        responderErro(response, HttpStatus.UNPROCESSABLE_ENTITY,
+                "Idempotency-Key já usada com outro corpo de requisição.");
+    }
+
+    private void responderErro(HttpServletResponse response, HttpStatus status, String mensagem) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getOutputStream(), new ErrorResponse(status.value(), mensagem));
+    }
+
+    /**
+     * Mesmo critério do `LimiteTaxaFilter`: usuário autenticado, chave de API ou IP.
+     */
+    private static String cliente(HttpServletRequest request) {
+        Object usuarioId = request.getAttribute(LimiteTaxaFilter.ATRIBUTO_USUARIO_ID);
+        if (usuarioId != null) {
+            return "usuario:" + usuarioId;
+        }
+        String chaveApi = request.getHeader(LimiteTaxaFilter.CABECALHO_CHAVE_API);
+        return chaveApi != null ? "chave:" + chaveApi : "ip:" + request.getRemoteAddr();
+    }
+
+    private static String sha256(byte[] dados) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(dados));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    }
+}
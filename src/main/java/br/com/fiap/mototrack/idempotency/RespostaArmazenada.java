@@ -0,0 +1,19 @@
+package br.com.fiap.mototrack.idempotency;
+
+/**
+ * # 📦 RespostaArmazenada
+ *
+ * Resposta da primeira execução de uma chave, devolvida igual às repetições.
+ *
+ * @param impressao   SHA-256 (hex) do corpo da requisição original
+ * @param status      Status HTTP
+ * @param contentType `Content-Type` da resposta (pode ser nulo)
+ * @param corpo       Corpo da resposta
+ */
+record RespostaArmazenada(
+        String impressao,
+        int status,
+        String contentType,
+        byte[] corpo
+) {
+}
@@ -1,17 +1,59 @@
 package br.com.fiap.mototrack.mapper;
 
+import br.com.fiap.mototrack.dto.request.AgendamentoRequest;
+import br.com.fiap.mototrack.dto.request.EventoRequest;
+import br.com.fiap.mototrack.dto.request.MotoRequest;
+import br.com.fiap.mototrack.dto.request.RegraRecorrenciaRequest;
+import br.com.fiap.mototrack.dto.request.UsuarioRequest;
+import br.com.fiap.mototrack.model.Agendamento;
+import br.com.fiap.mototrack.model.Evento;
+import br.com.fiap.mototrack.model.Moto;
+import br.com.fiap.mototrack.model.RegraRecorrencia;
+import br.com.fiap.mototrack.model.Usuario;
 import org.modelmapper.ModelMapper;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 /**
  * Configuração do ModelMapper para mapeamento automático de DTOs e entidades.
+ *
+ * Nos mapeamentos request → entidade, o ID e os relacionamentos são ignorados:
+ * campos como `motoId`/`filialId` seriam associados por nome ao `id` da entidade
+ * (ou ao `id` da entidade relacionada já gerenciada). Os services vinculam os
+ * relacionamentos explicitamente após validar sua existência.
  */
 @Configuration
 public class ModelMapperConfig {
 
     @Bean
     public ModelMapper modelMapper() {
-        return new ModelMapper();
+        ModelMapper mapper = new ModelMapper();
+
+        mapper.emptyTypeMap(MotoRequest.class, Moto.class).addMappings(m -> {
+            m.skip(Moto::setId);
+            m.skip(Moto::setFilial);
+        }).implicitMappings();
+        mapper.emptyTypeMap(EventoRequest.class, Evento.class).addMappings(m -> {
+            m.skip(Evento::setId);
+            m.skip(Evento::setMoto);
+            m.skip(Evento::setFilial);
+        }).implicitMappings();
+        mapper.emptyTypeMap(AgendamentoRequest.class, Agendamento.class).addMappings(m -> {
+            m.skip(Agendamento::setId);
+            m.skip(Agendamento::setMoto);
+            m.skip(Agendamento::setFilial);
+            m.skip(Agendamento::setRegra);
+        }).implicitMappings();
+        mapper.emptyTypeMap(RegraRecorrenciaRequest.class, RegraRecorrencia.class).addMappings(m -> {
+            m.skip(RegraRecorrencia::setId);
+            m.skip(RegraRecorrencia::setMoto);
+            m.skip(RegraRecorrencia::setFilial);
+        }).implicitMappings();
+        mapper.emptyTypeMap(UsuarioRequest.class, Usuario.class).addMappings(m -> {
+            m.skip(Usuario::setId);
+            m.skip(Usuario::setFilial);
+        }).implicitMappings();
+
+        return mapper;
     }
 }
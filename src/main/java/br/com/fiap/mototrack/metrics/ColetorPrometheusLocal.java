@@ -0,0 +1,103 @@
+package br.com.fiap.mototrack.metrics;
+
+import br.com.fiap.mototrack.dto.response.ColetaMetricasResponse;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * # 🧪 ColetorPrometheusLocal
+ *
+ * Simula um servidor Prometheus: lê periodicamente a mesma exposição servida em `/actuator/prometheus`
+ * e guarda a última coleta, consultável em `GET /metricas/coleta`.
+ * Permite validar a exposição das métricas sem infraestrutura externa.
+ *
+ * > A leitura é feita direto no `PrometheusMeterRegistry` (`scrape()`), sem passar por HTTP: o endpoint
+ * > do actuator exige token, e o coletor não precisa de credencial.
+ *
+ * > Habilitado por `mototrack.metricas.coletor.habilitado`.
+ */
+@Slf4j
+@Component
+public class ColetorPrometheusLocal {
+
+    private final ObjectProvider<PrometheusMeterRegistry> registry;
+    private final boolean habilitado;
+
+    private volatile Map<String, Double> ultimaColeta = Map.of();
+    private volatile LocalDateTime dataColeta;
+
+    public ColetorPrometheusLocal(ObjectProvider<PrometheusMeterRegistry> registry,
+                                  @Value("${mototrack.metricas.coletor.habilitado:false}") boolean habilitado) {
+        this.registry = registry;
+        this.habilitado = habilitado;
+    }
+
+    /**
+     * Lê a exposição Prometheus e substitui a última coleta.
+     * Sem o registry Prometheus (exportação desligada), a coleta anterior é mantida.
+     */
+    @Scheduled(fixedDelayString = "${mototrack.metricas.coletor.intervalo-ms:15000}",
+            initialDelayString = "${mototrack.metricas.coletor.intervalo-ms:15000}")
+    public void coletar() {
+        PrometheusMeterRegistry prometheus = habilitado ? registry.getIfAvailable() : null;
+        if (prometheus == null) {
+            return;
+        }
+        try {
+            ultimaColeta = interpretar(prometheus.scrape());
+            dataColeta = LocalDateTime.now();
+        } catch (RuntimeException e) {
+            log.warn("🧪 Falha ao coletar métricas: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Retorna as séries da última coleta cujo nome começa com o prefixo informado.
+     */
+    public ColetaMetricasResponse consultar(String prefixo) {
+        Map<String, Double> coleta = ultimaColeta;
+        Map<String, Double> series = new TreeMap<>();
+        coleta.forEach((serie, valor) -> {
+            if (prefixo == null || serie.startsWith(prefixo)) {
+                series.put(serie, valor);
+            }
+        });
+        return new ColetaMetricasResponse(dataColeta, coleta.size(), series);
+    }
+
+    /**
+     * Interpreta o formato texto do Prometheus: `nome{rotulos} valor`, ignorando comentários.
+     */
+    static Map<String, Double> interpretar(String corpo) {
+        Map<String, Double> series = new TreeMap<>();
+        for (String linha : corpo.split("\n")) {
+            if (linha.isBlank() || linha.startsWith("#")) {
+                continue;
+            }
+            int fimRotulos = linha.lastIndexOf('}');
+            int separador = linha.indexOf(' ', fimRotulos < 0 ? 0 : fimRotulos);
+            if (separador < 0) {
+                continue;
+            }
+            String valor = linha.substring(separador + 1).trim();
+            int espaco = valor.indexOf(' ');
+            if (espaco >= 0) {
+                valor = valor.substring(0, espaco);
+            }
+            series.put(linha.substring(0, separador), switch (valor) {
+                case "+Inf" -> Double.POSITIVE_INFINITY;
+                case "-Inf" -> Double.NEGATIVE_INFINITY;
+                default -> Double.parseDouble(valor);
+            });
+        }
+        return series;
+    }
+}
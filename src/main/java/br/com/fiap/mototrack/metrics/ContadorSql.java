@@ -0,0 +1,196 @@
+package br.com.fiap.mototrack.metrics;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * # 🧮 ContadorSql
+ *
+ * Acumula, por thread, os comandos SQL executados durante uma medição (tipicamente uma requisição HTTP).
+ * O `DataSourceInstrumentado` registra cada execução e o `MetricasRequisicaoFilter`
+ * abre e fecha a medição em torno da requisição.
+ *
+ * ---
+ * ## 📋 Recursos:
+ * - Medições aninhadas: um comando conta em todas as medições abertas na thread, e cada medição
+ *   encerrada fica registrada na medição externa (ex: um teste que faz várias requisições)
+ * - Formato dos comandos: o SQL com parâmetros (`?`) identifica comandos repetidos na mesma medição
+ * - Detecção de N+1: com `mototrack.sql.n-mais-um.habilitado`, o formato que atinge o limiar
+ *   de repetições é registrado em log com o ponto do código que o disparou
+ *
+ * > Fora de uma medição (tarefas agendadas, inicialização) o registro é ignorado.
+ */
+@Slf4j
+public final class ContadorSql {
+
+    /**
+     * Totais de uma medição.
+     *
+     * @param rotulo     Identificação da medição (ex: `GET /usuarios`)
+     * @param comandos   Quantidade de comandos executados
+     * @param nanos      Tempo gasto no banco
+     * @param repetidos  Formatos executados mais de uma vez, com a quantidade de execuções
+     * @param internas   Medições aninhadas encerradas durante esta (ex: requisições feitas por um teste)
+     */
+    public record Medicao(String rotulo, int comandos, long nanos,
+                          Map<String, Integer> repetidos, List<Medicao> internas) {
+    }
+
+    private static final class Acumulador {
+        final String rotulo;
+        final Acumulador externo;
+        final boolean detectarNMaisUm;
+        final Map<String, Integer> formatos = new HashMap<>();
+        final List<Medicao> internas = new ArrayList<>();
+        int comandos;
+        long nanos;
+
+        Acumulador(String rotulo, Acumulador externo, boolean detectarNMaisUm) {
+            this.rotulo = rotulo;
+            this.externo = externo;
+            this.detectarNMaisUm = detectarNMaisUm;
+        }
+
+        Medicao medicao() {
+            Map<String, Integer> repetidos = new LinkedHashMap<>();
+            formatos.forEach((formato, vezes) -> {
+                if (vezes > 1) {
+                    repetidos.put(formato, vezes);
+                }
+            });
+            return new Medicao(rotulo, comandos, nanos, repetidos, List.copyOf(internas));
+        }
+    }
+
+    private static final ThreadLocal<Acumulador> ATUAL = new ThreadLocal<>();
+    private static final Pattern LISTA_PARAMETROS = Pattern.compile("\\?(\\s*,\\s*\\?)+");
+    private static final Pattern ESPACOS = Pattern.compile("\\s+");
+    private static final String PACOTE_APLICACAO = "br.com.fiap.mototrack.";
+    private static final String PACOTE_METRICAS = "br.com.fiap.mototrack.metrics.";
+    private static final int MAXIMO_FORMATOS_EM_CACHE = 2048;
+    private static final Map<String, String> FORMATOS = new ConcurrentHashMap<>();
+
+    private static volatile boolean deteccaoHabilitada;
+    private static volatile int limiarRepeticoes = 3;
+
+    private ContadorSql() {
+        // Não instanciar
+    }
+
+    /**
+     * Liga ou desliga o log de N+1 e define quantas execuções do mesmo formato o disparam.
+     */
+    public static void configurarDeteccao(boolean habilitada, int limiar) {
+        deteccaoHabilitada = habilitada;
+        limiarRepeticoes = Math.max(2, limiar);
+    }
+
+    /**
+     * Inicia uma medição na thread corrente, aninhada na medição já aberta (se houver).
+     */
+    public static void iniciar(String rotulo) {
+        iniciar(rotulo, true);
+    }
+
+    /**
+     * Inicia uma medição, indicando se comandos repetidos nela devem ser registrados em log
+     * (desligado, por exemplo, na medição de um teste inteiro, que inclui a carga de dados).
+     */
+    public static void iniciar(String rotulo, boolean detectarNMaisUm) {
+        ATUAL.set(new Acumulador(rotulo, ATUAL.get(), detectarNMaisUm));
+    }
+
+    /**
+     * Registra a execução de um comando em todas as medições abertas na thread.
+     */
+    public static void registrar(String sql, long nanos) {
+        Acumulador acumulador = ATUAL.get();
+        if (acumulador == null) {
+            return;
+        }
+        String formato = sql == null ? "" : formato(sql);
+        int vezes = acumulador.formatos.merge(formato, 1, Integer::sum);
+        if (deteccaoHabilitada && acumulador.detectarNMaisUm && vezes == limiarRepeticoes) {
+            log.warn("⚠️ Possível N+1 em {}: o mesmo comando já foi executado {} vezes, a partir de {} → {}",
+                    acumulador.rotulo, vezes, pontoDeChamada(), formato);
+        }
+        for (Acumulador a = acumulador; a != null; a = a.externo) {
+            a.comandos++;
+            a.nanos += nanos;
+            if (a != acumulador) {
+                a.formatos.merge(formato, 1, Integer::sum);
+            }
+        }
+    }
+
+    /**
+     * Retorna os totais da medição mais interna até agora, sem encerrá-la.
+     */
+    public static Medicao parcial() {
+        Acumulador acumulador = ATUAL.get();
+        return acumulador == null ? vazia() : acumulador.medicao();
+    }
+
+    /**
+     * Encerra a medição mais interna da thread e retorna os totais (zerados se não havia medição).
+     * A medição encerrada fica registrada na medição externa, se houver.
+     */
+    public static Medicao encerrar() {
+        Acumulador acumulador = ATUAL.get();
+        if (acumulador == null) {
+            return vazia();
+        }
+        Medicao medicao = acumulador.medicao();
+        if (acumulador.externo == null) {
+            ATUAL.remove();
+        } else {
+            acumulador.externo.internas.add(medicao);
+            ATUAL.set(acumulador.externo);
+        }
+        return medicao;
+    }
+
+    private static Medicao vazia() {
+        return new Medicao(null, 0, 0, Map.of(), List.of());
+    }
+
+    /**
+     * Normaliza o SQL: espaços colapsados e listas `IN (?, ?, ...)` de qualquer tamanho como `?, ...`.
+     */
+    static String formato(String sql) {
+        String formato = FORMATOS.get(sql);
+        if (formato == null) {
+            formato = normalizar(sql);
+            if (FORMATOS.size() < MAXIMO_FORMATOS_EM_CACHE) {
+                FORMATOS.put(sql, formato);
+            }
+        }
+        return formato;
+    }
+
+    private static String normalizar(String sql) {
+        String compacto = ESPACOS.matcher(sql.trim()).replaceAll(" ");
+        return LISTA_PARAMETROS.matcher(compacto).replaceAll("?, ...");
+    }
+
+    /**
+     * Primeiro frame da pilha no código da aplicação, fora do pacote de métricas e dos proxies.
+     */
+    private static String pontoDeChamada() {
+        return StackWalker.getInstance().walk(frames -> frames
+                .filter(f -> f.getClassName().startsWith(PACOTE_APLICACAO)
+                        && !f.getClassName().startsWith(PACOTE_METRICAS)
+                        && !f.getClassName().contains("$$"))
+                .findFirst()
+                .map(f -> f.getClassName().substring(PACOTE_APLICACAO.length()) + "." + f.getMethodName()
+                        + "(" + f.getFileName() + ":" + f.getLineNumber() + ")")
+                .orElse("(fora do código da aplicação)"));
+    }
+}
@@ -0,0 +1,57 @@
+package br.com.fiap.mototrack.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+
+/**
+ * # ⏲️ ConversorJsonPerfilado
+ *
+ * Conversor JSON que, em requisições perfiladas, serializa a resposta em memória
+ * para medir a fase `ser` e anexar o header `Server-Timing` antes de enviar o corpo
+ * (depois do primeiro byte os headers já não podem ser alterados).
+ *
+ * > Sem perfil ativo, comporta-se exatamente como o conversor padrão.
+ */
+public class ConversorJsonPerfilado extends MappingJackson2HttpMessageConverter {
+
+    public ConversorJsonPerfilado(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        PerfilRequisicao perfil = PerfilRequisicao.atual();
+        if (perfil == null) {
+            super.writeInternal(object, type, outputMessage);
+            return;
+        }
+
+        ByteArrayOutputStream corpo = new ByteArrayOutputStream(4096);
+        long inicio = System.nanoTime();
+        super.writeInternal(object, type, new HttpOutputMessage() {
+            @Override
+            public OutputStream getBody() {
+                return corpo;
+            }
+
+            @Override
+            public HttpHeaders getHeaders() {
+                return outputMessage.getHeaders();
+            }
+        });
+        perfil.registrar(PerfilRequisicao.Fase.SERIALIZACAO, System.nanoTime() - inicio);
+
+        perfil.fechar();
+        outputMessage.getHeaders().add(PerfiladorFilter.SERVER_TIMING, perfil.serverTiming());
+        corpo.writeTo(outputMessage.getBody());
+    }
+}
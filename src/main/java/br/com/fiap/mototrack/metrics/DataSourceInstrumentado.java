@@ -0,0 +1,97 @@
+package br.com.fiap.mototrack.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * # 🗄️ DataSourceInstrumentado
+ *
+ * Envolve o `DataSource` da aplicação e cronometra cada execução de comando
+ * (`execute*` e `executeBatch`) feita por Hibernate, Spring Data ou `JdbcTemplate`.
+ *
+ * ---
+ * ## 📋 Registra:
+ * - `mototrack.sql.comandos`: total de comandos executados
+ * - o comando (e o seu SQL) nas medições abertas na thread (`ContadorSql`)
+ *
+ * > Como é um `DelegatingDataSource`, o pool original (Hikari) continua acessível
+ * > via `unwrap`, e as métricas do pool seguem publicadas normalmente.
+ */
+public class DataSourceInstrumentado extends DelegatingDataSource {
+
+    private final Counter comandos;
+
+    public DataSourceInstrumentado(DataSource alvo) {
+        super(alvo);
+        // Registro global: o DataSource é criado antes do MeterRegistry da aplicação
+        this.comandos = Counter.builder("mototrack.sql.comandos")
+                .description("Comandos SQL executados")
+                .register(Metrics.globalRegistry);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return conexao(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return conexao(super.getConnection(username, password));
+    }
+
+    private Connection conexao(Connection alvo) {
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, metodo, args) -> {
+                    Object resultado = invocar(alvo, metodo, args);
+                    if (resultado instanceof Statement comando) {
+                        // prepareStatement/prepareCall recebem o SQL; createStatement o recebe no execute
+                        String sql = args != null && args.length > 0 && args[0] instanceof String texto ? texto : null;
+                        return comando(comando, sql);
+                    }
+                    return resultado;
+                });
+    }
+
+    private Statement comando(Statement alvo, String sqlPreparado) {
+        Class<?> tipo = alvo instanceof CallableStatement ? CallableStatement.class
+                : alvo instanceof PreparedStatement ? PreparedStatement.class
+                : Statement.class;
+        InvocationHandler handler = (proxy, metodo, args) -> {
+            if (!metodo.getName().startsWith("execute")) {
+                return invocar(alvo, metodo, args);
+            }
+            String sql = sqlPreparado != null ? sqlPreparado
+                    : args != null && args.length > 0 && args[0] instanceof String texto ? texto : null;
+            long inicio = System.nanoTime();
+            try {
+                return invocar(alvo, metodo, args);
+            } finally {
+                comandos.increment();
+                ContadorSql.registrar(sql, System.nanoTime() - inicio);
+            }
+        };
+        return (Statement) Proxy.newProxyInstance(tipo.getClassLoader(), new Class<?>[]{tipo}, handler);
+    }
+
+    private static Object invocar(Object alvo, Method metodo, Object[] args) throws Throwable {
+        try {
+            return metodo.invoke(alvo, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
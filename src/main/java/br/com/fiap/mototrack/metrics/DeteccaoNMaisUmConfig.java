@@ -0,0 +1,21 @@
+package br.com.fiap.mototrack.metrics;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Aplica ao `ContadorSql` a configuração da detecção de N+1 (desligada por padrão; habilitada no perfil `dev`).
+ */
+@Slf4j
+@Configuration
+public class DeteccaoNMaisUmConfig {
+
+    public DeteccaoNMaisUmConfig(@Value("${mototrack.sql.n-mais-um.habilitado:false}") boolean habilitado,
+                                 @Value("${mototrack.sql.n-mais-um.limiar:3}") int limiar) {
+        ContadorSql.configurarDeteccao(habilitado, limiar);
+        if (habilitado) {
+            log.info("🔎 Detecção de N+1 habilitada (limiar: {} execuções do mesmo comando por requisição)", limiar);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package br.com.fiap.mototrack.metrics;
+
+import br.com.fiap.mototrack.dto.response.DespejoJfrResponse;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordingFile;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+import static br.com.fiap.mototrack.exception.HttpExceptionUtils.internalError;
+import static br.com.fiap.mototrack.exception.HttpExceptionUtils.notFound;
+
+/**
+ * # 🛩️ GravacaoContinuaJfr
+ *
+ * Mantém uma gravação contínua do Java Flight Recorder com a configuração `default`
+ * (sobrecarga em torno de 1%) e os eventos `OperacaoServicoEvento`, em disco e limitada
+ * por tamanho e idade: os trechos mais antigos são descartados automaticamente.
+ *
+ * ---
+ * ## 📋 Despejo
+ * `despejar(minutos)` tira um snapshot do repositório do JFR e grava em um `.jfr` apenas
+ * os eventos dos últimos N minutos, para análise posterior no JDK Mission Control
+ * (ou com `jfr print --events br.com.fiap.mototrack.OperacaoServico arquivo.jfr`).
+ *
+ * > Habilitada por `mototrack.jfr.habilitado`.
+ */
+@Slf4j
+@Component
+public class GravacaoContinuaJfr {
+
+    private static final DateTimeFormatter NOME_ARQUIVO = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final boolean habilitado;
+    private final long tamanhoMaximoMb;
+    private final Duration idadeMaxima;
+    private final Path diretorio;
+
+    private Recording gravacao;
+
+    public GravacaoContinuaJfr(@Value("${mototrack.jfr.habilitado:false}") boolean habilitado,
+                               @Value("${mototrack.jfr.tamanho-maximo-mb:100}") long tamanhoMaximoMb,
+                               @Value("${mototrack.jfr.idade-maxima-minutos:60}") long idadeMaximaMinutos,
+                               @Value("${mototrack.jfr.diretorio:${java.io.tmpdir}/mototrack-jfr}") String diretorio) {
+        this.habilitado = habilitado;
+        this.tamanhoMaximoMb = tamanhoMaximoMb;
+        this.idadeMaxima = Duration.ofMinutes(idadeMaximaMinutos);
+        this.diretorio = Path.of(diretorio);
+    }
+
+    @PostConstruct
+    void iniciar() {
+        if (!habilitado || !FlightRecorder.isAvailable()) {
+            return;
+        }
+        try {
+            gravacao = new Recording(Configuration.getConfiguration("default"));
+        } catch (IOException | ParseException e) {
+            log.warn("🛩️ Configuração 'default' do JFR indisponível, gravando apenas os eventos da aplicação: {}", e.getMessage());
+            gravacao = new Recording();
+        }
+        gravacao.setName("mototrack-continua");
+        gravacao.enable(OperacaoServicoEvento.class);
+        gravacao.setToDisk(true);
+        gravacao.setMaxSize(tamanhoMaximoMb * 1024 * 1024);
+        gravacao.setMaxAge(idadeMaxima);
+        gravacao.start();
+        log.info("🛩️ Gravação JFR contínua iniciada (até {} MB / {} min)", tamanhoMaximoMb, idadeMaxima.toMinutes());
+    }
+
+    @PreDestroy
+    void encerrar() {
+        if (gravacao != null) {
+            gravacao.close();
+        }
+    }
+
+    /**
+     * Grava em `.jfr` os eventos dos últimos N minutos e retorna o arquivo gerado.
+     */
+    public DespejoJfrResponse despejar(int minutos) {
+        if (gravacao == null) {
+            throw notFound("Gravação JFR contínua não está habilitada.");
+        }
+        Instant desde = Instant.now().minus(Duration.ofMinutes(minutos));
+        Path destino = diretorio.resolve("mototrack-" + LocalDateTime.now().format(NOME_ARQUIVO) + "-" + minutos + "min.jfr");
+        Path completo = null;
+        try (Recording snapshot = FlightRecorder.getFlightRecorder().takeSnapshot()) {
+            Files.createDirectories(diretorio);
+            completo = Files.createTempFile(diretorio, "snapshot-", ".jfr");
+            snapshot.dump(completo);
+            try (RecordingFile arquivo = new RecordingFile(completo)) {
+                arquivo.write(destino, evento -> !evento.getEndTime().isBefore(desde));
+            }
+            log.info("🛩️ Despejo JFR dos últimos {} min gravado em {}", minutos, destino);
+            return new DespejoJfrResponse(destino.toAbsolutePath().toString(), Files.size(destino), minutos);
+        } catch (IOException e) {
+            throw internalError("Falha ao gravar o despejo JFR: " + e.getMessage());
+        } finally {
+            if (completo != null) {
+                try {
+                    Files.deleteIfExists(completo);
+                } catch (IOException e) {
+                    log.warn("🛩️ Não foi possível remover o snapshot temporário {}", completo);
+                }
+            }
+        }
+    }
+}
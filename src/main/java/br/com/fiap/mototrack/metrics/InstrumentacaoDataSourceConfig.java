@@ -0,0 +1,28 @@
+package br.com.fiap.mototrack.metrics;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Envolve o `DataSource` da aplicação com o `DataSourceInstrumentado`,
+ * para que todo comando SQL passe pela contagem.
+ */
+@Configuration
+public class InstrumentacaoDataSourceConfig {
+
+    @Bean
+    public static BeanPostProcessor dataSourceInstrumentadoPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof DataSourceInstrumentado)) {
+                    return new DataSourceInstrumentado(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,30 @@
+package br.com.fiap.mototrack.metrics;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * ⏲️ Cronometra as chamadas ao `ModelMapper` na fase `map` do perfil da requisição.
+ */
+@Aspect
+@Component
+@ConditionalOnProperty(name = "mototrack.perfilador.habilitado", havingValue = "true")
+public class MapeamentoPerfiladoAspect {
+
+    @Around("execution(* org.modelmapper.ModelMapper.map(..))")
+    public Object cronometrar(ProceedingJoinPoint ponto) throws Throwable {
+        PerfilRequisicao perfil = PerfilRequisicao.atual();
+        if (perfil == null) {
+            return ponto.proceed();
+        }
+        long inicio = System.nanoTime();
+        try {
+            return ponto.proceed();
+        } finally {
+            perfil.registrar(PerfilRequisicao.Fase.MAPEAMENTO, System.nanoTime() - inicio);
+        }
+    }
+}
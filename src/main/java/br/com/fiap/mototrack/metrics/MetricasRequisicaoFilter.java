@@ -0,0 +1,63 @@
+package br.com.fiap.mototrack.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * # 📊 MetricasRequisicaoFilter
+ *
+ * Mede os comandos SQL de cada requisição HTTP e publica, por método e rota:
+ * - `mototrack.http.sql.comandos`: quantidade de comandos por requisição
+ * - `mototrack.http.sql.tempo`: tempo total gasto no banco por requisição
+ *
+ * > Roda antes dos demais filtros, para que a medição cubra toda a requisição
+ * > (inclusive o `PerfiladorFilter`, que lê os totais parciais).
+ * > A rota é o padrão mapeado (ex: `/motos/{id}`), mantendo a cardinalidade das tags limitada.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class MetricasRequisicaoFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry registry;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        ContadorSql.iniciar(request.getMethod() + " " + request.getRequestURI());
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            ContadorSql.Medicao medicao = ContadorSql.encerrar();
+            Object padrao = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String uri = padrao != null ? padrao.toString() : "UNKNOWN";
+
+            DistributionSummary.builder("mototrack.http.sql.comandos")
+                    .description("Comandos SQL executados por requisição")
+                    .tag("method", request.getMethod())
+                    .tag("uri", uri)
+                    .register(registry)
+                    .record(medicao.comandos());
+            Timer.builder("mototrack.http.sql.tempo")
+                    .description("Tempo gasto no banco por requisição")
+                    .tag("method", request.getMethod())
+                    .tag("uri", uri)
+                    .register(registry)
+                    .record(medicao.nanos(), TimeUnit.NANOSECONDS);
+        }
+    }
+}
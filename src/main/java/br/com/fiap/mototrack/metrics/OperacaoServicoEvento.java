@@ -0,0 +1,41 @@
+package br.com.fiap.mototrack.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * # 🛩️ OperacaoServicoEvento
+ *
+ * Evento do Java Flight Recorder emitido a cada operação dos services de Moto, Evento,
+ * Agendamento, Filial e Usuário. A duração é a do próprio evento (`begin`/`commit`).
+ *
+ * > Visível no JDK Mission Control em *Mototrack → Serviços*.
+ */
+@Name("br.com.fiap.mototrack.OperacaoServico")
+@Label("Operação de serviço")
+@Category({"Mototrack", "Serviços"})
+@Description("Chamada a um método público de service")
+@StackTrace(false)
+public class OperacaoServicoEvento extends Event {
+
+    @Label("Entidade")
+    String entidade;
+
+    @Label("Operação")
+    String operacao;
+
+    @Label("Formato do filtro")
+    @Description("Campos preenchidos do filtro e paginação, sem os valores")
+    String filtro;
+
+    @Label("Linhas")
+    @Description("Registros retornados (página, lista ou 1 para um único objeto)")
+    int linhas;
+
+    @Label("Sucesso")
+    boolean sucesso;
+}
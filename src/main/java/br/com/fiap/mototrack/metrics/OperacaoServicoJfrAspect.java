@@ -0,0 +1,105 @@
+package br.com.fiap.mototrack.metrics;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.RecordComponent;
+import java.util.Collection;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * # 🛩️ OperacaoServicoJfrAspect
+ *
+ * Emite um `OperacaoServicoEvento` em torno de cada método público dos services principais.
+ *
+ * > Quando nenhuma gravação JFR habilita o evento, o custo é o de um `isEnabled()`.
+ * > O formato do filtro lista apenas os nomes dos campos preenchidos (ex: `marca,anoMin|size=20,sort=placa`),
+ * > para agrupar chamadas semelhantes sem expor valores.
+ */
+@Aspect
+@Component
+public class OperacaoServicoJfrAspect {
+
+    private static final String SUFIXO_SERVICE = "Service";
+
+    private final Map<Class<?>, RecordComponent[]> componentes = new ConcurrentHashMap<>();
+
+    @Around("execution(public * br.com.fiap.mototrack.service.MotoService.*(..))"
+            + " || execution(public * br.com.fiap.mototrack.service.EventoService.*(..))"
+            + " || execution(public * br.com.fiap.mototrack.service.AgendamentoService.*(..))"
+            + " || execution(public * br.com.fiap.mototrack.service.FilialService.*(..))"
+            + " || execution(public * br.com.fiap.mototrack.service.UsuarioService.*(..))")
+    public Object registrar(ProceedingJoinPoint ponto) throws Throwable {
+        OperacaoServicoEvento evento = new OperacaoServicoEvento();
+        if (!evento.isEnabled()) {
+            return ponto.proceed();
+        }
+        evento.begin();
+        Object retorno = null;
+        try {
+            retorno = ponto.proceed();
+            evento.sucesso = true;
+            return retorno;
+        } finally {
+            evento.end();
+            if (evento.shouldCommit()) {
+                String servico = ponto.getSignature().getDeclaringType().getSimpleName();
+                evento.entidade = servico.endsWith(SUFIXO_SERVICE)
+                        ? servico.substring(0, servico.length() - SUFIXO_SERVICE.length())
+                        : servico;
+                evento.operacao = ponto.getSignature().getName();
+                evento.filtro = formatoFiltro(ponto.getArgs());
+                evento.linhas = linhas(retorno);
+                evento.commit();
+            }
+        }
+    }
+
+    private String formatoFiltro(Object[] args) {
+        StringJoiner campos = new StringJoiner(",");
+        String paginacao = null;
+        for (Object arg : args) {
+            if (arg instanceof Pageable pageable && pageable.isPaged()) {
+                paginacao = "size=" + pageable.getPageSize()
+                        + (pageable.getSort().isSorted() ? ",sort=" + pageable.getSort().toString().replace(": ", ":") : "");
+            } else if (arg != null && arg.getClass().isRecord()
+                    && arg.getClass().getPackageName().endsWith(".filter")) {
+                for (RecordComponent componente : componentes.computeIfAbsent(arg.getClass(), Class::getRecordComponents)) {
+                    if (preenchido(componente, arg)) {
+                        campos.add(componente.getName());
+                    }
+                }
+            }
+        }
+        String filtro = campos.toString();
+        return paginacao == null ? filtro : filtro + "|" + paginacao;
+    }
+
+    private static boolean preenchido(RecordComponent componente, Object filtro) {
+        try {
+            Object valor = componente.getAccessor().invoke(filtro);
+            return valor != null && !(valor instanceof String texto && texto.isBlank());
+        } catch (ReflectiveOperationException e) {
+            return false;
+        }
+    }
+
+    private static int linhas(Object retorno) {
+        if (retorno == null) {
+            return 0;
+        }
+        if (retorno instanceof Page<?> pagina) {
+            return pagina.getNumberOfElements();
+        }
+        if (retorno instanceof Collection<?> colecao) {
+            return colecao.size();
+        }
+        return 1;
+    }
+}
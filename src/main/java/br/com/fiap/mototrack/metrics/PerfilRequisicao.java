@@ -0,0 +1,179 @@
+package br.com.fiap.mototrack.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.Locale;
+
+/**
+ * # ⏲️ PerfilRequisicao
+ *
+ * Tempos por fase de uma requisição HTTP, acumulados na thread que a atende:
+ * - `spec`: montagem dos predicados das Specifications
+ * - `sql`: execução dos comandos no banco (via `ContadorSql`), com a quantidade de comandos
+ * - `map`: mapeamento entidade ↔ DTO (ModelMapper, incluindo carregamentos lazy disparados nele)
+ * - `ser`: serialização JSON da resposta
+ * - `alloc`: bytes alocados pela thread (`ThreadMXBean`)
+ *
+ * Aberto e fechado pelo `PerfiladorFilter`; fora de uma requisição perfilada, `atual()` é nulo
+ * e os pontos de medição não fazem nada.
+ */
+public final class PerfilRequisicao {
+
+    /**
+     * Fases cronometradas explicitamente (o SQL vem do `ContadorSql`).
+     */
+    public enum Fase {
+        ESPECIFICACAO("spec"),
+        MAPEAMENTO("map"),
+        SERIALIZACAO("ser");
+
+        private final String metrica;
+
+        Fase(String metrica) {
+            this.metrica = metrica;
+        }
+
+        public String metrica() {
+            return metrica;
+        }
+    }
+
+    private static final ThreadLocal<PerfilRequisicao> ATUAL = new ThreadLocal<>();
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                    && bean.isThreadAllocatedMemorySupported() && bean.isThreadAllocatedMemoryEnabled()
+                    ? bean : null;
+
+    private final String metodo;
+    private final String uri;
+    private final LocalDateTime data = LocalDateTime.now();
+    private final long inicio = System.nanoTime();
+    private final long alocadosInicio = alocados();
+    private final long[] nanosPorFase = new long[Fase.values().length];
+
+    private long total;
+    private long bytesAlocados;
+    private int sqlComandos;
+    private long sqlNanos;
+    private int status;
+    private boolean fechado;
+
+    private PerfilRequisicao(String metodo, String uri) {
+        this.metodo = metodo;
+        this.uri = uri;
+    }
+
+    // =============================
+    // 🔁 Ciclo de vida
+    // =============================
+
+    static PerfilRequisicao iniciar(String metodo, String uri) {
+        PerfilRequisicao perfil = new PerfilRequisicao(metodo, uri);
+        ATUAL.set(perfil);
+        return perfil;
+    }
+
+    static void remover() {
+        ATUAL.remove();
+    }
+
+    /**
+     * Perfil da requisição em andamento na thread corrente, ou nulo.
+     */
+    public static PerfilRequisicao atual() {
+        return ATUAL.get();
+    }
+
+    /**
+     * Soma o tempo gasto em uma fase.
+     */
+    public void registrar(Fase fase, long nanos) {
+        nanosPorFase[fase.ordinal()] += nanos;
+    }
+
+    /**
+     * Congela os totais (tempo, SQL e alocação) no momento em que a resposta vai ser enviada.
+     * Chamadas posteriores não alteram o perfil.
+     */
+    void fechar() {
+        if (fechado) {
+            return;
+        }
+        fechado = true;
+        total = System.nanoTime() - inicio;
+        long alocadosAgora = alocados();
+        bytesAlocados = alocadosAgora < 0 ? -1 : alocadosAgora - alocadosInicio;
+        ContadorSql.Medicao sql = ContadorSql.parcial();
+        sqlComandos = sql.comandos();
+        sqlNanos = sql.nanos();
+    }
+
+    void status(int status) {
+        this.status = status;
+    }
+
+    /**
+     * Valor do header `Server-Timing` (durações em milissegundos).
+     */
+    String serverTiming() {
+        StringBuilder sb = new StringBuilder(160);
+        for (Fase fase : Fase.values()) {
+            sb.append(fase.metrica()).append(";dur=").append(ms(nanosPorFase[fase.ordinal()])).append(", ");
+        }
+        sb.append("sql;dur=").append(ms(sqlNanos)).append(";desc=\"").append(sqlComandos).append(" comandos\", ");
+        if (bytesAlocados >= 0) {
+            sb.append("alloc;desc=\"").append(bytesAlocados).append(" bytes\", ");
+        }
+        sb.append("total;dur=").append(ms(total));
+        return sb.toString();
+    }
+
+    private static long alocados() {
+        return THREADS == null ? -1 : THREADS.getCurrentThreadAllocatedBytes();
+    }
+
+    private static String ms(long nanos) {
+        return String.format(Locale.ROOT, "%.3f", nanos / 1_000_000.0);
+    }
+
+    // =============================
+    // 📄 Leitura
+    // =============================
+
+    public String metodo() {
+        return metodo;
+    }
+
+    public String uri() {
+        return uri;
+    }
+
+    public LocalDateTime data() {
+        return data;
+    }
+
+    public int status() {
+        return status;
+    }
+
+    public long total() {
+        return total;
+    }
+
+    public long nanos(Fase fase) {
+        return nanosPorFase[fase.ordinal()];
+    }
+
+    public int sqlComandos() {
+        return sqlComandos;
+    }
+
+    public long sqlNanos() {
+        return sqlNanos;
+    }
+
+    public long bytesAlocados() {
+        return bytesAlocados;
+    }
+}
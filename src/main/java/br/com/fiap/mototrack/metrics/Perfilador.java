@@ -0,0 +1,42 @@
+package br.com.fiap.mototrack.metrics;
+
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * # ⏲️ Perfilador
+ *
+ * Pontos de medição usados pelo código da aplicação. Sem requisição perfilada
+ * na thread, retornam o próprio argumento, sem custo adicional.
+ *
+ * ---
+ * ## 📋 Como usar?
+ * ```java
+ * var spec = Perfilador.especificacao(MotoSpecification.comFiltros(filtro));
+ * ```
+ */
+public final class Perfilador {
+
+    private Perfilador() {
+        // Não instanciar
+    }
+
+    /**
+     * Envolve a Specification para cronometrar a montagem dos predicados (fase `spec`).
+     */
+    public static <T> Specification<T> especificacao(Specification<T> spec) {
+        if (spec == null || PerfilRequisicao.atual() == null) {
+            return spec;
+        }
+        return (root, query, cb) -> {
+            long inicio = System.nanoTime();
+            try {
+                return spec.toPredicate(root, query, cb);
+            } finally {
+                PerfilRequisicao perfil = PerfilRequisicao.atual();
+                if (perfil != null) {
+                    perfil.registrar(PerfilRequisicao.Fase.ESPECIFICACAO, System.nanoTime() - inicio);
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,20 @@
+package br.com.fiap.mototrack.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+/**
+ * Substitui o conversor JSON padrão pelo `ConversorJsonPerfilado` quando o perfilador está habilitado.
+ */
+@Configuration
+@ConditionalOnProperty(name = "mototrack.perfilador.habilitado", havingValue = "true")
+public class PerfiladorConfig {
+
+    @Bean
+    public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+        return new ConversorJsonPerfilado(objectMapper);
+    }
+}
@@ -0,0 +1,68 @@
+package br.com.fiap.mototrack.metrics;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * # ⏲️ PerfiladorFilter
+ *
+ * Abre um `PerfilRequisicao` por requisição, publica os tempos no header `Server-Timing`
+ * e entrega o perfil ao `PerfisMaisLentos` ao final.
+ *
+ * > Respostas JSON recebem o header no `ConversorJsonPerfilado`; as demais (sem corpo, texto)
+ * > recebem aqui, se ainda não tiverem sido enviadas. Desligado por `mototrack.perfilador.habilitado`.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class PerfiladorFilter extends OncePerRequestFilter {
+
+    public static final String SERVER_TIMING = "Server-Timing";
+    private static final int TAMANHO_MAXIMO_URI = 300;
+
+    private final PerfisMaisLentos maisLentos;
+    private final boolean habilitado;
+
+    public PerfiladorFilter(PerfisMaisLentos maisLentos,
+                            @Value("${mototrack.perfilador.habilitado:false}") boolean habilitado) {
+        this.maisLentos = maisLentos;
+        this.habilitado = habilitado;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !habilitado || request.getRequestURI().startsWith("/actuator");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        PerfilRequisicao perfil = PerfilRequisicao.iniciar(request.getMethod(), uri(request));
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            perfil.fechar();
+            if (!response.isCommitted() && !response.containsHeader(SERVER_TIMING)) {
+                response.addHeader(SERVER_TIMING, perfil.serverTiming());
+            }
+            perfil.status(response.getStatus());
+            PerfilRequisicao.remover();
+            maisLentos.registrar(perfil);
+        }
+    }
+
+    private static String uri(HttpServletRequest request) {
+        String uri = request.getQueryString() == null
+                ? request.getRequestURI()
+                : request.getRequestURI() + "?" + request.getQueryString();
+        return uri.length() > TAMANHO_MAXIMO_URI ? uri.substring(0, TAMANHO_MAXIMO_URI) : uri;
+    }
+}
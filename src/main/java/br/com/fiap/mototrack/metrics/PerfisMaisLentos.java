@@ -0,0 +1,90 @@
+package br.com.fiap.mototrack.metrics;
+
+import br.com.fiap.mototrack.dto.response.PerfilRequisicaoResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * # 🐢 PerfisMaisLentos
+ *
+ * Guarda os N perfis de requisição mais lentos desde a inicialização (ou da última limpeza).
+ *
+ * Um min-heap limitado mantém o mais rápido dos guardados no topo; o seu tempo fica em
+ * um campo volátil, de forma que a grande maioria das requisições (mais rápidas que ele)
+ * é descartada sem adquirir o lock.
+ */
+@Component
+public class PerfisMaisLentos {
+
+    private static final Comparator<PerfilRequisicao> POR_TEMPO = Comparator.comparingLong(PerfilRequisicao::total);
+
+    private final int capacidade;
+    private final PriorityQueue<PerfilRequisicao> perfis;
+    private volatile long limiar = -1;
+
+    public PerfisMaisLentos(@Value("${mototrack.perfilador.mais-lentos:50}") int capacidade) {
+        this.capacidade = capacidade;
+        this.perfis = new PriorityQueue<>(capacidade + 1, POR_TEMPO);
+    }
+
+    /**
+     * Considera o perfil; ele só é guardado se estiver entre os N mais lentos.
+     */
+    public void registrar(PerfilRequisicao perfil) {
+        if (perfil.total() <= limiar) {
+            return;
+        }
+        synchronized (perfis) {
+            perfis.add(perfil);
+            if (perfis.size() > capacidade) {
+                perfis.poll();
+            }
+            if (perfis.size() == capacidade) {
+                limiar = perfis.peek().total();
+            }
+        }
+    }
+
+    /**
+     * Retorna os perfis guardados, do mais lento para o mais rápido.
+     */
+    public List<PerfilRequisicaoResponse> consultar() {
+        List<PerfilRequisicao> copia;
+        synchronized (perfis) {
+            copia = new ArrayList<>(perfis);
+        }
+        copia.sort(POR_TEMPO.reversed());
+        return copia.stream().map(PerfisMaisLentos::paraResponse).toList();
+    }
+
+    private static PerfilRequisicaoResponse paraResponse(PerfilRequisicao perfil) {
+        Map<String, Double> fases = new LinkedHashMap<>();
+        for (PerfilRequisicao.Fase fase : PerfilRequisicao.Fase.values()) {
+            fases.put(fase.metrica(), ms(perfil.nanos(fase)));
+        }
+        fases.put("sql", ms(perfil.sqlNanos()));
+        return new PerfilRequisicaoResponse(perfil.metodo(), perfil.uri(), perfil.status(), perfil.data(),
+                ms(perfil.total()), fases, perfil.sqlComandos(), perfil.bytesAlocados());
+    }
+
+    private static double ms(long nanos) {
+        return Math.round(nanos / 1_000.0) / 1_000.0;
+    }
+
+    /**
+     * Descarta os perfis guardados.
+     */
+    public void limpar() {
+        synchronized (perfis) {
+            perfis.clear();
+            limiar = -1;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package br.com.fiap.mototrack.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * # ⏱️ ServicoMetricasAspect
+ *
+ * Cronometra todo método público dos services (`cadastrar`, `atualizar`, `consultarComFiltro`, ...)
+ * no timer `mototrack.servico`, com as tags `servico`, `metodo` e `resultado` (`sucesso` ou `erro`).
+ *
+ * > Os percentis (p50/p95/p99) são configurados em `application.properties`.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class ServicoMetricasAspect {
+
+    private final MeterRegistry registry;
+
+    @Around("execution(public * br.com.fiap.mototrack.service..*(..))")
+    public Object cronometrar(ProceedingJoinPoint ponto) throws Throwable {
+        Timer.Sample amostra = Timer.start(registry);
+        String resultado = "erro";
+        try {
+            Object retorno = ponto.proceed();
+            resultado = "sucesso";
+            return retorno;
+        } finally {
+            amostra.stop(Timer.builder("mototrack.servico")
+                    .description("Tempo de execução dos métodos de serviço")
+                    .tag("servico", ponto.getSignature().getDeclaringType().getSimpleName())
+                    .tag("metodo", ponto.getSignature().getName())
+                    .tag("resultado", resultado)
+                    .register(registry));
+        }
+    }
+}
@@ -11,7 +11,7 @@ import java.time.LocalDateTime;
  * 📅 Entidade: Agendamento
  *
  * Representa um agendamento de manutenção ou evento futuro para uma moto,
- * incluindo descrição e data planejada.
+ * incluindo descrição, data planejada, duração e a filial (oficina) onde ocorre.
  *
  * ---
  * @author Rafael
@@ -22,9 +22,12 @@ import java.time.LocalDateTime;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "tb_agendamento")
+@Table(name = "tb_agendamento", indexes = @Index(name = "ix_agendamento_dt_agendada", columnList = "dt_agendada"))
 public class Agendamento {
 
+    /** Duração assumida quando o agendamento não informa a sua */
+    public static final int DURACAO_PADRAO_MINUTOS = 60;
+
     // ===========================
     // 🔑 Identificação
     // ===========================
@@ -44,6 +47,16 @@ public class Agendamento {
     @JoinColumn(name = "id_moto", nullable = false)
     private Moto moto;
 
+    /** Filial (oficina) onde o agendamento ocorre */
+    @ManyToOne
+    @JoinColumn(name = "id_filial")
+    private Filial filial;
+
+    /** Regra de recorrência que originou o agendamento (nula para agendamentos avulsos) */
+    @ManyToOne
+    @JoinColumn(name = "id_regra_recorrencia")
+    private RegraRecorrencia regra;
+
     // ===========================
     // 📆 Informações do agendamento
     // ===========================
@@ -52,11 +65,19 @@ public class Agendamento {
     @Column(name = "dt_agendada", nullable = false)
     private LocalDateTime dataAgendada;
 
+    /** Duração prevista, em minutos */
+    @Column(name = "nr_duracao_minutos")
+    private Integer duracaoMinutos;
+
     /** Descrição do agendamento */
     @NotBlank(message = "A descrição é obrigatória.")
     @Column(name = "ds_descricao", nullable = false)
     private String descricao;
 
+    /** Data e hora em que o agendamento foi disparado pelo agendador (nulo enquanto pendente) */
+    @Column(name = "dt_disparo")
+    private LocalDateTime dataDisparo;
+
     // ===========================
     // 🕒 Controle de criação (opcional)
     // ===========================
@@ -65,4 +86,14 @@ public class Agendamento {
     @CreationTimestamp
     @Column(name = "dt_criacao", updatable = false)
     private LocalDateTime dataCriacao;
+
+    /**
+     * Data e hora previstas para o término (`dataAgendada + duração`).
+     */
+    public LocalDateTime getDataFim() {
+        if (dataAgendada == null) {
+            return null;
+        }
+        return dataAgendada.plusMinutes(duracaoMinutos != null ? duracaoMinutos : DURACAO_PADRAO_MINUTOS);
+    }
 }
@@ -44,6 +44,11 @@ public class Evento {
     @JoinColumn(name = "id_moto", nullable = false)
     private Moto moto;
 
+    /** Filial de destino/registro do evento (opcional, usada em entradas e realocações) */
+    @ManyToOne
+    @JoinColumn(name = "id_filial")
+    private Filial filial;
+
     // ===========================
     // 🏷️ Detalhes do Evento
     // ===========================
@@ -63,6 +68,11 @@ public class Evento {
     @CreationTimestamp
     private LocalDateTime dataHora;
 
+    /** Data e hora em que o evento foi gravado (não muda em atualizações; ponto de corte dos snapshots) */
+    @Column(name = "dt_registro", updatable = false)
+    @CreationTimestamp
+    private LocalDateTime dataRegistro;
+
     /** Localização textual do evento */
     @Column(name = "ds_localizacao")
     private String localizacao;
@@ -99,6 +99,13 @@ public class Filial {
     @Column(name = "raio_geofence_m")
     private Double raioGeofenceMetros;
 
+    /**
+     * Quantidade de motos que a oficina atende simultaneamente em cada slot de horário.
+     * Nulo usa a capacidade padrão configurada.
+     */
+    @Column(name = "nr_capacidade_oficina")
+    private Integer capacidadeOficina;
+
     // ===========================
     // 🔗 Relacionamentos
     // ===========================
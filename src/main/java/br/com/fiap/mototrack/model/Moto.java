@@ -64,6 +64,10 @@ public class Moto {
     @Column(name = "ds_status")
     private String status;
 
+    /** Quilometragem atual (odômetro), usada nas recorrências por km */
+    @Column(name = "nr_quilometragem")
+    private Integer quilometragem;
+
     // ===========================
     // 🔗 Relacionamento
     // ===========================
@@ -0,0 +1,44 @@
+package br.com.fiap.mototrack.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 🧩 Embeddable: MotoEstadoSnapshot
+ *
+ * Linha de um `ProjecaoSnapshot`: estado projetado de uma moto no ponto de corte.
+ *
+ * ---
+ * @author Rafael
+ * @version 1.0
+ */
+@Embeddable
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MotoEstadoSnapshot {
+
+    /** ID da moto */
+    @Column(name = "id_moto", nullable = false)
+    private Long motoId;
+
+    /** Status projetado */
+    @Column(name = "ds_status")
+    private String status;
+
+    /** Filial projetada */
+    @Column(name = "id_filial")
+    private Long filialId;
+
+    /** Último evento aplicado para esta moto */
+    @Column(name = "nr_ultimo_evento")
+    private Long ultimoEventoId;
+
+    /** Data/hora do último evento aplicado */
+    @Column(name = "dt_ultimo_evento")
+    private LocalDateTime dataUltimoEvento;
+}
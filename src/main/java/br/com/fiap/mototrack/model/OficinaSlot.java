@@ -0,0 +1,50 @@
+package br.com.fiap.mototrack.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 🧰 Entidade: OficinaSlot
+ *
+ * Contador persistido de reservas de um slot de horário da oficina de uma filial.
+ * Gravado de forma assíncrona a partir dos contadores em memória, com verificação
+ * otimista de versão.
+ *
+ * ---
+ * @author Rafael
+ * @version 1.0
+ */
+@Entity
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "tb_oficina_slot",
+        uniqueConstraints = @UniqueConstraint(name = "uk_oficina_slot", columnNames = {"id_filial", "dt_inicio_slot"}))
+public class OficinaSlot {
+
+    /** ID único do slot */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id_oficina_slot")
+    private Long id;
+
+    /** Filial dona da oficina */
+    @Column(name = "id_filial", nullable = false)
+    private Long filialId;
+
+    /** Início do slot */
+    @Column(name = "dt_inicio_slot", nullable = false)
+    private LocalDateTime inicio;
+
+    /** Reservas ocupando o slot */
+    @Column(name = "nr_reservas", nullable = false)
+    private Integer reservas;
+
+    /** Versão para controle otimista */
+    @Version
+    @Column(name = "nr_versao")
+    private Long versao;
+}
@@ -0,0 +1,40 @@
+package br.com.fiap.mototrack.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 📍 Entidade: OutboxCursor
+ *
+ * Posição de leitura de cada destino (sink) do outbox.
+ * Só avança após a publicação do lote ter sucesso (entrega at-least-once).
+ *
+ * ---
+ * @author Rafael
+ * @version 1.0
+ */
+@Entity
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "tb_outbox_cursor")
+public class OutboxCursor {
+
+    /** Nome do destino (ex: listener, webhook, arquivo) */
+    @Id
+    @Column(name = "nm_destino")
+    private String destino;
+
+    /** ID da última mensagem publicada com sucesso */
+    @Column(name = "nr_ultima_mensagem", nullable = false)
+    private Long ultimaMensagemId;
+
+    /** Data/hora do último avanço */
+    @UpdateTimestamp
+    @Column(name = "dt_atualizacao")
+    private LocalDateTime dataAtualizacao;
+}
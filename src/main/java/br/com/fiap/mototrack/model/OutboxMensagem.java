@@ -0,0 +1,68 @@
+package br.com.fiap.mototrack.model;
+
+import br.com.fiap.mototrack.outbox.OperacaoOutbox;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 📤 Entidade: OutboxMensagem
+ *
+ * Registro de alteração (delta) gravado na mesma transação da escrita de negócio,
+ * para posterior publicação aos consumidores externos (padrão transactional outbox).
+ *
+ * ---
+ * @author Rafael
+ * @version 1.0
+ */
+@Entity
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "tb_outbox", indexes = @Index(name = "ix_outbox_dt_criacao", columnList = "dt_criacao"))
+public class OutboxMensagem {
+
+    // ===========================
+    // 🔑 Identificação
+    // ===========================
+
+    /** ID sequencial da mensagem (define a ordem de publicação) */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id_outbox")
+    private Long id;
+
+    // ===========================
+    // 🏷️ Agregado alterado
+    // ===========================
+
+    /** Tipo do agregado (ex: Moto, Evento, Agendamento) */
+    @Column(name = "nm_agregado", nullable = false)
+    private String agregado;
+
+    /** ID do agregado alterado */
+    @Column(name = "id_agregado", nullable = false)
+    private Long agregadoId;
+
+    /** Operação realizada */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "tp_operacao", nullable = false)
+    private OperacaoOutbox operacao;
+
+    /** Estado do agregado após a operação, em JSON (nulo em exclusões) */
+    @Lob
+    @Column(name = "ds_payload")
+    private String payload;
+
+    // ===========================
+    // 🕒 Controle
+    // ===========================
+
+    /** Data/hora do registro */
+    @CreationTimestamp
+    @Column(name = "dt_criacao", updatable = false)
+    private LocalDateTime dataCriacao;
+}
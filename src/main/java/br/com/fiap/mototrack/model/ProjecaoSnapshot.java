@@ -0,0 +1,71 @@
+package br.com.fiap.mototrack.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 📸 Entidade: ProjecaoSnapshot
+ *
+ * Fotografia periódica do estado projetado da frota (status e filial de cada moto),
+ * calculado a partir do histórico de `Evento`.
+ * Permite que a projeção seja reconstruída reaplicando apenas os eventos posteriores
+ * ao último evento incluído no snapshot.
+ *
+ * ---
+ * @author Rafael
+ * @version 1.0
+ */
+@Entity
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "tb_projecao_snapshot")
+public class ProjecaoSnapshot {
+
+    // ===========================
+    // 🔑 Identificação
+    // ===========================
+
+    /** ID único do snapshot */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id_snapshot")
+    private Long id;
+
+    // ===========================
+    // 📍 Ponto de corte
+    // ===========================
+
+    /** ID do último evento incluído no snapshot */
+    @Column(name = "nr_ultimo_evento", nullable = false)
+    private Long ultimoEventoId;
+
+    /** Maior data/hora entre os eventos incluídos (estado "válido em") */
+    @Column(name = "dt_referencia", nullable = false)
+    private LocalDateTime dataReferencia;
+
+    // ===========================
+    // 🛵 Estado das motos
+    // ===========================
+
+    /** Estado projetado de cada moto no ponto de corte */
+    @Builder.Default
+    @ElementCollection
+    @CollectionTable(name = "tb_projecao_snapshot_moto", joinColumns = @JoinColumn(name = "id_snapshot"))
+    private List<MotoEstadoSnapshot> estados = new ArrayList<>();
+
+    // ===========================
+    // 🕒 Controle
+    // ===========================
+
+    /** Data/hora em que o snapshot foi gravado */
+    @CreationTimestamp
+    @Column(name = "dt_criacao", updatable = false)
+    private LocalDateTime dataCriacao;
+}
@@ -0,0 +1,66 @@
+package br.com.fiap.mototrack.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 🔁 Entidade: RegistroIdempotencia
+ *
+ * Resposta de uma escrita feita com `Idempotency-Key`, compartilhada entre instâncias
+ * (`mototrack.idempotencia.banco.habilitado=true`). Sem status, a execução ainda está em andamento.
+ *
+ * ---
+ * @author Rafael
+ * @version 1.0
+ */
+@Entity
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "tb_idempotencia", indexes = @Index(name = "ix_idempotencia_dt_expiracao", columnList = "dt_expiracao"))
+public class RegistroIdempotencia {
+
+    // ===========================
+    // 🔑 Identificação
+    // ===========================
+
+    /** SHA-256 (hex) de cliente, método, caminho e `Idempotency-Key` */
+    @Id
+    @Column(name = "cd_chave", length = 64)
+    private String chave;
+
+    /** SHA-256 (hex) do corpo da requisição original */
+    @Column(name = "ds_impressao", length = 64, nullable = false)
+    private String impressao;
+
+    // ===========================
+    // 📦 Resposta
+    // ===========================
+
+    /** Status HTTP da resposta (nulo enquanto a primeira execução não termina) */
+    @Column(name = "nr_status")
+    private Integer status;
+
+    /** `Content-Type` da resposta */
+    @Column(name = "ds_content_type")
+    private String contentType;
+
+    /** Corpo da resposta */
+    @Lob
+    @Column(name = "bl_corpo")
+    private byte[] corpo;
+
+    // ===========================
+    // 🕒 Controle
+    // ===========================
+
+    /**
+     * Data/hora a partir da qual a chave pode ser reutilizada: curta enquanto a execução está em andamento
+     * (outra instância assume a reserva se a dona cair), validade completa depois da resposta gravada
+     */
+    @Column(name = "dt_expiracao", nullable = false)
+    private LocalDateTime expiraEm;
+}
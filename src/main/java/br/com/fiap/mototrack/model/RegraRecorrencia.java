@@ -0,0 +1,100 @@
+package br.com.fiap.mototrack.model;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotBlank;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 🔁 Entidade: RegraRecorrencia
+ *
+ * Regra de manutenção preventiva que se repete a cada `N` dias ou a cada `N` km,
+ * armazenada uma única vez para uma moto ou para o grupo de motos de uma filial.
+ *
+ * As ocorrências não são gravadas antecipadamente: são expandidas sob demanda nas consultas
+ * e apenas a próxima é materializada como `Agendamento`.
+ *
+ * ---
+ * @author Rafael
+ * @version 1.0
+ */
+@Entity
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "tb_regra_recorrencia")
+public class RegraRecorrencia {
+
+    // ===========================
+    // 🔑 Identificação
+    // ===========================
+
+    /** ID único da regra */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id_regra_recorrencia")
+    private Long id;
+
+    // ===========================
+    // 🔗 Alcance (moto ou grupo)
+    // ===========================
+
+    /** Moto da regra (exclusivo com `filial`) */
+    @ManyToOne
+    @JoinColumn(name = "id_moto")
+    private Moto moto;
+
+    /** Filial cujo grupo de motos segue a regra (exclusivo com `moto`) */
+    @ManyToOne
+    @JoinColumn(name = "id_filial")
+    private Filial filial;
+
+    // ===========================
+    // 📆 Recorrência
+    // ===========================
+
+    /** Descrição copiada para cada ocorrência */
+    @NotBlank(message = "A descrição é obrigatória.")
+    @Column(name = "ds_descricao", nullable = false)
+    private String descricao;
+
+    /** Intervalo em dias (exclusivo com `intervaloKm`) */
+    @Column(name = "nr_intervalo_dias")
+    private Integer intervaloDias;
+
+    /** Intervalo em km (exclusivo com `intervaloDias`; apenas para regras de uma moto) */
+    @Column(name = "nr_intervalo_km")
+    private Integer intervaloKm;
+
+    /** Duração de cada ocorrência, em minutos */
+    @Column(name = "nr_duracao_minutos")
+    private Integer duracaoMinutos;
+
+    /** Próxima ocorrência ainda não materializada (regras por dias) */
+    @Column(name = "dt_proxima_ocorrencia")
+    private LocalDateTime proximaOcorrencia;
+
+    /** Última ocorrência materializada (regras por dias) */
+    @Column(name = "dt_ultima_materializada")
+    private LocalDateTime ultimaMaterializada;
+
+    /** Quilometragem da próxima ocorrência (regras por km) */
+    @Column(name = "nr_proximo_km")
+    private Integer proximoKm;
+
+    /** Regras desativadas deixam de gerar ocorrências */
+    @Column(name = "fl_ativa", nullable = false)
+    private Boolean ativa;
+
+    // ===========================
+    // 🕒 Controle
+    // ===========================
+
+    /** Data/hora de criação da regra */
+    @CreationTimestamp
+    @Column(name = "dt_criacao", updatable = false)
+    private LocalDateTime dataCriacao;
+}
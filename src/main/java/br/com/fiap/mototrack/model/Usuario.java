@@ -4,6 +4,8 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import lombok.*;
 
+import java.util.Locale;
+
 /**
  * 👤 Entidade: Usuario
  *
@@ -19,7 +21,8 @@ import lombok.*;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "tb_usuario")
+@Table(name = "tb_usuario",
+        indexes = @Index(name = "ix_usuario_email_normalizado", columnList = "ds_email_normalizado", unique = true))
 public class Usuario {
 
     // ===========================
@@ -53,6 +56,13 @@ public class Usuario {
     @Column(name = "ds_email", nullable = false, unique = true)
     private String email;
 
+    /**
+     * Email em minúsculas e sem espaços nas pontas, preenchido ao gravar.
+     * Chave das buscas de login (sem distinção de maiúsculas) e única por índice.
+     */
+    @Column(name = "ds_email_normalizado", nullable = false)
+    private String emailNormalizado;
+
     /**
      * Senha de acesso ao sistema. Deve ser armazenada criptografada.
      */
@@ -79,4 +89,21 @@ public class Usuario {
     @JoinColumn(name = "id_filial") // nome exato da coluna FK
     private Filial filial;
 
+    // ===========================
+    // 🔧 Normalização
+    // ===========================
+
+    @PrePersist
+    @PreUpdate
+    void normalizarEmail() {
+        this.emailNormalizado = normalizarEmail(email);
+    }
+
+    /**
+     * Forma canônica de um e-mail para busca e unicidade.
+     */
+    public static String normalizarEmail(String email) {
+        return email == null ? null : email.trim().toLowerCase(Locale.ROOT);
+    }
+
 }
@@ -0,0 +1,54 @@
+package br.com.fiap.mototrack.outbox;
+
+import br.com.fiap.mototrack.dto.response.AlteracaoResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * 📁 Destino em arquivo: acrescenta cada alteração como uma linha JSON (JSON Lines).
+ *
+ * O lote é gravado e sincronizado em disco antes de o cursor avançar.
+ */
+@Component
+@ConditionalOnProperty(name = "mototrack.outbox.arquivo.caminho")
+public class ArquivoOutboxSink implements OutboxSink {
+
+    private final ObjectMapper objectMapper;
+    private final Path arquivo;
+
+    public ArquivoOutboxSink(ObjectMapper objectMapper,
+                             @Value("${mototrack.outbox.arquivo.caminho}") String caminho) {
+        this.objectMapper = objectMapper;
+        this.arquivo = Path.of(caminho);
+    }
+
+    @Override
+    public String nome() {
+        return "arquivo";
+    }
+
+    @Override
+    public void publicar(List<AlteracaoResponse> lote) throws IOException {
+        if (arquivo.getParent() != null) {
+            Files.createDirectories(arquivo.getParent());
+        }
+        try (var canal = Files.newOutputStream(arquivo, StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.SYNC);
+             BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(canal, StandardCharsets.UTF_8))) {
+            for (AlteracaoResponse alteracao : lote) {
+                writer.write(objectMapper.writeValueAsString(alteracao));
+                writer.newLine();
+            }
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package br.com.fiap.mototrack.outbox;
+
+import br.com.fiap.mototrack.dto.response.AlteracaoResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 📬 Destino in-process: publica cada alteração como evento de aplicação do Spring.
+ *
+ * Consumidores locais recebem os deltas com `@EventListener`:
+ * ```java
+ * @EventListener
+ * public void aoAlterar(AlteracaoResponse alteracao) { ... }
+ * ```
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "mototrack.outbox.listener.habilitado", havingValue = "true", matchIfMissing = true)
+public class ListenerOutboxSink implements OutboxSink {
+
+    private final ApplicationEventPublisher publisher;
+
+    @Override
+    public String nome() {
+        return "listener";
+    }
+
+    @Override
+    public void publicar(List<AlteracaoResponse> lote) {
+        lote.forEach(publisher::publishEvent);
+    }
+}
@@ -0,0 +1,10 @@
+package br.com.fiap.mototrack.outbox;
+
+/**
+ * 🏷️ Operação registrada no outbox.
+ */
+public enum OperacaoOutbox {
+    CRIACAO,
+    ATUALIZACAO,
+    EXCLUSAO
+}
@@ -0,0 +1,120 @@
+package br.com.fiap.mototrack.outbox;
+
+import br.com.fiap.mototrack.dto.response.AlteracaoResponse;
+import br.com.fiap.mototrack.model.OutboxCursor;
+import br.com.fiap.mototrack.repository.OutboxCursorRepository;
+import br.com.fiap.mototrack.repository.OutboxMensagemRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * # ⏱️ OutboxPoller
+ *
+ * Publica periodicamente, em lotes, as alterações do outbox para cada {@link OutboxSink}.
+ *
+ * ---
+ * ## 📋 Garantias
+ * - **Ordem:** lotes lidos em ordem crescente de ID; antes de gerar o ID, o `OutboxService` envia a escrita
+ *   e trava a linha do agregado, então escritas concorrentes no mesmo agregado recebem IDs na ordem de commit
+ * - **At-least-once:** o cursor de cada destino só avança depois que o lote foi aceito
+ * - **Margem de segurança:** mensagens mais novas que `margem-ms` ficam para o próximo ciclo,
+ *   evitando pular IDs de transações que ainda não fizeram commit
+ * - Um destino com falha não bloqueia os demais
+ *
+ * ---
+ * @author Rafael
+ * @since 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxPoller {
+
+    // =============================
+    // 🔗 Injeção de Dependências
+    // =============================
+
+    private final List<OutboxSink> sinks;
+    private final OutboxService outboxService;
+    private final OutboxCursorRepository cursorRepository;
+    private final OutboxMensagemRepository mensagemRepository;
+
+    @Value("${mototrack.outbox.tamanho-lote:200}")
+    private int tamanhoLote;
+
+    @Value("${mototrack.outbox.lotes-por-ciclo:50}")
+    private int lotesPorCiclo;
+
+    @Value("${mototrack.outbox.margem-ms:2000}")
+    private long margemMs;
+
+    @Value("${mototrack.outbox.retencao-horas:24}")
+    private long retencaoHoras;
+
+    // =============================
+    // 📤 Publicação
+    // =============================
+
+    /**
+     * Ciclo de publicação: para cada destino, entrega lotes a partir do seu cursor.
+     */
+    @Scheduled(fixedDelayString = "${mototrack.outbox.intervalo-ms:1000}")
+    public void publicarPendentes() {
+        LocalDateTime ate = LocalDateTime.now().minusNanos(margemMs * 1_000_000);
+        for (OutboxSink sink : sinks) {
+            publicar(sink, ate);
+        }
+    }
+
+    private void publicar(OutboxSink sink, LocalDateTime ate) {
+        OutboxCursor cursor = cursorRepository.findById(sink.nome())
+                .orElseGet(() -> OutboxCursor.builder().destino(sink.nome()).ultimaMensagemId(0L).build());
+
+        for (int i = 0; i < lotesPorCiclo; i++) {
+            List<AlteracaoResponse> lote = outboxService.consultarDesde(cursor.getUltimaMensagemId(), tamanhoLote, ate);
+            if (lote.isEmpty()) {
+                return;
+            }
+            try {
+                sink.publicar(lote);
+            } catch (Exception e) {
+                log.warn("📤 Falha ao publicar lote no destino '{}' a partir da alteração {}: {}",
+                        sink.nome(), lote.get(0).id(), e.getMessage());
+                return;
+            }
+            cursor.setUltimaMensagemId(lote.get(lote.size() - 1).id());
+            cursor = cursorRepository.save(cursor);
+
+            if (lote.size() < tamanhoLote) {
+                return;
+            }
+        }
+    }
+
+    // =============================
+    // 🧹 Limpeza
+    // =============================
+
+    /**
+     * Remove mensagens já entregues a todos os destinos e mais antigas que a retenção.
+     */
+    @Transactional
+    @Scheduled(fixedDelayString = "${mototrack.outbox.limpeza-intervalo-ms:3600000}")
+    public void limparEntregues() {
+        long menorCursor = sinks.stream()
+                .mapToLong(s -> cursorRepository.findById(s.nome()).map(OutboxCursor::getUltimaMensagemId).orElse(0L))
+                .min()
+                .orElse(0L);
+        int removidas = mensagemRepository.excluirEntregues(menorCursor, LocalDateTime.now().minusHours(retencaoHoras));
+        if (removidas > 0) {
+            log.info("🧹 Outbox: {} alterações entregues removidas", removidas);
+        }
+    }
+}
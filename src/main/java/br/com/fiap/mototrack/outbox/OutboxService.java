@@ -0,0 +1,129 @@
+package br.com.fiap.mototrack.outbox;
+
+import br.com.fiap.mototrack.dto.response.AlteracaoResponse;
+import br.com.fiap.mototrack.model.OutboxMensagem;
+import br.com.fiap.mototrack.repository.OutboxMensagemRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.metamodel.EntityType;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static br.com.fiap.mototrack.exception.HttpExceptionUtils.internalError;
+
+/**
+ * # 📤 Serviço: OutboxService
+ *
+ * Grava no outbox as alterações de `Moto`, `Evento` e `Agendamento`.
+ *
+ * ---
+ * ## 📋 Responsabilidades:
+ * - Registrar o delta **na mesma transação** da escrita de negócio (`TxType.MANDATORY`)
+ * - Travar a linha do agregado antes de gerar o ID da mensagem, para que escritas concorrentes no
+ *   mesmo agregado recebam IDs na ordem de commit
+ * - Serializar o estado do agregado (DTO de resposta) em JSON
+ * - Expor a leitura paginada por cursor para consumidores que preferem pull, com a mesma margem de
+ *   segurança (`mototrack.outbox.margem-ms`) do `OutboxPoller`
+ *
+ * ---
+ * @author Rafael
+ * @since 1.0
+ */
+@Service
+@RequiredArgsConstructor
+public class OutboxService {
+
+    // =============================
+    // 🔗 Injeção de Dependências
+    // =============================
+
+    private final OutboxMensagemRepository repository;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+
+    @Value("${mototrack.outbox.margem-ms:2000}")
+    private long margemMs;
+
+    // =============================
+    // 📝 Registrar alteração
+    // =============================
+
+    /**
+     * Registra uma alteração no outbox. Exige transação ativa: se a escrita de negócio
+     * for desfeita, o registro também é.
+     *
+     * O ID (IDENTITY) é gerado já no `save`, enquanto o UPDATE do agregado ficaria para o flush do commit.
+     * Por isso, em atualizações e exclusões, a escrita pendente é enviada e a linha do agregado travada
+     * antes: uma escrita concorrente no mesmo agregado espera o commit desta e só então recebe o seu ID.
+     */
+    @Transactional(Transactional.TxType.MANDATORY)
+    public void registrar(String agregado, Long agregadoId, OperacaoOutbox operacao, Object estado) {
+        if (operacao != OperacaoOutbox.CRIACAO) {
+            travarAgregado(agregado, agregadoId, operacao);
+        }
+        repository.save(OutboxMensagem.builder()
+                .agregado(agregado)
+                .agregadoId(agregadoId)
+                .operacao(operacao)
+                .payload(estado != null ? serializar(estado) : null)
+                .build());
+    }
+
+    private void travarAgregado(String agregado, Long agregadoId, OperacaoOutbox operacao) {
+        entityManager.flush();
+        if (operacao == OperacaoOutbox.ATUALIZACAO) {
+            // Mesmo sem colunas alteradas (nenhum UPDATE no flush), a linha fica travada até o commit
+            Class<?> tipo = entityManager.getMetamodel().getEntities().stream()
+                    .filter(e -> e.getName().equals(agregado))
+                    .map(EntityType::getJavaType)
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("Agregado desconhecido: " + agregado));
+            entityManager.find(tipo, agregadoId, LockModeType.PESSIMISTIC_WRITE);
+        }
+        // Na exclusão, o DELETE enviado pelo flush já mantém a linha travada
+    }
+
+    // =============================
+    // 📄 Leitura por cursor
+    // =============================
+
+    /**
+     * Retorna as alterações posteriores ao cursor informado, em ordem, deixando de fora as mais novas
+     * que a margem de segurança (consumidores pull).
+     */
+    public List<AlteracaoResponse> consultarDesde(Long cursor, int limite) {
+        return consultarDesde(cursor, limite, LocalDateTime.now().minusNanos(margemMs * 1_000_000));
+    }
+
+    /**
+     * Retorna as alterações posteriores ao cursor informado, em ordem, parando na primeira gravada depois
+     * de `ate`: um ID menor de uma transação ainda sem commit não pode ficar para trás do cursor.
+     */
+    public List<AlteracaoResponse> consultarDesde(Long cursor, int limite, LocalDateTime ate) {
+        return repository.findByIdGreaterThanOrderByIdAsc(cursor, PageRequest.of(0, limite))
+                .stream()
+                .takeWhile(m -> !m.getDataCriacao().isAfter(ate))
+                .map(AlteracaoResponse::de)
+                .toList();
+    }
+
+    // =============================
+    // 🔧 Métodos auxiliares
+    // =============================
+
+    private String serializar(Object estado) {
+        try {
+            return objectMapper.writeValueAsString(estado);
+        } catch (JsonProcessingException e) {
+            throw internalError("Falha ao serializar alteração para o outbox: " + e.getOriginalMessage());
+        }
+    }
+}
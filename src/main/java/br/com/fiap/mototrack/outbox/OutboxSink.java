@@ -0,0 +1,29 @@
+package br.com.fiap.mototrack.outbox;
+
+import br.com.fiap.mototrack.dto.response.AlteracaoResponse;
+
+import java.util.List;
+
+/**
+ * # 📬 OutboxSink
+ *
+ * Destino de publicação das alterações registradas no outbox.
+ *
+ * ---
+ * ## 📋 Contrato
+ * - Recebe lotes em ordem crescente de ID (ordem por agregado preservada)
+ * - Deve lançar exceção se o lote não foi entregue: o cursor não avança e o lote é reenviado
+ * - Pode receber o mesmo lote mais de uma vez (at-least-once): consumidores devem ser idempotentes pelo `id`
+ *
+ * ---
+ * @author Rafael
+ * @since 1.0
+ */
+public interface OutboxSink {
+
+    /** Nome único do destino (chave do cursor) */
+    String nome();
+
+    /** Publica o lote; lança exceção em caso de falha */
+    void publicar(List<AlteracaoResponse> lote) throws Exception;
+}
@@ -0,0 +1,56 @@
+package br.com.fiap.mototrack.outbox;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * 🧪 Receptor local que simula um consumidor de webhook.
+ *
+ * Guarda as últimas alterações recebidas em `POST /outbox/webhook-local`,
+ * permitindo validar a entrega do outbox sem um serviço externo.
+ */
+@Slf4j
+@Component
+public class WebhookLocalReceptor {
+
+    private final Deque<JsonNode> recebidas = new ArrayDeque<>();
+    private final int capacidade;
+
+    public WebhookLocalReceptor(@Value("${mototrack.outbox.webhook-local.capacidade:500}") int capacidade) {
+        this.capacidade = capacidade;
+    }
+
+    /**
+     * Registra o corpo recebido (um array de alterações ou um único objeto),
+     * descartando os mais antigos além da capacidade.
+     */
+    public synchronized void receber(JsonNode corpo) {
+        List<JsonNode> lote = new ArrayList<>();
+        if (corpo.isArray()) {
+            corpo.forEach(lote::add);
+        } else {
+            lote.add(corpo);
+        }
+        for (JsonNode alteracao : lote) {
+            if (recebidas.size() == capacidade) {
+                recebidas.removeFirst();
+            }
+            recebidas.addLast(alteracao);
+        }
+        log.info("🧪 Webhook local recebeu {} alterações", lote.size());
+    }
+
+    /**
+     * Retorna as alterações recebidas, da mais antiga para a mais recente.
+     */
+    public synchronized List<JsonNode> recebidas() {
+        return new ArrayList<>(recebidas);
+    }
+}
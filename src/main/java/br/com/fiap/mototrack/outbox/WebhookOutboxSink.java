@@ -0,0 +1,45 @@
+package br.com.fiap.mototrack.outbox;
+
+import br.com.fiap.mototrack.dto.response.AlteracaoResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 🌐 Destino HTTP: envia cada lote como um array JSON via `POST` para a URL configurada.
+ *
+ * Qualquer resposta diferente de 2xx (ou timeout) mantém o cursor e o lote é reenviado.
+ * Para testes locais, aponte `mototrack.outbox.webhook.url` para `/outbox/webhook-local`.
+ */
+@Component
+@ConditionalOnProperty(name = "mototrack.outbox.webhook.url")
+public class WebhookOutboxSink implements OutboxSink {
+
+    private final RestTemplate restTemplate;
+    private final String url;
+
+    public WebhookOutboxSink(RestTemplateBuilder builder,
+                             @Value("${mototrack.outbox.webhook.url}") String url,
+                             @Value("${mototrack.outbox.webhook.timeout-ms:5000}") long timeoutMs) {
+        this.restTemplate = builder
+                .setConnectTimeout(Duration.ofMillis(timeoutMs))
+                .setReadTimeout(Duration.ofMillis(timeoutMs))
+                .build();
+        this.url = url;
+    }
+
+    @Override
+    public String nome() {
+        return "webhook";
+    }
+
+    @Override
+    public void publicar(List<AlteracaoResponse> lote) {
+        restTemplate.postForEntity(url, lote, Void.class);
+    }
+}
@@ -0,0 +1,32 @@
+package br.com.fiap.mototrack.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * 🧾 Fato mínimo de um `Evento` necessário para a projeção de estado das motos.
+ *
+ * Carregado via projeção JPQL para evitar materializar a entidade (e suas associações)
+ * durante o replay do histórico.
+ *
+ * ---
+ * @author Rafael
+ * @since 1.0
+ */
+public record EventoProjetavel(
+
+        /** ID do evento (define a ordem de aplicação) */
+        Long id,
+
+        /** ID da moto afetada */
+        Long motoId,
+
+        /** Tipo do evento (ex: Entrada, Saída, Manutenção) */
+        String tipo,
+
+        /** Filial de destino informada no evento (opcional) */
+        Long filialId,
+
+        /** Data/hora do evento */
+        LocalDateTime dataHora
+
+) {}
@@ -0,0 +1,48 @@
+package br.com.fiap.mototrack.projection;
+
+import br.com.fiap.mototrack.model.MotoEstadoSnapshot;
+
+import java.time.LocalDateTime;
+
+/**
+ * 🛵 Estado projetado de uma moto, derivado exclusivamente do seu histórico de eventos.
+ *
+ * Imutável: cada evento aplicado gera uma nova instância.
+ *
+ * ---
+ * @author Rafael
+ * @since 1.0
+ */
+public record MotoEstado(
+
+        /** ID da moto */
+        Long motoId,
+
+        /** Status derivado do último evento que altera status */
+        String status,
+
+        /** Filial derivada do último evento que informou filial */
+        Long filialId,
+
+        /** ID do último evento aplicado */
+        Long ultimoEventoId,
+
+        /** Data/hora do último evento aplicado */
+        LocalDateTime dataUltimoEvento
+
+) {
+
+    /**
+     * Converte o estado para a linha persistida no snapshot.
+     */
+    public MotoEstadoSnapshot paraSnapshot() {
+        return new MotoEstadoSnapshot(motoId, status, filialId, ultimoEventoId, dataUltimoEvento);
+    }
+
+    /**
+     * Reconstrói o estado a partir de uma linha de snapshot.
+     */
+    public static MotoEstado deSnapshot(MotoEstadoSnapshot s) {
+        return new MotoEstado(s.getMotoId(), s.getStatus(), s.getFilialId(), s.getUltimoEventoId(), s.getDataUltimoEvento());
+    }
+}
@@ -0,0 +1,379 @@
+package br.com.fiap.mototrack.projection;
+
+import br.com.fiap.mototrack.model.Evento;
+import br.com.fiap.mototrack.model.MotoEstadoSnapshot;
+import br.com.fiap.mototrack.model.ProjecaoSnapshot;
+import br.com.fiap.mototrack.repository.EventoRepository;
+import br.com.fiap.mototrack.repository.ProjecaoSnapshotRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongFunction;
+
+/**
+ * # 🧠 MotoProjecaoEngine
+ *
+ * Motor de projeção que deriva o **status** e a **filial** de cada moto a partir do
+ * histórico de `Evento` (event sourcing).
+ *
+ * ---
+ * ## 📋 Responsabilidades:
+ * - Manter em memória o estado corrente de cada moto, aplicando cada novo evento após o commit
+ * - Gravar snapshots periódicos (`ProjecaoSnapshot`) para que um restart reaplique apenas a cauda
+ * - Reconstruir o estado da frota "em T" a partir do snapshot mais próximo + eventos posteriores
+ *
+ * ---
+ * ## 🏷️ Regras de derivação
+ * - O tipo do evento é normalizado (sem acentos, maiúsculo) e mapeado em {@link #STATUS_POR_TIPO}
+ * - Tipos desconhecidos (ex: Realocação) mantêm o status anterior
+ * - Eventos com `filialId` alocam a moto na filial informada
+ *
+ * ---
+ * @author Rafael
+ * @since 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MotoProjecaoEngine {
+
+    /** Status resultante para cada tipo de evento (tipo já normalizado) */
+    private static final Map<String, String> STATUS_POR_TIPO = Map.of(
+            "ENTRADA", "Disponível",
+            "DEVOLUCAO", "Disponível",
+            "SAIDA", "Locada",
+            "LOCACAO", "Locada",
+            "MANUTENCAO", "Em manutenção",
+            "BAIXA", "Inativa"
+    );
+
+    // =============================
+    // 🔗 Injeção de Dependências
+    // =============================
+
+    private final EventoRepository eventoRepository;
+    private final ProjecaoSnapshotRepository snapshotRepository;
+
+    @Value("${mototrack.projecao.tamanho-lote-replay:1000}")
+    private int tamanhoLote;
+
+    @Value("${mototrack.projecao.snapshots-retidos:48}")
+    private int snapshotsRetidos;
+
+    @Value("${mototrack.projecao.margem-snapshot-segundos:30}")
+    private long margemSnapshotSegundos;
+
+    /** Estado corrente de cada moto, indexado pelo ID da moto */
+    private final ConcurrentHashMap<Long, MotoEstado> estados = new ConcurrentHashMap<>();
+
+    // =============================
+    // 🚀 Carga inicial
+    // =============================
+
+    /**
+     * Carrega o snapshot mais recente e reaplica apenas os eventos posteriores a ele.
+     */
+    @PostConstruct
+    public void carregar() {
+        long inicio = System.currentTimeMillis();
+        long checkpoint = maisRecente()
+                .map(s -> carregarEstados(s, estados))
+                .orElse(0L);
+        ResultadoReplay r = replay(checkpoint, apos -> eventoRepository.findProjetaveisAposId(apos, lote()), estados);
+        log.info("🧠 Projeção de motos carregada: {} motos, snapshot até evento {}, {} eventos reaplicados em {} ms",
+                estados.size(), checkpoint, r.aplicados(), System.currentTimeMillis() - inicio);
+    }
+
+    // =============================
+    // 🔍 Consultas em memória
+    // =============================
+
+    /**
+     * Retorna o estado corrente da moto, ou `null` se ela ainda não possui eventos.
+     */
+    public MotoEstado estadoAtual(Long motoId) {
+        return estados.get(motoId);
+    }
+
+    /**
+     * Retorna o estado corrente de toda a frota, ordenado pelo ID da moto.
+     */
+    public List<MotoEstado> estadosAtuais() {
+        return estados.values().stream()
+                .sorted(Comparator.comparing(MotoEstado::motoId))
+                .toList();
+    }
+
+    // =============================
+    // 🔄 Aplicação de eventos
+    // =============================
+
+    /**
+     * Função de projeção pura: aplica um evento sobre o estado anterior (que pode ser `null`).
+     */
+    public static MotoEstado projetar(MotoEstado atual, EventoProjetavel e) {
+        String status = atual != null ? atual.status() : null;
+        Long filialId = atual != null ? atual.filialId() : null;
+
+        String derivado = STATUS_POR_TIPO.get(normalizarTipo(e.tipo()));
+        if (derivado != null) {
+            status = derivado;
+        }
+        if (e.filialId() != null) {
+            filialId = e.filialId();
+        }
+        return new MotoEstado(e.motoId(), status, filialId, e.id(), e.dataHora());
+    }
+
+    /**
+     * Converte a entidade no fato usado pela projeção.
+     */
+    public static EventoProjetavel fato(Evento evento) {
+        return new EventoProjetavel(
+                evento.getId(),
+                evento.getMoto().getId(),
+                evento.getTipo(),
+                evento.getFilial() != null ? evento.getFilial().getId() : null,
+                evento.getDataHora()
+        );
+    }
+
+    /**
+     * Aplica um evento já confirmado (commit) ao estado em memória.
+     * Eventos que chegam fora de ordem disparam a reconstrução da moto a partir do banco.
+     */
+    public void aplicar(EventoProjetavel e) {
+        boolean[] foraDeOrdem = {false};
+        estados.compute(e.motoId(), (id, atual) -> {
+            if (atual == null || atual.ultimoEventoId() == null || e.id() > atual.ultimoEventoId()) {
+                return projetar(atual, e);
+            }
+            foraDeOrdem[0] = !e.id().equals(atual.ultimoEventoId());
+            return atual;
+        });
+        if (foraDeOrdem[0]) {
+            reconstruir(e.motoId());
+        }
+    }
+
+    /**
+     * Recalcula o estado de uma moto reaplicando todo o seu histórico (não altera a memória).
+     */
+    public MotoEstado recalcular(Long motoId) {
+        MotoEstado estado = null;
+        for (EventoProjetavel e : eventoRepository.findProjetaveisPorMoto(motoId)) {
+            estado = projetar(estado, e);
+        }
+        return estado;
+    }
+
+    /**
+     * Recalcula e substitui o estado em memória de uma moto.
+     */
+    public void reconstruir(Long motoId) {
+        registrar(motoId, recalcular(motoId));
+    }
+
+    /**
+     * Substitui o estado em memória de uma moto (remove quando `null`).
+     */
+    public void registrar(Long motoId, MotoEstado estado) {
+        if (estado == null) {
+            estados.remove(motoId);
+        } else {
+            estados.put(motoId, estado);
+        }
+    }
+
+    /**
+     * Remove a moto da projeção (ex: após exclusão).
+     */
+    public void remover(Long motoId) {
+        estados.remove(motoId);
+    }
+
+    // =============================
+    // 🕰️ Consulta "em T"
+    // =============================
+
+    /**
+     * Reconstrói o estado da frota no instante informado: snapshot mais próximo + eventos até T.
+     */
+    @Transactional
+    public List<MotoEstado> estadosEm(LocalDateTime instante) {
+        Map<Long, MotoEstado> base = new HashMap<>();
+        long checkpoint = maisProximo(instante)
+                .map(s -> carregarEstados(s, base))
+                .orElse(0L);
+        replay(checkpoint, apos -> eventoRepository.findProjetaveisAposIdAte(apos, instante, lote()), base);
+        return base.values().stream()
+                .sorted(Comparator.comparing(MotoEstado::motoId))
+                .toList();
+    }
+
+    /**
+     * Reconstrói o estado de uma única moto no instante informado.
+     */
+    @Transactional
+    public MotoEstado estadoEm(Long motoId, LocalDateTime instante) {
+        Optional<ProjecaoSnapshot> snapshot = maisProximo(instante);
+
+        MotoEstado estado = snapshot.flatMap(s -> s.getEstados().stream()
+                        .filter(e -> e.getMotoId().equals(motoId))
+                        .findFirst())
+                .map(MotoEstado::deSnapshot)
+                .orElse(null);
+        long checkpoint = snapshot.map(ProjecaoSnapshot::getUltimoEventoId).orElse(0L);
+
+        for (EventoProjetavel e : eventoRepository.findProjetaveisPorMotoAposIdAte(motoId, checkpoint, instante)) {
+            estado = projetar(estado, e);
+        }
+        return estado;
+    }
+
+    // =============================
+    // 📸 Snapshots
+    // =============================
+
+    /**
+     * Grava um novo snapshot partindo do anterior e aplicando os eventos confirmados desde então.
+     *
+     * O corte é por ID, nunca pela data do evento (que pode ser futura ou alterada por um PUT): o snapshot
+     * vai até o evento anterior ao primeiro gravado dentro da margem de segurança, para não pular IDs de
+     * transações que ainda não fizeram commit. A data de referência é a maior data entre os eventos incluídos.
+     */
+    @Transactional
+    @Scheduled(initialDelayString = "${mototrack.projecao.snapshot-intervalo-ms:300000}",
+            fixedDelayString = "${mototrack.projecao.snapshot-intervalo-ms:300000}")
+    public void gerarSnapshot() {
+        LocalDateTime limite = LocalDateTime.now().minusSeconds(margemSnapshotSegundos);
+        Map<Long, MotoEstado> base = new HashMap<>();
+        Optional<ProjecaoSnapshot> anterior = maisRecente();
+        long checkpoint = anterior.map(s -> carregarEstados(s, base)).orElse(0L);
+
+        long ateId = eventoRepository.findPrimeiroIdRegistradoApos(checkpoint, limite)
+                .map(id -> id - 1)
+                .orElseGet(() -> eventoRepository.findUltimoId().orElse(checkpoint));
+        if (ateId <= checkpoint) {
+            return;
+        }
+        ResultadoReplay r = replay(checkpoint, apos -> eventoRepository.findProjetaveisEntreIds(apos, ateId, lote()), base);
+        if (r.aplicados() == 0) {
+            return;
+        }
+
+        LocalDateTime dataReferencia = anterior.map(ProjecaoSnapshot::getDataReferencia)
+                .filter(d -> d.isAfter(r.dataReferencia()))
+                .orElse(r.dataReferencia());
+        snapshotRepository.save(ProjecaoSnapshot.builder()
+                .ultimoEventoId(r.ultimoEventoId())
+                .dataReferencia(dataReferencia)
+                .estados(new ArrayList<>(base.values().stream().map(MotoEstado::paraSnapshot).toList()))
+                .build());
+        log.info("📸 Snapshot da projeção gravado: {} motos até o evento {}", base.size(), r.ultimoEventoId());
+
+        podarSnapshots();
+    }
+
+    /**
+     * Descarta snapshots que incluem o evento informado (o histórico a partir dele mudou).
+     * Deve ser chamado dentro da transação que alterou/excluiu o evento.
+     */
+    public void invalidarSnapshotsAPartirDe(Long eventoId) {
+        List<Long> ids = snapshotRepository.findIdsComEventoAPartirDe(eventoId);
+        if (!ids.isEmpty()) {
+            snapshotRepository.deleteAllById(ids);
+        }
+    }
+
+    // =============================
+    // 🔧 Métodos auxiliares
+    // =============================
+
+    /**
+     * Snapshot mais recente: o ID com `LIMIT 1` e, só dele, os estados.
+     */
+    private Optional<ProjecaoSnapshot> maisRecente() {
+        return snapshotRepository.findIdsOrdenadosPorRecencia(PageRequest.of(0, 1)).stream()
+                .findFirst()
+                .flatMap(snapshotRepository::findComEstadosById);
+    }
+
+    /**
+     * Snapshot mais próximo (anterior ou igual) ao instante: o ID com `LIMIT 1` e, só dele, os estados.
+     */
+    private Optional<ProjecaoSnapshot> maisProximo(LocalDateTime instante) {
+        return snapshotRepository.findIdsAteDataReferencia(instante, PageRequest.of(0, 1)).stream()
+                .findFirst()
+                .flatMap(snapshotRepository::findComEstadosById);
+    }
+
+    private void podarSnapshots() {
+        List<Long> ids = snapshotRepository.findIdsOrdenadosPorRecencia(PageRequest.of(0, Integer.MAX_VALUE));
+        if (ids.size() > snapshotsRetidos) {
+            snapshotRepository.deleteAllById(ids.subList(snapshotsRetidos, ids.size()));
+        }
+    }
+
+    private static long carregarEstados(ProjecaoSnapshot snapshot, Map<Long, MotoEstado> destino) {
+        for (MotoEstadoSnapshot e : snapshot.getEstados()) {
+            destino.put(e.getMotoId(), MotoEstado.deSnapshot(e));
+        }
+        return snapshot.getUltimoEventoId();
+    }
+
+    private PageRequest lote() {
+        return PageRequest.of(0, tamanhoLote);
+    }
+
+    /**
+     * Reaplica, em lotes ordenados por ID, os eventos posteriores ao checkpoint.
+     *
+     * @param proximoLote próximo lote de eventos após o ID informado
+     * @return último ID aplicado e a maior data entre os eventos aplicados
+     */
+    private ResultadoReplay replay(long checkpoint, LongFunction<List<EventoProjetavel>> proximoLote,
+                                   Map<Long, MotoEstado> destino) {
+        long ultimo = checkpoint;
+        LocalDateTime dataReferencia = null;
+        int aplicados = 0;
+
+        while (true) {
+            List<EventoProjetavel> eventos = proximoLote.apply(ultimo);
+
+            for (EventoProjetavel e : eventos) {
+                destino.merge(e.motoId(), projetar(null, e), (atual, ignorado) -> projetar(atual, e));
+                ultimo = e.id();
+                if (dataReferencia == null || e.dataHora().isAfter(dataReferencia)) {
+                    dataReferencia = e.dataHora();
+                }
+                aplicados++;
+            }
+            if (eventos.size() < tamanhoLote) {
+                return new ResultadoReplay(ultimo, dataReferencia, aplicados);
+            }
+        }
+    }
+
+    private static String normalizarTipo(String tipo) {
+        if (tipo == null) {
+            return "";
+        }
+        return Normalizer.normalize(tipo, Normalizer.Form.NFD)
+                .replaceAll("\\p{M}", "")
+                .trim()
+                .toUpperCase(Locale.ROOT);
+    }
+
+    private record ResultadoReplay(long ultimoEventoId, LocalDateTime dataReferencia, int aplicados) {}
+}
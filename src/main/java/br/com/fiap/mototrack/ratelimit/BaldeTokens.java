@@ -0,0 +1,70 @@
+package br.com.fiap.mototrack.ratelimit;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * # 🪣 BaldeTokens
+ *
+ * Balde de tokens sem lock, implementado como GCRA (*generic cell rate algorithm*): em vez de
+ * guardar "tokens restantes + último reabastecimento", guarda um único instante — o TAT
+ * (*theoretical arrival time*), momento em que o balde estaria cheio de novo. Consumir é um CAS
+ * em um `long` do próprio balde (sem objeto atômico intermediário).
+ *
+ * ---
+ * ## 📋 Regras:
+ * - Cada requisição custa `intervalo = 1s / reposicaoPorSegundo`
+ * - Aceita se `max(tat, agora) + intervalo - agora <= capacidade × intervalo` (rajada de até `capacidade`)
+ * - Restantes: `(capacidade × intervalo - (novoTat - agora)) / intervalo`
+ * - Um balde com `tat <= agora` está cheio: descartá-lo não muda nenhuma decisão futura
+ */
+final class BaldeTokens {
+
+    private static final VarHandle TAT;
+
+    static {
+        try {
+            TAT = MethodHandles.lookup().findVarHandle(BaldeTokens.class, "tat", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final PoliticaTaxa politica;
+    private volatile long tat;
+
+    BaldeTokens(PoliticaTaxa politica, long agora) {
+        this.politica = politica;
+        this.tat = agora;
+    }
+
+    /**
+     * Consome um token, se houver.
+     */
+    ConsumoTaxa consumir(long agora) {
+        long intervalo = politica.intervaloNanos();
+        long tolerancia = politica.toleranciaNanos();
+        while (true) {
+            long atual = tat;
+            long novo = Math.max(atual, agora) + intervalo;
+            long ocupado = novo - agora;
+            if (ocupado > tolerancia) {
+                return new ConsumoTaxa(false, politica, 0, atual - agora, ocupado - tolerancia);
+            }
+            if (TAT.compareAndSet(this, atual, novo)) {
+                return new ConsumoTaxa(true, politica, (int) ((tolerancia - ocupado) / intervalo), ocupado, 0);
+            }
+        }
+    }
+
+    /**
+     * Cheio há pelo menos `ociosidadeNanos` (sem uso nesse período).
+     */
+    boolean ocioso(long agora, long ociosidadeNanos) {
+        return agora - tat >= ociosidadeNanos;
+    }
+
+    PoliticaTaxa politica() {
+        return politica;
+    }
+}
@@ -0,0 +1,41 @@
+package br.com.fiap.mototrack.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * # 🎫 ConsumoTaxa
+ *
+ * Resultado de uma tentativa de consumo em um `BaldeTokens`.
+ *
+ * @param permitido          Se a requisição pode seguir
+ * @param politica           Política do balde
+ * @param restantes          Tokens ainda disponíveis após o consumo
+ * @param ateCheioNanos      Tempo até o balde voltar a ficar cheio
+ * @param ateProximoNanos    Tempo até o próximo token (0 quando permitido)
+ */
+public record ConsumoTaxa(boolean permitido, PoliticaTaxa politica, int restantes,
+                          long ateCheioNanos, long ateProximoNanos) {
+
+    public int limite() {
+        return politica.capacidade();
+    }
+
+    /** Segundos até o balde encher (cabeçalho `RateLimit-Reset`) */
+    public long resetSegundos() {
+        return segundos(ateCheioNanos);
+    }
+
+    /** Segundos até haver um token (cabeçalho `Retry-After`), no mínimo 1 */
+    public long tentarEmSegundos() {
+        return Math.max(1, segundos(ateProximoNanos));
+    }
+
+    /** Valor do cabeçalho `RateLimit-Policy` (ex: `100;w=2`) */
+    public String politicaCabecalho() {
+        return politica.capacidade() + ";w=" + politica.janelaSegundos();
+    }
+
+    private static long segundos(long nanos) {
+        return Math.max(0, (nanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+    }
+}
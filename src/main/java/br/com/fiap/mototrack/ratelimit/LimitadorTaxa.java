@@ -0,0 +1,147 @@
+package br.com.fiap.mototrack.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * # 🚰 LimitadorTaxa
+ *
+ * Baldes de tokens por `(cliente, recurso)`, com limites configurados por perfil.
+ *
+ * ---
+ * ## 📋 Funcionamento:
+ * - Um `ConcurrentHashMap` por recurso, com um `BaldeTokens` (CAS em um `long`) por cliente: a busca
+ *   não aloca chave composta, só a criação do balde trava um segmento e o consumo não usa lock
+ * - Política por `(perfil, recurso)`, resolvida na primeira vez e reaproveitada:
+ *   `mototrack.limite-taxa.perfis.<PERFIL>.<recurso>.*` → `mototrack.limite-taxa.perfis.<PERFIL>.*`
+ *   → `mototrack.limite-taxa.padrao.*` (`capacidade` e `por-segundo`)
+ * - Até `mototrack.limite-taxa.maximo-chaves` baldes; acima disso, clientes novos dividem um balde de
+ *   excedente por perfil/recurso (memória limitada mesmo sob rotação de chaves)
+ * - A limpeza periódica descarta baldes cheios há mais de `mototrack.limite-taxa.ociosidade-ms`:
+ *   um balde cheio equivale a nenhum balde, então nada se perde
+ * - Métricas: `mototrack.limite.taxa.baldes` e `mototrack.limite.taxa.rejeicoes{perfil,recurso}`
+ */
+@Slf4j
+@Component
+public class LimitadorTaxa {
+
+    private static final String EXCEDENTE = "*excedente*";
+
+    /** Chave de uma política */
+    private record ChavePolitica(String perfil, String recurso) {
+    }
+
+    private final Environment env;
+    private final MeterRegistry registry;
+    private final int maximoChaves;
+    private final long ociosidadeNanos;
+    private final Map<String, Map<String, BaldeTokens>> baldes = new ConcurrentHashMap<>();
+    private final AtomicInteger totalBaldes = new AtomicInteger();
+    private final Map<ChavePolitica, PoliticaTaxa> politicas = new ConcurrentHashMap<>();
+    private final AtomicBoolean avisoExcedente = new AtomicBoolean();
+
+    public LimitadorTaxa(Environment env, MeterRegistry registry) {
+        this.env = env;
+        this.registry = registry;
+        this.maximoChaves = env.getProperty("mototrack.limite-taxa.maximo-chaves", Integer.class, 100_000);
+        this.ociosidadeNanos = TimeUnit.MILLISECONDS.toNanos(
+                env.getProperty("mototrack.limite-taxa.ociosidade-ms", Long.class, 600_000L));
+        Gauge.builder("mototrack.limite.taxa.baldes", totalBaldes, AtomicInteger::get)
+                .description("Baldes de tokens em memória")
+                .register(registry);
+    }
+
+    /**
+     * Consome um token do balde do cliente para o recurso.
+     *
+     * @param cliente Identidade do cliente (ex: `usuario:12`, `chave:abc`, `ip:10.0.0.1`)
+     * @param perfil  Perfil que define a política (ex: `OPERADOR`, `ANONIMO`)
+     * @param recurso Grupo de endpoints (ex: `motos`, `eventos`)
+     */
+    public ConsumoTaxa consumir(String cliente, String perfil, String recurso) {
+        long agora = System.nanoTime();
+        Map<String, BaldeTokens> doRecurso = baldes.get(recurso);
+        BaldeTokens balde = doRecurso != null ? doRecurso.get(cliente) : null;
+        if (balde == null) {
+            balde = criar(cliente, perfil, recurso, agora);
+        }
+        ConsumoTaxa consumo = balde.consumir(agora);
+        if (!consumo.permitido()) {
+            balde.politica().rejeicoes().increment();
+        }
+        return consumo;
+    }
+
+    private BaldeTokens criar(String cliente, String perfil, String recurso, long agora) {
+        PoliticaTaxa politica = politica(perfil, recurso);
+        String dono = cliente;
+        if (totalBaldes.get() >= maximoChaves) {
+            if (avisoExcedente.compareAndSet(false, true)) {
+                log.warn("🚰 {} baldes de taxa em memória; novos clientes passam a dividir o balde de excedente",
+                        maximoChaves);
+            }
+            dono = EXCEDENTE + perfil;
+        }
+        return baldes.computeIfAbsent(recurso, r -> new ConcurrentHashMap<>())
+                .computeIfAbsent(dono, chave -> {
+                    totalBaldes.incrementAndGet();
+                    return new BaldeTokens(politica, agora);
+                });
+    }
+
+    private PoliticaTaxa politica(String perfil, String recurso) {
+        String perfilNormalizado = perfil.toUpperCase(Locale.ROOT);
+        return politicas.computeIfAbsent(new ChavePolitica(perfilNormalizado, recurso), chave -> {
+            String perfilPrefixo = "mototrack.limite-taxa.perfis." + chave.perfil() + ".";
+            int capacidade = propriedade(Integer.class, "capacidade", perfilPrefixo + chave.recurso() + ".",
+                    perfilPrefixo, 100);
+            double porSegundo = propriedade(Double.class, "por-segundo", perfilPrefixo + chave.recurso() + ".",
+                    perfilPrefixo, 50.0);
+            Counter rejeicoes = Counter.builder("mototrack.limite.taxa.rejeicoes")
+                    .description("Requisições recusadas por limite de taxa")
+                    .tag("perfil", chave.perfil()).tag("recurso", chave.recurso())
+                    .register(registry);
+            return new PoliticaTaxa(capacidade, porSegundo, rejeicoes);
+        });
+    }
+
+    private <T> T propriedade(Class<T> tipo, String nome, String prefixoRecurso, String prefixoPerfil, T padrao) {
+        T valor = env.getProperty(prefixoRecurso + nome, tipo);
+        if (valor == null) {
+            valor = env.getProperty(prefixoPerfil + nome, tipo);
+        }
+        return valor != null ? valor : env.getProperty("mototrack.limite-taxa.padrao." + nome, tipo, padrao);
+    }
+
+    /**
+     * Descarta os baldes ociosos (cheios há mais de `ociosidade-ms`).
+     */
+    @Scheduled(fixedDelayString = "${mototrack.limite-taxa.limpeza-intervalo-ms:60000}")
+    public void limpar() {
+        long agora = System.nanoTime();
+        int antes = totalBaldes.get();
+        baldes.values().forEach(doRecurso -> doRecurso.values().removeIf(balde -> {
+            boolean ocioso = balde.ocioso(agora, ociosidadeNanos);
+            if (ocioso) {
+                totalBaldes.decrementAndGet();
+            }
+            return ocioso;
+        }));
+        if (totalBaldes.get() < maximoChaves) {
+            avisoExcedente.set(false);
+        }
+        log.debug("🚰 Limpeza de baldes de taxa: {} → {}", antes, totalBaldes.get());
+    }
+}
@@ -0,0 +1,136 @@
+package br.com.fiap.mototrack.ratelimit;
+
+import br.com.fiap.mototrack.exception.ErrorResponse;
+import br.com.fiap.mototrack.util.CaminhoRequisicao;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * # 🚰 LimiteTaxaFilter
+ *
+ * Limite de taxa por cliente e por recurso (`/motos`, `/eventos`, ...), aplicado antes do controle
+ * de admissão: uma integração que dispara requisições demais é recusada sem ocupar vagas de concorrência.
+ *
+ * ---
+ * ## 🪪 Identificação do cliente (primeira que se aplicar):
+ * 1. Usuário autenticado: atributos `ATRIBUTO_USUARIO_ID` / `ATRIBUTO_PERFIL` da requisição,
+ *    preenchidos pela autenticação → cliente `usuario:<id>`, perfil do usuário
+ * 2. Cabeçalho `X-API-Key` cadastrado em `mototrack.limite-taxa.chaves-api` (`chave:PERFIL`)
+ *    → cliente `chave:<chave>`, perfil da chave
+ * 3. Demais casos (inclusive chaves desconhecidas) → cliente `ip:<endereço>`, perfil `ANONIMO`
+ *
+ * ## 📋 Respostas:
+ * - Sempre: `RateLimit-Limit`, `RateLimit-Remaining`, `RateLimit-Reset` (segundos até o balde encher)
+ *   e `RateLimit-Policy` (`capacidade;w=janela`)
+ * - Sem token: `429` com `Retry-After` e corpo `ErrorResponse`
+ * - Recursos fora de `mototrack.limite-taxa.recursos` contam no grupo `outros`
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 3)
+public class LimiteTaxaFilter extends OncePerRequestFilter {
+
+    public static final String ATRIBUTO_USUARIO_ID = "mototrack.usuario.id";
+    public static final String ATRIBUTO_PERFIL = "mototrack.usuario.perfil";
+    public static final String CABECALHO_CHAVE_API = "X-API-Key";
+    private static final String PERFIL_ANONIMO = "ANONIMO";
+    private static final String RECURSO_OUTROS = "outros";
+
+    private final LimitadorTaxa limitador;
+    private final ObjectMapper objectMapper;
+    private final boolean habilitado;
+    private final AntPathMatcher matcher = new AntPathMatcher();
+    private final List<String> rotasIsentas;
+    private final Set<String> recursos;
+    private final Map<String, String> chavesApi = new HashMap<>();
+
+    public LimiteTaxaFilter(LimitadorTaxa limitador, ObjectMapper objectMapper, Environment env) {
+        this.limitador = limitador;
+        this.objectMapper = objectMapper;
+        this.habilitado = env.getProperty("mototrack.limite-taxa.habilitado", Boolean.class, true);
+        this.rotasIsentas = List.of(env.getProperty("mototrack.limite-taxa.isentas", String[].class,
+                new String[]{"/actuator/**", "/metricas/**", "/swagger-ui/**", "/v3/api-docs/**", "/error"}));
+        this.recursos = Set.of(env.getProperty("mototrack.limite-taxa.recursos", String[].class,
+                new String[]{"motos", "eventos", "agendamentos", "filiais", "usuarios", "graphql", "batch"}));
+        for (String chavePerfil : env.getProperty("mototrack.limite-taxa.chaves-api", String[].class, new String[0])) {
+            int separador = chavePerfil.lastIndexOf(':');
+            if (separador > 0) {
+                chavesApi.put(chavePerfil.substring(0, separador).trim(), chavePerfil.substring(separador + 1).trim());
+            }
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!habilitado) {
+            return true;
+        }
+        String caminho = CaminhoRequisicao.de(request);
+        return rotasIsentas.stream().anyMatch(padrao -> matcher.match(padrao, caminho));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String cliente;
+        String perfil;
+        Object usuarioId = request.getAttribute(ATRIBUTO_USUARIO_ID);
+        String chaveApi = request.getHeader(CABECALHO_CHAVE_API);
+        String perfilChave = chaveApi != null ? chavesApi.get(chaveApi) : null;
+        if (usuarioId != null) {
+            cliente = "usuario:" + usuarioId;
+            perfil = String.valueOf(request.getAttribute(ATRIBUTO_PERFIL));
+        } else if (perfilChave != null) {
+            cliente = "chave:" + chaveApi;
+            perfil = perfilChave;
+        } else {
+            cliente = "ip:" + request.getRemoteAddr();
+            perfil = PERFIL_ANONIMO;
+        }
+
+        ConsumoTaxa consumo = limitador.consumir(cliente, perfil, recurso(CaminhoRequisicao.de(request)));
+        response.setHeader("RateLimit-Limit", String.valueOf(consumo.limite()));
+        response.setHeader("RateLimit-Remaining", String.valueOf(consumo.restantes()));
+        response.setHeader("RateLimit-Reset", String.valueOf(consumo.resetSegundos()));
+        response.setHeader("RateLimit-Policy", consumo.politicaCabecalho());
+        if (consumo.permitido()) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        long segundos = consumo.tentarEmSegundos();
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(segundos));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getOutputStream(), new ErrorResponse(HttpStatus.TOO_MANY_REQUESTS.value(),
+                "Limite de requisições excedido. Tente novamente em " + segundos + " s."));
+    }
+
+    /**
+     * Primeiro segmento do caminho (`/motos/12/estado` → `motos`), limitado aos recursos conhecidos.
+     */
+    private String recurso(String caminho) {
+        int inicio = caminho.startsWith("/") ? 1 : 0;
+        int fim = caminho.indexOf('/', inicio);
+        String segmento = fim < 0 ? caminho.substring(inicio) : caminho.substring(inicio, fim);
+        return recursos.contains(segmento) ? segmento : RECURSO_OUTROS;
+    }
+}
@@ -0,0 +1,38 @@
+package br.com.fiap.mototrack.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * # 📏 PoliticaTaxa
+ *
+ * Limite aplicado a um par `(perfil, recurso)`: rajada de até `capacidade` requisições,
+ * reabastecida a `reposicaoPorSegundo` por segundo.
+ *
+ * @param capacidade          Tamanho do balde (rajada máxima)
+ * @param reposicaoPorSegundo Tokens devolvidos por segundo (taxa sustentada)
+ * @param rejeicoes           Contador de requisições recusadas por esta política
+ */
+public record PoliticaTaxa(int capacidade, double reposicaoPorSegundo, Counter rejeicoes) {
+
+    public PoliticaTaxa {
+        capacidade = Math.max(1, capacidade);
+        reposicaoPorSegundo = Math.max(0.001, reposicaoPorSegundo);
+    }
+
+    public long intervaloNanos() {
+        return (long) (TimeUnit.SECONDS.toNanos(1) / reposicaoPorSegundo);
+    }
+
+    public long toleranciaNanos() {
+        return intervaloNanos() * capacidade;
+    }
+
+    /**
+     * Janela em que o balde vazio volta a ficar cheio (segundos), para o cabeçalho `RateLimit-Policy`.
+     */
+    public long janelaSegundos() {
+        return Math.max(1, Math.round(capacidade / reposicaoPorSegundo));
+    }
+}
@@ -1,15 +1,101 @@
 package br.com.fiap.mototrack.repository;
 
+import br.com.fiap.mototrack.booking.ReservaIntervalo;
 import br.com.fiap.mototrack.model.Agendamento;
+import br.com.fiap.mototrack.scheduler.AgendamentoPendente;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
 /**
  * 📁 Repositório JPA para a entidade Agendamento.
  *
  * Permite operações CRUD e suporte a Specifications para consultas dinâmicas com filtros.
+ * Também expõe as consultas enxutas usadas pelo agendador de disparos e pela agenda das oficinas.
  */
 @Repository
 public interface AgendamentoRepository extends JpaRepository<Agendamento, Long>, JpaSpecificationExecutor<Agendamento> {
+
+    /**
+     * 🔍 Consulta com filtros trazendo moto, filial e regra na mesma query (evita um select por registro da página).
+     */
+    @Override
+    @EntityGraph(attributePaths = {"moto", "moto.filial", "filial", "regra"})
+    Page<Agendamento> findAll(Specification<Agendamento> spec, Pageable pageable);
+
+    /**
+     * 📄 Listagem completa com os mesmos relacionamentos carregados na query.
+     */
+    @Override
+    @EntityGraph(attributePaths = {"moto", "moto.filial", "filial", "regra"})
+    List<Agendamento> findAll();
+
+    /**
+     * ⏰ Agendamentos ainda não disparados com data no intervalo `(de, ate]`, paginados por ID.
+     */
+    @Query("""
+            select new br.com.fiap.mototrack.scheduler.AgendamentoPendente(a.id, a.dataAgendada)
+            from Agendamento a
+            where a.dataDisparo is null and a.dataAgendada > :de and a.dataAgendada <= :ate and a.id > :aposId
+            order by a.id
+            """)
+    List<AgendamentoPendente> findPendentes(LocalDateTime de, LocalDateTime ate, Long aposId, Pageable pageable);
+
+    /**
+     * ⏰ Marca o agendamento como disparado, somente se ainda pendente e já vencido.
+     * Retorna 0 quando outro disparo chegou antes ou a data foi adiada.
+     */
+    @Modifying
+    @Query("""
+            update Agendamento a set a.dataDisparo = :agora
+            where a.id = :id and a.dataDisparo is null and a.dataAgendada <= :agora
+            """)
+    int marcarDisparado(Long id, LocalDateTime agora);
+
+    /**
+     * 🗓️ Intervalos reservados pelos agendamentos com início a partir da data informada, paginados por ID.
+     */
+    @Query("""
+            select new br.com.fiap.mototrack.booking.ReservaIntervalo(a.id, a.moto.id, f.id, a.dataAgendada, a.duracaoMinutos)
+            from Agendamento a left join a.filial f
+            where a.dataAgendada >= :desde and a.id > :aposId
+            order by a.id
+            """)
+    List<ReservaIntervalo> findReservasDesde(LocalDateTime desde, Long aposId, Pageable pageable);
+
+    /**
+     * 🔁 Indica se a ocorrência da regra para a moto já foi materializada.
+     */
+    boolean existsByRegraIdAndMotoIdAndDataAgendada(Long regraId, Long motoId, LocalDateTime dataAgendada);
+
+    /**
+     * 📦 Agendamentos de um bloco de IDs (busca em lote), com os relacionamentos na mesma query.
+     */
+    @EntityGraph(attributePaths = {"moto", "moto.filial", "filial", "regra"})
+    List<Agendamento> findByIdIn(Collection<Long> ids);
+
+    /**
+     * 🕸️ IDs do próximo agendamento (data a partir de `desde`) de cada moto do bloco.
+     * Uma consulta para todas as motos (carregamento em lote do GraphQL).
+     */
+    @Query(value = """
+            select r.id_agendamento from (
+                select a.id_agendamento,
+                       row_number() over (partition by a.id_moto order by a.dt_agendada, a.id_agendamento) as nr_ordem
+                from tb_agendamento a
+                where a.id_moto in (:motoIds) and a.dt_agendada >= :desde
+            ) r
+            where r.nr_ordem = 1
+            """, nativeQuery = true)
+    List<Long> findIdsProximosPorMotos(Collection<Long> motoIds, LocalDateTime desde);
 }
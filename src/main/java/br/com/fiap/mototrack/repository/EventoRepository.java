@@ -1,15 +1,130 @@
 package br.com.fiap.mototrack.repository;
 
 import br.com.fiap.mototrack.model.Evento;
+import br.com.fiap.mototrack.projection.EventoProjetavel;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 /**
  * 📁 Repositório JPA para a entidade Evento.
  *
  * Permite operações CRUD e suporte a Specifications para consultas dinâmicas com filtros.
+ * Também expõe consultas enxutas usadas no replay da projeção de estado das motos.
  */
 @Repository
 public interface EventoRepository extends JpaRepository<Evento, Long>, JpaSpecificationExecutor<Evento> {
+
+    /**
+     * 🔍 Consulta com filtros trazendo moto e filial na mesma query (evita um select por registro da página).
+     */
+    @Override
+    @EntityGraph(attributePaths = {"moto", "moto.filial", "filial"})
+    Page<Evento> findAll(Specification<Evento> spec, Pageable pageable);
+
+    /**
+     * 📄 Listagem completa com os mesmos relacionamentos carregados na query.
+     */
+    @Override
+    @EntityGraph(attributePaths = {"moto", "moto.filial", "filial"})
+    List<Evento> findAll();
+
+    /**
+     * 🔁 Eventos posteriores ao ID informado, em ordem de aplicação (paginado pelo chamador).
+     */
+    @Query("""
+            select new br.com.fiap.mototrack.projection.EventoProjetavel(e.id, e.moto.id, e.tipo, f.id, e.dataHora)
+            from Evento e left join e.filial f
+            where e.id > :aposId
+            order by e.id
+            """)
+    List<EventoProjetavel> findProjetaveisAposId(Long aposId, Pageable pageable);
+
+    /**
+     * 🔁 Eventos com ID no intervalo `(aposId, ateId]`, em ordem de aplicação.
+     */
+    @Query("""
+            select new br.com.fiap.mototrack.projection.EventoProjetavel(e.id, e.moto.id, e.tipo, f.id, e.dataHora)
+            from Evento e left join e.filial f
+            where e.id > :aposId and e.id <= :ateId
+            order by e.id
+            """)
+    List<EventoProjetavel> findProjetaveisEntreIds(Long aposId, Long ateId, Pageable pageable);
+
+    /**
+     * 📍 Menor ID posterior ao informado entre os eventos gravados depois do instante informado.
+     */
+    @Query("select min(e.id) from Evento e where e.id > :aposId and e.dataRegistro > :registradoApos")
+    Optional<Long> findPrimeiroIdRegistradoApos(Long aposId, LocalDateTime registradoApos);
+
+    /**
+     * 📍 Maior ID de evento.
+     */
+    @Query("select max(e.id) from Evento e")
+    Optional<Long> findUltimoId();
+
+    /**
+     * 🔁 Eventos posteriores ao ID informado e ocorridos até o instante informado.
+     */
+    @Query("""
+            select new br.com.fiap.mototrack.projection.EventoProjetavel(e.id, e.moto.id, e.tipo, f.id, e.dataHora)
+            from Evento e left join e.filial f
+            where e.id > :aposId and e.dataHora <= :ate
+            order by e.id
+            """)
+    List<EventoProjetavel> findProjetaveisAposIdAte(Long aposId, LocalDateTime ate, Pageable pageable);
+
+    /**
+     * 🛵 Histórico completo de uma moto, em ordem de aplicação.
+     */
+    @Query("""
+            select new br.com.fiap.mototrack.projection.EventoProjetavel(e.id, e.moto.id, e.tipo, f.id, e.dataHora)
+            from Evento e left join e.filial f
+            where e.moto.id = :motoId
+            order by e.id
+            """)
+    List<EventoProjetavel> findProjetaveisPorMoto(Long motoId);
+
+    /**
+     * 🛵 Eventos de uma moto posteriores ao ID informado e ocorridos até o instante informado.
+     */
+    @Query("""
+            select new br.com.fiap.mototrack.projection.EventoProjetavel(e.id, e.moto.id, e.tipo, f.id, e.dataHora)
+            from Evento e left join e.filial f
+            where e.moto.id = :motoId and e.id > :aposId and e.dataHora <= :ate
+            order by e.id
+            """)
+    List<EventoProjetavel> findProjetaveisPorMotoAposIdAte(Long motoId, Long aposId, LocalDateTime ate);
+
+    /**
+     * 📦 Eventos de um bloco de IDs (busca em lote), com os relacionamentos na mesma query.
+     */
+    @EntityGraph(attributePaths = {"moto", "moto.filial", "filial"})
+    List<Evento> findByIdIn(Collection<Long> ids);
+
+    /**
+     * 🕸️ IDs dos `limite` eventos mais recentes de cada moto do bloco.
+     * Uma consulta para todas as motos (carregamento em lote do GraphQL), em ordem de recência por moto.
+     */
+    @Query(value = """
+            select r.id_evento from (
+                select e.id_evento,
+                       row_number() over (partition by e.id_moto order by e.dt_hr_evento desc, e.id_evento desc) as nr_ordem
+                from tb_evento e
+                where e.id_moto in (:motoIds)
+            ) r
+            where r.nr_ordem <= :limite
+            order by r.nr_ordem
+            """, nativeQuery = true)
+    List<Long> findIdsRecentesPorMotos(Collection<Long> motoIds, int limite);
 }
@@ -1,10 +1,15 @@
 package br.com.fiap.mototrack.repository;
 
+import br.com.fiap.mototrack.booking.CapacidadeFilial;
 import br.com.fiap.mototrack.model.Filial;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 /**
  * 📁 Repositório JPA para a entidade Filial.
  *
@@ -12,4 +17,15 @@ import org.springframework.stereotype.Repository;
  */
 @Repository
 public interface FilialRepository extends JpaRepository<Filial, Long>, JpaSpecificationExecutor<Filial> {
+
+    /**
+     * 🧰 Capacidade da oficina de todas as filiais, para a carga dos contadores em memória.
+     */
+    @Query("select new br.com.fiap.mototrack.booking.CapacidadeFilial(f.id, f.capacidadeOficina) from Filial f")
+    List<CapacidadeFilial> findCapacidades();
+
+    /**
+     * 📦 Filiais de um bloco de IDs (busca em lote).
+     */
+    List<Filial> findByIdIn(Collection<Long> ids);
 }
@@ -1,14 +1,69 @@
 package br.com.fiap.mototrack.repository;
 
 import br.com.fiap.mototrack.model.Moto;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 /**
  * 📁 Repositório JPA para a entidade Moto.
  * Permite operações CRUD e suporte a Specifications para filtros dinâmicos.
  */
 @Repository
 public interface MotoRepository extends JpaRepository<Moto, Long>, JpaSpecificationExecutor<Moto> {
-}
\ No newline at end of file
+
+    /**
+     * 🔍 Consulta com filtros trazendo a filial na mesma query (evita um select por filial na página).
+     */
+    @Override
+    @EntityGraph(attributePaths = "filial")
+    Page<Moto> findAll(Specification<Moto> spec, Pageable pageable);
+
+    /**
+     * 📄 Listagem completa com os mesmos relacionamentos carregados na query.
+     */
+    @Override
+    @EntityGraph(attributePaths = "filial")
+    List<Moto> findAll();
+
+    /**
+     * 🏢 IDs das motos alocadas na filial, em ordem.
+     */
+    @Query("select m.id from Moto m where m.filial.id = :filialId order by m.id")
+    List<Long> findIdsPorFilial(Long filialId);
+
+    /**
+     * 📦 Motos de um bloco de IDs (busca em lote), com a filial na mesma query.
+     */
+    @EntityGraph(attributePaths = "filial")
+    List<Moto> findByIdIn(Collection<Long> ids);
+
+    /**
+     * 📦 Motos de um bloco de placas (busca em lote), com a filial na mesma query.
+     */
+    @EntityGraph(attributePaths = "filial")
+    List<Moto> findByPlacaIn(Collection<String> placas);
+
+    /**
+     * 🕸️ IDs das primeiras motos (por ID) de cada filial do bloco, no máximo `limite` por filial.
+     * Uma consulta para todas as filiais (carregamento em lote do GraphQL).
+     */
+    @Query(value = """
+            select r.id_moto from (
+                select m.id_moto, row_number() over (partition by m.id_filial order by m.id_moto) as nr_ordem
+                from tb_moto m
+                where m.id_filial in (:filialIds)
+            ) r
+            where r.nr_ordem <= :limite
+            order by r.nr_ordem
+            """, nativeQuery = true)
+    List<Long> findIdsPorFiliais(Collection<Long> filialIds, int limite);
+}
@@ -0,0 +1,43 @@
+package br.com.fiap.mototrack.repository;
+
+import br.com.fiap.mototrack.model.OficinaSlot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 📁 Repositório JPA para a entidade OficinaSlot.
+ *
+ * Leitura dos slots da janela corrente e gravação com verificação otimista de versão.
+ */
+@Repository
+public interface OficinaSlotRepository extends JpaRepository<OficinaSlot, Long> {
+
+    /**
+     * 🧰 Slots com início a partir da data informada.
+     */
+    List<OficinaSlot> findByInicioGreaterThanEqual(LocalDateTime desde);
+
+    /**
+     * 🧰 Slot de uma filial em um horário.
+     */
+    Optional<OficinaSlot> findByFilialIdAndInicio(Long filialId, LocalDateTime inicio);
+
+    /**
+     * 🧰 Grava o contador somente se a versão lida ainda for a atual.
+     * Retorna 0 quando outro escritor alterou o slot antes.
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+            update OficinaSlot s set s.reservas = :reservas, s.versao = s.versao + 1
+            where s.id = :id and s.versao = :versao
+            """)
+    int atualizarReservas(Long id, Integer reservas, Long versao);
+}
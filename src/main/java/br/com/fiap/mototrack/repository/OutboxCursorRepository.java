@@ -0,0 +1,12 @@
+package br.com.fiap.mototrack.repository;
+
+import br.com.fiap.mototrack.model.OutboxCursor;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 📁 Repositório JPA para a entidade OutboxCursor.
+ */
+@Repository
+public interface OutboxCursorRepository extends JpaRepository<OutboxCursor, String> {
+}
@@ -0,0 +1,32 @@
+package br.com.fiap.mototrack.repository;
+
+import br.com.fiap.mototrack.model.OutboxMensagem;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 📁 Repositório JPA para a entidade OutboxMensagem.
+ *
+ * Leitura em lotes ordenados por ID a partir de um cursor e limpeza das mensagens já entregues.
+ */
+@Repository
+public interface OutboxMensagemRepository extends JpaRepository<OutboxMensagem, Long> {
+
+    /**
+     * 📤 Próximo lote após o cursor, em ordem de ID.
+     */
+    List<OutboxMensagem> findByIdGreaterThanOrderByIdAsc(Long cursor, Pageable pageable);
+
+    /**
+     * 🧹 Remove mensagens já entregues a todos os destinos e mais antigas que a retenção.
+     */
+    @Modifying
+    @Query("delete from OutboxMensagem m where m.id <= :cursor and m.dataCriacao < :limite")
+    int excluirEntregues(Long cursor, LocalDateTime limite);
+}
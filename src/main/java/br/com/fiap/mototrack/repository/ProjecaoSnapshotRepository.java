@@ -0,0 +1,51 @@
+package br.com.fiap.mototrack.repository;
+
+import br.com.fiap.mototrack.model.ProjecaoSnapshot;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 📁 Repositório JPA para a entidade ProjecaoSnapshot.
+ *
+ * Localiza o snapshot mais recente (ou o mais próximo de um instante) para
+ * reconstruir a projeção de estado das motos.
+ */
+@Repository
+public interface ProjecaoSnapshotRepository extends JpaRepository<ProjecaoSnapshot, Long> {
+
+    /**
+     * 📸 Um snapshot com os estados carregados na mesma query.
+     *
+     * > Localize o ID antes (`findIdsOrdenadosPorRecencia`, `findIdsAteDataReferencia` com página de 1):
+     * > `findFirst` com `@EntityGraph` de coleção aplica o limite em memória, carregando todos os snapshots.
+     */
+    @EntityGraph(attributePaths = "estados")
+    @Query("select s from ProjecaoSnapshot s where s.id = :id")
+    Optional<ProjecaoSnapshot> findComEstadosById(Long id);
+
+    /**
+     * 🕰️ IDs dos snapshots com data de referência anterior ou igual ao instante, do mais próximo ao mais antigo.
+     */
+    @Query("select s.id from ProjecaoSnapshot s where s.dataReferencia <= :instante "
+            + "order by s.dataReferencia desc, s.ultimoEventoId desc")
+    List<Long> findIdsAteDataReferencia(LocalDateTime instante, Pageable pageable);
+
+    /**
+     * 🧹 IDs dos snapshots do mais recente ao mais antigo (mais recente ou além da janela de retenção).
+     */
+    @Query("select s.id from ProjecaoSnapshot s order by s.ultimoEventoId desc")
+    List<Long> findIdsOrdenadosPorRecencia(Pageable pageable);
+
+    /**
+     * ♻️ Snapshots que já incluem o evento informado (invalidados quando o histórico muda).
+     */
+    @Query("select s.id from ProjecaoSnapshot s where s.ultimoEventoId >= :eventoId")
+    List<Long> findIdsComEventoAPartirDe(Long eventoId);
+}
@@ -0,0 +1,41 @@
+package br.com.fiap.mototrack.repository;
+
+import br.com.fiap.mototrack.model.RegistroIdempotencia;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 📁 Repositório JPA para a entidade RegistroIdempotencia.
+ *
+ * Reserva, conclusão e limpeza das chaves de idempotência compartilhadas entre instâncias.
+ */
+@Repository
+public interface RegistroIdempotenciaRepository extends JpaRepository<RegistroIdempotencia, String> {
+
+    /**
+     * 📦 Grava a resposta da execução que detinha a chave.
+     */
+    @Modifying
+    @Query("update RegistroIdempotencia r set r.status = :status, r.contentType = :contentType, r.corpo = :corpo, "
+            + "r.expiraEm = :expiraEm where r.chave = :chave")
+    int concluir(String chave, Integer status, String contentType, byte[] corpo, LocalDateTime expiraEm);
+
+    /**
+     * ⏳ Remove a chave somente se já venceu (reserva abandonada ou resposta expirada).
+     * Condicional para que duas instâncias que viram a mesma reserva vencida não apaguem a que uma delas acabou de criar.
+     */
+    @Modifying
+    @Query("delete from RegistroIdempotencia r where r.chave = :chave and r.expiraEm < :agora")
+    int excluirSeVencida(String chave, LocalDateTime agora);
+
+    /**
+     * 🧹 Remove chaves vencidas.
+     */
+    @Modifying
+    @Query("delete from RegistroIdempotencia r where r.expiraEm < :agora")
+    int excluirVencidos(LocalDateTime agora);
+}
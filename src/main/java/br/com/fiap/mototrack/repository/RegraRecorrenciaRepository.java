@@ -0,0 +1,70 @@
+package br.com.fiap.mototrack.repository;
+
+import br.com.fiap.mototrack.model.RegraRecorrencia;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 📁 Repositório JPA para a entidade RegraRecorrencia.
+ *
+ * Consultas por regra (nunca por ocorrência): o custo cresce com o número de regras.
+ * As escritas usam transação própria, pois também são chamadas após o commit de outras transações.
+ */
+@Repository
+public interface RegraRecorrenciaRepository extends JpaRepository<RegraRecorrencia, Long> {
+
+    /**
+     * 🔁 Regras por dias ativas, para expansão das ocorrências previstas.
+     */
+    @Query("""
+            select r from RegraRecorrencia r left join fetch r.moto left join fetch r.filial
+            where r.ativa = true and r.intervaloDias is not null
+            """)
+    List<RegraRecorrencia> findAtivasPorDias();
+
+    /**
+     * 🔁 Regras por dias cuja próxima ocorrência já entrou na janela e cuja ocorrência
+     * anterior já venceu (no máximo uma ocorrência futura materializada por regra).
+     */
+    @Query("""
+            select r from RegraRecorrencia r
+            where r.ativa = true and r.intervaloDias is not null and r.proximaOcorrencia <= :horizonte
+              and (r.ultimaMaterializada is null or r.ultimaMaterializada <= :agora)
+            """)
+    List<RegraRecorrencia> findParaMaterializar(LocalDateTime horizonte, LocalDateTime agora);
+
+    /**
+     * 🔁 Regras por km ativas de uma moto que já atingiram a quilometragem.
+     */
+    @Query("""
+            select r from RegraRecorrencia r
+            where r.ativa = true and r.moto.id = :motoId and r.intervaloKm is not null and r.proximoKm <= :quilometragem
+            """)
+    List<RegraRecorrencia> findPorKmVencidas(Long motoId, Integer quilometragem);
+
+    /**
+     * 🔁 Avança o cursor de uma regra por dias.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Modifying
+    @Query("""
+            update RegraRecorrencia r set r.ultimaMaterializada = :materializada, r.proximaOcorrencia = :proxima
+            where r.id = :id
+            """)
+    int avancarPorDias(Long id, LocalDateTime materializada, LocalDateTime proxima);
+
+    /**
+     * 🔁 Avança o cursor de uma regra por km.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Modifying
+    @Query("update RegraRecorrencia r set r.proximoKm = :proximoKm where r.id = :id")
+    int avancarPorKm(Long id, Integer proximoKm);
+}
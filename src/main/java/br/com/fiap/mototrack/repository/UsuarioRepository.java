@@ -3,24 +3,43 @@ package br.com.fiap.mototrack.repository;
 import br.com.fiap.mototrack.model.Usuario;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
  * 📁 Repositório JPA para a entidade Usuario.
  *
  * Permite operações CRUD, suporte a filtros dinâmicos via Specifications
- * e busca por e-mail.
+ * e busca por e-mail (normalizado, sem distinção de maiúsculas).
  */
 @Repository
 public interface UsuarioRepository extends JpaRepository<Usuario, Long>, JpaSpecificationExecutor<Usuario> {
 
     /**
-     * 🔍 Busca um usuário pelo e-mail.
+     * 🔍 Busca um usuário pelo e-mail normalizado (coluna indexada).
      *
-     * @param email E-mail do usuário
+     * @param emailNormalizado E-mail já normalizado (`Usuario.normalizarEmail`)
      * @return Optional com o usuário encontrado (se existir)
      */
-    Optional<Usuario> findByEmail(String email);
+    Optional<Usuario> findByEmailNormalizado(String emailNormalizado);
+
+    /**
+     * ✅ Verifica se o e-mail normalizado já pertence a outro usuário (cadastro e alteração).
+     */
+    boolean existsByEmailNormalizadoAndIdNot(String emailNormalizado, Long id);
+
+    /**
+     * 🕸️ Usuários das filiais do bloco (carregamento em lote do GraphQL).
+     */
+    List<Usuario> findByFilialIdIn(Collection<Long> filialIds);
+
+    /**
+     * 📥 E-mails normalizados do bloco que já estão cadastrados (importação em lote).
+     */
+    @Query("select u.emailNormalizado from Usuario u where u.emailNormalizado in :emails")
+    List<String> findEmailsExistentes(Collection<String> emails);
 }
@@ -0,0 +1,25 @@
+package br.com.fiap.mototrack.scheduler;
+
+import br.com.fiap.mototrack.model.Agendamento;
+
+/**
+ * # 🎯 AcaoAgendamento
+ *
+ * Ação executada quando um agendamento vence. Toda implementação registrada como bean
+ * é executada pelo {@link DisparoAgendamentoService}, na transação que marca o disparo.
+ *
+ * > Efeitos externos (HTTP, filas) devem ser adiados para depois do commit com
+ * > `TransacaoUtils.aposCommit`, para não notificar disparos desfeitos.
+ */
+public interface AcaoAgendamento {
+
+    /**
+     * Nome da ação, usado nos logs.
+     */
+    String nome();
+
+    /**
+     * Executa a ação para o agendamento vencido.
+     */
+    void executar(Agendamento agendamento);
+}
@@ -0,0 +1,238 @@
+package br.com.fiap.mototrack.scheduler;
+
+import br.com.fiap.mototrack.repository.AgendamentoRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * # ⏰ AgendadorAgendamentos
+ *
+ * Agendador em memória que dispara os agendamentos vencidos, baseado em uma
+ * {@link TimingWheel} hierárquica (inserção e cancelamento O(1), sem consultas de polling).
+ *
+ * ---
+ * ## 📋 Funcionamento
+ * - Na inicialização, carrega apenas os agendamentos pendentes dentro da **janela**
+ *   (`janela-horas` à frente e até `atraso-maximo-horas` atrasados)
+ * - A janela é ampliada periodicamente com uma consulta por intervalo `(horizonte, novo horizonte]`
+ * - O `AgendamentoService` mantém a roda sincronizada após o commit de cada escrita
+ * - A cada tick, os vencidos são entregues ao {@link DisparoAgendamentoService} em um pool dedicado
+ *
+ * ---
+ * @author Rafael
+ * @since 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AgendadorAgendamentos {
+
+    // =============================
+    // 🔗 Injeção de Dependências
+    // =============================
+
+    private final AgendamentoRepository repository;
+    private final DisparoAgendamentoService disparoService;
+
+    @Value("${mototrack.agendador.tick-ms:1000}")
+    private long tickMs;
+
+    @Value("${mototrack.agendador.janela-horas:168}")
+    private long janelaHoras;
+
+    @Value("${mototrack.agendador.atraso-maximo-horas:24}")
+    private long atrasoMaximoHoras;
+
+    @Value("${mototrack.agendador.tamanho-lote-carga:5000}")
+    private int tamanhoLote;
+
+    @Value("${mototrack.agendador.threads:2}")
+    private int threads;
+
+    @Value("${mototrack.agendador.nova-tentativa-segundos:60}")
+    private long novaTentativaSegundos;
+
+    /** 6 bits x 4 níveis = 2^24 ticks de horizonte (≈ 194 dias com tick de 1s) */
+    private TimingWheel<Long> roda;
+
+    /** Temporizador ativo de cada agendamento, indexado pelo ID */
+    private final Map<Long, TimingWheel.Temporizador<Long>> temporizadores = new HashMap<>();
+
+    /** Agendamentos com data até este instante já estão na roda */
+    private LocalDateTime horizonte;
+
+    private ScheduledExecutorService relogio;
+    private ExecutorService disparos;
+
+    // =============================
+    // 🚀 Ciclo de vida
+    // =============================
+
+    @PostConstruct
+    public void iniciar() {
+        LocalDateTime agora = LocalDateTime.now();
+        synchronized (this) {
+            roda = new TimingWheel<>(6, 4, tickDecorrido(agora));
+            horizonte = agora.plusHours(janelaHoras);
+        }
+        int carregados = carregar(agora.minusHours(atrasoMaximoHoras), horizonte);
+        log.info("⏰ Agendador iniciado com {} agendamentos pendentes até {}", carregados, horizonte);
+
+        disparos = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "agendador-disparo");
+            t.setDaemon(true);
+            return t;
+        });
+        relogio = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "agendador-relogio");
+            t.setDaemon(true);
+            return t;
+        });
+        relogio.scheduleAtFixedRate(this::avancar, tickMs, tickMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void parar() {
+        relogio.shutdownNow();
+        disparos.shutdown();
+    }
+
+    // =============================
+    // 🔄 Sincronização com as escritas
+    // =============================
+
+    /**
+     * Agenda (ou reagenda) o disparo. Datas além do horizonte entram na próxima ampliação da janela.
+     */
+    public synchronized void agendar(Long id, LocalDateTime dataAgendada) {
+        cancelar(id);
+        if (dataAgendada == null || dataAgendada.isAfter(horizonte)) {
+            return;
+        }
+        temporizadores.put(id, roda.agendar(id, tick(dataAgendada)));
+    }
+
+    /**
+     * Remove o agendamento da roda, se presente.
+     */
+    public synchronized void cancelar(Long id) {
+        TimingWheel.Temporizador<Long> temporizador = temporizadores.remove(id);
+        if (temporizador != null) {
+            roda.cancelar(temporizador);
+        }
+    }
+
+    /**
+     * Quantidade de agendamentos aguardando disparo na roda.
+     */
+    public synchronized int pendentes() {
+        return roda.tamanho();
+    }
+
+    // =============================
+    // 🪟 Janela de carga
+    // =============================
+
+    /**
+     * Amplia a janela para `agora + janela-horas`, carregando somente o intervalo novo.
+     * O horizonte é movido antes da consulta: escritas concorrentes já entram direto na roda.
+     */
+    @Scheduled(fixedDelayString = "${mototrack.agendador.ampliacao-intervalo-ms:3600000}",
+            initialDelayString = "${mototrack.agendador.ampliacao-intervalo-ms:3600000}")
+    public void ampliarJanela() {
+        LocalDateTime novoHorizonte = LocalDateTime.now().plusHours(janelaHoras);
+        LocalDateTime anterior;
+        synchronized (this) {
+            if (!novoHorizonte.isAfter(horizonte)) {
+                return;
+            }
+            anterior = horizonte;
+            horizonte = novoHorizonte;
+        }
+        int carregados = carregar(anterior, novoHorizonte);
+        log.debug("⏰ Janela do agendador ampliada até {} ({} novos)", novoHorizonte, carregados);
+    }
+
+    private int carregar(LocalDateTime de, LocalDateTime ate) {
+        int total = 0;
+        long aposId = 0L;
+        PageRequest lote = PageRequest.of(0, tamanhoLote);
+        while (true) {
+            List<AgendamentoPendente> pendentes = repository.findPendentes(de, ate, aposId, lote);
+            synchronized (this) {
+                for (AgendamentoPendente p : pendentes) {
+                    if (!temporizadores.containsKey(p.id())) {
+                        temporizadores.put(p.id(), roda.agendar(p.id(), tick(p.dataAgendada())));
+                    }
+                }
+            }
+            total += pendentes.size();
+            if (pendentes.size() < tamanhoLote) {
+                return total;
+            }
+            aposId = pendentes.get(pendentes.size() - 1).id();
+        }
+    }
+
+    // =============================
+    // 🔔 Disparo
+    // =============================
+
+    private void avancar() {
+        List<Long> vencidos = new ArrayList<>();
+        synchronized (this) {
+            roda.avancar(tickDecorrido(LocalDateTime.now()), id -> {
+                temporizadores.remove(id);
+                vencidos.add(id);
+            });
+        }
+        for (Long id : vencidos) {
+            disparos.execute(() -> disparar(id));
+        }
+    }
+
+    private void disparar(Long id) {
+        try {
+            disparoService.disparar(id);
+        } catch (Exception e) {
+            log.error("⏰ Falha ao disparar agendamento {}, nova tentativa em {}s: {}",
+                    id, novaTentativaSegundos, e.getMessage(), e);
+            agendar(id, LocalDateTime.now().plusSeconds(novaTentativaSegundos));
+        }
+    }
+
+    /**
+     * Tick do prazo, arredondado para cima: nunca dispara antes da hora.
+     */
+    private long tick(LocalDateTime data) {
+        return Math.floorDiv(epochMs(data) + tickMs - 1, tickMs);
+    }
+
+    /**
+     * Tick já completamente decorrido no instante informado (arredondado para baixo).
+     */
+    private long tickDecorrido(LocalDateTime data) {
+        return Math.floorDiv(epochMs(data), tickMs);
+    }
+
+    private static long epochMs(LocalDateTime data) {
+        return data.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,12 @@
+package br.com.fiap.mototrack.scheduler;
+
+import java.time.LocalDateTime;
+
+/**
+ * ⏰ Visão enxuta de um agendamento pendente: apenas o necessário para posicioná-lo na roda.
+ *
+ * @param id           ID do agendamento
+ * @param dataAgendada Data e hora programada para o disparo
+ */
+public record AgendamentoPendente(Long id, LocalDateTime dataAgendada) {
+}
@@ -0,0 +1,71 @@
+package br.com.fiap.mototrack.scheduler;
+
+import br.com.fiap.mototrack.dto.response.AgendamentoResponse;
+import br.com.fiap.mototrack.model.Agendamento;
+import br.com.fiap.mototrack.outbox.OperacaoOutbox;
+import br.com.fiap.mototrack.outbox.OutboxService;
+import br.com.fiap.mototrack.repository.AgendamentoRepository;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.modelmapper.ModelMapper;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * # 🔔 Serviço: DisparoAgendamentoService
+ *
+ * Executa o disparo de um agendamento vencido, chamado pelo {@link AgendadorAgendamentos}.
+ *
+ * ---
+ * ## 📋 Responsabilidades:
+ * - Marcar o agendamento como disparado de forma idempotente (update condicional)
+ * - Ignorar agendamentos excluídos, já disparados ou adiados desde que entraram na roda
+ * - Executar todas as {@link AcaoAgendamento} registradas e publicar a alteração no outbox
+ *
+ * ---
+ * @author Rafael
+ * @since 1.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DisparoAgendamentoService {
+
+    // =============================
+    // 🔗 Injeção de Dependências
+    // =============================
+
+    private final AgendamentoRepository repository;
+    private final List<AcaoAgendamento> acoes;
+    private final OutboxService outbox;
+    private final ModelMapper modelMapper;
+
+    // =============================
+    // 🔔 Disparo
+    // =============================
+
+    /**
+     * Dispara o agendamento, se ainda estiver pendente e vencido.
+     * Uma falha em qualquer ação desfaz o disparo inteiro.
+     */
+    @Transactional
+    public boolean disparar(Long id) {
+        if (repository.marcarDisparado(id, LocalDateTime.now()) == 0) {
+            log.debug("⏰ Agendamento {} ignorado: excluído, já disparado ou adiado", id);
+            return false;
+        }
+        Agendamento agendamento = repository.findById(id).orElseThrow();
+
+        for (AcaoAgendamento acao : acoes) {
+            acao.executar(agendamento);
+        }
+        outbox.registrar("Agendamento", id, OperacaoOutbox.ATUALIZACAO,
+                modelMapper.map(agendamento, AgendamentoResponse.class));
+
+        log.info("⏰ Agendamento {} disparado ({} ações)", id, acoes.size());
+        return true;
+    }
+}
@@ -0,0 +1,36 @@
+package br.com.fiap.mototrack.scheduler;
+
+import br.com.fiap.mototrack.dto.request.EventoRequest;
+import br.com.fiap.mototrack.model.Agendamento;
+import br.com.fiap.mototrack.service.EventoService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 🔧 Ação: registra um evento de **Manutenção** para a moto do agendamento vencido.
+ *
+ * O evento passa pelo `EventoService`, então a projeção de status da moto e o outbox
+ * são atualizados na mesma transação do disparo.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "mototrack.agendador.acao-manutencao.habilitada", havingValue = "true", matchIfMissing = true)
+public class ManutencaoAcaoAgendamento implements AcaoAgendamento {
+
+    private final EventoService eventoService;
+
+    @Override
+    public String nome() {
+        return "manutencao";
+    }
+
+    @Override
+    public void executar(Agendamento agendamento) {
+        EventoRequest evento = new EventoRequest();
+        evento.setMotoId(agendamento.getMoto().getId());
+        evento.setTipo("Manutenção");
+        evento.setMotivo("Agendamento #" + agendamento.getId() + ": " + agendamento.getDescricao());
+        eventoService.cadastrar(evento);
+    }
+}
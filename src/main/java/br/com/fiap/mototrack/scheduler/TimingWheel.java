@@ -0,0 +1,184 @@
+package br.com.fiap.mototrack.scheduler;
+
+import java.util.function.Consumer;
+
+/**
+ * # 🎡 TimingWheel
+ *
+ * Roda de tempo hierárquica: cada nível tem `2^bitsPorNivel` baldes e cada balde do nível
+ * `n` cobre `2^(bitsPorNivel * n)` ticks. Um temporizador entra no nível mais baixo que
+ * comporta seu prazo e desce de nível (cascata) à medida que o tempo avança.
+ *
+ * ---
+ * ## 📋 Custos
+ * - **Inserção e cancelamento:** O(1) — cálculo de nível/balde + lista duplamente encadeada
+ * - **Avanço:** O(1) por tick, mais a cascata amortizada dos temporizadores
+ * - Prazos além do horizonte (`2^(bitsPorNivel * niveis)` ticks) ficam no último nível e
+ *   são reavaliados a cada volta
+ *
+ * > Não é thread-safe: o chamador deve sincronizar o acesso.
+ *
+ * @param <T> tipo do valor associado a cada temporizador
+ */
+public final class TimingWheel<T> {
+
+    /**
+     * Temporizador agendado na roda. Serve como handle para cancelamento.
+     */
+    public static final class Temporizador<T> {
+
+        private final T valor;
+        private final long prazo;
+        private Temporizador<T> anterior;
+        private Temporizador<T> proximo;
+
+        private Temporizador(T valor, long prazo) {
+            this.valor = valor;
+            this.prazo = prazo;
+        }
+
+        public T valor() {
+            return valor;
+        }
+
+        /** Tick em que o temporizador vence */
+        public long prazo() {
+            return prazo;
+        }
+
+        /** Indica se o temporizador ainda está na roda (não venceu nem foi cancelado) */
+        public boolean ativo() {
+            return anterior != null;
+        }
+
+        private void desvincular() {
+            anterior.proximo = proximo;
+            proximo.anterior = anterior;
+            anterior = null;
+            proximo = null;
+        }
+    }
+
+    private final int bitsPorNivel;
+    private final int mascara;
+    private final int niveis;
+    private final Temporizador<T>[][] baldes;
+    private long tickAtual;
+    private int tamanho;
+
+    @SuppressWarnings("unchecked")
+    public TimingWheel(int bitsPorNivel, int niveis, long tickInicial) {
+        if (bitsPorNivel < 1 || niveis < 1 || (long) bitsPorNivel * niveis > 62) {
+            throw new IllegalArgumentException("Configuração inválida da roda de tempo.");
+        }
+        this.bitsPorNivel = bitsPorNivel;
+        this.mascara = (1 << bitsPorNivel) - 1;
+        this.niveis = niveis;
+        this.tickAtual = tickInicial;
+        this.baldes = new Temporizador[niveis][1 << bitsPorNivel];
+        for (Temporizador<T>[] nivel : baldes) {
+            for (int i = 0; i < nivel.length; i++) {
+                Temporizador<T> sentinela = new Temporizador<>(null, 0);
+                sentinela.anterior = sentinela;
+                sentinela.proximo = sentinela;
+                nivel[i] = sentinela;
+            }
+        }
+    }
+
+    // =============================
+    // ➕ Inserção e cancelamento
+    // =============================
+
+    /**
+     * Agenda um valor para o tick informado. Prazos já vencidos disparam no próximo tick.
+     */
+    public Temporizador<T> agendar(T valor, long prazo) {
+        Temporizador<T> temporizador = new Temporizador<>(valor, Math.max(prazo, tickAtual + 1));
+        inserir(temporizador);
+        tamanho++;
+        return temporizador;
+    }
+
+    /**
+     * Remove o temporizador da roda. Retorna `false` se ele já venceu ou foi cancelado.
+     */
+    public boolean cancelar(Temporizador<T> temporizador) {
+        if (!temporizador.ativo()) {
+            return false;
+        }
+        temporizador.desvincular();
+        tamanho--;
+        return true;
+    }
+
+    // =============================
+    // ⏩ Avanço do tempo
+    // =============================
+
+    /**
+     * Avança a roda até o tick informado, entregando ao consumidor os valores vencidos em ordem de tick.
+     */
+    public void avancar(long ateTick, Consumer<T> vencidos) {
+        while (tickAtual < ateTick) {
+            tickAtual++;
+            cascatear();
+
+            Temporizador<T> sentinela = baldes[0][(int) (tickAtual & mascara)];
+            while (sentinela.proximo != sentinela) {
+                Temporizador<T> temporizador = sentinela.proximo;
+                temporizador.desvincular();
+                tamanho--;
+                vencidos.accept(temporizador.valor);
+            }
+        }
+    }
+
+    public long tickAtual() {
+        return tickAtual;
+    }
+
+    public int tamanho() {
+        return tamanho;
+    }
+
+    // =============================
+    // 🔧 Métodos auxiliares
+    // =============================
+
+    /**
+     * Ao completar uma volta no nível `n - 1`, redistribui o balde corrente do nível `n`.
+     */
+    private void cascatear() {
+        for (int nivel = 1; nivel < niveis; nivel++) {
+            int deslocamento = bitsPorNivel * nivel;
+            if ((tickAtual & ((1L << deslocamento) - 1)) != 0) {
+                return;
+            }
+            Temporizador<T> sentinela = baldes[nivel][(int) ((tickAtual >>> deslocamento) & mascara)];
+            while (sentinela.proximo != sentinela) {
+                Temporizador<T> temporizador = sentinela.proximo;
+                temporizador.desvincular();
+                inserir(temporizador);
+            }
+        }
+    }
+
+    private void inserir(Temporizador<T> temporizador) {
+        long delta = Math.max(temporizador.prazo - tickAtual, 0);
+        int nivel = 0;
+        while (nivel < niveis - 1 && delta >= (1L << (bitsPorNivel * (nivel + 1)))) {
+            nivel++;
+        }
+        long prazo = temporizador.prazo;
+        long horizonte = 1L << (bitsPorNivel * niveis);
+        if (delta >= horizonte) {
+            prazo = tickAtual + horizonte - 1;
+        }
+        Temporizador<T> sentinela = baldes[nivel][(int) ((Math.max(prazo, tickAtual) >>> (bitsPorNivel * nivel)) & mascara)];
+        temporizador.proximo = sentinela;
+        temporizador.anterior = sentinela.anterior;
+        sentinela.anterior.proximo = temporizador;
+        sentinela.anterior = temporizador;
+    }
+}
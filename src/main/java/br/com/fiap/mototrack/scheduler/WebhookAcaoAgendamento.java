@@ -0,0 +1,60 @@
+package br.com.fiap.mototrack.scheduler;
+
+import br.com.fiap.mototrack.dto.response.AgendamentoResponse;
+import br.com.fiap.mototrack.model.Agendamento;
+import br.com.fiap.mototrack.util.TransacaoUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+
+/**
+ * 🌐 Ação: envia o agendamento disparado via `POST` para a URL configurada.
+ *
+ * A chamada acontece somente após o commit do disparo; falhas são apenas registradas em log
+ * (consumidores que precisam de entrega garantida devem usar o outbox).
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "mototrack.agendador.webhook.url")
+public class WebhookAcaoAgendamento implements AcaoAgendamento {
+
+    private final RestTemplate restTemplate;
+    private final ModelMapper modelMapper;
+    private final String url;
+
+    public WebhookAcaoAgendamento(RestTemplateBuilder builder,
+                                  ModelMapper modelMapper,
+                                  @Value("${mototrack.agendador.webhook.url}") String url,
+                                  @Value("${mototrack.agendador.webhook.timeout-ms:5000}") long timeoutMs) {
+        this.restTemplate = builder
+                .setConnectTimeout(Duration.ofMillis(timeoutMs))
+                .setReadTimeout(Duration.ofMillis(timeoutMs))
+                .build();
+        this.modelMapper = modelMapper;
+        this.url = url;
+    }
+
+    @Override
+    public String nome() {
+        return "webhook";
+    }
+
+    @Override
+    public void executar(Agendamento agendamento) {
+        AgendamentoResponse corpo = modelMapper.map(agendamento, AgendamentoResponse.class);
+        TransacaoUtils.aposCommit(() -> {
+            try {
+                restTemplate.postForEntity(url, corpo, Void.class);
+            } catch (RestClientException e) {
+                log.warn("🌐 Falha ao notificar disparo do agendamento {}: {}", corpo.getId(), e.getMessage());
+            }
+        });
+    }
+}
@@ -0,0 +1,53 @@
+package br.com.fiap.mototrack.security;
+
+import br.com.fiap.mototrack.model.Usuario;
+import br.com.fiap.mototrack.repository.UsuarioRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * # 👑 AdministradorInicial
+ *
+ * Garante um usuário `ADMINISTRADOR` para o primeiro login: com a autenticação ativa, até
+ * `POST /usuarios` exige token. Criado apenas se `mototrack.auth.admin.email` e
+ * `mototrack.auth.admin.senha` estiverem definidos e o e-mail ainda não existir. Não há senha padrão:
+ * a senha vem de `MOTOTRACK_ADMIN_SENHA` (ou da propriedade), nunca do código ou do arquivo versionado.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AdministradorInicial implements ApplicationRunner {
+
+    private final UsuarioRepository repository;
+    private final HashSenhas hashSenhas;
+
+    @Value("${mototrack.auth.admin.email:}")
+    private String email;
+
+    @Value("${mototrack.auth.admin.senha:}")
+    private String senha;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!StringUtils.hasText(email)
+                || repository.findByEmailNormalizado(Usuario.normalizarEmail(email)).isPresent()) {
+            return;
+        }
+        if (!StringUtils.hasText(senha)) {
+            log.warn("👑 Administrador inicial não criado: defina MOTOTRACK_ADMIN_SENHA para o primeiro login.");
+            return;
+        }
+        repository.save(Usuario.builder()
+                .nome("Administrador")
+                .email(email)
+                .senha(hashSenhas.gerar(senha))
+                .perfil("ADMINISTRADOR")
+                .build());
+        log.info("👑 Usuário administrador inicial criado: {}", email);
+    }
+}
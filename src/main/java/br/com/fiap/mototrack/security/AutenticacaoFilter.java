@@ -0,0 +1,130 @@
+package br.com.fiap.mototrack.security;
+
+import br.com.fiap.mototrack.exception.ErrorResponse;
+import br.com.fiap.mototrack.ratelimit.LimiteTaxaFilter;
+import br.com.fiap.mototrack.util.CaminhoRequisicao;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * # 🔐 AutenticacaoFilter
+ *
+ * Exige `Authorization: Bearer <token>` fora das rotas públicas e verifica o token localmente
+ * (`TokensAcesso`): nenhuma consulta ao banco por requisição autenticada.
+ *
+ * ---
+ * ## 📋 Regras:
+ * - Rotas de `mototrack.auth.publicas` (login, `/actuator/health`, documentação) passam sem token; uma
+ *   entrada `METODO /caminho` libera apenas aquele método (ex: `POST /outbox/webhook-local`)
+ * - Console H2 e os demais endpoints do actuator exigem token
+ * - As rotas são comparadas com o caminho normalizado (`CaminhoRequisicao`); URIs com `;`, `..` ou
+ *   separadores codificados → `400`, para que não passem por uma rota pública até outro servlet
+ * - Token ausente, inválido, expirado ou revogado → `401` com `WWW-Authenticate: Bearer` e `ErrorResponse`
+ * - Token válido → `UsuarioAutenticado` nos atributos da requisição (`UsuarioAutenticado.de(request)`),
+ *   e ID/perfil para o `LimiteTaxaFilter`, que roda em seguida e limita por usuário
+ * - `mototrack.auth.habilitado=false` desliga a exigência (ambiente local, testes)
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+public class AutenticacaoFilter extends OncePerRequestFilter {
+
+    private static final String PREFIXO_BEARER = "Bearer ";
+
+    private final TokensAcesso tokens;
+    private final ObjectMapper objectMapper;
+    private final boolean habilitado;
+    private final AntPathMatcher matcher = new AntPathMatcher();
+    private final List<RotaPublica> rotasPublicas;
+
+    /** Padrão de caminho público, opcionalmente restrito a um método HTTP (`null` = qualquer método) */
+    private record RotaPublica(String metodo, String padrao) {
+
+        static RotaPublica de(String entrada) {
+            String valor = entrada.trim();
+            int espaco = valor.indexOf(' ');
+            return espaco < 0
+                    ? new RotaPublica(null, valor)
+                    : new RotaPublica(valor.substring(0, espaco).toUpperCase(), valor.substring(espaco + 1).trim());
+        }
+    }
+
+    public AutenticacaoFilter(TokensAcesso tokens, ObjectMapper objectMapper, Environment env) {
+        this.tokens = tokens;
+        this.objectMapper = objectMapper;
+        this.habilitado = env.getProperty("mototrack.auth.habilitado", Boolean.class, true);
+        this.rotasPublicas = Arrays.stream(env.getProperty("mototrack.auth.publicas", String[].class,
+                        new String[]{"/auth/login", "/actuator/health", "/actuator/health/**", "/swagger-ui/**",
+                                "/swagger-ui.html", "/v3/api-docs/**", "/error", "/favicon.ico", "/"}))
+                .map(RotaPublica::de)
+                .toList();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!habilitado || "OPTIONS".equals(request.getMethod())) {
+            return true;
+        }
+        if (CaminhoRequisicao.ambiguo(request)) {
+            return false;
+        }
+        String caminho = CaminhoRequisicao.de(request);
+        return rotasPublicas.stream().anyMatch(rota ->
+                (rota.metodo() == null || rota.metodo().equals(request.getMethod()))
+                        && matcher.match(rota.padrao(), caminho));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (CaminhoRequisicao.ambiguo(request)) {
+            responder(response, HttpStatus.BAD_REQUEST, "Caminho inválido: parâmetros de caminho, '..' e separadores codificados não são aceitos.");
+            return;
+        }
+        String autorizacao = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (autorizacao == null || !autorizacao.regionMatches(true, 0, PREFIXO_BEARER, 0, PREFIXO_BEARER.length())) {
+            negar(response, "Informe o token de acesso em Authorization: Bearer <token>.", null);
+            return;
+        }
+
+        UsuarioAutenticado usuario;
+        try {
+            usuario = tokens.verificar(autorizacao.substring(PREFIXO_BEARER.length()).trim());
+        } catch (ResponseStatusException e) {
+            negar(response, e.getReason(), "invalid_token");
+            return;
+        }
+        request.setAttribute(UsuarioAutenticado.ATRIBUTO, usuario);
+        request.setAttribute(LimiteTaxaFilter.ATRIBUTO_USUARIO_ID, usuario.id());
+        request.setAttribute(LimiteTaxaFilter.ATRIBUTO_PERFIL, usuario.perfil());
+        chain.doFilter(request, response);
+    }
+
+    private void negar(HttpServletResponse response, String mensagem, String erro) throws IOException {
+        response.setHeader(HttpHeaders.WWW_AUTHENTICATE, erro == null ? "Bearer" : "Bearer error=\"" + erro + "\"");
+        responder(response, HttpStatus.UNAUTHORIZED, mensagem);
+    }
+
+    private void responder(HttpServletResponse response, HttpStatus status, String mensagem) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getOutputStream(), new ErrorResponse(status.value(), mensagem));
+    }
+}
@@ -0,0 +1,101 @@
+package br.com.fiap.mototrack.security;
+
+import br.com.fiap.mototrack.model.Usuario;
+import br.com.fiap.mototrack.repository.UsuarioRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * # 🗂️ CacheCredenciais
+ *
+ * Near-cache do login: e-mail normalizado → `CredencialUsuario`, em um cache Caffeine limitado.
+ * Um login repetido não consulta o banco; um e-mail inexistente também fica lembrado por pouco tempo,
+ * absorvendo rajadas de tentativas com listas de e-mails (credential stuffing).
+ *
+ * ---
+ * ## 📋 Regras:
+ * - Busca sem distinção de maiúsculas (`Usuario.normalizarEmail`) pela coluna indexada `ds_email_normalizado`
+ * - Encontrados valem `mototrack.auth.cache-usuarios.validade-minutos`; inexistentes,
+ *   `mototrack.auth.cache-usuarios.negativos-segundos`
+ * - Limite de `mototrack.auth.cache-usuarios.maximo` entradas: a admissão do Caffeine (TinyLFU) evita que
+ *   e-mails aleatórios de um ataque expulsem os usuários que fazem login de fato
+ * - `invalidar` é chamado após o commit de cadastro, alteração, exclusão, importação e troca de hash;
+ *   uma carga em andamento para o mesmo e-mail termina antes da remoção, sem deixar valor antigo
+ * - Métricas: `cache.*{cache="credenciais"}`
+ */
+@Component
+public class CacheCredenciais {
+
+    private final UsuarioRepository repository;
+    private final Cache<String, Optional<CredencialUsuario>> credenciais;
+
+    public CacheCredenciais(UsuarioRepository repository, MeterRegistry registry,
+                            @Value("${mototrack.auth.cache-usuarios.maximo:10000}") long maximo,
+                            @Value("${mototrack.auth.cache-usuarios.validade-minutos:10}") long validadeMinutos,
+                            @Value("${mototrack.auth.cache-usuarios.negativos-segundos:30}") long negativosSegundos) {
+        this.repository = repository;
+        long validade = Duration.ofMinutes(validadeMinutos).toNanos();
+        long validadeNegativos = Duration.ofSeconds(negativosSegundos).toNanos();
+        this.credenciais = Caffeine.newBuilder()
+                .maximumSize(maximo)
+                .expireAfter(new Expiry<String, Optional<CredencialUsuario>>() {
+                    @Override
+                    public long expireAfterCreate(String email, Optional<CredencialUsuario> credencial, long agora) {
+                        return credencial.isPresent() ? validade : validadeNegativos;
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String email, Optional<CredencialUsuario> credencial, long agora,
+                                                  long restante) {
+                        return expireAfterCreate(email, credencial, agora);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String email, Optional<CredencialUsuario> credencial, long agora,
+                                                long restante) {
+                        return restante;
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(registry, credenciais, "credenciais");
+    }
+
+    /**
+     * Credencial do e-mail (sem distinção de maiúsculas), do cache ou do banco.
+     */
+    public Optional<CredencialUsuario> buscar(String email) {
+        String chave = Usuario.normalizarEmail(email);
+        if (chave == null) {
+            return Optional.empty();
+        }
+        return credenciais.get(chave, e -> repository.findByEmailNormalizado(e).map(CredencialUsuario::de));
+    }
+
+    /**
+     * Descarta o que estiver em cache para os e-mails (cadastrado, alterado ou excluído).
+     */
+    public void invalidar(String... emails) {
+        for (String email : emails) {
+            if (email != null) {
+                credenciais.invalidate(Usuario.normalizarEmail(email));
+            }
+        }
+    }
+
+    /**
+     * Descarta os e-mails de um bloco importado (entradas negativas anteriores à importação).
+     */
+    public void invalidar(Collection<String> emails) {
+        credenciais.invalidateAll(emails.stream().map(Usuario::normalizarEmail).toList());
+    }
+}
@@ -0,0 +1,29 @@
+package br.com.fiap.mototrack.security;
+
+import br.com.fiap.mototrack.model.Usuario;
+
+/**
+ * # 🗝️ CredencialUsuario
+ *
+ * O que o login precisa de um usuário: hash da senha para conferir e os dados das claims do token.
+ * Mantida em memória pelo `CacheCredenciais`.
+ *
+ * @param id       ID do usuário
+ * @param email    E-mail como cadastrado
+ * @param senha    Hash armazenado da senha
+ * @param perfil   Perfil do usuário
+ * @param filialId Filial do usuário, se houver
+ */
+public record CredencialUsuario(
+        Long id,
+        String email,
+        String senha,
+        String perfil,
+        Long filialId
+) {
+
+    public static CredencialUsuario de(Usuario usuario) {
+        return new CredencialUsuario(usuario.getId(), usuario.getEmail(), usuario.getSenha(), usuario.getPerfil(),
+                usuario.getFilial() != null ? usuario.getFilial().getId() : null);
+    }
+}
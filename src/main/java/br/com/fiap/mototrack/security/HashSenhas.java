@@ -0,0 +1,177 @@
+package br.com.fiap.mototrack.security;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static br.com.fiap.mototrack.exception.HttpExceptionUtils.serviceUnavailable;
+
+/**
+ * # 🧂 HashSenhas
+ *
+ * Hash de senhas com PBKDF2-HMAC-SHA256 (`javax.crypto`) em um executor próprio e limitado:
+ * o custo do KDF roda em no máximo `mototrack.senha.threads` núcleos e nunca nas threads do servlet,
+ * que só aguardam o resultado.
+ *
+ * ---
+ * ## 📋 Regras:
+ * - Formato armazenado: `pbkdf2-sha256$<iterações>$<sal Base64>$<hash Base64>` (sal aleatório de 16 bytes)
+ * - Custo ajustável em `mototrack.senha.iteracoes`; hashes com custo menor (ou senhas antigas em texto puro)
+ *   são aceitos e `precisaAtualizar` indica que devem ser refeitos no próximo login
+ * - Fila limitada (`mototrack.senha.fila`): com o executor saturado, a requisição recebe 503 em vez de esperar
+ * - Importações em lote usam `gerar(senha, permissoes)`, que limita quantas tarefas delas ocupam a fila,
+ *   para que cadastros e logins interativos continuem sendo atendidos no meio de um lote
+ * - Métricas do executor: `mototrack.senha.*` (`executor.active`, `executor.queued`, ...)
+ */
+@Slf4j
+@Component
+public class HashSenhas {
+
+    private static final String ALGORITMO = "PBKDF2WithHmacSHA256";
+    private static final String PREFIXO = "pbkdf2-sha256$";
+    private static final int BYTES_SAL = 16;
+    private static final int BITS_HASH = 256;
+
+    private final int iteracoes;
+    private final int threads;
+    private final ThreadPoolExecutor executor;
+    private final ExecutorService executorMonitorado;
+    private final SecureRandom aleatorio = new SecureRandom();
+
+    public HashSenhas(@Value("${mototrack.senha.iteracoes:210000}") int iteracoes,
+                      @Value("${mototrack.senha.threads:0}") int threads,
+                      @Value("${mototrack.senha.fila:1000}") int fila,
+                      MeterRegistry registry) {
+        this.iteracoes = iteracoes;
+        this.threads = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+        AtomicInteger contador = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(this.threads, this.threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(fila), tarefa -> {
+                    Thread thread = new Thread(tarefa, "hash-senha-" + contador.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.executorMonitorado = ExecutorServiceMetrics.monitor(registry, executor, "hash-senha", "mototrack.senha");
+        log.info("🧂 Hash de senhas: PBKDF2-SHA256, {} iterações, {} threads", iteracoes, this.threads);
+    }
+
+    /**
+     * Gera o hash de uma senha, aguardando o executor (cadastro e alteração de usuário).
+     */
+    public String gerar(String senha) {
+        return aguardar(enviar(() -> codificar(senha)));
+    }
+
+    /**
+     * Gera o hash sem bloquear a chamada além de `permissoes`: quem chama limita quantas tarefas
+     * suas ficam no executor ao mesmo tempo (importação em lote).
+     */
+    public CompletableFuture<String> gerar(String senha, Semaphore permissoes) {
+        permissoes.acquireUninterruptibly();
+        try {
+            return enviar(() -> codificar(senha)).whenComplete((hash, erro) -> permissoes.release());
+        } catch (RuntimeException e) {
+            permissoes.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Verifica a senha informada contra o valor armazenado (hash ou texto puro legado), em tempo constante.
+     */
+    public boolean confere(String senha, String armazenada) {
+        if (armazenada == null || !armazenada.startsWith(PREFIXO)) {
+            return armazenada != null && MessageDigest.isEqual(
+                    senha.getBytes(StandardCharsets.UTF_8), armazenada.getBytes(StandardCharsets.UTF_8));
+        }
+        String[] partes = armazenada.split("\\$");
+        if (partes.length != 4) {
+            return false;
+        }
+        int custo = Integer.parseInt(partes[1]);
+        byte[] sal = Base64.getDecoder().decode(partes[2]);
+        byte[] esperado = Base64.getDecoder().decode(partes[3]);
+        return aguardar(enviar(() -> MessageDigest.isEqual(esperado, derivar(senha, sal, custo))));
+    }
+
+    /**
+     * Texto puro ou custo abaixo do configurado: refazer o hash quando a senha for conhecida (login).
+     */
+    public boolean precisaAtualizar(String armazenada) {
+        if (armazenada == null || !armazenada.startsWith(PREFIXO)) {
+            return true;
+        }
+        String[] partes = armazenada.split("\\$");
+        return partes.length != 4 || Integer.parseInt(partes[1]) < iteracoes;
+    }
+
+    /** Threads do executor (limite natural de tarefas em paralelo) */
+    public int threads() {
+        return threads;
+    }
+
+    @PreDestroy
+    public void encerrar() {
+        executorMonitorado.shutdownNow();
+    }
+
+    // =============================
+    // 🔧 Métodos auxiliares
+    // =============================
+
+    private <T> CompletableFuture<T> enviar(Supplier<T> tarefa) {
+        try {
+            return CompletableFuture.supplyAsync(tarefa, executorMonitorado);
+        } catch (RejectedExecutionException e) {
+            throw serviceUnavailable("Serviço de senhas sobrecarregado. Tente novamente em instantes.");
+        }
+    }
+
+    private static <T> T aguardar(CompletableFuture<T> futuro) {
+        try {
+            return futuro.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException causa ? causa : e;
+        }
+    }
+
+    private String codificar(String senha) {
+        byte[] sal = new byte[BYTES_SAL];
+        aleatorio.nextBytes(sal);
+        Base64.Encoder base64 = Base64.getEncoder();
+        return PREFIXO + iteracoes + "$" + base64.encodeToString(sal) + "$"
+                + base64.encodeToString(derivar(senha, sal, iteracoes));
+    }
+
+    private static byte[] derivar(String senha, byte[] sal, int custo) {
+        PBEKeySpec especificacao = new PBEKeySpec(senha.toCharArray(), sal, custo, BITS_HASH);
+        try {
+            return SecretKeyFactory.getInstance(ALGORITMO).generateSecret(especificacao).getEncoded();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("PBKDF2 indisponível", e);
+        } finally {
+            especificacao.clearPassword();
+        }
+    }
+}
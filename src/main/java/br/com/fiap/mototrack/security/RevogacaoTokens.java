@@ -0,0 +1,90 @@
+package br.com.fiap.mototrack.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * # 🚫 RevogacaoTokens
+ *
+ * Revogações de tokens ainda não expirados, em caches Caffeine limitados.
+ *
+ * ---
+ * ## 📋 Regras:
+ * - `revogar(token)`: invalida um token pelo `jti` (logout); a entrada expira junto com o token
+ * - `revogarUsuario(id)`: invalida todos os tokens do usuário emitidos até agora (alteração de
+ *   perfil/filial, exclusão); a entrada dura o tempo de vida de um token
+ * - Passado esse prazo, o token já teria expirado: a revogação não precisa mais ser lembrada, por isso
+ *   os caches são pequenos e cada verificação é uma leitura em memória
+ * - Em memória (instância única): revogações não sobrevivem a reinícios, mas a troca da chave ativa sim
+ */
+@Component
+public class RevogacaoTokens {
+
+    private final Cache<String, Long> jtisRevogados;
+    private final Cache<Long, Long> usuariosRevogadosEm;
+
+    public RevogacaoTokens(@Value("${mototrack.auth.revogacao.maximo:10000}") long maximo,
+                           @Value("${mototrack.auth.validade-minutos:15}") long validadeMinutos) {
+        this.jtisRevogados = Caffeine.newBuilder()
+                .maximumSize(maximo)
+                .expireAfter(new Expiry<String, Long>() {
+                    @Override
+                    public long expireAfterCreate(String jti, Long expiraEm, long agora) {
+                        return TimeUnit.SECONDS.toNanos(Math.max(1, expiraEm - Instant.now().getEpochSecond()));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String jti, Long expiraEm, long agora, long restante) {
+                        return expireAfterCreate(jti, expiraEm, agora);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String jti, Long expiraEm, long agora, long restante) {
+                        return restante;
+                    }
+                })
+                .build();
+        this.usuariosRevogadosEm = Caffeine.newBuilder()
+                .maximumSize(maximo)
+                .expireAfterWrite(Duration.ofMinutes(validadeMinutos))
+                .build();
+    }
+
+    /**
+     * Revoga um único token (ex: logout).
+     */
+    public void revogar(UsuarioAutenticado usuario) {
+        jtisRevogados.put(usuario.jti(), usuario.expiraEm());
+    }
+
+    /**
+     * Revoga todos os tokens do usuário emitidos até este segundo.
+     */
+    public void revogarUsuario(Long usuarioId) {
+        usuariosRevogadosEm.put(usuarioId, Instant.now().getEpochSecond());
+    }
+
+    /**
+     * Instante de emissão (segundos) para um novo token do usuário: não pode cair no mesmo segundo
+     * de uma revogação, senão o token recém-emitido já nasceria revogado.
+     */
+    public long emissaoValida(Long usuarioId, long agora) {
+        Long revogadoEm = usuariosRevogadosEm.getIfPresent(usuarioId);
+        return revogadoEm != null && revogadoEm >= agora ? revogadoEm + 1 : agora;
+    }
+
+    public boolean revogado(UsuarioAutenticado usuario) {
+        if (jtisRevogados.getIfPresent(usuario.jti()) != null) {
+            return true;
+        }
+        Long revogadoEm = usuariosRevogadosEm.getIfPresent(usuario.id());
+        return revogadoEm != null && usuario.emitidoEm() <= revogadoEm;
+    }
+}
@@ -0,0 +1,195 @@
+package br.com.fiap.mototrack.security;
+
+import br.com.fiap.mototrack.dto.response.TokenResponse;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static br.com.fiap.mototrack.exception.HttpExceptionUtils.unauthorized;
+
+/**
+ * # 🔏 TokensAcesso
+ *
+ * Emissão e verificação local de tokens de acesso assinados (JWT HS256, `javax.crypto`).
+ *
+ * ---
+ * ## 📋 Funcionamento:
+ * - As claims carregam o principal: `sub` (ID), `email`, `perfil`, `filial`, além de `jti`, `iat` e `exp`
+ * - Verificar é recalcular o HMAC com a chave do `kid` do cabeçalho: sem consulta ao banco
+ * - Chaves em `mototrack.auth.chaves` (`kid:segredoBase64`, separadas por vírgula), carregadas uma vez;
+ *   `mototrack.auth.chave-ativa` assina, as demais continuam verificando (rotação sem derrubar sessões)
+ * - Um `Mac` já inicializado por chave, clonado a cada assinatura: o clone copia o estado com a chave
+ *   já processada, sem `getInstance`/`init` (com threads virtuais não há thread para reaproveitar cache)
+ * - Sem chaves configuradas, gera uma aleatória na inicialização (tokens não sobrevivem ao reinício)
+ * - Assinatura comparada em tempo constante; token expirado ou revogado → 401
+ */
+@Slf4j
+@Component
+public class TokensAcesso {
+
+    private static final String ALGORITMO = "HmacSHA256";
+    private static final Base64.Encoder BASE64_URL = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder BASE64_URL_DECODER = Base64.getUrlDecoder();
+
+    private final ObjectMapper objectMapper;
+    private final RevogacaoTokens revogacao;
+    private final long validadeSegundos;
+    private final String chaveAtiva;
+    private final Map<String, Mac> macs = new HashMap<>();
+
+    public TokensAcesso(ObjectMapper objectMapper, RevogacaoTokens revogacao,
+                        @Value("${mototrack.auth.chaves:}") String[] chaves,
+                        @Value("${mototrack.auth.chave-ativa:}") String chaveAtiva,
+                        @Value("${mototrack.auth.validade-minutos:15}") long validadeMinutos) {
+        this.objectMapper = objectMapper;
+        this.revogacao = revogacao;
+        this.validadeSegundos = validadeMinutos * 60;
+        for (String chave : chaves) {
+            int separador = chave.indexOf(':');
+            if (separador > 0) {
+                registrar(chave.substring(0, separador).trim(), Base64.getDecoder().decode(chave.substring(separador + 1).trim()));
+            }
+        }
+        if (macs.isEmpty()) {
+            byte[] segredo = new byte[32];
+            new SecureRandom().nextBytes(segredo);
+            registrar("local", segredo);
+            log.warn("🔏 Nenhuma chave em mototrack.auth.chaves: usando uma chave aleatória (tokens valem até o reinício)");
+            chaveAtiva = "local";
+        }
+        if (!StringUtils.hasText(chaveAtiva)) {
+            chaveAtiva = macs.keySet().iterator().next();
+        }
+        if (!macs.containsKey(chaveAtiva)) {
+            throw new IllegalStateException("mototrack.auth.chave-ativa '" + chaveAtiva + "' não está em mototrack.auth.chaves");
+        }
+        this.chaveAtiva = chaveAtiva;
+    }
+
+    private void registrar(String kid, byte[] segredo) {
+        if (segredo.length < 32) {
+            throw new IllegalStateException("A chave '" + kid + "' deve ter ao menos 256 bits");
+        }
+        try {
+            Mac mac = Mac.getInstance(ALGORITMO);
+            mac.init(new SecretKeySpec(segredo, ALGORITMO));
+            mac.clone(); // falha na inicialização se o provedor não suportar clone
+            macs.put(kid, mac);
+        } catch (GeneralSecurityException | CloneNotSupportedException e) {
+            throw new IllegalStateException("HMAC indisponível", e);
+        }
+    }
+
+    // =============================
+    // 📝 Emissão
+    // =============================
+
+    /**
+     * Emite um token para o usuário com as claims de principal, perfil e filial.
+     */
+    public TokenResponse emitir(CredencialUsuario usuario) {
+        long agora = revogacao.emissaoValida(usuario.id(), Instant.now().getEpochSecond());
+        long expiraEm = agora + validadeSegundos;
+
+        ObjectNode cabecalho = objectMapper.createObjectNode()
+                .put("alg", "HS256").put("typ", "JWT").put("kid", chaveAtiva);
+        ObjectNode claims = objectMapper.createObjectNode()
+                .put("sub", String.valueOf(usuario.id()))
+                .put("email", usuario.email())
+                .put("perfil", usuario.perfil())
+                .put("jti", UUID.randomUUID().toString())
+                .put("iat", agora)
+                .put("exp", expiraEm);
+        if (usuario.filialId() != null) {
+            claims.put("filial", usuario.filialId());
+        }
+
+        String conteudo = base64(cabecalho) + "." + base64(claims);
+        String token = conteudo + "." + BASE64_URL.encodeToString(assinar(chaveAtiva, conteudo));
+        return new TokenResponse(token, "Bearer", validadeSegundos, Instant.ofEpochSecond(expiraEm));
+    }
+
+    // =============================
+    // 🔍 Verificação
+    // =============================
+
+    /**
+     * Valida assinatura, expiração e revogação, e devolve o principal carregado no token.
+     */
+    public UsuarioAutenticado verificar(String token) {
+        int ponto1 = token.indexOf('.');
+        int ponto2 = token.indexOf('.', ponto1 + 1);
+        if (ponto1 < 0 || ponto2 < 0 || token.indexOf('.', ponto2 + 1) >= 0) {
+            throw unauthorized("Token malformado.");
+        }
+        try {
+            JsonNode cabecalho = objectMapper.readTree(BASE64_URL_DECODER.decode(token.substring(0, ponto1)));
+            String kid = cabecalho.path("kid").asText();
+            if (!"HS256".equals(cabecalho.path("alg").asText()) || !macs.containsKey(kid)) {
+                throw unauthorized("Token assinado com algoritmo ou chave desconhecidos.");
+            }
+            byte[] esperada = assinar(kid, token.substring(0, ponto2));
+            byte[] recebida = BASE64_URL_DECODER.decode(token.substring(ponto2 + 1));
+            if (!MessageDigest.isEqual(esperada, recebida)) {
+                throw unauthorized("Assinatura do token inválida.");
+            }
+
+            JsonNode claims = objectMapper.readTree(BASE64_URL_DECODER.decode(token.substring(ponto1 + 1, ponto2)));
+            UsuarioAutenticado usuario = new UsuarioAutenticado(
+                    Long.valueOf(claims.path("sub").asText()),
+                    claims.path("email").asText(null),
+                    claims.path("perfil").asText(null),
+                    claims.hasNonNull("filial") ? claims.get("filial").asLong() : null,
+                    claims.path("jti").asText(),
+                    claims.path("iat").asLong(),
+                    claims.path("exp").asLong());
+            if (usuario.expiraEm() <= Instant.now().getEpochSecond()) {
+                throw unauthorized("Token expirado.");
+            }
+            if (revogacao.revogado(usuario)) {
+                throw unauthorized("Token revogado.");
+            }
+            return usuario;
+        } catch (IllegalArgumentException | IOException e) {
+            throw unauthorized("Token malformado.");
+        }
+    }
+
+    // =============================
+    // 🔧 Métodos auxiliares
+    // =============================
+
+    private byte[] assinar(String kid, String conteudo) {
+        try {
+            // O original nunca é usado diretamente: o clone é por chamada, sem sincronização
+            return ((Mac) macs.get(kid).clone()).doFinal(conteudo.getBytes(StandardCharsets.US_ASCII));
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException("HMAC indisponível", e);
+        }
+    }
+
+    private String base64(ObjectNode json) {
+        try {
+            return BASE64_URL.encodeToString(objectMapper.writeValueAsBytes(json));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package br.com.fiap.mototrack.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * # 🪪 UsuarioAutenticado
+ *
+ * Principal extraído de um token válido. Tudo o que a API precisa saber sobre quem chama
+ * (ID, perfil, filial) vem das claims do token, sem consulta ao banco.
+ *
+ * @param id        ID do usuário (claim `sub`)
+ * @param email     E-mail (claim `email`)
+ * @param perfil    Perfil (claim `perfil`)
+ * @param filialId  Filial do usuário, se houver (claim `filial`)
+ * @param jti       Identificador único do token (claim `jti`), usado na revogação
+ * @param emitidoEm Emissão, em segundos desde a época (claim `iat`)
+ * @param expiraEm  Expiração, em segundos desde a época (claim `exp`)
+ */
+public record UsuarioAutenticado(
+        Long id,
+        String email,
+        String perfil,
+        Long filialId,
+        String jti,
+        long emitidoEm,
+        long expiraEm
+) {
+
+    /** Atributo da requisição com o usuário autenticado */
+    public static final String ATRIBUTO = UsuarioAutenticado.class.getName();
+
+    /**
+     * Usuário autenticado da requisição, ou `null` se a rota for pública.
+     */
+    public static UsuarioAutenticado de(HttpServletRequest request) {
+        return (UsuarioAutenticado) request.getAttribute(ATRIBUTO);
+    }
+}
@@ -1,22 +1,45 @@
 package br.com.fiap.mototrack.service;
 
+import br.com.fiap.mototrack.booking.AgendaOficina;
+import br.com.fiap.mototrack.booking.CapacidadeOficina;
+import br.com.fiap.mototrack.booking.RecorrenciaExpansor;
+import br.com.fiap.mototrack.booking.ReservaIntervalo;
 import br.com.fiap.mototrack.dto.request.AgendamentoRequest;
+import br.com.fiap.mototrack.dto.request.BuscaLoteRequest;
 import br.com.fiap.mototrack.dto.response.AgendamentoResponse;
+import br.com.fiap.mototrack.dto.response.ConflitoResponse;
+import br.com.fiap.mototrack.dto.response.LoteResponse;
 import br.com.fiap.mototrack.filter.AgendamentoFilter;
+import br.com.fiap.mototrack.metrics.Perfilador;
 import br.com.fiap.mototrack.model.Agendamento;
 import br.com.fiap.mototrack.model.Moto;
+import br.com.fiap.mototrack.model.RegraRecorrencia;
+import br.com.fiap.mototrack.outbox.OperacaoOutbox;
+import br.com.fiap.mototrack.outbox.OutboxService;
 import br.com.fiap.mototrack.repository.AgendamentoRepository;
+import br.com.fiap.mototrack.repository.FilialRepository;
 import br.com.fiap.mototrack.repository.MotoRepository;
+import br.com.fiap.mototrack.scheduler.AgendadorAgendamentos;
 import br.com.fiap.mototrack.specification.AgendamentoSpecification;
+import br.com.fiap.mototrack.util.TransacaoUtils;
 import static br.com.fiap.mototrack.exception.HttpExceptionUtils.notFound;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.modelmapper.ModelMapper;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 /**
  * # 🛠️ Serviço: AgendamentoService
@@ -26,9 +49,15 @@ import java.util.List;
  * ---
  * ## 📋 Responsabilidades:
  * - Conversão entre DTOs e entidades com ModelMapper
- * - Validação do vínculo com Moto
+ * - Validação do vínculo com Moto e Filial (oficina)
+ * - Detecção de horários sobrepostos na agenda da moto e da oficina (`AgendaOficina`)
+ * - Reserva de vagas por slot conforme a capacidade da oficina (`CapacidadeOficina`)
  * - Registro, atualização, exclusão e consulta de agendamentos
+ * - Busca em lote por IDs, com consultas `IN` em blocos (`BuscaEmLote`)
  * - Suporte a filtros dinâmicos e paginação via Specification
+ * - Expansão das ocorrências previstas das recorrências no filtro e materialização da próxima
+ * - Registro das alterações no outbox, na mesma transação
+ * - Sincronização do agendador de disparos após o commit
  * - Tratamento centralizado de exceções customizadas
  *
  * ---
@@ -45,6 +74,14 @@ public class AgendamentoService {
 
     private final AgendamentoRepository agendamentoRepository;
     private final MotoRepository motoRepository;
+    private final FilialRepository filialRepository;
+    private final AgendaOficina agenda;
+    private final CapacidadeOficina capacidade;
+    private final OutboxService outbox;
+    private final AgendadorAgendamentos agendador;
+    private final RecorrenciaExpansor expansor;
+    private final BuscaEmLote buscaEmLote;
+    private final ConsultaPorCampos consultaPorCampos;
     private final ModelMapper modelMapper;
 
     // =============================
@@ -53,6 +90,8 @@ public class AgendamentoService {
 
     /**
      * Cadastra um novo agendamento, validando o vínculo com a moto.
+     * O horário é reservado na agenda da moto e da oficina; sobreposições na moto
+     * são recusadas (409) ou sinalizadas, conforme a política configurada.
      */
     @Transactional
     public AgendamentoResponse cadastrar(AgendamentoRequest dto) {
@@ -63,9 +102,37 @@ public class AgendamentoService {
                     .orElseThrow(() -> notFound("Moto", dto.getMotoId()));
             agendamento.setMoto(moto);
         }
+        vincularOficina(agendamento, dto);
 
-        Agendamento salvo = agendamentoRepository.save(agendamento);
-        return modelMapper.map(salvo, AgendamentoResponse.class);
+        return salvarNovo(agendamento);
+    }
+
+    // =============================
+    // 🔁 Materializar ocorrência de recorrência
+    // =============================
+
+    /**
+     * Grava uma ocorrência de regra de recorrência como agendamento, em transação própria
+     * (cada moto de um grupo é independente e a chamada pode vir de um pós-commit).
+     * Retorna `false` se a ocorrência já havia sido materializada.
+     */
+    @Transactional(Transactional.TxType.REQUIRES_NEW)
+    public boolean materializarOcorrencia(RegraRecorrencia regra, Long motoId, LocalDateTime data) {
+        if (agendamentoRepository.existsByRegraIdAndMotoIdAndDataAgendada(regra.getId(), motoId, data)) {
+            return false;
+        }
+        Moto moto = motoRepository.findById(motoId)
+                .orElseThrow(() -> notFound("Moto", motoId));
+
+        salvarNovo(Agendamento.builder()
+                .moto(moto)
+                .filial(regra.getFilial() != null ? regra.getFilial() : moto.getFilial())
+                .regra(regra)
+                .dataAgendada(data)
+                .duracaoMinutos(regra.getDuracaoMinutos() != null ? regra.getDuracaoMinutos() : Agendamento.DURACAO_PADRAO_MINUTOS)
+                .descricao(regra.getDescricao())
+                .build());
+        return true;
     }
 
     // =============================
@@ -74,13 +141,19 @@ public class AgendamentoService {
 
     /**
      * Atualiza os dados de um agendamento pelo ID, validando a moto se informada.
+     * Se a data agendada mudar, o agendamento volta a ficar pendente de disparo.
      */
     @Transactional
     public AgendamentoResponse atualizar(Long id, AgendamentoRequest dto) {
         Agendamento existente = agendamentoRepository.findById(id)
                 .orElseThrow(() -> notFound("Agendamento", id));
+        LocalDateTime dataAnterior = existente.getDataAgendada();
+        ReservaIntervalo reservaAnterior = ReservaIntervalo.de(existente);
 
         modelMapper.map(dto, existente);
+        if (!Objects.equals(dataAnterior, existente.getDataAgendada())) {
+            existente.setDataDisparo(null);
+        }
 
         if (dto.getMotoId() != null) {
             Moto moto = motoRepository.findById(dto.getMotoId())
@@ -89,9 +162,15 @@ public class AgendamentoService {
         } else {
             existente.setMoto(null);
         }
+        vincularOficina(existente, dto);
 
         Agendamento atualizado = agendamentoRepository.save(existente);
-        return modelMapper.map(atualizado, AgendamentoResponse.class);
+        List<Long> conflitos = reservarHorario(atualizado, reservaAnterior);
+
+        AgendamentoResponse response = modelMapper.map(atualizado, AgendamentoResponse.class);
+        outbox.registrar("Agendamento", id, OperacaoOutbox.ATUALIZACAO, response);
+        sincronizarAgendador(atualizado);
+        return comConflitos(response, conflitos);
     }
 
     // =============================
@@ -121,6 +200,26 @@ public class AgendamentoService {
         return modelMapper.map(agendamento, AgendamentoResponse.class);
     }
 
+    // =============================
+    // 📦 Buscar em lote
+    // =============================
+
+    /**
+     * Retorna os agendamentos dos IDs informados, na ordem do pedido, com consultas `IN` em blocos.
+     * IDs inexistentes são informados em `naoEncontrados`, sem exceção.
+     */
+    public LoteResponse<AgendamentoResponse, Long> buscarPorIds(List<Long> ids) {
+        return buscaEmLote.buscar(ids, agendamentoRepository::findByIdIn, Agendamento::getId,
+                agendamento -> modelMapper.map(agendamento, AgendamentoResponse.class));
+    }
+
+    /**
+     * Busca em lote pelos `ids` do pedido (placas não se aplicam a este recurso).
+     */
+    public LoteResponse<AgendamentoResponse, Long> buscarEmLote(BuscaLoteRequest pedido) {
+        return buscarPorIds(BuscaEmLote.somenteIds(pedido));
+    }
+
     // =============================
     // ❌ Excluir agendamento
     // =============================
@@ -131,10 +230,17 @@ public class AgendamentoService {
      */
     @Transactional
     public void excluir(Long id) {
-        if (!agendamentoRepository.existsById(id)) {
-            throw notFound("Agendamento", id);
-        }
-        agendamentoRepository.deleteById(id);
+        Agendamento agendamento = agendamentoRepository.findById(id)
+                .orElseThrow(() -> notFound("Agendamento", id));
+        ReservaIntervalo reserva = ReservaIntervalo.de(agendamento);
+
+        agendamentoRepository.delete(agendamento);
+        outbox.registrar("Agendamento", id, OperacaoOutbox.EXCLUSAO, null);
+        TransacaoUtils.aposCommit(() -> {
+            agendador.cancelar(id);
+            agenda.liberar(reserva);
+            capacidade.liberar(reserva);
+        });
     }
 
     // =============================
@@ -143,10 +249,170 @@ public class AgendamentoService {
 
     /**
      * Retorna uma página de agendamentos aplicando filtros dinâmicos.
+     * Com uma janela de datas, inclui as ocorrências previstas das recorrências, intercaladas
+     * por data (somente quando a ordenação é por `dataAgendada`). A intercalação consome os dois
+     * fluxos sob demanda — gravados em blocos do tamanho da página — e para ao completar a página.
      */
     public Page<AgendamentoResponse> consultarComFiltro(AgendamentoFilter filtro, Pageable pageable) {
-        var spec = AgendamentoSpecification.comFiltros(filtro);
-        return agendamentoRepository.findAll(spec, pageable)
-                .map(a -> modelMapper.map(a, AgendamentoResponse.class));
+        var spec = Perfilador.especificacao(AgendamentoSpecification.comFiltros(filtro));
+        Sort.Order ordem = pageable.getSort().getOrderFor("dataAgendada");
+        boolean decrescente = ordem != null && ordem.isDescending();
+        RecorrenciaExpansor.Previstas previstas = pageable.getSort().isUnsorted() || ordem != null
+                ? expansor.expandir(filtro, decrescente)
+                : null;
+        if (previstas == null || !previstas.hasNext()) {
+            return agendamentoRepository.findAll(spec, pageable)
+                    .map(a -> modelMapper.map(a, AgendamentoResponse.class));
+        }
+
+        Comparator<LocalDateTime> porData = decrescente ? Comparator.reverseOrder() : Comparator.naturalOrder();
+        Page<Agendamento> gravados = agendamentoRepository.findAll(spec, PageRequest.of(0, pageable.getPageSize(),
+                decrescente ? Sort.by("dataAgendada").descending() : Sort.by("dataAgendada")));
+        long total = gravados.getTotalElements() + previstas.total();
+
+        List<AgendamentoResponse> pagina = new ArrayList<>(pageable.getPageSize());
+        AgendamentoResponse prevista = previstas.next();
+        int indice = 0;
+        for (long posicao = 0; posicao < pageable.getOffset() + pageable.getPageSize(); posicao++) {
+            if (indice == gravados.getNumberOfElements() && gravados.hasNext()) {
+                gravados = agendamentoRepository.findAll(spec, gravados.nextPageable());
+                indice = 0;
+            }
+            Agendamento gravado = indice < gravados.getNumberOfElements() ? gravados.getContent().get(indice) : null;
+            AgendamentoResponse proximo;
+            if (gravado != null && (prevista == null || porData.compare(gravado.getDataAgendada(), prevista.getDataAgendada()) <= 0)) {
+                indice++;
+                proximo = posicao >= pageable.getOffset() ? modelMapper.map(gravado, AgendamentoResponse.class) : null;
+            } else if (prevista != null) {
+                proximo = prevista;
+                prevista = previstas.hasNext() ? previstas.next() : null;
+            } else {
+                break;
+            }
+            if (posicao >= pageable.getOffset()) {
+                pagina.add(proximo);
+            }
+        }
+        return new PageImpl<>(pagina, pageable, total);
+    }
+
+    // =============================
+    // ⚔️ Relatório de conflitos
+    // =============================
+
+    /**
+     * Retorna os pares de agendamentos com horários sobrepostos (mesma moto ou mesma oficina).
+     */
+    public List<ConflitoResponse> consultarConflitos() {
+        return agenda.conflitos();
+    }
+
+    // =============================
+    // 🔧 Métodos auxiliares
+    // =============================
+
+    /**
+     * Grava um novo agendamento: reserva o horário, registra no outbox e agenda o disparo.
+     */
+    private AgendamentoResponse salvarNovo(Agendamento agendamento) {
+        Agendamento salvo = agendamentoRepository.save(agendamento);
+        List<Long> conflitos = reservarHorario(salvo, null);
+
+        AgendamentoResponse response = modelMapper.map(salvo, AgendamentoResponse.class);
+        outbox.registrar("Agendamento", salvo.getId(), OperacaoOutbox.CRIACAO, response);
+        sincronizarAgendador(salvo);
+        return comConflitos(response, conflitos);
+    }
+
+    /**
+     * Vincula a filial (oficina) informada, ou a filial atual da moto, e aplica a duração padrão.
+     */
+    private void vincularOficina(Agendamento agendamento, AgendamentoRequest dto) {
+        if (dto.getFilialId() != null) {
+            agendamento.setFilial(filialRepository.findById(dto.getFilialId())
+                    .orElseThrow(() -> notFound("Filial", dto.getFilialId())));
+        } else {
+            agendamento.setFilial(agendamento.getMoto() != null ? agendamento.getMoto().getFilial() : null);
+        }
+        if (agendamento.getDuracaoMinutos() == null) {
+            agendamento.setDuracaoMinutos(Agendamento.DURACAO_PADRAO_MINUTOS);
+        }
+    }
+
+    /**
+     * Reserva o horário na agenda e as vagas da oficina em memória; as reservas são desfeitas se a
+     * transação não fizer commit, e as vagas que só a reserva anterior ocupava são soltas após o commit.
+     */
+    private List<Long> reservarHorario(Agendamento agendamento, ReservaIntervalo anterior) {
+        ReservaIntervalo nova = ReservaIntervalo.de(agendamento);
+        List<Long> conflitos = agenda.reservar(nova, anterior);
+        TransacaoUtils.aposRollback(() -> agenda.desfazer(nova, anterior));
+
+        capacidade.substituir(nova, anterior);
+        TransacaoUtils.aposCommit(() -> capacidade.liberarDiferenca(anterior, nova));
+        TransacaoUtils.aposRollback(() -> capacidade.liberarDiferenca(nova, anterior));
+        return conflitos;
+    }
+
+    private static AgendamentoResponse comConflitos(AgendamentoResponse response, List<Long> conflitos) {
+        if (!conflitos.isEmpty()) {
+            response.setConflitos(conflitos);
+        }
+        return response;
+    }
+
+    /**
+     * Após o commit, coloca o agendamento pendente na roda do agendador (ou o retira, se já disparado).
+     */
+    private void sincronizarAgendador(Agendamento agendamento) {
+        Long id = agendamento.getId();
+        LocalDateTime dataAgendada = agendamento.getDataAgendada();
+        if (agendamento.getDataDisparo() == null) {
+            TransacaoUtils.aposCommit(() -> agendador.agendar(id, dataAgendada));
+        } else {
+            TransacaoUtils.aposCommit(() -> agendador.cancelar(id));
+        }
+    }
+
+    // =============================
+    // 🎯 Seleção de campos (?fields=)
+    // =============================
+
+    /**
+     * Lista os agendamentos apenas com os campos pedidos, lidos por projeção direto do banco.
+     */
+    public List<Map<String, Object>> consultarCampos(String campos) {
+        return consultaPorCampos.listar(Agendamento.class, AgendamentoResponse.class, campos, null, Sort.unsorted());
+    }
+
+    /**
+     * Retorna o agendamento do ID informado apenas com os campos pedidos.
+     * Lança exceção se não encontrado.
+     */
+    public Map<String, Object> buscarCamposPorId(Long id, String campos) {
+        return consultaPorCampos.buscarPorId(Agendamento.class, AgendamentoResponse.class, campos, id)
+                .orElseThrow(() -> notFound("Agendamento", id));
+    }
+
+    /**
+     * Retorna uma página de agendamentos com filtros dinâmicos, apenas com os campos pedidos.
+     * Inclui só os agendamentos gravados: as ocorrências previstas das recorrências não existem no banco.
+     */
+    public Page<Map<String, Object>> consultarCamposComFiltro(AgendamentoFilter filtro, Pageable pageable, String campos) {
+        var spec = Perfilador.especificacao(AgendamentoSpecification.comFiltros(filtro));
+        return consultaPorCampos.paginar(Agendamento.class, AgendamentoResponse.class, campos, spec, pageable);
+    }
+
+    // =============================
+    // 🕸️ Carregamento em lote (GraphQL)
+    // =============================
+
+    /**
+     * Retorna o próximo agendamento gravado (a partir de `desde`) de cada moto informada,
+     * em duas consultas para todo o bloco.
+     */
+    public List<AgendamentoResponse> buscarProximosPorMotos(Collection<Long> motoIds, LocalDateTime desde) {
+        List<Long> ids = agendamentoRepository.findIdsProximosPorMotos(motoIds, desde);
+        return ids.isEmpty() ? List.of() : buscarPorIds(ids).encontrados();
     }
 }
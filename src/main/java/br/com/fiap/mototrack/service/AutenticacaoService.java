@@ -0,0 +1,107 @@
+package br.com.fiap.mototrack.service;
+
+import br.com.fiap.mototrack.dto.request.LoginRequest;
+import br.com.fiap.mototrack.dto.response.TokenResponse;
+import br.com.fiap.mototrack.repository.UsuarioRepository;
+import br.com.fiap.mototrack.security.CacheCredenciais;
+import br.com.fiap.mototrack.security.CredencialUsuario;
+import br.com.fiap.mototrack.security.HashSenhas;
+import br.com.fiap.mototrack.security.RevogacaoTokens;
+import br.com.fiap.mototrack.security.TokensAcesso;
+import br.com.fiap.mototrack.security.UsuarioAutenticado;
+import static br.com.fiap.mototrack.exception.HttpExceptionUtils.unauthorized;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
+/**
+ * # 🛠️ Serviço: AutenticacaoService
+ *
+ * Login e logout com tokens de acesso assinados.
+ *
+ * ---
+ * ## 📋 Responsabilidades:
+ * - Trocar e-mail e senha por um token; o usuário vem do `CacheCredenciais` (e-mail sem distinção de
+ *   maiúsculas), e só o primeiro login de um e-mail consulta o banco
+ * - Verificar a senha no executor de hash (`HashSenhas`) e refazer o hash de senhas em texto puro
+ *   ou com custo desatualizado
+ * - Revogar o token corrente no logout
+ * - Mensagem única e o mesmo custo de verificação para e-mail inexistente e senha errada
+ *   (não revela quais e-mails existem)
+ */
+@Service
+@RequiredArgsConstructor
+public class AutenticacaoService {
+
+    // =============================
+    // 🔗 Injeção de Dependências
+    // =============================
+
+    private final UsuarioRepository repository;
+    private final CacheCredenciais credenciais;
+    private final HashSenhas hashSenhas;
+    private final TokensAcesso tokens;
+    private final RevogacaoTokens revogacao;
+
+    private volatile String hashFicticio;
+
+    // =============================
+    // 🔑 Login
+    // =============================
+
+    /**
+     * Valida as credenciais e emite um token com ID, perfil e filial do usuário.
+     */
+    public TokenResponse login(LoginRequest dto) {
+        Optional<CredencialUsuario> encontrada = credenciais.buscar(dto.getEmail());
+        if (encontrada.isEmpty()) {
+            hashSenhas.confere(dto.getSenha(), hashFicticio());
+            throw unauthorized("E-mail ou senha inválidos.");
+        }
+        CredencialUsuario credencial = encontrada.get();
+        if (!hashSenhas.confere(dto.getSenha(), credencial.senha())) {
+            throw unauthorized("E-mail ou senha inválidos.");
+        }
+        if (hashSenhas.precisaAtualizar(credencial.senha())) {
+            String novoHash = hashSenhas.gerar(dto.getSenha());
+            repository.findById(credencial.id()).ifPresent(usuario -> {
+                usuario.setSenha(novoHash);
+                repository.save(usuario);
+            });
+            credenciais.invalidar(credencial.email());
+        }
+        return tokens.emitir(credencial);
+    }
+
+    // =============================
+    // 🚪 Logout
+    // =============================
+
+    /**
+     * Revoga o token usado na requisição.
+     */
+    public void logout(UsuarioAutenticado usuario) {
+        if (usuario == null) {
+            throw unauthorized("Nenhum token de acesso informado.");
+        }
+        revogacao.revogar(usuario);
+    }
+
+    // =============================
+    // 🔧 Métodos auxiliares
+    // =============================
+
+    /**
+     * Hash com o custo atual, para gastar na verificação de e-mail inexistente o mesmo tempo de uma senha errada.
+     */
+    private String hashFicticio() {
+        String hash = hashFicticio;
+        if (hash == null) {
+            hash = hashSenhas.gerar("senha-ficticia");
+            hashFicticio = hash;
+        }
+        return hash;
+    }
+}
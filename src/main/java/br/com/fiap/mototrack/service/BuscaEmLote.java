@@ -0,0 +1,105 @@
+package br.com.fiap.mototrack.service;
+
+import br.com.fiap.mototrack.dto.request.BuscaLoteRequest;
+import br.com.fiap.mototrack.dto.response.LoteResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static br.com.fiap.mototrack.exception.HttpExceptionUtils.badRequest;
+
+/**
+ * # 📦 BuscaEmLote
+ *
+ * Busca de vários registros por chave (IDs ou placas) com consultas `IN` em blocos:
+ * N chaves custam ⌈N / `mototrack.lote.tamanho-in`⌉ consultas, e não N `findById`.
+ *
+ * ---
+ * ## 📋 Regras:
+ * - Chaves nulas são ignoradas e repetidas contam uma vez; a resposta segue a ordem do pedido
+ * - Chaves sem registro vão para `naoEncontrados`, sem exceção
+ * - O bloco padrão (1000) respeita o limite de expressões de um `IN` do Oracle (ORA-01795)
+ * - Mais de `mototrack.lote.maximo-chaves` chaves no mesmo pedido → 400
+ * - `ids` e `placas` no mesmo pedido, ou `placas` fora de `/motos/buscar` → 400
+ */
+@Component
+public class BuscaEmLote {
+
+    private final int tamanhoIn;
+    private final int maximoChaves;
+
+    public BuscaEmLote(@Value("${mototrack.lote.tamanho-in:1000}") int tamanhoIn,
+                       @Value("${mototrack.lote.maximo-chaves:5000}") int maximoChaves) {
+        this.tamanhoIn = tamanhoIn;
+        this.maximoChaves = maximoChaves;
+    }
+
+    /**
+     * @param chaves    Chaves pedidas, na ordem da resposta
+     * @param consulta  Consulta `IN` de um bloco de chaves
+     * @param chaveDe   Chave de um registro retornado
+     * @param mapear    Conversão do registro para o DTO de resposta
+     */
+    public <E, C, T> LoteResponse<T, C> buscar(List<C> chaves,
+                                               Function<List<C>, List<E>> consulta,
+                                               Function<E, C> chaveDe,
+                                               Function<E, T> mapear) {
+        if (chaves == null || chaves.isEmpty()) {
+            throw badRequest("Informe ao menos uma chave para a busca em lote.");
+        }
+        LinkedHashSet<C> unicas = new LinkedHashSet<>(chaves);
+        unicas.remove(null);
+        List<C> distintas = List.copyOf(unicas);
+        if (distintas.size() > maximoChaves) {
+            throw badRequest("A busca em lote aceita no máximo " + maximoChaves + " chaves (recebidas: " + distintas.size() + ").");
+        }
+
+        Map<C, E> porChave = new HashMap<>(distintas.size() * 2);
+        for (int inicio = 0; inicio < distintas.size(); inicio += tamanhoIn) {
+            List<C> bloco = distintas.subList(inicio, Math.min(inicio + tamanhoIn, distintas.size()));
+            for (E registro : consulta.apply(bloco)) {
+                porChave.put(chaveDe.apply(registro), registro);
+            }
+        }
+
+        List<T> encontrados = new ArrayList<>(porChave.size());
+        List<C> naoEncontrados = new ArrayList<>();
+        for (C chave : distintas) {
+            E registro = porChave.get(chave);
+            if (registro != null) {
+                encontrados.add(mapear.apply(registro));
+            } else {
+                naoEncontrados.add(chave);
+            }
+        }
+        return new LoteResponse<>(encontrados, naoEncontrados);
+    }
+
+    /**
+     * IDs de um pedido de recurso que não aceita busca por placa.
+     */
+    public static List<Long> somenteIds(BuscaLoteRequest pedido) {
+        if (pedido.getPlacas() != null && !pedido.getPlacas().isEmpty()) {
+            throw badRequest("Busca por placas disponível apenas em /motos/buscar; informe ids.");
+        }
+        return pedido.getIds();
+    }
+
+    /**
+     * Indica se o pedido é por placas, rejeitando pedidos com `ids` e `placas` ao mesmo tempo.
+     */
+    public static boolean porPlacas(BuscaLoteRequest pedido) {
+        boolean temIds = pedido.getIds() != null && !pedido.getIds().isEmpty();
+        boolean temPlacas = pedido.getPlacas() != null && !pedido.getPlacas().isEmpty();
+        if (temIds && temPlacas) {
+            throw badRequest("Informe ids ou placas, não ambos.");
+        }
+        return temPlacas;
+    }
+}
@@ -0,0 +1,215 @@
+package br.com.fiap.mototrack.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TupleElement;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.Attribute.PersistentAttributeType;
+import jakarta.persistence.metamodel.EntityType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static br.com.fiap.mototrack.exception.HttpExceptionUtils.badRequest;
+
+/**
+ * # 🎯 ConsultaPorCampos
+ *
+ * Consultas com seleção de campos (`?fields=id,placa,status`): os campos pedidos viram uma projeção
+ * em tupla na própria consulta da Specification, e o banco lê apenas as colunas necessárias,
+ * sem carregar a entidade nem seus relacionamentos.
+ *
+ * ---
+ * ## 📋 Regras:
+ * - Campos selecionáveis: os do DTO de resposta com atributo simples de mesmo nome na entidade,
+ *   e os `xxxId` de relacionamentos `@ManyToOne` (lidos da chave estrangeira, sem join)
+ * - Campos calculados no service (ex: `conflitos`, `dataFim` do agendamento) não são selecionáveis
+ * - Campo desconhecido ou lista vazia → 400, informando os campos disponíveis
+ * - A resposta segue a ordem dos campos pedidos e omite valores nulos, como os DTOs (`NON_NULL`)
+ */
+@Component
+@RequiredArgsConstructor
+public class ConsultaPorCampos {
+
+    private final EntityManager entityManager;
+    private final Map<Class<?>, Map<String, List<String>>> caminhosPorResposta = new ConcurrentHashMap<>();
+
+    /**
+     * Lista os registros que atendem à Specification (todos, se nula) com os campos pedidos.
+     */
+    public <E> List<Map<String, Object>> listar(Class<E> entidade, Class<?> resposta, String campos,
+                                                Specification<E> spec, Sort sort) {
+        return consultar(entidade, selecionar(entidade, resposta, campos), spec, sort, Pageable.unpaged());
+    }
+
+    /**
+     * Retorna uma página dos registros que atendem à Specification, com os campos pedidos.
+     * A contagem só é executada quando a página não permite deduzir o total.
+     */
+    public <E> Page<Map<String, Object>> paginar(Class<E> entidade, Class<?> resposta, String campos,
+                                                 Specification<E> spec, Pageable pageable) {
+        List<Map<String, Object>> conteudo = consultar(entidade, selecionar(entidade, resposta, campos),
+                spec, pageable.getSort(), pageable);
+        return PageableExecutionUtils.getPage(conteudo, pageable, () -> contar(entidade, spec));
+    }
+
+    /**
+     * Busca um registro por ID com os campos pedidos.
+     */
+    public <E> Optional<Map<String, Object>> buscarPorId(Class<E> entidade, Class<?> resposta, String campos, Object id) {
+        String atributoId = tipo(entidade).getId(tipo(entidade).getIdType().getJavaType()).getName();
+        Specification<E> porId = (root, query, cb) -> cb.equal(root.get(atributoId), id);
+        return consultar(entidade, selecionar(entidade, resposta, campos), porId, Sort.unsorted(), Pageable.unpaged())
+                .stream()
+                .findFirst();
+    }
+
+    // =============================
+    // 🔧 Métodos auxiliares
+    // =============================
+
+    private <E> List<Map<String, Object>> consultar(Class<E> entidade, Map<String, List<String>> selecionados,
+                                                    Specification<E> spec, Sort sort, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<E> root = query.from(entidade);
+
+        List<Selection<?>> selecoes = new ArrayList<>(selecionados.size());
+        selecionados.forEach((campo, caminho) -> selecoes.add(caminho(root, caminho).alias(campo)));
+        query.multiselect(selecoes);
+        if (spec != null) {
+            Predicate predicado = spec.toPredicate(root, query, cb);
+            if (predicado != null) {
+                query.where(predicado);
+            }
+        }
+        if (sort.isSorted()) {
+            query.orderBy(QueryUtils.toOrders(sort, root, cb));
+        }
+
+        TypedQuery<Tuple> typed = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typed.setFirstResult((int) pageable.getOffset());
+            typed.setMaxResults(pageable.getPageSize());
+        }
+        return typed.getResultList().stream().map(ConsultaPorCampos::paraMapa).toList();
+    }
+
+    private <E> long contar(Class<E> entidade, Specification<E> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<E> root = query.from(entidade);
+        query.select(cb.count(root));
+        if (spec != null) {
+            Predicate predicado = spec.toPredicate(root, query, cb);
+            if (predicado != null) {
+                query.where(predicado);
+            }
+        }
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private static Map<String, Object> paraMapa(Tuple tupla) {
+        Map<String, Object> mapa = new LinkedHashMap<>();
+        for (TupleElement<?> elemento : tupla.getElements()) {
+            Object valor = tupla.get(elemento);
+            if (valor != null) {
+                mapa.put(elemento.getAlias(), valor);
+            }
+        }
+        return mapa;
+    }
+
+    private static Path<?> caminho(Root<?> root, List<String> caminho) {
+        Path<?> path = root;
+        for (String atributo : caminho) {
+            path = path.get(atributo);
+        }
+        return path;
+    }
+
+    /**
+     * Converte `fields` nos caminhos JPA dos campos pedidos, na ordem do pedido e sem repetições.
+     */
+    private Map<String, List<String>> selecionar(Class<?> entidade, Class<?> resposta, String campos) {
+        Map<String, List<String>> disponiveis = caminhosPorResposta.computeIfAbsent(resposta,
+                r -> caminhosDisponiveis(entidade, r));
+        Map<String, List<String>> selecionados = new LinkedHashMap<>();
+        List<String> invalidos = new ArrayList<>();
+        for (String campo : campos == null ? new String[0] : campos.split(",")) {
+            String nome = campo.trim();
+            if (nome.isEmpty()) {
+                continue;
+            }
+            List<String> caminho = disponiveis.get(nome);
+            if (caminho == null) {
+                invalidos.add(nome);
+            } else {
+                selecionados.put(nome, caminho);
+            }
+        }
+        if (!invalidos.isEmpty()) {
+            throw badRequest("Campo(s) inválido(s) em fields: " + String.join(", ", invalidos)
+                    + ". Disponíveis: " + String.join(", ", disponiveis.keySet()) + ".");
+        }
+        if (selecionados.isEmpty()) {
+            throw badRequest("Informe ao menos um campo em fields. Disponíveis: "
+                    + String.join(", ", disponiveis.keySet()) + ".");
+        }
+        return selecionados;
+    }
+
+    private Map<String, List<String>> caminhosDisponiveis(Class<?> entidade, Class<?> resposta) {
+        EntityType<?> tipo = tipo(entidade);
+        Map<String, List<String>> caminhos = new LinkedHashMap<>();
+        for (Field campo : resposta.getDeclaredFields()) {
+            if (Modifier.isStatic(campo.getModifiers())) {
+                continue;
+            }
+            String nome = campo.getName();
+            Attribute<?, ?> atributo = atributo(tipo, nome);
+            if (atributo != null && atributo.getPersistentAttributeType() == PersistentAttributeType.BASIC) {
+                caminhos.put(nome, List.of(nome));
+            } else if (atributo == null && nome.endsWith("Id")) {
+                Attribute<?, ?> relacionamento = atributo(tipo, nome.substring(0, nome.length() - 2));
+                if (relacionamento != null
+                        && relacionamento.getPersistentAttributeType() == PersistentAttributeType.MANY_TO_ONE) {
+                    caminhos.put(nome, List.of(relacionamento.getName(), "id"));
+                }
+            }
+        }
+        return caminhos;
+    }
+
+    private static Attribute<?, ?> atributo(EntityType<?> tipo, String nome) {
+        return tipo.getAttributes().stream()
+                .filter(a -> a.getName().equals(nome))
+                .findFirst()
+                .orElse(null);
+    }
+
+    private EntityType<?> tipo(Class<?> entidade) {
+        return entityManager.getMetamodel().entity(entidade);
+    }
+}
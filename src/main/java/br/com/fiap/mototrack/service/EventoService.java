@@ -1,23 +1,40 @@
 package br.com.fiap.mototrack.service;
 
+import br.com.fiap.mototrack.dto.request.BuscaLoteRequest;
 import br.com.fiap.mototrack.dto.request.EventoRequest;
 import br.com.fiap.mototrack.dto.response.EventoResponse;
+import br.com.fiap.mototrack.dto.response.LoteResponse;
+import br.com.fiap.mototrack.dto.response.MotoResponse;
 import br.com.fiap.mototrack.filter.EventoFilter;
+import br.com.fiap.mototrack.metrics.Perfilador;
 import br.com.fiap.mototrack.model.Evento;
+import br.com.fiap.mototrack.model.Filial;
 import br.com.fiap.mototrack.model.Moto;
+import br.com.fiap.mototrack.outbox.OperacaoOutbox;
+import br.com.fiap.mototrack.outbox.OutboxService;
+import br.com.fiap.mototrack.projection.EventoProjetavel;
+import br.com.fiap.mototrack.projection.MotoEstado;
+import br.com.fiap.mototrack.projection.MotoProjecaoEngine;
 import br.com.fiap.mototrack.repository.EventoRepository;
+import br.com.fiap.mototrack.repository.FilialRepository;
 import br.com.fiap.mototrack.repository.MotoRepository;
 import br.com.fiap.mototrack.specification.EventoSpecification;
+import br.com.fiap.mototrack.util.TransacaoUtils;
 import static br.com.fiap.mototrack.exception.HttpExceptionUtils.notFound;
 import lombok.RequiredArgsConstructor;
 import org.modelmapper.ModelMapper;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
 import jakarta.transaction.Transactional;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 /**
  * # 🛠️ Serviço: EventoService
@@ -29,7 +46,12 @@ import java.util.List;
  * - Conversão entre DTOs e entidades com ModelMapper
  * - Validação do relacionamento com Moto
  * - Registro, atualização, exclusão e consulta de eventos
+ * - Busca em lote por IDs, com consultas `IN` em blocos (`BuscaEmLote`)
  * - Consulta dinâmica via Specification
+ * - Propagação do evento para a projeção de estado da moto (status e filial)
+ * - Registro das alterações (do evento e da moto) no outbox, na mesma transação
+ * - Limpeza do cache `motos` após o commit quando o evento altera status/filial da moto (vale para
+ *   `/eventos`, `/batch` e eventos gerados pelo agendador)
  * - Tratamento centralizado de exceções customizadas
  *
  * ---
@@ -40,13 +62,22 @@ import java.util.List;
 @RequiredArgsConstructor
 public class EventoService {
 
+    private static final String CACHE_MOTOS = "motos";
+
     // =============================
     // 🔗 Injeção de Dependências
     // =============================
 
     private final EventoRepository repository;
     private final MotoRepository motoRepository;
+    private final FilialRepository filialRepository;
+    private final MotoProjecaoEngine projecao;
+    private final OutboxService outbox;
+    private final BuscaEmLote buscaEmLote;
+    private final IdsInexistentes idsInexistentes;
+    private final ConsultaPorCampos consultaPorCampos;
     private final ModelMapper modelMapper;
+    private final CacheManager cacheManager;
 
     // =============================
     // 📝 Registrar novo evento
@@ -54,6 +85,7 @@ public class EventoService {
 
     /**
      * Cadastra um novo evento de movimentação, validando vínculo com a moto.
+     * O status/filial da moto são derivados do evento na mesma transação.
      */
     @Transactional
     public EventoResponse cadastrar(EventoRequest dto) {
@@ -64,9 +96,21 @@ public class EventoService {
                     .orElseThrow(() -> notFound("Moto", dto.getMotoId()));
             evento.setMoto(moto);
         }
+        vincularFilial(evento, dto.getFilialId());
 
         Evento salvo = repository.save(evento);
-        return modelMapper.map(salvo, EventoResponse.class);
+
+        EventoResponse response = modelMapper.map(salvo, EventoResponse.class);
+        outbox.registrar("Evento", salvo.getId(), OperacaoOutbox.CRIACAO, response);
+
+        EventoProjetavel fato = MotoProjecaoEngine.fato(salvo);
+        aplicarEstadoNaMoto(salvo.getMoto(), MotoProjecaoEngine.projetar(projecao.estadoAtual(fato.motoId()), fato));
+        TransacaoUtils.aposCommit(() -> {
+            projecao.aplicar(fato);
+            idsInexistentes.registrarInsercao("Evento", salvo.getId());
+        });
+
+        return response;
     }
 
     // =============================
@@ -76,11 +120,13 @@ public class EventoService {
     /**
      * Atualiza os dados de um evento pelo ID.
      * Lança exceções se o evento ou a moto não forem encontrados.
+     * Como o histórico mudou, a projeção das motos envolvidas é recalculada.
      */
     @Transactional
     public EventoResponse atualizar(Long id, EventoRequest dto) {
         Evento existente = repository.findById(id)
                 .orElseThrow(() -> notFound("Evento", id));
+        Moto motoAnterior = existente.getMoto();
 
         modelMapper.map(dto, existente);
 
@@ -91,9 +137,18 @@ public class EventoService {
         } else {
             existente.setMoto(null);
         }
+        vincularFilial(existente, dto.getFilialId());
+
+        Evento atualizado = repository.saveAndFlush(existente);
+        EventoResponse response = modelMapper.map(atualizado, EventoResponse.class);
+        outbox.registrar("Evento", id, OperacaoOutbox.ATUALIZACAO, response);
+
+        recalcularProjecao(atualizado.getMoto(), id);
+        if (motoAnterior != null && !motoAnterior.getId().equals(atualizado.getMoto().getId())) {
+            recalcularProjecao(motoAnterior, id);
+        }
 
-        Evento atualizado = repository.save(existente);
-        return modelMapper.map(atualizado, EventoResponse.class);
+        return response;
     }
 
     // =============================
@@ -115,14 +170,34 @@ public class EventoService {
 
     /**
      * Retorna os dados de um evento específico pelo seu ID.
-     * Lança exceção se não encontrado.
+     * Lança exceção se não encontrado; IDs recém-dados como inexistentes não consultam o banco (`IdsInexistentes`).
      */
     public EventoResponse buscarPorId(Long id) {
-        Evento evento = repository.findById(id)
+        Evento evento = idsInexistentes.buscar("Evento", id, repository::findById)
                 .orElseThrow(() -> notFound("Evento", id));
         return modelMapper.map(evento, EventoResponse.class);
     }
 
+    // =============================
+    // 📦 Buscar em lote
+    // =============================
+
+    /**
+     * Retorna os eventos dos IDs informados, na ordem do pedido, com consultas `IN` em blocos.
+     * IDs inexistentes são informados em `naoEncontrados`, sem exceção.
+     */
+    public LoteResponse<EventoResponse, Long> buscarPorIds(List<Long> ids) {
+        return buscaEmLote.buscar(ids, repository::findByIdIn, Evento::getId,
+                evento -> modelMapper.map(evento, EventoResponse.class));
+    }
+
+    /**
+     * Busca em lote pelos `ids` do pedido (placas não se aplicam a este recurso).
+     */
+    public LoteResponse<EventoResponse, Long> buscarEmLote(BuscaLoteRequest pedido) {
+        return buscarPorIds(BuscaEmLote.somenteIds(pedido));
+    }
+
     // =============================
     // ❌ Excluir evento
     // =============================
@@ -130,13 +205,19 @@ public class EventoService {
     /**
      * Remove um evento pelo ID.
      * Lança exceção se o evento não existir.
+     * A projeção da moto é recalculada sem o evento removido.
      */
     @Transactional
     public void excluir(Long id) {
-        if (!repository.existsById(id)) {
-            throw notFound("Evento", id);
-        }
-        repository.deleteById(id);
+        Evento evento = repository.findById(id)
+                .orElseThrow(() -> notFound("Evento", id));
+        Moto moto = evento.getMoto();
+
+        repository.delete(evento);
+        repository.flush();
+        outbox.registrar("Evento", id, OperacaoOutbox.EXCLUSAO, null);
+
+        recalcularProjecao(moto, id);
     }
 
     // =============================
@@ -147,8 +228,108 @@ public class EventoService {
      * Realiza uma busca paginada e ordenada de eventos com base nos filtros dinâmicos.
      */
     public Page<EventoResponse> consultarComFiltro(EventoFilter filtro, Pageable pageable) {
-        var spec = EventoSpecification.comFiltros(filtro);
+        var spec = Perfilador.especificacao(EventoSpecification.comFiltros(filtro));
         return repository.findAll(spec, pageable)
                 .map(e -> modelMapper.map(e, EventoResponse.class));
     }
+
+    // =============================
+    // 🔧 Métodos auxiliares
+    // =============================
+
+    /**
+     * Vincula a filial de destino ao evento, se informada.
+     */
+    private void vincularFilial(Evento evento, Long filialId) {
+        if (filialId != null) {
+            Filial filial = filialRepository.findById(filialId)
+                    .orElseThrow(() -> notFound("Filial", filialId));
+            evento.setFilial(filial);
+        } else {
+            evento.setFilial(null);
+        }
+    }
+
+    /**
+     * Recalcula a projeção de uma moto após alteração no histórico,
+     * invalidando snapshots que já continham o evento alterado.
+     */
+    private void recalcularProjecao(Moto moto, Long eventoId) {
+        MotoEstado estado = projecao.recalcular(moto.getId());
+        aplicarEstadoNaMoto(moto, estado);
+        projecao.invalidarSnapshotsAPartirDe(eventoId);
+        TransacaoUtils.aposCommit(() -> projecao.registrar(moto.getId(), estado));
+    }
+
+    /**
+     * Materializa o estado projetado nas colunas de status e filial da moto.
+     * Se algo mudou, a alteração da moto também é registrada no outbox.
+     */
+    private void aplicarEstadoNaMoto(Moto moto, MotoEstado estado) {
+        if (estado == null) {
+            return;
+        }
+        boolean alterou = false;
+        if (estado.status() != null && !estado.status().equals(moto.getStatus())) {
+            moto.setStatus(estado.status());
+            alterou = true;
+        }
+        if (estado.filialId() != null
+                && (moto.getFilial() == null || !estado.filialId().equals(moto.getFilial().getId()))) {
+            moto.setFilial(filialRepository.getReferenceById(estado.filialId()));
+            alterou = true;
+        }
+        if (alterou) {
+            outbox.registrar("Moto", moto.getId(), OperacaoOutbox.ATUALIZACAO, modelMapper.map(moto, MotoResponse.class));
+            TransacaoUtils.aposCommit(this::limparCacheMotos);
+        }
+    }
+
+    private void limparCacheMotos() {
+        Cache cache = cacheManager.getCache(CACHE_MOTOS);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    // =============================
+    // 🎯 Seleção de campos (?fields=)
+    // =============================
+
+    /**
+     * Lista os eventos apenas com os campos pedidos, lidos por projeção direto do banco.
+     */
+    public List<Map<String, Object>> consultarCampos(String campos) {
+        return consultaPorCampos.listar(Evento.class, EventoResponse.class, campos, null, Sort.unsorted());
+    }
+
+    /**
+     * Retorna o evento do ID informado apenas com os campos pedidos.
+     * Lança exceção se não encontrado.
+     */
+    public Map<String, Object> buscarCamposPorId(Long id, String campos) {
+        return idsInexistentes.buscar("Evento", id,
+                        chave -> consultaPorCampos.buscarPorId(Evento.class, EventoResponse.class, campos, chave))
+                .orElseThrow(() -> notFound("Evento", id));
+    }
+
+    /**
+     * Retorna uma página de eventos com filtros dinâmicos, apenas com os campos pedidos.
+     */
+    public Page<Map<String, Object>> consultarCamposComFiltro(EventoFilter filtro, Pageable pageable, String campos) {
+        var spec = Perfilador.especificacao(EventoSpecification.comFiltros(filtro));
+        return consultaPorCampos.paginar(Evento.class, EventoResponse.class, campos, spec, pageable);
+    }
+
+    // =============================
+    // 🕸️ Carregamento em lote (GraphQL)
+    // =============================
+
+    /**
+     * Retorna os `limite` eventos mais recentes de cada moto informada, em duas consultas para todo o bloco.
+     */
+    public List<EventoResponse> buscarRecentesPorMotos(Collection<Long> motoIds, int limite) {
+        List<Long> ids = repository.findIdsRecentesPorMotos(motoIds, limite);
+        return ids.isEmpty() ? List.of() : buscarPorIds(ids).encontrados();
+    }
 }
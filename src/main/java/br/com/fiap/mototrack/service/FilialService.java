@@ -1,11 +1,17 @@
 package br.com.fiap.mototrack.service;
 
+import br.com.fiap.mototrack.booking.CapacidadeOficina;
+import br.com.fiap.mototrack.dto.request.BuscaLoteRequest;
 import br.com.fiap.mototrack.dto.request.FilialRequest;
+import br.com.fiap.mototrack.dto.response.DisponibilidadeResponse;
 import br.com.fiap.mototrack.dto.response.FilialResponse;
+import br.com.fiap.mototrack.dto.response.LoteResponse;
 import br.com.fiap.mototrack.filter.FilialFilter;
+import br.com.fiap.mototrack.metrics.Perfilador;
 import br.com.fiap.mototrack.model.Filial;
 import br.com.fiap.mototrack.repository.FilialRepository;
 import br.com.fiap.mototrack.specification.FilialSpecification;
+import br.com.fiap.mototrack.util.TransacaoUtils;
 import static br.com.fiap.mototrack.exception.HttpExceptionUtils.notFound;
 
 import jakarta.transaction.Transactional;
@@ -13,9 +19,12 @@ import lombok.RequiredArgsConstructor;
 import org.modelmapper.ModelMapper;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 
 /**
  * # 🛠️ Serviço: FilialService
@@ -26,7 +35,8 @@ import java.util.List;
  * ---
  * ## 📋 Responsabilidades:
  * - Cadastro e atualização de filiais
- * - Consulta por ID, listagem geral e com filtros dinâmicos
+ * - Consulta por ID, em lote (IDs), listagem geral e com filtros dinâmicos
+ * - Capacidade e disponibilidade da oficina (contadores em memória, `CapacidadeOficina`)
  * - Conversão entre DTOs e entidades
  * - Tratamento de exceções centralizadas e amigáveis
  *
@@ -43,6 +53,9 @@ public class FilialService {
     // =============================
 
     private final FilialRepository repository;
+    private final CapacidadeOficina capacidade;
+    private final BuscaEmLote buscaEmLote;
+    private final ConsultaPorCampos consultaPorCampos;
     private final ModelMapper modelMapper;
 
     // =============================
@@ -56,6 +69,7 @@ public class FilialService {
     public FilialResponse cadastrar(FilialRequest dto) {
         Filial nova = modelMapper.map(dto, Filial.class);
         Filial salva = repository.save(nova);
+        TransacaoUtils.aposCommit(() -> capacidade.definirCapacidade(salva.getId(), salva.getCapacidadeOficina()));
         return modelMapper.map(salva, FilialResponse.class);
     }
 
@@ -74,6 +88,7 @@ public class FilialService {
 
         modelMapper.map(dto, existente);
         Filial atualizada = repository.save(existente);
+        TransacaoUtils.aposCommit(() -> capacidade.definirCapacidade(id, atualizada.getCapacidadeOficina()));
         return modelMapper.map(atualizada, FilialResponse.class);
     }
 
@@ -104,6 +119,26 @@ public class FilialService {
         return modelMapper.map(filial, FilialResponse.class);
     }
 
+    // =============================
+    // 📦 Buscar em lote
+    // =============================
+
+    /**
+     * Retorna as filiais dos IDs informados, na ordem do pedido, com consultas `IN` em blocos.
+     * IDs inexistentes são informados em `naoEncontrados`, sem exceção.
+     */
+    public LoteResponse<FilialResponse, Long> buscarPorIds(List<Long> ids) {
+        return buscaEmLote.buscar(ids, repository::findByIdIn, Filial::getId,
+                filial -> modelMapper.map(filial, FilialResponse.class));
+    }
+
+    /**
+     * Busca em lote pelos `ids` do pedido (placas não se aplicam a este recurso).
+     */
+    public LoteResponse<FilialResponse, Long> buscarEmLote(BuscaLoteRequest pedido) {
+        return buscarPorIds(BuscaEmLote.somenteIds(pedido));
+    }
+
     // =============================
     // ❌ Excluir filial
     // =============================
@@ -118,6 +153,19 @@ public class FilialService {
             throw notFound("Filial", id);
         }
         repository.deleteById(id);
+        TransacaoUtils.aposCommit(() -> capacidade.removerFilial(id));
+    }
+
+    // =============================
+    // 📅 Disponibilidade da oficina
+    // =============================
+
+    /**
+     * Retorna a ocupação da oficina da filial, slot a slot, no dia informado.
+     * Respondido a partir dos contadores em memória, sem acesso ao banco.
+     */
+    public DisponibilidadeResponse consultarDisponibilidade(Long id, LocalDate dia) {
+        return capacidade.disponibilidade(id, dia);
     }
 
     // =============================
@@ -128,8 +176,36 @@ public class FilialService {
      * Consulta paginada de filiais com suporte a filtros dinâmicos.
      */
     public Page<FilialResponse> consultarComFiltro(FilialFilter filtro, Pageable pageable) {
-        var spec = FilialSpecification.comFiltros(filtro);
+        var spec = Perfilador.especificacao(FilialSpecification.comFiltros(filtro));
         return repository.findAll(spec, pageable)
                 .map(f -> modelMapper.map(f, FilialResponse.class));
     }
+
+    // =============================
+    // 🎯 Seleção de campos (?fields=)
+    // =============================
+
+    /**
+     * Lista as filiais apenas com os campos pedidos, lidos por projeção direto do banco.
+     */
+    public List<Map<String, Object>> consultarCampos(String campos) {
+        return consultaPorCampos.listar(Filial.class, FilialResponse.class, campos, null, Sort.unsorted());
+    }
+
+    /**
+     * Retorna a filial do ID informado apenas com os campos pedidos.
+     * Lança exceção se não encontrada.
+     */
+    public Map<String, Object> buscarCamposPorId(Long id, String campos) {
+        return consultaPorCampos.buscarPorId(Filial.class, FilialResponse.class, campos, id)
+                .orElseThrow(() -> notFound("Filial", id));
+    }
+
+    /**
+     * Retorna uma página de filiais com filtros dinâmicos, apenas com os campos pedidos.
+     */
+    public Page<Map<String, Object>> consultarCamposComFiltro(FilialFilter filtro, Pageable pageable, String campos) {
+        var spec = Perfilador.especificacao(FilialSpecification.comFiltros(filtro));
+        return consultaPorCampos.paginar(Filial.class, FilialResponse.class, campos, spec, pageable);
+    }
 }
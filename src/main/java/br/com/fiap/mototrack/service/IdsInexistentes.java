@@ -0,0 +1,95 @@
+package br.com.fiap.mototrack.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * # 🕳️ IdsInexistentes
+ *
+ * Cache negativo por entidade: IDs que acabaram de dar 404 respondem 404 de novo sem consultar o banco.
+ * Absorve clientes que repetem IDs antigos (`GET /motos/{id}`, `GET /eventos/{id}`) em rajadas.
+ *
+ * ---
+ * ## 📋 Regras:
+ * - Um conjunto limitado por entidade (`mototrack.nao-encontrados.maximo`), cada ID lembrado por
+ *   `mototrack.nao-encontrados.validade-segundos`; IDs excluídos não voltam (IDENTITY), só inserções
+ *   podem tornar um ID existente
+ * - `registrarInsercao` (após o commit do cadastro) remove o ID; uma busca que cruzou com uma inserção
+ *   da mesma entidade não grava a ausência (contador de inserções conferido antes do `put`)
+ * - Apenas a ausência é guardada: registros encontrados seguem pelos caches/consultas de sempre
+ * - Métricas: `cache.*{cache="nao-encontrados", entidade="Moto"}`
+ */
+@Component
+public class IdsInexistentes {
+
+    /** Ausências de uma entidade e inserções já confirmadas dela */
+    private record Ausencias(Cache<Long, Boolean> ids, AtomicLong insercoes) {
+    }
+
+    private final MeterRegistry registry;
+    private final long maximo;
+    private final Duration validade;
+    private final Map<String, Ausencias> porEntidade = new ConcurrentHashMap<>();
+
+    public IdsInexistentes(MeterRegistry registry,
+                           @Value("${mototrack.nao-encontrados.maximo:10000}") long maximo,
+                           @Value("${mototrack.nao-encontrados.validade-segundos:30}") long validadeSegundos) {
+        this.registry = registry;
+        this.maximo = maximo;
+        this.validade = Duration.ofSeconds(validadeSegundos);
+    }
+
+    /**
+     * Busca o registro pelo ID, exceto se ele foi dado como inexistente há pouco.
+     *
+     * @param entidade Nome da entidade (ex: "Moto"), um conjunto por nome
+     * @param id       ID buscado
+     * @param busca    Consulta ao banco (ex: `repository::findById`)
+     */
+    public <T> Optional<T> buscar(String entidade, Long id, Function<Long, Optional<T>> busca) {
+        Ausencias ausencias = ausencias(entidade);
+        if (id == null || ausencias.ids().getIfPresent(id) != null) {
+            return Optional.empty();
+        }
+        long insercoes = ausencias.insercoes().get();
+        Optional<T> encontrado = busca.apply(id);
+        if (encontrado.isEmpty() && ausencias.insercoes().get() == insercoes) {
+            ausencias.ids().put(id, Boolean.TRUE);
+        }
+        return encontrado;
+    }
+
+    /**
+     * Um registro da entidade foi inserido (chamar após o commit).
+     */
+    public void registrarInsercao(String entidade, Long id) {
+        Ausencias ausencias = ausencias(entidade);
+        ausencias.insercoes().incrementAndGet();
+        ausencias.ids().invalidate(id);
+    }
+
+    private Ausencias ausencias(String entidade) {
+        Ausencias ausencias = porEntidade.get(entidade);
+        return ausencias != null ? ausencias : porEntidade.computeIfAbsent(entidade, nome -> {
+            Cache<Long, Boolean> ids = Caffeine.newBuilder()
+                    .maximumSize(maximo)
+                    .expireAfterWrite(validade)
+                    .recordStats()
+                    .build();
+            CaffeineCacheMetrics.monitor(registry, ids, "nao-encontrados", Tags.of("entidade", nome));
+            return new Ausencias(ids, new AtomicLong());
+        });
+    }
+}
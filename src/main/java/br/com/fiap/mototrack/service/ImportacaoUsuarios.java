@@ -0,0 +1,403 @@
+package br.com.fiap.mototrack.service;
+
+import br.com.fiap.mototrack.dto.request.UsuarioRequest;
+import br.com.fiap.mototrack.dto.response.ImportacaoUsuariosResponse;
+import br.com.fiap.mototrack.model.Usuario;
+import br.com.fiap.mototrack.repository.FilialRepository;
+import br.com.fiap.mototrack.repository.UsuarioRepository;
+import br.com.fiap.mototrack.security.CacheCredenciais;
+import br.com.fiap.mototrack.security.HashSenhas;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Collectors;
+
+import static br.com.fiap.mototrack.exception.HttpExceptionUtils.badRequest;
+import static br.com.fiap.mototrack.exception.HttpExceptionUtils.conflict;
+
+/**
+ * # 📥 ImportacaoUsuarios
+ *
+ * Importação de usuários em massa (`POST /usuarios/lote`) para o cadastro de uma filial nova.
+ *
+ * ---
+ * ## 📋 Funcionamento:
+ * - Lê o corpo em fluxo, um registro por vez: CSV com cabeçalho (`nome,email,senha,perfil,filialId`,
+ *   separador `,` ou `;`), array JSON ou JSON por linha (NDJSON); o arquivo nunca é carregado inteiro
+ * - Cada registro válido tem o hash da senha enviado ao `HashSenhas` na hora; no máximo
+ *   `2 × threads` hashes da importação ficam no executor, intercalados com cadastros e logins
+ * - A cada `mototrack.usuarios.importacao.lote` registros, os hashes são reunidos e o bloco é gravado
+ *   com um `INSERT` em lote (JDBC batch) em uma transação curta: o `IDENTITY` do `Usuario` impede o
+ *   batch do Hibernate
+ * - Rejeita (sem interromper) registros inválidos, e-mails repetidos no arquivo ou já cadastrados
+ *   (comparados normalizados, sem distinção de maiúsculas) e
+ *   filiais inexistentes; um conflito de e-mail concorrente faz o bloco ser regravado um a um
+ * - Uma importação por vez (409 se outra estiver em andamento)
+ */
+@Slf4j
+@Component
+public class ImportacaoUsuarios {
+
+    private static final String INSERT = "insert into tb_usuario (nm_usuario, ds_email, ds_email_normalizado, ds_senha, tp_perfil, id_filial) "
+            + "values (?, ?, ?, ?, ?, ?)";
+    private static final int ERROS_DETALHADOS = 100;
+    private static final MediaType TEXT_CSV = MediaType.valueOf("text/csv");
+
+    /** Registro lido, com o hash em andamento */
+    private record Pendente(long registro, UsuarioRequest dto, CompletableFuture<String> hash) {
+    }
+
+    /** Contadores e erros de uma importação */
+    private static final class Resultado {
+        int recebidos;
+        int inseridos;
+        int rejeitados;
+        final List<ImportacaoUsuariosResponse.Erro> erros = new ArrayList<>();
+
+        void rejeitar(long registro, String email, String mensagem) {
+            rejeitados++;
+            if (erros.size() < ERROS_DETALHADOS) {
+                erros.add(new ImportacaoUsuariosResponse.Erro(registro, email, mensagem));
+            }
+        }
+    }
+
+    private final HashSenhas hashSenhas;
+    private final CacheCredenciais cacheCredenciais;
+    private final UsuarioRepository repository;
+    private final FilialRepository filialRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transacao;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final int tamanhoLote;
+    private final int maximoRegistros;
+    private final Semaphore emAndamento = new Semaphore(1);
+
+    public ImportacaoUsuarios(HashSenhas hashSenhas,
+                              CacheCredenciais cacheCredenciais,
+                              UsuarioRepository repository,
+                              FilialRepository filialRepository,
+                              JdbcTemplate jdbcTemplate,
+                              PlatformTransactionManager transactionManager,
+                              ObjectMapper objectMapper,
+                              Validator validator,
+                              @Value("${mototrack.usuarios.importacao.lote:500}") int tamanhoLote,
+                              @Value("${mototrack.usuarios.importacao.maximo-registros:100000}") int maximoRegistros) {
+        this.hashSenhas = hashSenhas;
+        this.cacheCredenciais = cacheCredenciais;
+        this.repository = repository;
+        this.filialRepository = filialRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transacao = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.tamanhoLote = tamanhoLote;
+        this.maximoRegistros = maximoRegistros;
+    }
+
+    /**
+     * Importa os usuários do corpo, no formato indicado pelo `Content-Type`.
+     */
+    public ImportacaoUsuariosResponse importar(InputStream corpo, MediaType tipo) {
+        if (!emAndamento.tryAcquire()) {
+            throw conflict("Já existe uma importação de usuários em andamento.");
+        }
+        try {
+            long inicio = System.nanoTime();
+            Resultado resultado = new Resultado();
+            try {
+                if (tipo != null && TEXT_CSV.isCompatibleWith(tipo)) {
+                    lerCsv(corpo, resultado);
+                } else {
+                    lerJson(corpo, resultado);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            long duracaoMs = (System.nanoTime() - inicio) / 1_000_000;
+            log.info("📥 Importação de usuários: {} recebidos, {} inseridos, {} rejeitados em {} ms",
+                    resultado.recebidos, resultado.inseridos, resultado.rejeitados, duracaoMs);
+            return new ImportacaoUsuariosResponse(resultado.recebidos, resultado.inseridos, resultado.rejeitados,
+                    duracaoMs, resultado.erros);
+        } finally {
+            emAndamento.release();
+        }
+    }
+
+    // =============================
+    // 📄 Leitura em fluxo
+    // =============================
+
+    private void lerJson(InputStream corpo, Resultado resultado) throws IOException {
+        Processamento processamento = new Processamento(resultado);
+        try (MappingIterator<UsuarioRequest> registros = objectMapper.readerFor(UsuarioRequest.class).readValues(corpo)) {
+            long registro = 0;
+            while (registros.hasNextValue() && processamento.aceitaMais()) {
+                registro++;
+                UsuarioRequest dto;
+                try {
+                    dto = registros.nextValue();
+                } catch (IOException e) {
+                    resultado.rejeitar(registro, null, "JSON inválido; importação interrompida: " + e.getMessage());
+                    break;
+                }
+                processamento.receber(registro, dto);
+            }
+        } catch (IOException e) {
+            if (resultado.recebidos == 0) {
+                throw badRequest("Corpo JSON inválido: " + e.getMessage());
+            }
+            resultado.rejeitar(resultado.recebidos + 1, null, "JSON inválido; importação interrompida.");
+        } finally {
+            processamento.concluir();
+        }
+    }
+
+    private void lerCsv(InputStream corpo, Resultado resultado) throws IOException {
+        BufferedReader leitor = new BufferedReader(new InputStreamReader(corpo, StandardCharsets.UTF_8));
+        String cabecalho = leitor.readLine();
+        if (cabecalho == null) {
+            throw badRequest("CSV vazio: informe o cabeçalho nome,email,senha,perfil,filialId.");
+        }
+        cabecalho = cabecalho.replace("\uFEFF", "");
+        char separador = cabecalho.indexOf(';') >= 0 && cabecalho.indexOf(',') < 0 ? ';' : ',';
+        Map<String, Integer> colunas = new HashMap<>();
+        List<String> nomes = campos(cabecalho, separador);
+        for (int i = 0; i < nomes.size(); i++) {
+            colunas.put(nomes.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        for (String obrigatoria : List.of("nome", "email", "senha", "perfil")) {
+            if (!colunas.containsKey(obrigatoria)) {
+                throw badRequest("Coluna obrigatória ausente no CSV: " + obrigatoria);
+            }
+        }
+
+        Processamento processamento = new Processamento(resultado);
+        try {
+            long registro = 0;
+            String linha;
+            while ((linha = leitor.readLine()) != null && processamento.aceitaMais()) {
+                if (linha.isBlank()) {
+                    continue;
+                }
+                registro++;
+                List<String> valores = campos(linha, separador);
+                UsuarioRequest dto = new UsuarioRequest();
+                dto.setNome(valor(valores, colunas.get("nome")));
+                dto.setEmail(valor(valores, colunas.get("email")));
+                dto.setSenha(valor(valores, colunas.get("senha")));
+                dto.setPerfil(valor(valores, colunas.get("perfil")));
+                String filial = valor(valores, colunas.get("filialid"));
+                if (filial != null) {
+                    try {
+                        dto.setFilialId(Long.valueOf(filial));
+                    } catch (NumberFormatException e) {
+                        resultado.recebidos++;
+                        resultado.rejeitar(registro, dto.getEmail(), "filialId inválido: " + filial);
+                        continue;
+                    }
+                }
+                processamento.receber(registro, dto);
+            }
+        } finally {
+            processamento.concluir();
+        }
+    }
+
+    /**
+     * Campos de uma linha CSV, com aspas duplas opcionais (`""` dentro de aspas é uma aspa).
+     */
+    private static List<String> campos(String linha, char separador) {
+        List<String> campos = new ArrayList<>();
+        StringBuilder atual = new StringBuilder();
+        boolean entreAspas = false;
+        for (int i = 0; i < linha.length(); i++) {
+            char c = linha.charAt(i);
+            if (entreAspas) {
+                if (c == '"' && i + 1 < linha.length() && linha.charAt(i + 1) == '"') {
+                    atual.append('"');
+                    i++;
+                } else if (c == '"') {
+                    entreAspas = false;
+                } else {
+                    atual.append(c);
+                }
+            } else if (c == '"') {
+                entreAspas = true;
+            } else if (c == separador) {
+                campos.add(atual.toString());
+                atual.setLength(0);
+            } else {
+                atual.append(c);
+            }
+        }
+        campos.add(atual.toString());
+        return campos;
+    }
+
+    private static String valor(List<String> valores, Integer indice) {
+        if (indice == null || indice >= valores.size()) {
+            return null;
+        }
+        String valor = valores.get(indice).trim();
+        return valor.isEmpty() ? null : valor;
+    }
+
+    // =============================
+    // ⚙️ Validação, hash e gravação
+    // =============================
+
+    /**
+     * Estado de uma importação: valida cada registro, envia o hash e grava os blocos.
+     */
+    private final class Processamento {
+
+        private final Resultado resultado;
+        private final Semaphore permissoes = new Semaphore(hashSenhas.threads() * 2);
+        private final Set<String> emailsVistos = new HashSet<>();
+        private final Map<Long, Boolean> filiais = new HashMap<>();
+        private final List<Pendente> bloco = new ArrayList<>(tamanhoLote);
+        private boolean limiteAtingido;
+
+        Processamento(Resultado resultado) {
+            this.resultado = resultado;
+        }
+
+        boolean aceitaMais() {
+            if (resultado.recebidos < maximoRegistros) {
+                return true;
+            }
+            if (!limiteAtingido) {
+                limiteAtingido = true;
+                resultado.rejeitar(resultado.recebidos + 1, null,
+                        "Limite de " + maximoRegistros + " registros por importação atingido; o restante foi ignorado.");
+            }
+            return false;
+        }
+
+        void receber(long registro, UsuarioRequest dto) {
+            resultado.recebidos++;
+            if (dto == null) {
+                resultado.rejeitar(registro, null, "Registro vazio.");
+                return;
+            }
+            Set<ConstraintViolation<UsuarioRequest>> violacoes = validator.validate(dto);
+            if (!violacoes.isEmpty()) {
+                resultado.rejeitar(registro, dto.getEmail(), violacoes.stream()
+                        .map(ConstraintViolation::getMessage).sorted().collect(Collectors.joining(" ")));
+                return;
+            }
+            if (!emailsVistos.add(Usuario.normalizarEmail(dto.getEmail()))) {
+                resultado.rejeitar(registro, dto.getEmail(), "E-mail repetido no arquivo.");
+                return;
+            }
+            if (dto.getFilialId() != null
+                    && !filiais.computeIfAbsent(dto.getFilialId(), filialRepository::existsById)) {
+                resultado.rejeitar(registro, dto.getEmail(), "Filial não encontrada: " + dto.getFilialId());
+                return;
+            }
+            bloco.add(new Pendente(registro, dto, hashSenhas.gerar(dto.getSenha(), permissoes)));
+            if (bloco.size() >= tamanhoLote) {
+                gravarBloco();
+            }
+        }
+
+        void concluir() {
+            if (!bloco.isEmpty()) {
+                gravarBloco();
+            }
+        }
+
+        private void gravarBloco() {
+            List<Pendente> pendentes = new ArrayList<>(bloco);
+            bloco.clear();
+
+            Set<String> existentes = new HashSet<>(repository.findEmailsExistentes(
+                    pendentes.stream().map(p -> Usuario.normalizarEmail(p.dto().getEmail())).toList()));
+            List<Object[]> linhas = new ArrayList<>(pendentes.size());
+            List<Pendente> gravaveis = new ArrayList<>(pendentes.size());
+            for (Pendente pendente : pendentes) {
+                UsuarioRequest dto = pendente.dto();
+                String hash;
+                try {
+                    hash = pendente.hash().join();
+                } catch (RuntimeException e) {
+                    resultado.rejeitar(pendente.registro(), dto.getEmail(), "Falha ao gerar o hash da senha.");
+                    continue;
+                }
+                String emailNormalizado = Usuario.normalizarEmail(dto.getEmail());
+                if (existentes.contains(emailNormalizado)) {
+                    resultado.rejeitar(pendente.registro(), dto.getEmail(), "E-mail já cadastrado.");
+                    continue;
+                }
+                linhas.add(new Object[]{dto.getNome(), dto.getEmail(), emailNormalizado, hash, dto.getPerfil(),
+                        dto.getFilialId()});
+                gravaveis.add(pendente);
+            }
+            if (linhas.isEmpty()) {
+                return;
+            }
+
+            try {
+                transacao.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT, linhas, linhas.size(),
+                        ImportacaoUsuarios::preencher));
+                resultado.inseridos += linhas.size();
+            } catch (DataIntegrityViolationException e) {
+                // E-mail cadastrado por outra requisição entre a verificação e o insert: grava um a um
+                for (int i = 0; i < linhas.size(); i++) {
+                    Object[] linha = linhas.get(i);
+                    try {
+                        jdbcTemplate.update(INSERT, linha);
+                        resultado.inseridos++;
+                    } catch (DataIntegrityViolationException conflito) {
+                        resultado.rejeitar(gravaveis.get(i).registro(), (String) linha[1], "E-mail já cadastrado.");
+                    }
+                }
+            }
+            // Login que tentou um destes e-mails antes da importação deixou uma entrada negativa
+            cacheCredenciais.invalidar(linhas.stream().map(linha -> (String) linha[2]).toList());
+        }
+    }
+
+    private static void preencher(PreparedStatement ps, Object[] linha) throws SQLException {
+        ps.setString(1, (String) linha[0]);
+        ps.setString(2, (String) linha[1]);
+        ps.setString(3, (String) linha[2]);
+        ps.setString(4, (String) linha[3]);
+        ps.setString(5, (String) linha[4]);
+        if (linha[5] == null) {
+            ps.setNull(6, Types.BIGINT);
+        } else {
+            ps.setLong(6, (Long) linha[5]);
+        }
+    }
+}
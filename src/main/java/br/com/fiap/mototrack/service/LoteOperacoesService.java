@@ -0,0 +1,324 @@
+package br.com.fiap.mototrack.service;
+
+import br.com.fiap.mototrack.dto.request.AgendamentoRequest;
+import br.com.fiap.mototrack.dto.request.EventoRequest;
+import br.com.fiap.mototrack.dto.request.FilialRequest;
+import br.com.fiap.mototrack.dto.request.LoteOperacoesRequest;
+import br.com.fiap.mototrack.dto.request.MotoRequest;
+import br.com.fiap.mototrack.dto.request.OperacaoLoteRequest;
+import br.com.fiap.mototrack.dto.request.UsuarioRequest;
+import br.com.fiap.mototrack.dto.response.LoteOperacoesResponse;
+import br.com.fiap.mototrack.dto.response.ResultadoOperacaoResponse;
+import br.com.fiap.mototrack.exception.ErrorResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static br.com.fiap.mototrack.exception.HttpExceptionUtils.badRequest;
+
+/**
+ * # 🛠️ Serviço: LoteOperacoesService
+ *
+ * Executa as sub-requisições do `POST /batch` nos services de cada recurso, na ordem do pedido,
+ * poupando ao cliente (ex: app de campo em rede móvel) uma ida e volta HTTP por operação.
+ *
+ * ---
+ * ## 📋 Responsabilidades:
+ * - Roteamento de `metodo` + `caminho` para `cadastrar`, `atualizar`, `excluir` e `buscarPorId`
+ * - Conversão e validação do corpo como no endpoint REST (mesmos DTOs e Bean Validation)
+ * - Modo transacional (tudo ou nada): uma transação e um contexto de persistência para o lote;
+ *   cada operação é enviada ao banco (`flush`) ao terminar, para que a falha aponte a operação que a causou,
+ *   e a primeira falha desfaz as anteriores e interrompe o lote (restantes com 424); se o commit falhar,
+ *   todas as operações são marcadas como desfeitas (424) e o erro do commit vai uma vez, no `erro` do lote
+ * - Modo independente: cada operação grava na própria transação, e uma falha não impede as seguintes
+ * - Limpeza do cache `motos` quando o lote altera motos, como fazem os endpoints de `/motos`
+ * - Erros por operação no formato `ErrorResponse`, sem abortar a resposta do lote
+ */
+@Slf4j
+@Service
+public class LoteOperacoesService {
+
+    private static final Pattern CAMINHO = Pattern.compile("^/(motos|eventos|agendamentos|filiais|usuarios)(?:/(\\d+))?/?$");
+    private static final String CACHE_MOTOS = "motos";
+
+    /**
+     * Operações de um recurso, com o tipo do corpo aceito em `POST` e `PUT`.
+     */
+    private record Rota<Q>(Class<Q> tipoCorpo,
+                           Function<Q, Object> cadastrar,
+                           BiFunction<Long, Q, Object> atualizar,
+                           Consumer<Long> excluir,
+                           Function<Long, Object> buscar) {
+    }
+
+    /**
+     * Corpo de operação inválido: carrega a resposta de erro com os campos, como o `GlobalExceptionHandler`.
+     */
+    private static final class CorpoInvalidoException extends RuntimeException {
+        private final transient ErrorResponse erro;
+
+        CorpoInvalidoException(ErrorResponse erro) {
+            super(erro.message(), null, false, false);
+            this.erro = erro;
+        }
+    }
+
+    private record Execucao(int status, Object corpo, boolean alteraMotos) {
+    }
+
+    private final Map<String, Rota<?>> rotas;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transacao;
+    private final CacheManager cacheManager;
+    private final int maximoOperacoes;
+
+    public LoteOperacoesService(MotoService motoService,
+                                EventoService eventoService,
+                                AgendamentoService agendamentoService,
+                                FilialService filialService,
+                                UsuarioService usuarioService,
+                                ObjectMapper objectMapper,
+                                Validator validator,
+                                EntityManager entityManager,
+                                PlatformTransactionManager transactionManager,
+                                CacheManager cacheManager,
+                                @Value("${mototrack.batch.maximo-operacoes:20}") int maximoOperacoes) {
+        this.rotas = Map.of(
+                "motos", new Rota<>(MotoRequest.class, motoService::cadastrar, motoService::atualizar,
+                        motoService::excluir, motoService::buscarPorId),
+                "eventos", new Rota<>(EventoRequest.class, eventoService::cadastrar, eventoService::atualizar,
+                        eventoService::excluir, eventoService::buscarPorId),
+                "agendamentos", new Rota<>(AgendamentoRequest.class, agendamentoService::cadastrar, agendamentoService::atualizar,
+                        agendamentoService::excluir, agendamentoService::buscarPorId),
+                "filiais", new Rota<>(FilialRequest.class, filialService::cadastrar, filialService::atualizar,
+                        filialService::excluir, filialService::buscarPorId),
+                "usuarios", new Rota<>(UsuarioRequest.class, usuarioService::cadastrar, usuarioService::atualizar,
+                        usuarioService::excluir, usuarioService::buscarPorId));
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.entityManager = entityManager;
+        this.transacao = new TransactionTemplate(transactionManager);
+        this.cacheManager = cacheManager;
+        this.maximoOperacoes = maximoOperacoes;
+    }
+
+    // =============================
+    // 📦 Executar lote
+    // =============================
+
+    /**
+     * Executa as operações do lote em ordem e retorna uma resposta por operação.
+     * Lança exceção se o lote exceder `mototrack.batch.maximo-operacoes`.
+     */
+    public LoteOperacoesResponse executar(LoteOperacoesRequest lote) {
+        List<OperacaoLoteRequest> operacoes = lote.getOperacoes();
+        if (operacoes.size() > maximoOperacoes) {
+            throw badRequest("O lote aceita no máximo " + maximoOperacoes + " operações (recebidas: " + operacoes.size() + ").");
+        }
+        return lote.isTransacional() ? executarTransacional(operacoes) : executarIndependentes(operacoes);
+    }
+
+    private LoteOperacoesResponse executarIndependentes(List<OperacaoLoteRequest> operacoes) {
+        List<ResultadoOperacaoResponse> resultados = new ArrayList<>(operacoes.size());
+        boolean alterouMotos = false;
+        for (int i = 0; i < operacoes.size(); i++) {
+            OperacaoLoteRequest op = operacoes.get(i);
+            try {
+                Execucao execucao = executar(op);
+                alterouMotos |= execucao.alteraMotos();
+                resultados.add(new ResultadoOperacaoResponse(i, op.getMetodo(), op.getCaminho(),
+                        execucao.status(), true, execucao.corpo()));
+            } catch (RuntimeException ex) {
+                resultados.add(falha(i, op, ex));
+            }
+        }
+        if (alterouMotos) {
+            limparCacheMotos();
+        }
+        boolean sucesso = resultados.stream().allMatch(ResultadoOperacaoResponse::aplicada);
+        return new LoteOperacoesResponse(false, sucesso, resultados, null);
+    }
+
+    private LoteOperacoesResponse executarTransacional(List<OperacaoLoteRequest> operacoes) {
+        List<Execucao> execucoes = new ArrayList<>(operacoes.size());
+        ResultadoOperacaoResponse[] falha = new ResultadoOperacaoResponse[1];
+        try {
+            transacao.executeWithoutResult(status -> {
+                for (int i = 0; i < operacoes.size(); i++) {
+                    OperacaoLoteRequest op = operacoes.get(i);
+                    try {
+                        execucoes.add(executar(op));
+                        entityManager.flush();
+                    } catch (RuntimeException ex) {
+                        falha[0] = falha(i, op, ex);
+                        status.setRollbackOnly();
+                        return;
+                    }
+                }
+            });
+        } catch (RuntimeException ex) {
+            // Falha no commit (após todas as operações): a transação inteira foi desfeita, sem operação a quem atribuir
+            log.warn("⚠️ Lote transacional desfeito no commit: {}", ex.getMessage());
+            return desfeitoNoCommit(operacoes, erro(ex));
+        }
+
+        boolean sucesso = falha[0] == null;
+        List<ResultadoOperacaoResponse> resultados = new ArrayList<>(operacoes.size());
+        for (int i = 0; i < operacoes.size(); i++) {
+            OperacaoLoteRequest op = operacoes.get(i);
+            if (i < execucoes.size()) {
+                Execucao execucao = execucoes.get(i);
+                resultados.add(new ResultadoOperacaoResponse(i, op.getMetodo(), op.getCaminho(),
+                        execucao.status(), sucesso, execucao.corpo()));
+            } else if (i == execucoes.size() && !sucesso) {
+                resultados.add(falha[0]);
+            } else {
+                resultados.add(new ResultadoOperacaoResponse(i, op.getMetodo(), op.getCaminho(),
+                        HttpStatus.FAILED_DEPENDENCY.value(), false,
+                        new ErrorResponse(HttpStatus.FAILED_DEPENDENCY.value(),
+                                "Não executada: a operação " + execucoes.size() + " falhou e o lote foi desfeito.")));
+            }
+        }
+        if (sucesso && execucoes.stream().anyMatch(Execucao::alteraMotos)) {
+            limparCacheMotos();
+        }
+        return new LoteOperacoesResponse(true, sucesso, resultados, null);
+    }
+
+    private static LoteOperacoesResponse desfeitoNoCommit(List<OperacaoLoteRequest> operacoes, ErrorResponse erro) {
+        List<ResultadoOperacaoResponse> resultados = new ArrayList<>(operacoes.size());
+        for (int i = 0; i < operacoes.size(); i++) {
+            OperacaoLoteRequest op = operacoes.get(i);
+            resultados.add(new ResultadoOperacaoResponse(i, op.getMetodo(), op.getCaminho(),
+                    HttpStatus.FAILED_DEPENDENCY.value(), false,
+                    new ErrorResponse(HttpStatus.FAILED_DEPENDENCY.value(), "Desfeita: o commit do lote falhou.")));
+        }
+        return new LoteOperacoesResponse(true, false, resultados, erro);
+    }
+
+    // =============================
+    // 🔧 Métodos auxiliares
+    // =============================
+
+    /**
+     * Roteia e executa uma operação, retornando o status e o corpo que o endpoint REST devolveria.
+     */
+    private Execucao executar(OperacaoLoteRequest op) {
+        Matcher m = CAMINHO.matcher(op.getCaminho().trim());
+        if (!m.matches()) {
+            throw badRequest("Caminho não suportado em /batch: " + op.getCaminho());
+        }
+        Rota<?> rota = rotas.get(m.group(1));
+        Long id = m.group(2) == null ? null : Long.valueOf(m.group(2));
+        boolean motos = "motos".equals(m.group(1));
+
+        return switch (op.getMetodo().trim().toUpperCase(Locale.ROOT)) {
+            case "GET" -> new Execucao(HttpStatus.OK.value(), rota.buscar().apply(exigirId(id, op)), false);
+            case "POST" -> {
+                if (id != null) {
+                    throw badRequest("POST não aceita ID no caminho: " + op.getCaminho());
+                }
+                yield new Execucao(HttpStatus.OK.value(), cadastrar(rota, op.getCorpo()), motos);
+            }
+            case "PUT" -> new Execucao(HttpStatus.OK.value(), atualizar(rota, exigirId(id, op), op.getCorpo()), motos);
+            case "DELETE" -> {
+                rota.excluir().accept(exigirId(id, op));
+                yield new Execucao(HttpStatus.NO_CONTENT.value(), null, motos);
+            }
+            default -> throw badRequest("Método não suportado em /batch: " + op.getMetodo());
+        };
+    }
+
+    private <Q> Object cadastrar(Rota<Q> rota, JsonNode corpo) {
+        return rota.cadastrar().apply(corpo(rota.tipoCorpo(), corpo));
+    }
+
+    private <Q> Object atualizar(Rota<Q> rota, Long id, JsonNode corpo) {
+        return rota.atualizar().apply(id, corpo(rota.tipoCorpo(), corpo));
+    }
+
+    private static Long exigirId(Long id, OperacaoLoteRequest op) {
+        if (id == null) {
+            throw badRequest(op.getMetodo() + " exige o ID no caminho: " + op.getCaminho() + "/{id}");
+        }
+        return id;
+    }
+
+    /**
+     * Converte e valida o corpo da operação com o DTO do endpoint REST.
+     */
+    private <Q> Q corpo(Class<Q> tipo, JsonNode corpo) {
+        if (corpo == null || corpo.isNull()) {
+            throw badRequest("O corpo da operação é obrigatório.");
+        }
+        Q dto;
+        try {
+            dto = objectMapper.treeToValue(corpo, tipo);
+        } catch (JsonProcessingException e) {
+            throw badRequest("Corpo inválido: " + e.getOriginalMessage());
+        }
+        Set<ConstraintViolation<Q>> violacoes = validator.validate(dto);
+        if (!violacoes.isEmpty()) {
+            List<ErrorResponse.FieldError> erros = violacoes.stream()
+                    .map(v -> new ErrorResponse.FieldError(v.getPropertyPath().toString(), v.getMessage()))
+                    .sorted(Comparator.comparing(ErrorResponse.FieldError::field))
+                    .toList();
+            throw new CorpoInvalidoException(new ErrorResponse(HttpStatus.BAD_REQUEST.value(), "Erro de validação", erros));
+        }
+        return dto;
+    }
+
+    /**
+     * Converte a exceção de uma operação no resultado com `ErrorResponse`, como o `GlobalExceptionHandler`.
+     */
+    private static ResultadoOperacaoResponse falha(int indice, OperacaoLoteRequest op, RuntimeException ex) {
+        if (!(ex instanceof CorpoInvalidoException) && !(ex instanceof ResponseStatusException)) {
+            log.error("❌ Falha na operação {} do lote ({} {})", indice, op.getMetodo(), op.getCaminho(), ex);
+        }
+        ErrorResponse erro = erro(ex);
+        return new ResultadoOperacaoResponse(indice, op.getMetodo(), op.getCaminho(), erro.status(), false, erro);
+    }
+
+    private static ErrorResponse erro(RuntimeException ex) {
+        if (ex instanceof CorpoInvalidoException c) {
+            return c.erro;
+        }
+        if (ex instanceof ResponseStatusException e) {
+            return new ErrorResponse(e.getStatusCode().value(), e.getReason());
+        }
+        return new ErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR.value(), ex.getMessage());
+    }
+
+    private void limparCacheMotos() {
+        Cache cache = cacheManager.getCache(CACHE_MOTOS);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+}
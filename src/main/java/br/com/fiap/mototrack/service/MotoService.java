@@ -1,22 +1,35 @@
 package br.com.fiap.mototrack.service;
 
+import br.com.fiap.mototrack.dto.request.BuscaLoteRequest;
 import br.com.fiap.mototrack.dto.request.MotoRequest;
+import br.com.fiap.mototrack.dto.response.LoteResponse;
+import br.com.fiap.mototrack.dto.response.MotoEstadoResponse;
 import br.com.fiap.mototrack.dto.response.MotoResponse;
 import br.com.fiap.mototrack.filter.MotoFilter;
+import br.com.fiap.mototrack.metrics.Perfilador;
 import br.com.fiap.mototrack.model.Filial;
 import br.com.fiap.mototrack.model.Moto;
+import br.com.fiap.mototrack.outbox.OperacaoOutbox;
+import br.com.fiap.mototrack.outbox.OutboxService;
+import br.com.fiap.mototrack.projection.MotoEstado;
+import br.com.fiap.mototrack.projection.MotoProjecaoEngine;
 import br.com.fiap.mototrack.repository.FilialRepository;
 import br.com.fiap.mototrack.repository.MotoRepository;
 import br.com.fiap.mototrack.specification.MotoSpecification;
+import br.com.fiap.mototrack.util.TransacaoUtils;
 import static br.com.fiap.mototrack.exception.HttpExceptionUtils.notFound;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.modelmapper.ModelMapper;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 /**
  * # 🛠️ Serviço: MotoService
@@ -29,6 +42,10 @@ import java.util.List;
  * - Validação de entidades relacionadas (como `Filial`)
  * - Aplicação de regras de negócio
  * - Utilização de Specifications para filtros dinâmicos
+ * - Busca em lote por IDs ou placas, com consultas `IN` em blocos (`BuscaEmLote`)
+ * - Status e filial derivados da projeção de eventos (`MotoProjecaoEngine`)
+ * - Registro das alterações no outbox, na mesma transação
+ * - Disparo das recorrências por km quando a quilometragem muda
  * - Tratamento de exceções personalizadas
  *
  * ---
@@ -45,6 +62,12 @@ public class MotoService {
 
     private final MotoRepository repository;
     private final FilialRepository filialRepository;
+    private final MotoProjecaoEngine projecao;
+    private final OutboxService outbox;
+    private final RecorrenciaService recorrencia;
+    private final BuscaEmLote buscaEmLote;
+    private final IdsInexistentes idsInexistentes;
+    private final ConsultaPorCampos consultaPorCampos;
     private final ModelMapper modelMapper;
 
     // =============================
@@ -66,7 +89,10 @@ public class MotoService {
         }
 
         Moto salva = repository.save(moto);
-        return modelMapper.map(salva, MotoResponse.class);
+        MotoResponse response = modelMapper.map(salva, MotoResponse.class);
+        outbox.registrar("Moto", salva.getId(), OperacaoOutbox.CRIACAO, response);
+        TransacaoUtils.aposCommit(() -> idsInexistentes.registrarInsercao("Moto", salva.getId()));
+        return response;
     }
 
 
@@ -80,12 +106,15 @@ public class MotoService {
     /**
      * Atualiza os dados de uma moto com base no ID fornecido.
      * Lança exceções se a moto ou a filial não forem encontradas.
+     * Se a moto já possui eventos, status e filial continuam sendo os derivados da projeção.
      */
     @Transactional
     public MotoResponse atualizar(Long id, MotoRequest dto) {
         Moto existente = repository.findById(id)
                 .orElseThrow(() -> notFound("Moto", id));
 
+        Integer kmAnterior = existente.getQuilometragem();
+
         modelMapper.map(dto, existente);
 
         if (dto.getFilialId() != null) {
@@ -96,8 +125,20 @@ public class MotoService {
             existente.setFilial(null);
         }
 
+        MotoEstado estado = projecao.estadoAtual(id);
+        if (estado != null) {
+            aplicarEstadoProjetado(existente, estado);
+        }
+
         Moto atualizada = repository.save(existente);
-        return modelMapper.map(atualizada, MotoResponse.class);
+        MotoResponse response = modelMapper.map(atualizada, MotoResponse.class);
+        outbox.registrar("Moto", id, OperacaoOutbox.ATUALIZACAO, response);
+
+        Integer km = atualizada.getQuilometragem();
+        if (km != null && !km.equals(kmAnterior)) {
+            TransacaoUtils.aposCommit(() -> recorrencia.verificarQuilometragem(id, km));
+        }
+        return response;
     }
 
 
@@ -120,14 +161,43 @@ public class MotoService {
 
     /**
      * Retorna os dados de uma moto pelo ID.
-     * Lança exceção se não encontrada.
+     * Lança exceção se não encontrada; IDs recém-dados como inexistentes não consultam o banco (`IdsInexistentes`).
      */
     public MotoResponse buscarPorId(Long id) {
-        Moto moto = repository.findById(id)
+        Moto moto = idsInexistentes.buscar("Moto", id, repository::findById)
                 .orElseThrow(() -> notFound("Moto", id));
         return modelMapper.map(moto, MotoResponse.class);
     }
 
+    // =============================
+    // 📦 Buscar em lote
+    // =============================
+
+    /**
+     * Retorna as motos dos IDs informados, na ordem do pedido, com consultas `IN` em blocos.
+     * IDs inexistentes são informados em `naoEncontrados`, sem exceção.
+     */
+    public LoteResponse<MotoResponse, Long> buscarPorIds(List<Long> ids) {
+        return buscaEmLote.buscar(ids, repository::findByIdIn, Moto::getId,
+                moto -> modelMapper.map(moto, MotoResponse.class));
+    }
+
+    /**
+     * Retorna as motos das placas informadas, na ordem do pedido, com consultas `IN` em blocos.
+     * Placas inexistentes são informadas em `naoEncontrados`, sem exceção.
+     */
+    public LoteResponse<MotoResponse, String> buscarPorPlacas(List<String> placas) {
+        return buscaEmLote.buscar(placas, repository::findByPlacaIn, Moto::getPlaca,
+                moto -> modelMapper.map(moto, MotoResponse.class));
+    }
+
+    /**
+     * Busca em lote por `ids` ou por `placas`, conforme o pedido.
+     */
+    public LoteResponse<MotoResponse, ?> buscarEmLote(BuscaLoteRequest pedido) {
+        return BuscaEmLote.porPlacas(pedido) ? buscarPorPlacas(pedido.getPlacas()) : buscarPorIds(pedido.getIds());
+    }
+
 
     // =============================
     // ❌ Excluir moto
@@ -143,6 +213,8 @@ public class MotoService {
             throw notFound("Moto", id);
         }
         repository.deleteById(id);
+        outbox.registrar("Moto", id, OperacaoOutbox.EXCLUSAO, null);
+        TransacaoUtils.aposCommit(() -> projecao.remover(id));
     }
 
 
@@ -154,8 +226,105 @@ public class MotoService {
      * Retorna uma página de motos com base nos filtros recebidos.
      */
     public Page<MotoResponse> consultarComFiltro(MotoFilter filtro, Pageable pageable) {
-        var spec = MotoSpecification.comFiltros(filtro);
+        var spec = Perfilador.especificacao(MotoSpecification.comFiltros(filtro));
         return repository.findAll(spec, pageable)
                 .map(moto -> modelMapper.map(moto, MotoResponse.class));
     }
+
+    // =============================
+    // 🧠 Estado derivado dos eventos
+    // =============================
+
+    /**
+     * Retorna o estado da frota derivado dos eventos.
+     * Sem instante, responde da projeção em memória; com instante, reconstrói o estado "em T".
+     */
+    public List<MotoEstadoResponse> consultarEstados(LocalDateTime em) {
+        List<MotoEstado> estados = em == null ? projecao.estadosAtuais() : projecao.estadosEm(em);
+        return estados.stream()
+                .map(this::paraResponse)
+                .toList();
+    }
+
+    /**
+     * Retorna o estado de uma moto derivado dos eventos (atual ou "em T").
+     * Lança exceção se a moto não existir ou não possuir eventos até o instante.
+     */
+    public MotoEstadoResponse consultarEstado(Long id, LocalDateTime em) {
+        if (!repository.existsById(id)) {
+            throw notFound("Moto", id);
+        }
+        MotoEstado estado = em == null ? projecao.estadoAtual(id) : projecao.estadoEm(id, em);
+        if (estado == null) {
+            throw notFound("Nenhum evento registrado para a moto " + id + " até o instante informado");
+        }
+        return paraResponse(estado);
+    }
+
+    // =============================
+    // 🔧 Métodos auxiliares
+    // =============================
+
+    /**
+     * Sobrepõe status e filial da moto com os valores derivados da projeção.
+     */
+    private void aplicarEstadoProjetado(Moto moto, MotoEstado estado) {
+        if (estado.status() != null) {
+            moto.setStatus(estado.status());
+        }
+        if (estado.filialId() != null) {
+            moto.setFilial(filialRepository.getReferenceById(estado.filialId()));
+        }
+    }
+
+    private MotoEstadoResponse paraResponse(MotoEstado estado) {
+        MotoEstadoResponse response = new MotoEstadoResponse();
+        response.setMotoId(estado.motoId());
+        response.setStatus(estado.status());
+        response.setFilialId(estado.filialId());
+        response.setUltimoEventoId(estado.ultimoEventoId());
+        response.setDataUltimoEvento(estado.dataUltimoEvento());
+        return response;
+    }
+
+    // =============================
+    // 🎯 Seleção de campos (?fields=)
+    // =============================
+
+    /**
+     * Lista as motos apenas com os campos pedidos, lidos por projeção direto do banco.
+     */
+    public List<Map<String, Object>> consultarCampos(String campos) {
+        return consultaPorCampos.listar(Moto.class, MotoResponse.class, campos, null, Sort.unsorted());
+    }
+
+    /**
+     * Retorna a moto do ID informado apenas com os campos pedidos.
+     * Lança exceção se não encontrada.
+     */
+    public Map<String, Object> buscarCamposPorId(Long id, String campos) {
+        return idsInexistentes.buscar("Moto", id,
+                        chave -> consultaPorCampos.buscarPorId(Moto.class, MotoResponse.class, campos, chave))
+                .orElseThrow(() -> notFound("Moto", id));
+    }
+
+    /**
+     * Retorna uma página de motos com filtros dinâmicos, apenas com os campos pedidos.
+     */
+    public Page<Map<String, Object>> consultarCamposComFiltro(MotoFilter filtro, Pageable pageable, String campos) {
+        var spec = Perfilador.especificacao(MotoSpecification.comFiltros(filtro));
+        return consultaPorCampos.paginar(Moto.class, MotoResponse.class, campos, spec, pageable);
+    }
+
+    // =============================
+    // 🕸️ Carregamento em lote (GraphQL)
+    // =============================
+
+    /**
+     * Retorna até `limite` motos de cada filial informada, em duas consultas para todo o bloco.
+     */
+    public List<MotoResponse> buscarPorFiliais(Collection<Long> filialIds, int limite) {
+        List<Long> ids = repository.findIdsPorFiliais(filialIds, limite);
+        return ids.isEmpty() ? List.of() : buscarPorIds(ids).encontrados();
+    }
 }
@@ -0,0 +1,104 @@
+package br.com.fiap.mototrack.service;
+
+import br.com.fiap.mototrack.concurrency.EscopoEstruturado;
+import br.com.fiap.mototrack.dto.response.AgendamentoResponse;
+import br.com.fiap.mototrack.dto.response.EventoResponse;
+import br.com.fiap.mototrack.dto.response.FilialResponse;
+import br.com.fiap.mototrack.dto.response.MotoResponse;
+import br.com.fiap.mototrack.dto.response.PainelFilialResponse;
+import br.com.fiap.mototrack.dto.response.UsuarioResponse;
+import br.com.fiap.mototrack.filter.AgendamentoFilter;
+import br.com.fiap.mototrack.filter.EventoFilter;
+import br.com.fiap.mototrack.filter.MotoFilter;
+import br.com.fiap.mototrack.filter.UsuarioFilter;
+import static br.com.fiap.mototrack.exception.HttpExceptionUtils.internalError;
+import static br.com.fiap.mototrack.exception.HttpExceptionUtils.serviceUnavailable;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * # 🛠️ Serviço: PainelFilialService
+ *
+ * Monta o painel de uma filial (`GET /filiais/{id}/painel`) a partir das mesmas consultas da tela de
+ * visão geral: filial, motos, eventos, agendamentos e usuários.
+ *
+ * ---
+ * ## 📋 Responsabilidades:
+ * - Executar as cinco consultas em paralelo, em threads virtuais (`EscopoEstruturado`):
+ *   a latência do painel fica próxima à da consulta mais lenta, e não à soma delas
+ * - Prazo único para o painel inteiro (`mototrack.painel.prazo-ms`): esgotado, as consultas pendentes
+ *   são canceladas e a resposta é 503
+ * - Falha em qualquer consulta (ex: filial inexistente → 404) cancela as demais e é relançada
+ *
+ * > Cada consulta abre a própria transação e conexão: o painel ocupa até cinco conexões do pool ao mesmo tempo.
+ */
+@Service
+public class PainelFilialService {
+
+    // =============================
+    // 🔗 Injeção de Dependências
+    // =============================
+
+    private final FilialService filialService;
+    private final MotoService motoService;
+    private final EventoService eventoService;
+    private final AgendamentoService agendamentoService;
+    private final UsuarioService usuarioService;
+    private final Duration prazo;
+
+    public PainelFilialService(FilialService filialService,
+                               MotoService motoService,
+                               EventoService eventoService,
+                               AgendamentoService agendamentoService,
+                               UsuarioService usuarioService,
+                               @Value("${mototrack.painel.prazo-ms:2000}") long prazoMs) {
+        this.filialService = filialService;
+        this.motoService = motoService;
+        this.eventoService = eventoService;
+        this.agendamentoService = agendamentoService;
+        this.usuarioService = usuarioService;
+        this.prazo = Duration.ofMillis(prazoMs);
+    }
+
+    // =============================
+    // 📊 Montar painel
+    // =============================
+
+    /**
+     * Monta o painel da filial, com até `tamanho` registros em cada lista.
+     */
+    public PainelFilialResponse montar(Long filialId, int tamanho) {
+        try (var escopo = new EscopoEstruturado("painel-filial", prazo)) {
+            Supplier<FilialResponse> filial = escopo.fork(() -> filialService.buscarPorId(filialId));
+            Supplier<Page<MotoResponse>> motos = escopo.fork(() -> motoService.consultarComFiltro(
+                    new MotoFilter(null, null, null, null, null, null, null, filialId, null, null),
+                    PageRequest.of(0, tamanho, Sort.by("placa"))));
+            Supplier<Page<EventoResponse>> eventos = escopo.fork(() -> eventoService.consultarComFiltro(
+                    new EventoFilter(null, null, filialId, null, null, null, null, null),
+                    PageRequest.of(0, tamanho, Sort.by(Sort.Direction.DESC, "dataHora"))));
+            Supplier<Page<AgendamentoResponse>> agendamentos = escopo.fork(() -> agendamentoService.consultarComFiltro(
+                    new AgendamentoFilter(null, null, filialId, null, LocalDate.now(), null),
+                    PageRequest.of(0, tamanho, Sort.by("dataAgendada"))));
+            Supplier<Page<UsuarioResponse>> usuarios = escopo.fork(() -> usuarioService.consultarComFiltro(
+                    new UsuarioFilter(null, filialId, null, null, null),
+                    PageRequest.of(0, tamanho, Sort.by("nome"))));
+
+            escopo.juntar();
+            return new PainelFilialResponse(filial.get(), motos.get(), eventos.get(), agendamentos.get(), usuarios.get());
+        } catch (TimeoutException e) {
+            throw serviceUnavailable("Painel da filial " + filialId + " não montado dentro do prazo: " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw internalError("Montagem do painel da filial " + filialId + " interrompida");
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package br.com.fiap.mototrack.service;
+
+import br.com.fiap.mototrack.dto.request.RegraRecorrenciaRequest;
+import br.com.fiap.mototrack.dto.response.RegraRecorrenciaResponse;
+import br.com.fiap.mototrack.model.Agendamento;
+import br.com.fiap.mototrack.model.Moto;
+import br.com.fiap.mototrack.model.RegraRecorrencia;
+import br.com.fiap.mototrack.repository.FilialRepository;
+import br.com.fiap.mototrack.repository.MotoRepository;
+import br.com.fiap.mototrack.repository.RegraRecorrenciaRepository;
+import br.com.fiap.mototrack.util.TransacaoUtils;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static br.com.fiap.mototrack.exception.HttpExceptionUtils.badRequest;
+import static br.com.fiap.mototrack.exception.HttpExceptionUtils.notFound;
+
+/**
+ * # 🛠️ Serviço: RecorrenciaService
+ *
+ * Camada de lógica de negócios das regras de manutenção recorrente (`RegraRecorrencia`).
+ *
+ * ---
+ * ## 📋 Responsabilidades:
+ * - Cadastro, consulta e desativação de regras (por moto ou por grupo de motos de uma filial)
+ * - Materialização apenas da **próxima** ocorrência de cada regra por dias, quando ela entra
+ *   na janela do agendador e a anterior já venceu
+ * - Materialização das regras por km quando a quilometragem da moto atinge o limite
+ *
+ * > As demais ocorrências não são gravadas: o `AgendamentoService` as expande sob demanda
+ * > em `/agendamentos/filtro`. Uma ocorrência recusada (ex: oficina lotada) é registrada em log
+ * > e as demais motos do grupo seguem normalmente.
+ *
+ * ---
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RecorrenciaService {
+
+    // =============================
+    // 🔗 Injeção de Dependências
+    // =============================
+
+    private final RegraRecorrenciaRepository repository;
+    private final MotoRepository motoRepository;
+    private final FilialRepository filialRepository;
+    private final AgendamentoService agendamentoService;
+    private final ModelMapper modelMapper;
+
+    @Value("${mototrack.agendador.janela-horas:168}")
+    private long janelaHoras;
+
+    @Value("${mototrack.recorrencia.antecedencia-km-horas:24}")
+    private long antecedenciaKmHoras;
+
+    // =============================
+    // 📝 Cadastrar regra
+    // =============================
+
+    /**
+     * Cadastra uma regra de recorrência. Se a primeira ocorrência já estiver na janela,
+     * ela é materializada logo após o commit.
+     */
+    @Transactional
+    public RegraRecorrenciaResponse cadastrar(RegraRecorrenciaRequest dto) {
+        if ((dto.getMotoId() == null) == (dto.getFilialId() == null)) {
+            throw badRequest("Informe motoId ou filialId (apenas um).");
+        }
+        if ((dto.getIntervaloDias() == null) == (dto.getIntervaloKm() == null)) {
+            throw badRequest("Informe intervaloDias ou intervaloKm (apenas um).");
+        }
+
+        RegraRecorrencia regra = modelMapper.map(dto, RegraRecorrencia.class);
+        regra.setAtiva(true);
+        if (regra.getDuracaoMinutos() == null) {
+            regra.setDuracaoMinutos(Agendamento.DURACAO_PADRAO_MINUTOS);
+        }
+        if (dto.getMotoId() != null) {
+            regra.setMoto(motoRepository.findById(dto.getMotoId())
+                    .orElseThrow(() -> notFound("Moto", dto.getMotoId())));
+        } else {
+            regra.setFilial(filialRepository.findById(dto.getFilialId())
+                    .orElseThrow(() -> notFound("Filial", dto.getFilialId())));
+        }
+
+        if (dto.getIntervaloDias() != null) {
+            if (dto.getInicio() == null) {
+                throw badRequest("Regras por dias exigem a data da primeira ocorrência (inicio).");
+            }
+            regra.setProximaOcorrencia(dto.getInicio());
+        } else {
+            if (regra.getMoto() == null) {
+                throw badRequest("Regras por km devem ser de uma moto (motoId).");
+            }
+            Integer kmAtual = regra.getMoto().getQuilometragem();
+            regra.setProximoKm(dto.getKmInicial() != null
+                    ? dto.getKmInicial()
+                    : (kmAtual != null ? kmAtual : 0) + dto.getIntervaloKm());
+        }
+
+        RegraRecorrencia salva = repository.save(regra);
+        TransacaoUtils.aposCommit(this::materializarPendentes);
+        return modelMapper.map(salva, RegraRecorrenciaResponse.class);
+    }
+
+    // =============================
+    // 📄 Consultas
+    // =============================
+
+    /**
+     * Retorna todas as regras cadastradas.
+     */
+    public List<RegraRecorrenciaResponse> consultarTodos() {
+        return repository.findAll().stream()
+                .map(r -> modelMapper.map(r, RegraRecorrenciaResponse.class))
+                .toList();
+    }
+
+    /**
+     * Retorna uma regra pelo ID.
+     */
+    public RegraRecorrenciaResponse buscarPorId(Long id) {
+        RegraRecorrencia regra = repository.findById(id)
+                .orElseThrow(() -> notFound("Regra de recorrência", id));
+        return modelMapper.map(regra, RegraRecorrenciaResponse.class);
+    }
+
+    // =============================
+    // ⏹️ Desativar regra
+    // =============================
+
+    /**
+     * Desativa a regra: nenhuma nova ocorrência é prevista ou materializada.
+     * As ocorrências já materializadas continuam como agendamentos comuns.
+     */
+    @Transactional
+    public void desativar(Long id) {
+        RegraRecorrencia regra = repository.findById(id)
+                .orElseThrow(() -> notFound("Regra de recorrência", id));
+        regra.setAtiva(false);
+    }
+
+    // =============================
+    // 🔁 Materialização
+    // =============================
+
+    /**
+     * Materializa a próxima ocorrência das regras por dias que entraram na janela do agendador.
+     * A consulta é por regra, não por ocorrência.
+     */
+    @Scheduled(fixedDelayString = "${mototrack.recorrencia.materializacao-intervalo-ms:60000}")
+    public void materializarPendentes() {
+        LocalDateTime agora = LocalDateTime.now();
+        for (RegraRecorrencia regra : repository.findParaMaterializar(agora.plusHours(janelaHoras), agora)) {
+            LocalDateTime data = regra.getProximaOcorrencia();
+            int intervalo = regra.getIntervaloDias();
+            // Ocorrências perdidas (aplicação parada) são puladas, exceto a mais recente
+            while (!data.plusDays(intervalo).isAfter(agora)) {
+                data = data.plusDays(intervalo);
+            }
+            List<Long> motos = regra.getMoto() != null
+                    ? List.of(regra.getMoto().getId())
+                    : motoRepository.findIdsPorFilial(regra.getFilial().getId());
+            materializar(regra, motos, data);
+            repository.avancarPorDias(regra.getId(), data, data.plusDays(intervalo));
+        }
+    }
+
+    /**
+     * Materializa as regras por km da moto que atingiram a quilometragem informada.
+     * Chamado após o commit da atualização da moto.
+     */
+    public void verificarQuilometragem(Long motoId, Integer quilometragem) {
+        if (quilometragem == null) {
+            return;
+        }
+        LocalDateTime data = LocalDateTime.now().plusHours(antecedenciaKmHoras).truncatedTo(ChronoUnit.MINUTES);
+        for (RegraRecorrencia regra : repository.findPorKmVencidas(motoId, quilometragem)) {
+            materializar(regra, List.of(motoId), data);
+            int proximo = regra.getProximoKm();
+            while (proximo <= quilometragem) {
+                proximo += regra.getIntervaloKm();
+            }
+            repository.avancarPorKm(regra.getId(), proximo);
+        }
+    }
+
+    private void materializar(RegraRecorrencia regra, List<Long> motos, LocalDateTime data) {
+        int criadas = 0;
+        for (Long motoId : motos) {
+            try {
+                if (agendamentoService.materializarOcorrencia(regra, motoId, data)) {
+                    criadas++;
+                }
+            } catch (ResponseStatusException e) {
+                log.warn("🔁 Ocorrência da regra {} para a moto {} em {} recusada: {}",
+                        regra.getId(), motoId, data, e.getReason());
+            }
+        }
+        log.info("🔁 Regra {}: {} ocorrências materializadas para {}", regra.getId(), criadas, data);
+    }
+}
@@ -1,13 +1,20 @@
 package br.com.fiap.mototrack.service;
 
 import br.com.fiap.mototrack.dto.request.UsuarioRequest;
+import br.com.fiap.mototrack.dto.response.ImportacaoUsuariosResponse;
 import br.com.fiap.mototrack.dto.response.UsuarioResponse;
 import br.com.fiap.mototrack.filter.UsuarioFilter;
+import br.com.fiap.mototrack.metrics.Perfilador;
 import br.com.fiap.mototrack.model.Filial;
 import br.com.fiap.mototrack.model.Usuario;
 import br.com.fiap.mototrack.repository.FilialRepository;
 import br.com.fiap.mototrack.repository.UsuarioRepository;
+import br.com.fiap.mototrack.security.CacheCredenciais;
+import br.com.fiap.mototrack.security.HashSenhas;
+import br.com.fiap.mototrack.security.RevogacaoTokens;
 import br.com.fiap.mototrack.specification.UsuarioSpecification;
+import br.com.fiap.mototrack.util.TransacaoUtils;
+import static br.com.fiap.mototrack.exception.HttpExceptionUtils.conflict;
 import static br.com.fiap.mototrack.exception.HttpExceptionUtils.notFound;
 
 import jakarta.transaction.Transactional;
@@ -15,9 +22,14 @@ import lombok.RequiredArgsConstructor;
 import org.modelmapper.ModelMapper;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 
+import java.io.InputStream;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 /**
  * # 🛠️ Serviço: UsuarioService
@@ -30,6 +42,9 @@ import java.util.List;
  * - Conversão entre DTOs e entidades com ModelMapper
  * - Validação e vinculação da filial ao usuário
  * - Consultas dinâmicas com Specification
+ * - Importação em massa com hash das senhas fora das threads do servlet
+ * - Revogação dos tokens do usuário alterado ou excluído (as claims de perfil/filial ficariam desatualizadas)
+ * - Invalidação do cache de credenciais do login após o commit
  * - Tratamento de exceções centralizadas e amigáveis
  *
  * ---
@@ -46,6 +61,11 @@ public class UsuarioService {
 
     private final UsuarioRepository repository;
     private final FilialRepository filialRepository;
+    private final ConsultaPorCampos consultaPorCampos;
+    private final ImportacaoUsuarios importacaoUsuarios;
+    private final HashSenhas hashSenhas;
+    private final RevogacaoTokens revogacaoTokens;
+    private final CacheCredenciais cacheCredenciais;
     private final ModelMapper modelMapper;
 
     // =============================
@@ -55,10 +75,14 @@ public class UsuarioService {
     /**
      * Cadastra um novo usuário no sistema.
      * Faz o vínculo com a filial se o campo filialId for informado.
+     * A senha é gravada como hash PBKDF2 (`HashSenhas`).
+     * E-mails são únicos sem distinção de maiúsculas (409 se já cadastrado).
      */
     @Transactional
     public UsuarioResponse cadastrar(UsuarioRequest dto) {
+        validarEmailDisponivel(dto.getEmail(), -1L);
         Usuario usuario = modelMapper.map(dto, Usuario.class);
+        usuario.setSenha(hashSenhas.gerar(dto.getSenha()));
 
         // Se foi informado o ID da filial, vincula ao usuário
         if (dto.getFilialId() != null) {
@@ -70,6 +94,7 @@ public class UsuarioService {
         }
 
         Usuario salvo = repository.save(usuario);
+        TransacaoUtils.aposCommit(() -> cacheCredenciais.invalidar(salvo.getEmail()));
 
         // Prepara o response já incluindo o filialId, se houver
         UsuarioResponse response = modelMapper.map(salvo, UsuarioResponse.class);
@@ -87,13 +112,18 @@ public class UsuarioService {
      * Atualiza os dados de um usuário existente.
      * Lança exceção se não encontrado.
      * Atualiza o vínculo com filial, se informado.
+     * Após o commit, revoga os tokens já emitidos para o usuário e descarta as credenciais em cache
+     * (e-mail anterior e novo).
      */
     @Transactional
     public UsuarioResponse atualizar(Long id, UsuarioRequest dto) {
         Usuario existente = repository.findById(id)
                 .orElseThrow(() -> notFound("Usuario", id));
+        String emailAnterior = existente.getEmail();
+        validarEmailDisponivel(dto.getEmail(), id);
 
         modelMapper.map(dto, existente);
+        existente.setSenha(hashSenhas.gerar(dto.getSenha()));
 
         if (dto.getFilialId() != null) {
             Filial filial = filialRepository.findById(dto.getFilialId())
@@ -104,6 +134,10 @@ public class UsuarioService {
         }
 
         Usuario atualizado = repository.save(existente);
+        TransacaoUtils.aposCommit(() -> {
+            revogacaoTokens.revogarUsuario(id);
+            cacheCredenciais.invalidar(emailAnterior, atualizado.getEmail());
+        });
 
         UsuarioResponse response = modelMapper.map(atualizado, UsuarioResponse.class);
         if (atualizado.getFilial() != null) {
@@ -157,13 +191,17 @@ public class UsuarioService {
     /**
      * Remove um usuário com base no ID.
      * Lança exceção se não encontrado.
+     * Após o commit, revoga os tokens já emitidos para o usuário e descarta a credencial em cache.
      */
     @Transactional
     public void excluir(Long id) {
-        if (!repository.existsById(id)) {
-            throw notFound("Usuario", id);
-        }
-        repository.deleteById(id);
+        Usuario usuario = repository.findById(id)
+                .orElseThrow(() -> notFound("Usuario", id));
+        repository.delete(usuario);
+        TransacaoUtils.aposCommit(() -> {
+            revogacaoTokens.revogarUsuario(id);
+            cacheCredenciais.invalidar(usuario.getEmail());
+        });
     }
 
     // =============================
@@ -174,7 +212,7 @@ public class UsuarioService {
      * Realiza consulta paginada e com filtros para usuários.
      */
     public Page<UsuarioResponse> consultarComFiltro(UsuarioFilter filtro, Pageable pageable) {
-        var spec = UsuarioSpecification.comFiltros(filtro);
+        var spec = Perfilador.especificacao(UsuarioSpecification.comFiltros(filtro));
         return repository.findAll(spec, pageable)
                 .map(u -> {
                     UsuarioResponse resp = modelMapper.map(u, UsuarioResponse.class);
@@ -184,4 +222,73 @@ public class UsuarioService {
                     return resp;
                 });
     }
+
+    // =============================
+    // 📥 Importação em lote
+    // =============================
+
+    /**
+     * Importa usuários de um CSV, array JSON ou NDJSON lido em fluxo, com hash das senhas
+     * em paralelo e inserts em lote (ver `ImportacaoUsuarios`).
+     */
+    public ImportacaoUsuariosResponse importar(InputStream corpo, MediaType tipo) {
+        return importacaoUsuarios.importar(corpo, tipo);
+    }
+
+    // =============================
+    // 🎯 Seleção de campos (?fields=)
+    // =============================
+
+    /**
+     * Lista os usuários apenas com os campos pedidos, lidos por projeção direto do banco.
+     */
+    public List<Map<String, Object>> consultarCampos(String campos) {
+        return consultaPorCampos.listar(Usuario.class, UsuarioResponse.class, campos, null, Sort.unsorted());
+    }
+
+    /**
+     * Retorna o usuário do ID informado apenas com os campos pedidos.
+     * Lança exceção se não encontrado.
+     */
+    public Map<String, Object> buscarCamposPorId(Long id, String campos) {
+        return consultaPorCampos.buscarPorId(Usuario.class, UsuarioResponse.class, campos, id)
+                .orElseThrow(() -> notFound("Usuario", id));
+    }
+
+    /**
+     * Página de os usuários com filtros dinâmicos, apenas com os campos pedidos.
+     */
+    public Page<Map<String, Object>> consultarCamposComFiltro(UsuarioFilter filtro, Pageable pageable, String campos) {
+        var spec = Perfilador.especificacao(UsuarioSpecification.comFiltros(filtro));
+        return consultaPorCampos.paginar(Usuario.class, UsuarioResponse.class, campos, spec, pageable);
+    }
+
+    // =============================
+    // 🕸️ Carregamento em lote (GraphQL)
+    // =============================
+
+    /**
+     * Retorna os usuários das filiais informadas, em uma consulta para todo o bloco.
+     */
+    public List<UsuarioResponse> buscarPorFiliais(Collection<Long> filialIds) {
+        return repository.findByFilialIdIn(filialIds).stream()
+                .map(u -> {
+                    UsuarioResponse resp = modelMapper.map(u, UsuarioResponse.class);
+                    if (u.getFilial() != null) {
+                        resp.setFilialId(u.getFilial().getId());
+                    }
+                    return resp;
+                })
+                .toList();
+    }
+
+    // =============================
+    // 🔧 Métodos auxiliares
+    // =============================
+
+    private void validarEmailDisponivel(String email, Long id) {
+        if (repository.existsByEmailNormalizadoAndIdNot(Usuario.normalizarEmail(email), id)) {
+            throw conflict("E-mail já cadastrado: " + email);
+        }
+    }
 }
@@ -19,6 +19,7 @@ import java.util.List;
  *
  * - 🔑 `id` do agendamento
  * - 🛵 `id` da moto vinculada
+ * - 🏢 `id` da filial
  * - 📝 `descrição` (busca parcial, ignorando maiúsculas/minúsculas)
  * - 📅 Intervalo de `dataAgendada`
  *
@@ -50,6 +51,12 @@ public class AgendamentoSpecification {
              */
             eq(p, cb, root.get("moto").get("id"), f.motoId());
 
+            /**
+             * ### 🏢 Filtro por ID da Filial
+             * Filtra agendamentos da oficina de uma determinada filial.
+             */
+            eq(p, cb, root.get("filial").get("id"), f.filialId());
+
             /**
              * ### 📝 Filtro por Descrição
              * Aplica um LIKE ignorando case para buscar termos contidos na descrição.
@@ -18,7 +18,7 @@ import java.util.List;
  * ---
  * ## ✅ Filtros Suportados
  *
- * - 🔑 Identificadores: `id`, `moto.id`
+ * - 🔑 Identificadores: `id`, `moto.id`, `filial.id`
  * - 🏷️ Atributos do evento: `tipo`, `motivo`, `localizacao`
  * - 📅 Intervalo de datas: `dataInicio`, `dataFim`
  *
@@ -50,6 +50,12 @@ public class EventoSpecification {
              */
             eq(p, cb, root.get("moto").get("id"), f.motoId());
 
+            /**
+             * ### 🏢 Filtro por ID da filial
+             * Eventos ocorridos em uma determinada filial.
+             */
+            eq(p, cb, root.get("filial").get("id"), f.filialId());
+
             /**
              * ### 🏷️ Filtro por Tipo de evento (case-insensitive)
              * Exemplo: "ENTRADA", "SAÍDA", "MANUTENÇÃO"
@@ -71,7 +77,7 @@ public class EventoSpecification {
              * ### 📅 Filtro por Data do Evento
              * Permite definir um intervalo entre dataInicio e dataFim.
              */
-            range(p, cb, root.get("dataEvento"), f.dataInicio(), f.dataFim());
+            range(p, cb, root.get("dataHora"), f.dataInicio(), f.dataFim());
 
             /**
              * ### 🔄 Combinação de todos os predicados
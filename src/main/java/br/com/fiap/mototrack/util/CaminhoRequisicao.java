@@ -0,0 +1,52 @@
+package br.com.fiap.mototrack.util;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * # 🧭 CaminhoRequisicao
+ *
+ * Caminho da requisição como o container o mapeia para o servlet, para comparar com os padrões
+ * de rotas dos filtros (públicas, isentas, idempotentes).
+ *
+ * ---
+ * ## 📋 Por que não `getRequestURI()`?
+ * O URI bruto não é decodificado nem normalizado: o Tomcat remove parâmetros `;` e resolve `..`
+ * antes de escolher o servlet, então `/swagger-ui/..;/h2-console/` casaria com `/swagger-ui/**`
+ * e chegaria ao console H2. `servletPath + pathInfo` já é o caminho decodificado e normalizado.
+ *
+ * > `ambiguo` identifica URIs cujo caminho bruto difere do normalizado (`;`, `..`, separadores
+ * > codificados), que o `AutenticacaoFilter` recusa com `400`.
+ *
+ * ---
+ * @author Rafael
+ * @since 1.0
+ */
+public final class CaminhoRequisicao {
+
+    private static final List<String> SEQUENCIAS_AMBIGUAS = List.of(";", "..", "\\", "%2f", "%5c", "%2e", "%3b", "%25");
+
+    private CaminhoRequisicao() {
+        // Não instanciar
+    }
+
+    /**
+     * Caminho decodificado e normalizado, sem o context path (ex: `/motos/1`).
+     */
+    public static String de(HttpServletRequest request) {
+        String servletPath = request.getServletPath() != null ? request.getServletPath() : "";
+        String pathInfo = request.getPathInfo() != null ? request.getPathInfo() : "";
+        String caminho = servletPath + pathInfo;
+        return caminho.isEmpty() ? "/" : caminho;
+    }
+
+    /**
+     * Indica se o URI bruto traz parâmetros de caminho, segmentos `..` ou separadores codificados.
+     */
+    public static boolean ambiguo(HttpServletRequest request) {
+        String uri = request.getRequestURI().toLowerCase(Locale.ROOT);
+        return SEQUENCIAS_AMBIGUAS.stream().anyMatch(uri::contains);
+    }
+}
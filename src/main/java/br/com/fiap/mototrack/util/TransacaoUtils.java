@@ -0,0 +1,63 @@
+package br.com.fiap.mototrack.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * # 🔁 TransacaoUtils
+ *
+ * Utilitário para agendar ações que só devem rodar depois que a transação corrente
+ * terminar (ex: atualizar estruturas em memória somente após o commit).
+ *
+ * ---
+ * ## 📋 Como usar?
+ * ```java
+ * TransacaoUtils.aposCommit(() -> projecao.aplicar(fato));
+ * TransacaoUtils.aposRollback(() -> indice.remover(id));
+ * ```
+ *
+ * > Sem transação ativa, `aposCommit` executa a ação imediatamente e `aposRollback` a ignora.
+ *
+ * ---
+ * @author Rafael
+ * @since 1.0
+ */
+public final class TransacaoUtils {
+
+    private TransacaoUtils() {
+        // Não instanciar
+    }
+
+    /**
+     * Executa a ação somente após o commit da transação corrente.
+     */
+    public static void aposCommit(Runnable acao) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            acao.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                acao.run();
+            }
+        });
+    }
+
+    /**
+     * Executa a ação somente se a transação corrente for desfeita (rollback).
+     */
+    public static void aposRollback(Runnable acao) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    acao.run();
+                }
+            }
+        });
+    }
+}
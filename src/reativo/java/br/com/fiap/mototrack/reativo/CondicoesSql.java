@@ -0,0 +1,74 @@
+package br.com.fiap.mototrack.reativo;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * # 🔍 CondicoesSql
+ *
+ * Equivalente, em SQL com parâmetros nomeados, dos auxiliares das `Specification`s JPA
+ * (`eq`, `eqIgnoreCase`, `like`, `range`): cada condição só entra na consulta quando o valor foi informado,
+ * e os critérios são combinados com AND.
+ */
+final class CondicoesSql {
+
+    private final List<String> condicoes = new ArrayList<>();
+    private final Map<String, Object> parametros = new LinkedHashMap<>();
+
+    /** `coluna = valor` */
+    CondicoesSql eq(String coluna, Object valor) {
+        if (valor != null) {
+            condicoes.add(coluna + " = :" + parametro(valor));
+        }
+        return this;
+    }
+
+    /** `LOWER(coluna) = LOWER(valor)` */
+    CondicoesSql eqIgnoreCase(String coluna, String valor) {
+        if (valor != null && !valor.isBlank()) {
+            condicoes.add("lower(" + coluna + ") = :" + parametro(valor.toLowerCase()));
+        }
+        return this;
+    }
+
+    /** `LOWER(coluna) LIKE %valor%` */
+    CondicoesSql like(String coluna, String valor) {
+        if (valor != null && !valor.isBlank()) {
+            condicoes.add("lower(" + coluna + ") like :" + parametro("%" + valor.toLowerCase() + "%"));
+        }
+        return this;
+    }
+
+    /** `coluna >= min` e `coluna <= max`, para os limites informados */
+    CondicoesSql range(String coluna, Object min, Object max) {
+        if (min != null) {
+            condicoes.add(coluna + " >= :" + parametro(min));
+        }
+        if (max != null) {
+            condicoes.add(coluna + " <= :" + parametro(max));
+        }
+        return this;
+    }
+
+    /** Cláusula `where` (vazia sem condições), precedida de espaço */
+    String where() {
+        return condicoes.isEmpty() ? "" : " where " + String.join(" and ", condicoes);
+    }
+
+    DatabaseClient.GenericExecuteSpec vincular(DatabaseClient.GenericExecuteSpec consulta) {
+        for (Map.Entry<String, Object> parametro : parametros.entrySet()) {
+            consulta = consulta.bind(parametro.getKey(), parametro.getValue());
+        }
+        return consulta;
+    }
+
+    private String parametro(Object valor) {
+        String nome = "p" + parametros.size();
+        parametros.put(nome, valor);
+        return nome;
+    }
+}
@@ -0,0 +1,187 @@
+package br.com.fiap.mototrack.reativo;
+
+import br.com.fiap.mototrack.dto.response.EventoResponse;
+import br.com.fiap.mototrack.dto.response.FilialResponse;
+import br.com.fiap.mototrack.dto.response.MotoResponse;
+import br.com.fiap.mototrack.filter.EventoFilter;
+import br.com.fiap.mototrack.filter.FilialFilter;
+import br.com.fiap.mototrack.filter.MotoFilter;
+import io.r2dbc.spi.Readable;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * # 🗄️ ConsultasReativas
+ *
+ * Consultas somente leitura de `Moto`, `Filial` e `Evento` via R2DBC, com os mesmos critérios
+ * das `Specification`s JPA (`MotoSpecification`, `FilialSpecification`, `EventoSpecification`).
+ *
+ * > Backpressure: as linhas são emitidas conforme a demanda do assinante (a escrita na conexão HTTP),
+ * > pedidas ao driver em lotes de `mototrack.reativo.lote`. Um cliente lento não faz o resultado inteiro
+ * > ser carregado em memória.
+ */
+class ConsultasReativas {
+
+    static final Map<String, String> COLUNAS_MOTO = Map.of(
+            "id", "id_moto", "placa", "cd_placa", "modelo", "ds_modelo", "marca", "ds_marca",
+            "ano", "nr_ano", "status", "ds_status", "dataCriacao", "dt_criacao");
+    static final Map<String, String> COLUNAS_FILIAL = Map.of(
+            "id", "id_filial", "nome", "nm_filial", "bairro", "ds_bairro", "cidade", "ds_cidade", "estado", "ds_estado");
+    static final Map<String, String> COLUNAS_EVENTO = Map.of(
+            "id", "id_evento", "tipo", "tp_evento", "dataHora", "dt_hr_evento", "localizacao", "ds_localizacao");
+
+    private static final String SELECT_MOTO = "select id_moto, cd_placa, ds_modelo, ds_marca, nr_ano, ds_status, "
+            + "nr_quilometragem, id_filial, vl_latitude, vl_longitude from tb_moto";
+    private static final String SELECT_FILIAL = "select id_filial, nm_filial, ds_endereco, ds_bairro, ds_cidade, ds_estado, "
+            + "nr_cep, vl_latitude, vl_longitude, raio_geofence_m, nr_capacidade_oficina from tb_filial";
+    private static final String SELECT_EVENTO = "select id_evento, id_moto, id_filial, tp_evento, ds_motivo, "
+            + "dt_hr_evento, ds_localizacao from tb_evento";
+
+    private static final Function<Readable, MotoResponse> LINHA_MOTO = ConsultasReativas::moto;
+    private static final Function<Readable, FilialResponse> LINHA_FILIAL = ConsultasReativas::filial;
+    private static final Function<Readable, EventoResponse> LINHA_EVENTO = ConsultasReativas::evento;
+
+    private final DatabaseClient cliente;
+    private final int lote;
+
+    ConsultasReativas(DatabaseClient cliente, int lote) {
+        this.cliente = cliente;
+        this.lote = lote;
+    }
+
+    // =============================
+    // 🛵 Motos
+    // =============================
+
+    Mono<MotoResponse> moto(Long id) {
+        return cliente.sql(SELECT_MOTO + " where id_moto = :id").bind("id", id)
+                .map(LINHA_MOTO).one();
+    }
+
+    Flux<MotoResponse> motos(MotoFilter f, Pagina pagina) {
+        CondicoesSql c = new CondicoesSql()
+                .eq("id_moto", f.id())
+                .like("cd_placa", f.placa())
+                .like("ds_modelo", f.modelo())
+                .like("ds_marca", f.marca())
+                .eqIgnoreCase("ds_status", f.status())
+                .range("nr_ano", f.anoMin(), f.anoMax())
+                .range("dt_criacao", f.dataCriacaoInicio(), f.dataCriacaoFim())
+                .eq("id_filial", f.filialId());
+        return listar(SELECT_MOTO, c, pagina, LINHA_MOTO);
+    }
+
+    // =============================
+    // 🏢 Filiais
+    // =============================
+
+    Mono<FilialResponse> filial(Long id) {
+        return cliente.sql(SELECT_FILIAL + " where id_filial = :id").bind("id", id)
+                .map(LINHA_FILIAL).one();
+    }
+
+    Flux<FilialResponse> filiais(FilialFilter f, Pagina pagina) {
+        CondicoesSql c = new CondicoesSql()
+                .eq("id_filial", f.id())
+                .like("nm_filial", f.nome())
+                .like("ds_bairro", f.bairro())
+                .like("ds_cidade", f.cidade())
+                .eqIgnoreCase("ds_estado", f.estado())
+                .like("nr_cep", f.cep());
+        return listar(SELECT_FILIAL, c, pagina, LINHA_FILIAL);
+    }
+
+    // =============================
+    // 📍 Eventos
+    // =============================
+
+    Mono<EventoResponse> evento(Long id) {
+        return cliente.sql(SELECT_EVENTO + " where id_evento = :id").bind("id", id)
+                .map(LINHA_EVENTO).one();
+    }
+
+    Flux<EventoResponse> eventos(EventoFilter f, Pagina pagina) {
+        CondicoesSql c = new CondicoesSql()
+                .eq("id_evento", f.id())
+                .eq("id_moto", f.motoId())
+                .eq("id_filial", f.filialId())
+                .eqIgnoreCase("tp_evento", f.tipo())
+                .like("ds_motivo", f.motivo())
+                .like("ds_localizacao", f.localizacao())
+                .range("dt_hr_evento", f.dataInicio(), f.dataFim());
+        return listar(SELECT_EVENTO, c, pagina, LINHA_EVENTO);
+    }
+
+    /**
+     * Eventos registrados depois do ID informado, em ordem de registro (alimenta `FluxoEventos`).
+     */
+    Flux<EventoResponse> eventosApos(long ultimoId, int limite) {
+        return cliente.sql(SELECT_EVENTO + " where id_evento > :ultimo order by id_evento limit " + limite)
+                .bind("ultimo", ultimoId)
+                .map(LINHA_EVENTO).all();
+    }
+
+    Mono<Long> ultimoIdEvento() {
+        return cliente.sql("select coalesce(max(id_evento), 0) as ultimo from tb_evento")
+                .map((Readable linha) -> linha.get("ultimo", Long.class)).one();
+    }
+
+    // =============================
+    // 🔧 Auxiliares
+    // =============================
+
+    private <T> Flux<T> listar(String select, CondicoesSql condicoes, Pagina pagina, Function<Readable, T> mapeamento) {
+        return condicoes.vincular(cliente.sql(select + condicoes.where() + pagina.sql()))
+                .map(mapeamento)
+                .all()
+                .limitRate(lote);
+    }
+
+    private static MotoResponse moto(Readable linha) {
+        MotoResponse moto = new MotoResponse();
+        moto.setId(linha.get("id_moto", Long.class));
+        moto.setPlaca(linha.get("cd_placa", String.class));
+        moto.setModelo(linha.get("ds_modelo", String.class));
+        moto.setMarca(linha.get("ds_marca", String.class));
+        moto.setAno(linha.get("nr_ano", Integer.class));
+        moto.setStatus(linha.get("ds_status", String.class));
+        moto.setQuilometragem(linha.get("nr_quilometragem", Integer.class));
+        moto.setFilialId(linha.get("id_filial", Long.class));
+        moto.setLatitude(linha.get("vl_latitude", Double.class));
+        moto.setLongitude(linha.get("vl_longitude", Double.class));
+        return moto;
+    }
+
+    private static FilialResponse filial(Readable linha) {
+        FilialResponse filial = new FilialResponse();
+        filial.setId(linha.get("id_filial", Long.class));
+        filial.setNome(linha.get("nm_filial", String.class));
+        filial.setEndereco(linha.get("ds_endereco", String.class));
+        filial.setBairro(linha.get("ds_bairro", String.class));
+        filial.setCidade(linha.get("ds_cidade", String.class));
+        filial.setEstado(linha.get("ds_estado", String.class));
+        filial.setCep(linha.get("nr_cep", String.class));
+        filial.setLatitude(linha.get("vl_latitude", Double.class));
+        filial.setLongitude(linha.get("vl_longitude", Double.class));
+        filial.setRaioGeofenceMetros(linha.get("raio_geofence_m", Double.class));
+        filial.setCapacidadeOficina(linha.get("nr_capacidade_oficina", Integer.class));
+        return filial;
+    }
+
+    private static EventoResponse evento(Readable linha) {
+        EventoResponse evento = new EventoResponse();
+        evento.setId(linha.get("id_evento", Long.class));
+        evento.setMotoId(linha.get("id_moto", Long.class));
+        evento.setFilialId(linha.get("id_filial", Long.class));
+        evento.setTipo(linha.get("tp_evento", String.class));
+        evento.setMotivo(linha.get("ds_motivo", String.class));
+        evento.setDataHora(linha.get("dt_hr_evento", LocalDateTime.class));
+        evento.setLocalizacao(linha.get("ds_localizacao", String.class));
+        return evento;
+    }
+}
@@ -0,0 +1,55 @@
+package br.com.fiap.mototrack.reativo;
+
+import br.com.fiap.mototrack.dto.response.EventoResponse;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * # 📡 FluxoEventos
+ *
+ * Fluxo compartilhado dos eventos novos, para as conexões de longa duração (`GET /eventos/stream`).
+ *
+ * ---
+ * ## 📋 Funcionamento:
+ * - Uma única consulta por intervalo (`mototrack.reativo.intervalo-stream-ms`), não uma por conexão:
+ *   o custo no banco não cresce com o número de clientes conectados
+ * - Só roda enquanto houver assinantes (`publish().refCount()`); começa a partir do último evento existente
+ * - Cada assinante tem um buffer próprio e limitado: um cliente lento perde os eventos mais antigos
+ *   em vez de segurar a entrega para os demais
+ */
+@Slf4j
+class FluxoEventos {
+
+    private static final int LIMITE_POR_CONSULTA = 500;
+
+    private final Flux<EventoResponse> novos;
+    private final int bufferPorAssinante;
+
+    FluxoEventos(ConsultasReativas consultas, Duration intervalo, int bufferPorAssinante) {
+        this.bufferPorAssinante = bufferPorAssinante;
+        AtomicLong ultimo = new AtomicLong(-1);
+        this.novos = Flux.interval(intervalo)
+                .onBackpressureDrop()
+                .concatMap(tique -> ultimo.get() < 0
+                        ? consultas.ultimoIdEvento().doOnNext(ultimo::set).thenMany(Flux.empty())
+                        : consultas.eventosApos(ultimo.get(), LIMITE_POR_CONSULTA)
+                                .doOnNext(evento -> ultimo.accumulateAndGet(evento.getId(), Math::max)), 1)
+                .onErrorContinue((erro, valor) -> log.warn("⚠️ Falha ao consultar eventos novos: {}", erro.getMessage()))
+                .doFinally(sinal -> ultimo.set(-1))
+                .publish()
+                .refCount();
+    }
+
+    /**
+     * Eventos novos, opcionalmente só os da filial informada.
+     */
+    Flux<EventoResponse> assinar(Long filialId) {
+        return novos
+                .filter(evento -> filialId == null || filialId.equals(evento.getFilialId()))
+                .onBackpressureBuffer(bufferPorAssinante, descartado -> { }, BufferOverflowStrategy.DROP_OLDEST);
+    }
+}
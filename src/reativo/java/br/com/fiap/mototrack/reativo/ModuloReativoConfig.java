@@ -0,0 +1,90 @@
+package br.com.fiap.mototrack.reativo;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+
+import java.time.Duration;
+
+/**
+ * # ⚡ ModuloReativoConfig
+ *
+ * Módulo reativo somente leitura (Moto, Filial, Evento), compilado com `mvn -Preativo` e ligado por
+ * `mototrack.reativo.habilitado`. Roda ao lado da API servlet, na mesma JVM, em um servidor Netty
+ * próprio (`mototrack.reativo.porta`): poucas threads de event loop atendem dezenas de milhares de
+ * conexões, em sua maioria ociosas (mapa do app e integrações de parceiros).
+ *
+ * ---
+ * ## 📋 Componentes:
+ * - `ConsultasReativas`: consultas via R2DBC, com os mesmos filtros da API (`MotoFilter`, `FilialFilter`, `EventoFilter`)
+ * - `RotasReativas`: rotas funcionais do WebFlux, com o `ObjectMapper` da aplicação (mesmos formatos de data)
+ * - `FluxoEventos`: eventos novos para conexões de longa duração (`GET /eventos/stream`)
+ * - `ServidorReativo`: servidor Netty, aberto junto com o servidor web da aplicação
+ *
+ * > O pool R2DBC não é registrado como bean `ConnectionFactory`: com um, o Spring Boot deixaria de configurar
+ * > o `DataSource` do JPA. Pelo mesmo motivo a autoconfiguração R2DBC fica excluída em `application.properties`.
+ */
+@Configuration
+@ConditionalOnProperty(name = "mototrack.reativo.habilitado", havingValue = "true", matchIfMissing = true)
+public class ModuloReativoConfig {
+
+    private ConnectionPool pool;
+
+    @Bean
+    ConsultasReativas consultasReativas(@Value("${mototrack.reativo.r2dbc.url}") String url,
+                                        @Value("${mototrack.reativo.r2dbc.usuario:sa}") String usuario,
+                                        @Value("${mototrack.reativo.r2dbc.senha:}") String senha,
+                                        @Value("${mototrack.reativo.r2dbc.pool-maximo:10}") int poolMaximo,
+                                        @Value("${mototrack.reativo.lote:256}") int lote) {
+        ConnectionFactoryOptions opcoes = ConnectionFactoryOptions.parse(url).mutate()
+                .option(ConnectionFactoryOptions.USER, usuario)
+                .option(ConnectionFactoryOptions.PASSWORD, senha)
+                .build();
+        pool = new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(opcoes))
+                .maxSize(poolMaximo)
+                .build());
+        return new ConsultasReativas(DatabaseClient.create(pool), lote);
+    }
+
+    @Bean
+    FluxoEventos fluxoEventos(ConsultasReativas consultas,
+                              @Value("${mototrack.reativo.intervalo-stream-ms:1000}") long intervaloMs,
+                              @Value("${mototrack.reativo.buffer-por-conexao:64}") int buffer) {
+        return new FluxoEventos(consultas, Duration.ofMillis(intervaloMs), buffer);
+    }
+
+    @Bean
+    ServidorReativo servidorReativo(ConsultasReativas consultas,
+                                    FluxoEventos fluxoEventos,
+                                    ObjectMapper objectMapper,
+                                    @Value("${server.address:0.0.0.0}") String endereco,
+                                    @Value("${mototrack.reativo.porta:8081}") int porta) {
+        HandlerStrategies estrategias = HandlerStrategies.builder()
+                .codecs(codecs -> {
+                    codecs.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper));
+                    codecs.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(objectMapper));
+                })
+                .build();
+        var handler = RouterFunctions.toHttpHandler(new RotasReativas(consultas, fluxoEventos).rotas(), estrategias);
+        return new ServidorReativo(handler, endereco, porta);
+    }
+
+    @PreDestroy
+    void encerrarPool() {
+        if (pool != null) {
+            pool.dispose();
+        }
+    }
+}
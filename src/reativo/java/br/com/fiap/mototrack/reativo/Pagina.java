@@ -0,0 +1,36 @@
+package br.com.fiap.mototrack.reativo;
+
+import java.util.Map;
+
+/**
+ * Página e ordenação de uma consulta reativa.
+ *
+ * @param limite       Máximo de linhas (nulo = todas, apenas em respostas em fluxo)
+ * @param deslocamento Linhas puladas
+ * @param ordenacao    Cláusula `order by` já traduzida para colunas
+ */
+record Pagina(Integer limite, long deslocamento, String ordenacao) {
+
+    /**
+     * Traduz `sort=campo[,asc|desc]` pelas colunas permitidas da entidade; campo desconhecido usa o padrão.
+     * O ID entra como desempate, para páginas estáveis.
+     */
+    static Pagina de(Integer pagina, Integer limite, String sort, Map<String, String> colunas,
+                     String padrao, String colunaId) {
+        String ordenacao = padrao;
+        if (sort != null && !sort.isBlank()) {
+            String[] partes = sort.split(",");
+            String coluna = colunas.get(partes[0].trim());
+            if (coluna != null) {
+                boolean desc = partes.length > 1 && partes[1].trim().equalsIgnoreCase("desc");
+                ordenacao = coluna + (desc ? " desc" : " asc");
+            }
+        }
+        long deslocamento = limite == null || pagina == null ? 0 : (long) pagina * limite;
+        return new Pagina(limite, deslocamento, ordenacao + ", " + colunaId);
+    }
+
+    String sql() {
+        return " order by " + ordenacao + (limite == null ? "" : " limit " + limite + " offset " + deslocamento);
+    }
+}
@@ -0,0 +1,49 @@
+package br.com.fiap.mototrack.reativo;
+
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.format.support.DefaultFormattingConversionService;
+import org.springframework.util.MultiValueMap;
+
+import java.lang.reflect.RecordComponent;
+
+/**
+ * # 🧩 ParametrosFiltro
+ *
+ * Preenche os records de filtro da API (`MotoFilter`, `EventoFilter`, `FilialFilter`) a partir da query string,
+ * com as mesmas conversões do Spring MVC (incluindo `@DateTimeFormat` dos componentes).
+ * Parâmetros ausentes ou vazios ficam nulos, como no `@ModelAttribute` dos controllers.
+ */
+final class ParametrosFiltro {
+
+    private static final DefaultFormattingConversionService CONVERSAO = new DefaultFormattingConversionService();
+    private static final TypeDescriptor TEXTO = TypeDescriptor.valueOf(String.class);
+
+    private ParametrosFiltro() {
+        // Não instanciar
+    }
+
+    /**
+     * @throws IllegalArgumentException se algum parâmetro não puder ser convertido
+     */
+    static <R extends Record> R vincular(Class<R> tipo, MultiValueMap<String, String> parametros) {
+        RecordComponent[] componentes = tipo.getRecordComponents();
+        Class<?>[] tipos = new Class<?>[componentes.length];
+        Object[] valores = new Object[componentes.length];
+        try {
+            for (int i = 0; i < componentes.length; i++) {
+                RecordComponent componente = componentes[i];
+                tipos[i] = componente.getType();
+                String valor = parametros.getFirst(componente.getName());
+                if (valor != null && !valor.isBlank()) {
+                    TypeDescriptor destino = new TypeDescriptor(tipo.getDeclaredField(componente.getName()));
+                    valores[i] = CONVERSAO.convert(valor.trim(), TEXTO, destino);
+                }
+            }
+            return tipo.getDeclaredConstructor(tipos).newInstance(valores);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Filtro sem construtor canônico: " + tipo.getSimpleName(), e);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Parâmetro de filtro inválido: " + e.getMessage(), e);
+        }
+    }
+}
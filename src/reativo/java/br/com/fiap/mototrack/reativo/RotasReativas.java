@@ -0,0 +1,171 @@
+package br.com.fiap.mototrack.reativo;
+
+import br.com.fiap.mototrack.dto.response.EventoResponse;
+import br.com.fiap.mototrack.dto.response.FilialResponse;
+import br.com.fiap.mototrack.dto.response.MotoResponse;
+import br.com.fiap.mototrack.exception.ErrorResponse;
+import br.com.fiap.mototrack.filter.EventoFilter;
+import br.com.fiap.mototrack.filter.FilialFilter;
+import br.com.fiap.mototrack.filter.MotoFilter;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static br.com.fiap.mototrack.exception.HttpExceptionUtils.notFound;
+import static org.springframework.web.reactive.function.server.RequestPredicates.GET;
+import static org.springframework.web.reactive.function.server.RouterFunctions.route;
+
+/**
+ * # 🌐 RotasReativas
+ *
+ * Endpoints somente leitura do módulo reativo, com os mesmos caminhos e filtros da API principal:
+ *
+ * | Rota | Resposta |
+ * |------|----------|
+ * | `GET /motos/{id}`, `/filiais/{id}`, `/eventos/{id}` | registro ou 404 |
+ * | `GET /motos/filtro`, `/filiais/filtro`, `/eventos/filtro` | lista filtrada (`page`, `size`, `sort`) |
+ * | `GET /eventos/stream?filialId=` | eventos novos em `text/event-stream`, conexão de longa duração |
+ *
+ * > Nas listas, `Accept: application/x-ndjson` devolve um registro por linha, em fluxo, sem limite de tamanho
+ * > (a não ser que `size` seja informado). Em JSON a lista é paginada: `size` padrão 20, máximo 100.
+ */
+class RotasReativas {
+
+    private static final int TAMANHO_PADRAO = 20;
+    private static final int TAMANHO_MAXIMO = 100;
+
+    private final ConsultasReativas consultas;
+    private final FluxoEventos fluxoEventos;
+
+    RotasReativas(ConsultasReativas consultas, FluxoEventos fluxoEventos) {
+        this.consultas = consultas;
+        this.fluxoEventos = fluxoEventos;
+    }
+
+    RouterFunction<ServerResponse> rotas() {
+        return route(GET("/motos/filtro"), this::filtrarMotos)
+                .andRoute(GET("/motos/{id}"), r -> porId(r, consultas::moto, "Moto"))
+                .andRoute(GET("/filiais/filtro"), this::filtrarFiliais)
+                .andRoute(GET("/filiais/{id}"), r -> porId(r, consultas::filial, "Filial"))
+                .andRoute(GET("/eventos/filtro"), this::filtrarEventos)
+                .andRoute(GET("/eventos/stream"), this::acompanharEventos)
+                .andRoute(GET("/eventos/{id}"), r -> porId(r, consultas::evento, "Evento"));
+    }
+
+    // =============================
+    // 🔍 Consultas por ID
+    // =============================
+
+    private <T> Mono<ServerResponse> porId(ServerRequest requisicao, Function<Long, Mono<T>> consulta,
+                                           String entidade) {
+        Long id;
+        try {
+            id = Long.valueOf(requisicao.pathVariable("id"));
+        } catch (NumberFormatException e) {
+            return erro(HttpStatus.BAD_REQUEST, "ID inválido: " + requisicao.pathVariable("id"));
+        }
+        return consulta.apply(id)
+                .flatMap(registro -> ServerResponse.ok().contentType(MediaType.APPLICATION_JSON).bodyValue(registro))
+                .switchIfEmpty(Mono.defer(() -> erro(HttpStatus.NOT_FOUND, notFound(entidade, id).getReason())));
+    }
+
+    // =============================
+    // 🔎 Consultas com filtros
+    // =============================
+
+    private Mono<ServerResponse> filtrarMotos(ServerRequest requisicao) {
+        return lista(requisicao, MotoResponse.class, () -> consultas.motos(
+                ParametrosFiltro.vincular(MotoFilter.class, requisicao.queryParams()),
+                pagina(requisicao, ConsultasReativas.COLUNAS_MOTO, "cd_placa asc", "id_moto")));
+    }
+
+    private Mono<ServerResponse> filtrarFiliais(ServerRequest requisicao) {
+        return lista(requisicao, FilialResponse.class, () -> consultas.filiais(
+                ParametrosFiltro.vincular(FilialFilter.class, requisicao.queryParams()),
+                pagina(requisicao, ConsultasReativas.COLUNAS_FILIAL, "nm_filial asc", "id_filial")));
+    }
+
+    private Mono<ServerResponse> filtrarEventos(ServerRequest requisicao) {
+        return lista(requisicao, EventoResponse.class, () -> consultas.eventos(
+                ParametrosFiltro.vincular(EventoFilter.class, requisicao.queryParams()),
+                pagina(requisicao, ConsultasReativas.COLUNAS_EVENTO, "dt_hr_evento desc", "id_evento")));
+    }
+
+    // =============================
+    // 📡 Eventos em tempo real
+    // =============================
+
+    private Mono<ServerResponse> acompanharEventos(ServerRequest requisicao) {
+        Long filialId;
+        try {
+            filialId = requisicao.queryParam("filialId").map(Long::valueOf).orElse(null);
+        } catch (NumberFormatException e) {
+            return erro(HttpStatus.BAD_REQUEST, "filialId inválido");
+        }
+        // O comentário inicial envia os cabeçalhos na hora: sem ele, a resposta só começa no primeiro evento
+        Flux<ServerSentEvent<EventoResponse>> eventos = Flux.concat(
+                Mono.just(ServerSentEvent.<EventoResponse>builder().comment("conectado").build()),
+                fluxoEventos.assinar(filialId).map(evento -> ServerSentEvent.builder(evento).build()));
+        return ServerResponse.ok().contentType(MediaType.TEXT_EVENT_STREAM)
+                .body(eventos, new ParameterizedTypeReference<ServerSentEvent<EventoResponse>>() { });
+    }
+
+    // =============================
+    // 🔧 Auxiliares
+    // =============================
+
+    private <T> Mono<ServerResponse> lista(ServerRequest requisicao, Class<T> tipo, Supplier<Flux<T>> consulta) {
+        Flux<T> registros;
+        try {
+            registros = consulta.get();
+        } catch (IllegalArgumentException e) {
+            return erro(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+        MediaType tipoResposta = emFluxo(requisicao) ? MediaType.APPLICATION_NDJSON : MediaType.APPLICATION_JSON;
+        return ServerResponse.ok().contentType(tipoResposta).body(registros, tipo);
+    }
+
+    private static Pagina pagina(ServerRequest requisicao, Map<String, String> colunas, String padrao, String colunaId) {
+        Integer pagina = inteiro(requisicao, "page");
+        Integer tamanho = inteiro(requisicao, "size");
+        if (tamanho == null && !emFluxo(requisicao)) {
+            tamanho = TAMANHO_PADRAO;
+        }
+        if (tamanho != null && !emFluxo(requisicao)) {
+            tamanho = Math.min(Math.max(tamanho, 1), TAMANHO_MAXIMO);
+        }
+        return Pagina.de(pagina == null ? 0 : Math.max(pagina, 0), tamanho,
+                requisicao.queryParam("sort").orElse(null), colunas, padrao, colunaId);
+    }
+
+    private static Integer inteiro(ServerRequest requisicao, String nome) {
+        String valor = requisicao.queryParam(nome).orElse(null);
+        if (valor == null || valor.isBlank()) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(valor.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Parâmetro inválido: " + nome + "=" + valor);
+        }
+    }
+
+    private static boolean emFluxo(ServerRequest requisicao) {
+        return requisicao.headers().accept().stream().anyMatch(MediaType.APPLICATION_NDJSON::equalsTypeAndSubtype);
+    }
+
+    private static Mono<ServerResponse> erro(HttpStatus status, String mensagem) {
+        return ServerResponse.status(status).contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new ErrorResponse(status.value(), mensagem));
+    }
+}
@@ -0,0 +1,57 @@
+package br.com.fiap.mototrack.reativo;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.web.context.WebServerInitializedEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.http.server.reactive.HttpHandler;
+import org.springframework.http.server.reactive.ReactorHttpHandlerAdapter;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+/**
+ * # ⚡ ServidorReativo
+ *
+ * Servidor Netty do módulo reativo. Sobe junto com o servidor web da aplicação (`WebServerInitializedEvent`):
+ * em testes com MockMvc, que não abrem porta, ele também não abre.
+ */
+@Slf4j
+class ServidorReativo implements ApplicationListener<WebServerInitializedEvent>, DisposableBean {
+
+    private final HttpHandler handler;
+    private final String endereco;
+    private final int porta;
+    private volatile DisposableServer servidor;
+
+    ServidorReativo(HttpHandler handler, String endereco, int porta) {
+        this.handler = handler;
+        this.endereco = endereco;
+        this.porta = porta;
+    }
+
+    @Override
+    public synchronized void onApplicationEvent(WebServerInitializedEvent evento) {
+        if (servidor == null) {
+            servidor = HttpServer.create()
+                    .host(endereco)
+                    .port(porta)
+                    .handle(new ReactorHttpHandlerAdapter(handler))
+                    .bindNow();
+            log.info("⚡ Módulo reativo (somente leitura) na porta {}", servidor.port());
+        }
+    }
+
+    /**
+     * Porta efetiva (útil com `mototrack.reativo.porta=0`); -1 antes de o servidor subir.
+     */
+    int porta() {
+        return servidor == null ? -1 : servidor.port();
+    }
+
+    @Override
+    public void destroy() {
+        if (servidor != null) {
+            servidor.disposeNow();
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package br.com.fiap.mototrack.reativo;
+
+import br.com.fiap.mototrack.MototrackApplication;
+import br.com.fiap.mototrack.model.Evento;
+import br.com.fiap.mototrack.model.Filial;
+import br.com.fiap.mototrack.model.Moto;
+import br.com.fiap.mototrack.repository.EventoRepository;
+import br.com.fiap.mototrack.repository.FilialRepository;
+import br.com.fiap.mototrack.repository.MotoRepository;
+import io.netty.buffer.PooledByteBufAllocator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Teste de carga do módulo reativo: mantém milhares de conexões abertas em `GET /eventos/stream`
+ * (o caso do mapa do app: conexões longas e quase sempre ociosas) e mede heap, memória direta do Netty
+ * e threads por conexão. Depois registra um evento e confere que todas as conexões o recebem.
+ *
+ * Não roda no build padrão:
+ * `mvn -Preativo test -Dtest=ModuloReativoCargaTest -Dmototrack.benchmark=true [-Dmototrack.benchmark.conexoes=5000]`
+ *
+ * > Cliente e servidor estão na mesma JVM: os números por conexão incluem o lado cliente (um `SocketChannel`).
+ */
+@EnabledIfSystemProperty(named = "mototrack.benchmark", matches = "true")
+class ModuloReativoCargaTest {
+
+    private static final int CONEXOES = Integer.getInteger("mototrack.benchmark.conexoes", 5_000);
+    private static final long ESPERA_MS = 60_000;
+
+    @Test
+    void conexoesOciosasDeLongaDuracao() throws Exception {
+        try (ConfigurableApplicationContext contexto = new SpringApplicationBuilder(MototrackApplication.class).run(
+                "--server.port=0",
+                "--mototrack.reativo.porta=0",
+                "--spring.datasource.url=jdbc:h2:mem:cargareativa;DB_CLOSE_DELAY=-1",
+                "--mototrack.reativo.r2dbc.url=r2dbc:h2:mem:///cargareativa",
+                "--mototrack.reativo.intervalo-stream-ms=500",
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=WARN",
+                "--mototrack.perfilador.habilitado=false",
+                "--mototrack.jfr.habilitado=false",
+                "--mototrack.metricas.coletor.habilitado=false")) {
+            Filial filial = contexto.getBean(FilialRepository.class).save(Filial.builder().nome("Carga").build());
+            Moto moto = contexto.getBean(MotoRepository.class).save(Moto.builder()
+                    .placa("CAR0A00").modelo("Pop").marca("Honda").ano(2022)
+                    .status("Disponível").filial(filial).build());
+            int porta = contexto.getBean(ServidorReativo.class).porta();
+
+            Medida antes = Medida.agora();
+            List<SocketChannel> conexoes = new ArrayList<>(CONEXOES);
+            try (Selector seletor = Selector.open()) {
+                byte[] requisicao = ("GET /eventos/stream?filialId=" + filial.getId() + " HTTP/1.1\r\n"
+                        + "Host: localhost\r\nAccept: text/event-stream\r\n\r\n").getBytes(StandardCharsets.US_ASCII);
+                for (int i = 0; i < CONEXOES; i++) {
+                    SocketChannel canal = SocketChannel.open(new InetSocketAddress("localhost", porta));
+                    canal.write(ByteBuffer.wrap(requisicao));
+                    canal.configureBlocking(false);
+                    canal.register(seletor, SelectionKey.OP_READ, new StringBuilder());
+                    conexoes.add(canal);
+                }
+                int abertas = aguardar(seletor, "HTTP/1.1 200");
+                Medida conectado = Medida.agora();
+
+                long inicio = System.nanoTime();
+                contexto.getBean(EventoRepository.class).save(Evento.builder()
+                        .moto(moto).filial(filial).tipo("Entrada").motivo("Carga").dataHora(LocalDateTime.now()).build());
+                int entregues = aguardar(seletor, "data:");
+                long entregaMs = (System.nanoTime() - inicio) / 1_000_000;
+
+                System.out.printf("%nConexões abertas (200): %d de %d%n", abertas, CONEXOES);
+                System.out.printf("Heap por conexão: %.1f KB (%.1f MB no total)%n",
+                        (conectado.heap - antes.heap) / 1024.0 / CONEXOES, (conectado.heap - antes.heap) / 1048576.0);
+                System.out.printf("Memória direta do Netty por conexão: %.1f KB%n",
+                        (conectado.direta - antes.direta) / 1024.0 / CONEXOES);
+                System.out.printf("Threads: %d antes, %d com as conexões abertas%n", antes.threads, conectado.threads);
+                System.out.printf("Evento entregue a %d conexões em %d ms%n", entregues, entregaMs);
+
+                assertEquals(CONEXOES, abertas);
+                assertEquals(CONEXOES, entregues);
+            } finally {
+                for (SocketChannel canal : conexoes) {
+                    fechar(canal);
+                }
+            }
+        }
+    }
+
+    /**
+     * Lê de todas as conexões até que cada uma tenha recebido o trecho esperado (ou o prazo esgotar).
+     */
+    private static int aguardar(Selector seletor, String trecho) throws IOException {
+        ByteBuffer leitura = ByteBuffer.allocate(8192);
+        long limite = System.currentTimeMillis() + ESPERA_MS;
+        int total = seletor.keys().size();
+        int recebidas = contar(seletor, trecho);
+        while (recebidas < total && System.currentTimeMillis() < limite) {
+            seletor.select(200);
+            for (SelectionKey chave : seletor.selectedKeys()) {
+                leitura.clear();
+                if (((SocketChannel) chave.channel()).read(leitura) > 0) {
+                    ((StringBuilder) chave.attachment()).append(new String(leitura.array(), 0, leitura.position(),
+                            StandardCharsets.UTF_8));
+                }
+            }
+            seletor.selectedKeys().clear();
+            recebidas = contar(seletor, trecho);
+        }
+        return recebidas;
+    }
+
+    private static int contar(Selector seletor, String trecho) {
+        return (int) seletor.keys().stream()
+                .filter(chave -> ((StringBuilder) chave.attachment()).indexOf(trecho) >= 0)
+                .count();
+    }
+
+    private static void fechar(SocketChannel canal) {
+        try {
+            canal.close();
+        } catch (IOException e) {
+            // já fechada
+        }
+    }
+
+    private record Medida(long heap, long direta, int threads) {
+        static Medida agora() throws InterruptedException {
+            System.gc();
+            Thread.sleep(500);
+            return new Medida(ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed(),
+                    PooledByteBufAllocator.DEFAULT.metric().usedDirectMemory(),
+                    ManagementFactory.getThreadMXBean().getThreadCount());
+        }
+    }
+}
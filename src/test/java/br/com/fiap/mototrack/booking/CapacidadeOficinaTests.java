@@ -0,0 +1,154 @@
+package br.com.fiap.mototrack.booking;
+
+import br.com.fiap.mototrack.model.OficinaSlot;
+import br.com.fiap.mototrack.repository.AgendamentoRepository;
+import br.com.fiap.mototrack.repository.FilialRepository;
+import br.com.fiap.mototrack.repository.OficinaSlotRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Capacidade das oficinas: reservas simultâneas nunca passam da capacidade, remarcação para um slot
+ * lotado mantém o slot anterior ocupado e conflito de versão na gravação soma as reservas do outro escritor.
+ */
+class CapacidadeOficinaTests {
+
+    private static final LocalDate DIA = LocalDate.now().plusDays(1);
+
+    private final FilialRepository filialRepository = mock(FilialRepository.class);
+    private final AgendamentoRepository agendamentoRepository = mock(AgendamentoRepository.class);
+    private final OficinaSlotRepository slotRepository = mock(OficinaSlotRepository.class);
+
+    private CapacidadeOficina capacidade(int vagas) {
+        when(filialRepository.findCapacidades()).thenReturn(List.of(new CapacidadeFilial(1L, vagas)));
+        when(agendamentoRepository.findReservasDesde(any(), any(), any())).thenReturn(List.of());
+        when(slotRepository.findByInicioGreaterThanEqual(any())).thenReturn(List.of());
+        CapacidadeOficina capacidade = new CapacidadeOficina(filialRepository, agendamentoRepository, slotRepository);
+        ReflectionTestUtils.setField(capacidade, "duracaoSlotMinutos", 60);
+        ReflectionTestUtils.setField(capacidade, "capacidadePadrao", 2);
+        ReflectionTestUtils.setField(capacidade, "retencaoDias", 1L);
+        capacidade.carregar();
+        return capacidade;
+    }
+
+    private static ReservaIntervalo reserva(long id, int horaInicio, int minutos) {
+        LocalDateTime inicio = DIA.atTime(horaInicio, 0);
+        return new ReservaIntervalo(id, id, 1L, inicio, inicio.plusMinutes(minutos));
+    }
+
+    private static int reservadas(CapacidadeOficina capacidade, int hora) {
+        return capacidade.disponibilidade(1L, DIA).slots().get(hora).reservadas();
+    }
+
+    @Test
+    void reservasSimultaneasOcupamExatamenteACapacidade() throws Exception {
+        CapacidadeOficina capacidade = capacidade(5);
+        int tentativas = 64;
+        AtomicInteger aceitas = new AtomicInteger();
+        AtomicInteger recusadas = new AtomicInteger();
+        CountDownLatch largada = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(16)) {
+            for (int i = 0; i < tentativas; i++) {
+                long id = i;
+                executor.submit(() -> {
+                    largada.await();
+                    try {
+                        // Toca dois slots (08h e 09h): uma recusa no segundo devolve o primeiro
+                        capacidade.substituir(reserva(id, 8, 90), null);
+                        aceitas.incrementAndGet();
+                    } catch (ResponseStatusException e) {
+                        recusadas.incrementAndGet();
+                    }
+                    return null;
+                });
+            }
+            largada.countDown();
+            executor.shutdown();
+            assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        }
+
+        assertThat(aceitas).hasValue(5);
+        assertThat(recusadas).hasValue(tentativas - 5);
+        assertThat(reservadas(capacidade, 8)).isEqualTo(5);
+        assertThat(reservadas(capacidade, 9)).isEqualTo(5);
+    }
+
+    @Test
+    void remarcacaoParaSlotLotadoMantemOSlotAnterior() {
+        CapacidadeOficina capacidade = capacidade(1);
+        ReservaIntervalo anterior = reserva(1, 8, 60);
+        capacidade.substituir(anterior, null);
+        capacidade.substituir(reserva(2, 10, 60), null);
+
+        assertThatThrownBy(() -> capacidade.substituir(reserva(1, 10, 60), anterior))
+                .isInstanceOf(ResponseStatusException.class)
+                .hasMessageContaining("409");
+
+        assertThat(reservadas(capacidade, 8)).isEqualTo(1);
+        assertThat(reservadas(capacidade, 10)).isEqualTo(1);
+        // A vaga das 08h continua da reserva anterior: ninguém mais entra nela
+        assertThatThrownBy(() -> capacidade.substituir(reserva(3, 8, 60), null))
+                .isInstanceOf(ResponseStatusException.class);
+    }
+
+    @Test
+    void remarcacaoSoDevolveOSlotAnteriorAposOCommit() {
+        CapacidadeOficina capacidade = capacidade(1);
+        ReservaIntervalo anterior = reserva(1, 8, 60);
+        ReservaIntervalo nova = reserva(1, 12, 60);
+        capacidade.substituir(anterior, null);
+
+        capacidade.substituir(nova, anterior);
+        assertThat(reservadas(capacidade, 8)).isEqualTo(1);
+        assertThat(reservadas(capacidade, 12)).isEqualTo(1);
+
+        capacidade.liberarDiferenca(anterior, nova);
+        assertThat(reservadas(capacidade, 8)).isZero();
+        assertThat(reservadas(capacidade, 12)).isEqualTo(1);
+    }
+
+    @Test
+    void conflitoDeVersaoSomaAsReservasDoOutroEscritor() {
+        CapacidadeOficina capacidade = capacidade(3);
+        when(slotRepository.save(any(OficinaSlot.class))).thenAnswer(invocacao -> {
+            OficinaSlot slot = invocacao.getArgument(0);
+            slot.setId(10L);
+            slot.setVersao(0L);
+            return slot;
+        });
+        capacidade.substituir(reserva(1, 8, 60), null);
+        capacidade.persistir();
+
+        // Outra instância gravou uma reserva na versão 0 antes desta
+        capacidade.substituir(reserva(2, 8, 60), null);
+        when(slotRepository.atualizarReservas(10L, 2, 0L)).thenReturn(0);
+        when(slotRepository.findByFilialIdAndInicio(1L, DIA.atTime(8, 0))).thenReturn(Optional.of(
+                OficinaSlot.builder().id(10L).filialId(1L).inicio(DIA.atTime(8, 0)).reservas(2).versao(1L).build()));
+        capacidade.persistir();
+
+        assertThat(reservadas(capacidade, 8)).isEqualTo(3);
+
+        when(slotRepository.atualizarReservas(10L, 3, 1L)).thenReturn(1);
+        capacidade.persistir();
+        verify(slotRepository).atualizarReservas(10L, 3, 1L);
+    }
+}
@@ -0,0 +1,156 @@
+package br.com.fiap.mototrack.booking;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Árvore de intervalos (AVL aumentada com o maior `fim` da subárvore): consultas de sobreposição
+ * em `[inicio, fim)`, limite, `ignorarId`, poda e remoções que rebalanceiam a árvore.
+ */
+class IntervalTreeTests {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 6, 1, 8, 0);
+
+    private static LocalDateTime t(int minutos) {
+        return BASE.plusMinutes(minutos);
+    }
+
+    private static ReservaIntervalo reserva(long id, int inicio, int fim) {
+        return new ReservaIntervalo(id, id, 1L, t(inicio), t(fim));
+    }
+
+    private static List<Long> ids(List<ReservaIntervalo> reservas) {
+        return reservas.stream().map(ReservaIntervalo::agendamentoId).toList();
+    }
+
+    private static List<Long> emOrdem(IntervalTree arvore) {
+        List<Long> ids = new ArrayList<>();
+        arvore.emOrdem(r -> ids.add(r.agendamentoId()));
+        return ids;
+    }
+
+    @Test
+    void sobrepostosRespeitaOLimiteEmOrdemDeInicio() {
+        IntervalTree arvore = new IntervalTree();
+        for (int i = 5; i >= 1; i--) {
+            arvore.inserir(reserva(i, i * 10, 200));
+        }
+
+        assertThat(ids(arvore.sobrepostos(t(0), t(100), null, 2))).containsExactly(1L, 2L);
+        assertThat(ids(arvore.sobrepostos(t(0), t(100), null, 1))).containsExactly(1L);
+        assertThat(ids(arvore.sobrepostos(t(0), t(100), null, Integer.MAX_VALUE))).containsExactly(1L, 2L, 3L, 4L, 5L);
+    }
+
+    @Test
+    void intervaloSemiAberto() {
+        IntervalTree arvore = new IntervalTree();
+        arvore.inserir(reserva(1, 60, 120));
+
+        // Termina exatamente no início da consulta / começa exatamente no fim dela: não sobrepõe
+        assertThat(arvore.sobrepostos(t(120), t(180), null, 10)).isEmpty();
+        assertThat(arvore.sobrepostos(t(0), t(60), null, 10)).isEmpty();
+        // Um minuto de interseção em cada borda já sobrepõe
+        assertThat(ids(arvore.sobrepostos(t(119), t(180), null, 10))).containsExactly(1L);
+        assertThat(ids(arvore.sobrepostos(t(0), t(61), null, 10))).containsExactly(1L);
+        // Consulta contida e consulta que contém
+        assertThat(ids(arvore.sobrepostos(t(70), t(80), null, 10))).containsExactly(1L);
+        assertThat(ids(arvore.sobrepostos(t(0), t(500), null, 10))).containsExactly(1L);
+    }
+
+    @Test
+    void ignorarIdDescartaApenasOAgendamentoInformado() {
+        IntervalTree arvore = new IntervalTree();
+        arvore.inserir(reserva(1, 0, 60));
+        arvore.inserir(reserva(2, 30, 90));
+
+        assertThat(ids(arvore.sobrepostos(t(0), t(60), 1L, 10))).containsExactly(2L);
+        assertThat(ids(arvore.sobrepostos(t(0), t(20), 1L, 10))).isEmpty();
+        // O ignorado não consome o limite
+        assertThat(ids(arvore.sobrepostos(t(0), t(60), 1L, 1))).containsExactly(2L);
+    }
+
+    @Test
+    void encerradasAteIncluiAsQueTerminamNoLimite() {
+        IntervalTree arvore = new IntervalTree();
+        arvore.inserir(reserva(1, 0, 60));
+        arvore.inserir(reserva(2, 30, 120));
+        arvore.inserir(reserva(3, 10, 121));
+
+        assertThat(ids(arvore.encerradasAte(t(120)))).containsExactly(1L, 2L);
+        assertThat(arvore.encerradasAte(t(59))).isEmpty();
+    }
+
+    @Test
+    void remocaoDeNoComDoisFilhosUsaOSucessor() {
+        IntervalTree arvore = new IntervalTree();
+        for (int i = 1; i <= 7; i++) {
+            arvore.inserir(reserva(i, i * 10, i * 10 + 5));
+        }
+        // Inseridos em ordem crescente, a AVL fica perfeita com 4 na raiz e 2 e 6 como filhos internos
+        arvore.inserir(reserva(8, 35, 500));
+
+        assertThat(arvore.remover(reserva(4, 40, 45))).isTrue();
+        assertThat(arvore.remover(reserva(2, 20, 25))).isTrue();
+        assertThat(arvore.remover(reserva(6, 60, 65))).isTrue();
+        assertThat(arvore.remover(reserva(6, 60, 65))).isFalse();
+
+        assertThat(emOrdem(arvore)).containsExactly(1L, 3L, 8L, 5L, 7L);
+        assertThat(arvore.tamanho()).isEqualTo(5);
+        // O fim máximo da reserva 8 continua visível depois das rotações
+        assertThat(ids(arvore.sobrepostos(t(400), t(410), null, 10))).containsExactly(8L);
+
+        assertThat(arvore.remover(reserva(8, 35, 500))).isTrue();
+        assertThat(arvore.sobrepostos(t(400), t(410), null, 10)).isEmpty();
+    }
+
+    @Test
+    void remocaoLocalizaPorInicioEId() {
+        IntervalTree arvore = new IntervalTree();
+        arvore.inserir(reserva(1, 0, 60));
+        arvore.inserir(reserva(2, 0, 30));
+
+        assertThat(arvore.remover(reserva(2, 5, 30))).isFalse();
+        assertThat(arvore.remover(reserva(2, 0, 30))).isTrue();
+        assertThat(emOrdem(arvore)).containsExactly(1L);
+    }
+
+    @Test
+    void insercoesERemocoesAleatoriasBatemComForcaBruta() {
+        Random random = new Random(7);
+        IntervalTree arvore = new IntervalTree();
+        List<ReservaIntervalo> referencia = new ArrayList<>();
+        long proximoId = 1;
+
+        for (int passo = 0; passo < 3000; passo++) {
+            if (referencia.isEmpty() || random.nextInt(3) > 0) {
+                int inicio = random.nextInt(2000);
+                ReservaIntervalo r = reserva(proximoId++, inicio, inicio + 1 + random.nextInt(random.nextBoolean() ? 30 : 600));
+                arvore.inserir(r);
+                referencia.add(r);
+            } else {
+                ReservaIntervalo r = referencia.remove(random.nextInt(referencia.size()));
+                assertThat(arvore.remover(r)).isTrue();
+            }
+
+            if (passo % 50 == 0) {
+                int inicio = random.nextInt(2600);
+                LocalDateTime de = t(inicio);
+                LocalDateTime ate = t(inicio + 1 + random.nextInt(120));
+                List<Long> esperados = referencia.stream()
+                        .filter(r -> r.inicio().isBefore(ate) && r.fim().isAfter(de))
+                        .sorted(Comparator.comparing(ReservaIntervalo::inicio).thenComparing(ReservaIntervalo::agendamentoId))
+                        .map(ReservaIntervalo::agendamentoId)
+                        .toList();
+                assertThat(ids(arvore.sobrepostos(de, ate, null, Integer.MAX_VALUE))).isEqualTo(esperados);
+                assertThat(arvore.tamanho()).isEqualTo(referencia.size());
+            }
+        }
+    }
+}
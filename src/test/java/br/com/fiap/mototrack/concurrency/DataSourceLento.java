@@ -0,0 +1,94 @@
+package br.com.fiap.mototrack.concurrency;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Decorador de testes de carga: adiciona uma espera fixa antes de cada consulta (`select`),
+ * simulando um banco lento.
+ *
+ * Registrado pelo `posProcessador` antes dos pós-processadores da aplicação, fica por dentro do
+ * `DataSourceInstrumentado`, que continua medindo o tempo de cada comando já com a espera.
+ */
+class DataSourceLento extends DelegatingDataSource {
+
+    private final long latenciaMs;
+
+    DataSourceLento(DataSource alvo, long latenciaMs) {
+        super(alvo);
+        this.latenciaMs = latenciaMs;
+    }
+
+    /**
+     * Envolve todo `DataSource` do contexto; para adicionar via `ConfigurableListableBeanFactory#addBeanPostProcessor`.
+     */
+    static BeanPostProcessor posProcessador(long latenciaMs) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof DataSourceLento)) {
+                    return new DataSourceLento(dataSource, latenciaMs);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return conexao(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return conexao(super.getConnection(username, password));
+    }
+
+    private Connection conexao(Connection alvo) {
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, metodo, args) -> {
+                    Object resultado = invocar(alvo, metodo, args);
+                    if (resultado instanceof Statement comando) {
+                        String sql = args != null && args.length > 0 && args[0] instanceof String texto ? texto : null;
+                        return comando(comando, sql);
+                    }
+                    return resultado;
+                });
+    }
+
+    private Statement comando(Statement alvo, String sqlPreparado) {
+        Class<?> tipo = alvo instanceof CallableStatement ? CallableStatement.class
+                : alvo instanceof PreparedStatement ? PreparedStatement.class
+                : Statement.class;
+        return (Statement) Proxy.newProxyInstance(tipo.getClassLoader(), new Class<?>[]{tipo}, (proxy, metodo, args) -> {
+            if (metodo.getName().startsWith("execute")) {
+                String sql = sqlPreparado != null ? sqlPreparado
+                        : args != null && args.length > 0 && args[0] instanceof String texto ? texto : null;
+                if (sql != null && sql.regionMatches(true, 0, "select", 0, 6)) {
+                    Thread.sleep(latenciaMs);
+                }
+            }
+            return invocar(alvo, metodo, args);
+        });
+    }
+
+    private static Object invocar(Object alvo, Method metodo, Object[] args) throws Throwable {
+        try {
+            return metodo.invoke(alvo, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package br.com.fiap.mototrack.concurrency;
+
+import br.com.fiap.mototrack.MototrackApplication;
+import br.com.fiap.mototrack.model.Filial;
+import br.com.fiap.mototrack.model.Moto;
+import br.com.fiap.mototrack.repository.FilialRepository;
+import br.com.fiap.mototrack.repository.MotoRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Compara vazão e p99 de `GET /motos/{id}` com 5.000 conexões simultâneas nos dois modos
+ * (threads de plataforma e threads virtuais), com latência simulada em cada consulta (`DataSourceLento`).
+ *
+ * Não roda no build padrão: `mvn test -Dtest=ThreadsVirtuaisBenchmark -Dmototrack.benchmark=true`
+ */
+@EnabledIfSystemProperty(named = "mototrack.benchmark", matches = "true")
+class ThreadsVirtuaisBenchmark {
+
+    private static final int CONEXOES = Integer.getInteger("mototrack.benchmark.conexoes", 5_000);
+    private static final int REQUISICOES_POR_CONEXAO = Integer.getInteger("mototrack.benchmark.requisicoes", 2);
+    private static final int LATENCIA_MS = Integer.getInteger("mototrack.benchmark.latencia-ms", 1_000);
+
+    @Test
+    void compararModos() throws Exception {
+        Resultado plataforma = medir(false);
+        Resultado virtual = medir(true);
+        System.out.printf("%n%-11s %10s %10s %10s %8s%n", "modo", "req/s", "p50 (ms)", "p99 (ms)", "erros");
+        System.out.println(plataforma);
+        System.out.println(virtual);
+    }
+
+    private Resultado medir(boolean virtual) throws Exception {
+        // Argumentos de linha de comando: têm precedência sobre o application.properties
+        try (ConfigurableApplicationContext contexto = new SpringApplicationBuilder(MototrackApplication.class)
+                .initializers(c -> c.getBeanFactory().addBeanPostProcessor(DataSourceLento.posProcessador(LATENCIA_MS)))
+                .run(
+                "--server.port=0",
+                "--server.tomcat.max-connections=" + (CONEXOES + 100),
+                "--server.tomcat.accept-count=1000",
+                "--spring.datasource.url=jdbc:h2:mem:benchmark" + (virtual ? "virtual" : "plataforma") + ";DB_CLOSE_DELAY=-1",
+                "--spring.datasource.hikari.maximum-pool-size=500",
+                "--spring.datasource.hikari.connection-timeout=60000",
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=WARN",
+                "--mototrack.threads-virtuais.habilitado=" + virtual,
+                "--mototrack.sql.n-mais-um.habilitado=false",
+                "--mototrack.perfilador.habilitado=false",
+                "--mototrack.jfr.habilitado=false",
+                "--mototrack.metricas.coletor.habilitado=false",
+                "--mototrack.auth.habilitado=false",
+                "--mototrack.admissao.habilitado=false",
+                "--mototrack.limite-taxa.habilitado=false")) {
+            Filial filial = contexto.getBean(FilialRepository.class).save(Filial.builder().nome("Benchmark").build());
+            Long motoId = contexto.getBean(MotoRepository.class).save(Moto.builder()
+                    .placa("BEN0A00").modelo("Pop").marca("Honda").ano(2022)
+                    .status("Disponível").filial(filial).build()).getId();
+            URI uri = URI.create("http://localhost:" + contexto.getEnvironment().getProperty("local.server.port")
+                    + "/motos/" + motoId);
+            return disparar(virtual ? "VIRTUAL" : "PLATAFORMA", uri);
+        }
+    }
+
+    private Resultado disparar(String modo, URI uri) throws InterruptedException {
+        long[] latencias = new long[CONEXOES * REQUISICOES_POR_CONEXAO];
+        AtomicInteger indice = new AtomicInteger();
+        AtomicInteger erros = new AtomicInteger();
+        long inicio = System.nanoTime();
+        // HTTP/1.1 abre uma conexão por requisição simultânea e a reaproveita (keep-alive) na seguinte
+        try (HttpClient cliente = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(60)).build();
+             ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < CONEXOES; c++) {
+                executor.submit(() -> {
+                    HttpRequest requisicao = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(120)).build();
+                    for (int r = 0; r < REQUISICOES_POR_CONEXAO; r++) {
+                        long t0 = System.nanoTime();
+                        try {
+                            HttpResponse<Void> resposta = cliente.send(requisicao, HttpResponse.BodyHandlers.discarding());
+                            if (resposta.statusCode() != 200) {
+                                erros.incrementAndGet();
+                            }
+                        } catch (Exception e) {
+                            erros.incrementAndGet();
+                        }
+                        latencias[indice.getAndIncrement()] = System.nanoTime() - t0;
+                    }
+                });
+            }
+        }
+        double segundos = (System.nanoTime() - inicio) / 1e9;
+        Arrays.sort(latencias);
+        return new Resultado(modo, latencias.length / segundos,
+                latencias[latencias.length / 2] / 1e6, latencias[(int) (latencias.length * 0.99)] / 1e6, erros.get());
+    }
+
+    private record Resultado(String modo, double vazao, double p50Ms, double p99Ms, int erros) {
+        @Override
+        public String toString() {
+            return String.format("%-11s %10.0f %10.1f %10.1f %8d", modo, vazao, p50Ms, p99Ms, erros);
+        }
+    }
+}
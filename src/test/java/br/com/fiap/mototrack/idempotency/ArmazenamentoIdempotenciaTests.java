@@ -0,0 +1,90 @@
+package br.com.fiap.mototrack.idempotency;
+
+import br.com.fiap.mototrack.model.RegistroIdempotencia;
+import br.com.fiap.mototrack.repository.RegistroIdempotenciaRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Reserva no banco (`tb_idempotencia`): a reserva em andamento tem prazo curto e é assumida quando a
+ * instância dona cai; a resposta gravada recebe a validade completa.
+ */
+class ArmazenamentoIdempotenciaTests {
+
+    private final RegistroIdempotenciaRepository repository = mock(RegistroIdempotenciaRepository.class);
+    private final EntityManager entityManager = mock(EntityManager.class);
+    private ArmazenamentoIdempotencia armazenamento;
+
+    @BeforeEach
+    void iniciar() {
+        armazenamento = new ArmazenamentoIdempotencia(repository, entityManager,
+                mock(PlatformTransactionManager.class), 100, 24, 200, 40_000, true);
+    }
+
+    private static RegistroIdempotencia pendente(LocalDateTime expiraEm) {
+        return RegistroIdempotencia.builder().chave("c").impressao("i").expiraEm(expiraEm).build();
+    }
+
+    @Test
+    void novaReservaTemPrazoCurto() {
+        when(repository.findById("c")).thenReturn(Optional.empty());
+
+        assertThat(armazenamento.reservar("c", "i").dono()).isTrue();
+
+        ArgumentCaptor<RegistroIdempotencia> inserido = ArgumentCaptor.forClass(RegistroIdempotencia.class);
+        verify(entityManager).persist(inserido.capture());
+        assertThat(inserido.getValue().getStatus()).isNull();
+        assertThat(inserido.getValue().getExpiraEm())
+                .isAfter(LocalDateTime.now().plusSeconds(30))
+                .isBefore(LocalDateTime.now().plusMinutes(1));
+    }
+
+    @Test
+    void reservaAbandonadaEAssumidaDepoisDoPrazo() {
+        when(repository.findById("c")).thenReturn(Optional.of(pendente(LocalDateTime.now().minusSeconds(1))));
+
+        assertThat(armazenamento.reservar("c", "i").dono()).isTrue();
+
+        verify(repository).excluirSeVencida(eq("c"), any());
+        verify(entityManager).persist(any(RegistroIdempotencia.class));
+    }
+
+    @Test
+    void reservaEmAndamentoDentroDoPrazoResponde409() {
+        when(repository.findById("c")).thenReturn(Optional.of(pendente(LocalDateTime.now().plusSeconds(30))));
+
+        assertThatThrownBy(() -> armazenamento.reservar("c", "i"))
+                .isInstanceOf(ResponseStatusException.class)
+                .hasMessageContaining("409");
+        verify(repository, never()).excluirSeVencida(any(), any());
+        verify(entityManager, never()).persist(any());
+    }
+
+    @Test
+    void respostaGravadaRecebeAValidadeCompleta() {
+        when(repository.findById("c")).thenReturn(Optional.empty());
+        ArmazenamentoIdempotencia.Reserva reserva = armazenamento.reservar("c", "i");
+
+        armazenamento.concluir("c", reserva.execucao(), new RespostaArmazenada("i", 201, "application/json", new byte[0]));
+
+        ArgumentCaptor<LocalDateTime> expiraEm = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(repository).concluir(eq("c"), eq(201), eq("application/json"), any(), expiraEm.capture());
+        assertThat(expiraEm.getValue()).isAfter(LocalDateTime.now().plusHours(23));
+    }
+}
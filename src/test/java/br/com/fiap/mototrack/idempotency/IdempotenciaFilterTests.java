@@ -0,0 +1,150 @@
+package br.com.fiap.mototrack.idempotency;
+
+import br.com.fiap.mototrack.repository.RegistroIdempotenciaRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Filtro de `Idempotency-Key` (armazenamento em memória): repetição reproduzida, corpo divergente,
+ * repetição simultânea aguardando a primeira execução e respostas 5xx que não são guardadas.
+ */
+class IdempotenciaFilterTests {
+
+    private static final String CORPO = "{\"motoId\":1,\"tipo\":\"Saída\"}";
+
+    private final AtomicInteger execucoes = new AtomicInteger();
+    private IdempotenciaFilter filtro;
+
+    @BeforeEach
+    void iniciar() {
+        ArmazenamentoIdempotencia armazenamento = new ArmazenamentoIdempotencia(
+                mock(RegistroIdempotenciaRepository.class), mock(EntityManager.class),
+                mock(PlatformTransactionManager.class), 100, 24, 5_000, 40_000, false);
+        filtro = new IdempotenciaFilter(armazenamento, new ObjectMapper().findAndRegisterModules(), new SimpleMeterRegistry(), new MockEnvironment());
+    }
+
+    private static MockHttpServletRequest requisicao(String chave, String corpo) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/eventos");
+        request.setServletPath("/eventos");
+        request.addHeader(IdempotenciaFilter.CABECALHO, chave);
+        request.setContentType("application/json");
+        request.setContent(corpo.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+    /** Service simulado: responde `status` com o número da execução no corpo */
+    private FilterChain servico(int status) {
+        return (req, res) -> {
+            int n = execucoes.incrementAndGet();
+            ((HttpServletResponse) res).setStatus(status);
+            res.setContentType("application/json");
+            res.getWriter().write("{\"execucao\":" + n + "}");
+        };
+    }
+
+    private MockHttpServletResponse enviar(MockHttpServletRequest request, FilterChain chain) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filtro.doFilter(request, response, chain);
+        return response;
+    }
+
+    @Test
+    void repeticaoReproduzARespostaOriginal() throws Exception {
+        MockHttpServletResponse primeira = enviar(requisicao("k1", CORPO), servico(201));
+        MockHttpServletResponse repetida = enviar(requisicao("k1", CORPO), servico(201));
+
+        assertThat(execucoes).hasValue(1);
+        assertThat(primeira.getHeader(IdempotenciaFilter.CABECALHO_REPRODUZIDA)).isNull();
+        assertThat(repetida.getStatus()).isEqualTo(201);
+        assertThat(repetida.getHeader(IdempotenciaFilter.CABECALHO_REPRODUZIDA)).isEqualTo("true");
+        assertThat(repetida.getContentType()).startsWith("application/json");
+        assertThat(repetida.getContentAsString()).isEqualTo(primeira.getContentAsString()).isEqualTo("{\"execucao\":1}");
+    }
+
+    @Test
+    void mesmaChaveComOutroCorpoRetorna422() throws Exception {
+        enviar(requisicao("k1", CORPO), servico(201));
+        MockHttpServletResponse divergente = enviar(requisicao("k1", "{\"motoId\":2}"), servico(201));
+
+        assertThat(divergente.getStatus()).isEqualTo(422);
+        assertThat(execucoes).hasValue(1);
+    }
+
+    @Test
+    void repeticaoSimultaneaAguardaEReproduz() throws Exception {
+        CountDownLatch executando = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+        FilterChain lento = (req, res) -> {
+            executando.countDown();
+            try {
+                liberar.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            servico(201).doFilter(req, res);
+        };
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            Future<MockHttpServletResponse> primeira = executor.submit(() -> enviar(requisicao("k1", CORPO), lento));
+            assertThat(executando.await(5, TimeUnit.SECONDS)).isTrue();
+            Future<MockHttpServletResponse> repetida = executor.submit(() -> enviar(requisicao("k1", CORPO), lento));
+
+            // A repetição fica aguardando a primeira execução, sem executar o service
+            Thread.sleep(200);
+            assertThat(repetida.isDone()).isFalse();
+            liberar.countDown();
+
+            assertThat(primeira.get(5, TimeUnit.SECONDS).getContentAsString()).isEqualTo("{\"execucao\":1}");
+            MockHttpServletResponse reproduzida = repetida.get(5, TimeUnit.SECONDS);
+            assertThat(reproduzida.getStatus()).isEqualTo(201);
+            assertThat(reproduzida.getHeader(IdempotenciaFilter.CABECALHO_REPRODUZIDA)).isEqualTo("true");
+            assertThat(reproduzida.getContentAsString()).isEqualTo("{\"execucao\":1}");
+        }
+        assertThat(execucoes).hasValue(1);
+    }
+
+    @Test
+    void resposta5xxNaoEGuardada() throws Exception {
+        MockHttpServletResponse falha = enviar(requisicao("k1", CORPO), servico(503));
+        MockHttpServletResponse novaTentativa = enviar(requisicao("k1", CORPO), servico(201));
+
+        assertThat(falha.getStatus()).isEqualTo(503);
+        assertThat(novaTentativa.getStatus()).isEqualTo(201);
+        assertThat(novaTentativa.getHeader(IdempotenciaFilter.CABECALHO_REPRODUZIDA)).isNull();
+        assertThat(novaTentativa.getContentAsString()).isEqualTo("{\"execucao\":2}");
+        assertThat(execucoes).hasValue(2);
+    }
+
+    @Test
+    void chavesDeCaminhosDiferentesNaoSeMisturam() throws Exception {
+        enviar(requisicao("k1", CORPO), servico(201));
+        MockHttpServletRequest outraRota = requisicao("k1", CORPO);
+        outraRota.setRequestURI("/motos");
+        outraRota.setServletPath("/motos");
+
+        MockHttpServletResponse resposta = enviar(outraRota, servico(201));
+
+        assertThat(resposta.getHeader(IdempotenciaFilter.CABECALHO_REPRODUZIDA)).isNull();
+        assertThat(execucoes).hasValue(2);
+    }
+}
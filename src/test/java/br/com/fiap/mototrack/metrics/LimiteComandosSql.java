@@ -0,0 +1,37 @@
+package br.com.fiap.mototrack.metrics;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * # 🧮 LimiteComandosSql
+ *
+ * Falha o teste se alguma requisição feita por ele (via MockMvc) executar mais comandos SQL
+ * que o limite. Sem requisições, o limite vale para o teste como um todo.
+ *
+ * ---
+ * ## 📋 Como usar?
+ * ```java
+ * @Test
+ * @LimiteComandosSql(2)
+ * void listarUsuarios() throws Exception {
+ *     mockMvc.perform(get("/usuarios")).andExpect(status().isOk());
+ * }
+ * ```
+ *
+ * > Na classe, o limite vale para todos os testes que não declararem o seu.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(LimiteComandosSqlExtension.class)
+public @interface LimiteComandosSql {
+
+    /**
+     * Quantidade máxima de comandos SQL por requisição.
+     */
+    int value();
+}
@@ -0,0 +1,49 @@
+package br.com.fiap.mototrack.metrics;
+
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+
+import java.util.List;
+
+/**
+ * Extensão do `@LimiteComandosSql`: abre uma medição do `ContadorSql` em torno do teste
+ * e confere cada requisição registrada nela (as medições abertas pelo `MetricasRequisicaoFilter`).
+ *
+ * > O MockMvc executa a requisição na thread do teste, por isso as medições ficam aninhadas.
+ */
+public class LimiteComandosSqlExtension implements BeforeEachCallback, AfterEachCallback {
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        ContadorSql.iniciar(context.getDisplayName(), false);
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        ContadorSql.Medicao teste = ContadorSql.encerrar();
+        int limite = limite(context);
+
+        List<ContadorSql.Medicao> medidas = teste.internas().isEmpty() ? List.of(teste) : teste.internas();
+        StringBuilder violacoes = new StringBuilder();
+        for (ContadorSql.Medicao medicao : medidas) {
+            if (medicao.comandos() > limite) {
+                violacoes.append("\n- ").append(medicao.rotulo()).append(": ")
+                        .append(medicao.comandos()).append(" comandos (limite ").append(limite).append(")");
+                medicao.repetidos().forEach((formato, vezes) ->
+                        violacoes.append("\n    ").append(vezes).append("x ").append(formato));
+            }
+        }
+        if (!violacoes.isEmpty()) {
+            throw new AssertionError("Limite de comandos SQL excedido:" + violacoes);
+        }
+    }
+
+    private static int limite(ExtensionContext context) {
+        return AnnotationSupport.findAnnotation(context.getElement(), LimiteComandosSql.class)
+                .or(() -> AnnotationSupport.findAnnotation(context.getRequiredTestClass(), LimiteComandosSql.class))
+                .map(LimiteComandosSql::value)
+                .orElseThrow();
+    }
+}
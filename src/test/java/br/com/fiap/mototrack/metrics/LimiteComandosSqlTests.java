@@ -0,0 +1,142 @@
+package br.com.fiap.mototrack.metrics;
+
+import br.com.fiap.mototrack.model.Agendamento;
+import br.com.fiap.mototrack.model.Evento;
+import br.com.fiap.mototrack.model.Filial;
+import br.com.fiap.mototrack.model.Moto;
+import br.com.fiap.mototrack.model.Usuario;
+import br.com.fiap.mototrack.repository.AgendamentoRepository;
+import br.com.fiap.mototrack.repository.EventoRepository;
+import br.com.fiap.mototrack.repository.FilialRepository;
+import br.com.fiap.mototrack.repository.MotoRepository;
+import br.com.fiap.mototrack.repository.UsuarioRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Orçamento de comandos SQL dos endpoints de listagem: cada registro a mais na resposta
+ * não pode gerar um comando a mais (N+1).
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:limitecomandos;DB_CLOSE_DELAY=-1",
+        "mototrack.auth.habilitado=false",
+        "mototrack.sql.n-mais-um.habilitado=true"})
+@AutoConfigureMockMvc
+class LimiteComandosSqlTests {
+
+    private static final int REGISTROS = 6;
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private FilialRepository filialRepository;
+    @Autowired
+    private UsuarioRepository usuarioRepository;
+    @Autowired
+    private MotoRepository motoRepository;
+    @Autowired
+    private EventoRepository eventoRepository;
+    @Autowired
+    private AgendamentoRepository agendamentoRepository;
+
+    private Long motoId;
+
+    @BeforeEach
+    void popular() {
+        if (filialRepository.count() > 0) {
+            motoId = motoRepository.findAll().get(0).getId();
+            return;
+        }
+        List<Filial> filiais = new ArrayList<>();
+        for (int i = 0; i < REGISTROS; i++) {
+            filiais.add(filialRepository.save(Filial.builder().nome("Filial " + i).build()));
+        }
+        for (int i = 0; i < REGISTROS; i++) {
+            Filial filial = filiais.get(i);
+            usuarioRepository.save(Usuario.builder()
+                    .nome("Usuário " + i).email("usuario" + i + "@mototrack.com")
+                    .senha("senha123").perfil("OPERADOR").filial(filial).build());
+            Moto moto = motoRepository.save(Moto.builder()
+                    .placa("SQL0A" + String.format("%02d", i)).modelo("Pop").marca("Honda")
+                    .ano(2022).status("Disponível").filial(filial).build());
+            eventoRepository.save(Evento.builder()
+                    .moto(moto).filial(filial).tipo("Entrada").motivo("Teste")
+                    .dataHora(LocalDateTime.now().minusDays(1)).build());
+            agendamentoRepository.save(Agendamento.builder()
+                    .moto(moto).filial(filial).descricao("Revisão")
+                    .dataAgendada(LocalDateTime.now().plusDays(10).plusHours(i)).build());
+        }
+        motoId = motoRepository.findAll().get(0).getId();
+    }
+
+    @Test
+    @LimiteComandosSql(1)
+    void listarUsuarios() throws Exception {
+        mockMvc.perform(get("/usuarios")).andExpect(status().isOk());
+    }
+
+    @Test
+    @LimiteComandosSql(2)
+    void filtrarUsuarios() throws Exception {
+        mockMvc.perform(get("/usuarios/filtro")).andExpect(status().isOk());
+    }
+
+    @Test
+    @LimiteComandosSql(2)
+    void filtrarMotos() throws Exception {
+        mockMvc.perform(get("/motos/filtro")).andExpect(status().isOk());
+    }
+
+    @Test
+    @LimiteComandosSql(1)
+    void buscarMoto() throws Exception {
+        mockMvc.perform(get("/motos/" + motoId)).andExpect(status().isOk());
+    }
+
+    @Test
+    @LimiteComandosSql(2)
+    void filtrarEventos() throws Exception {
+        mockMvc.perform(get("/eventos/filtro")).andExpect(status().isOk());
+    }
+
+    @Test
+    @LimiteComandosSql(2)
+    void filtrarAgendamentos() throws Exception {
+        mockMvc.perform(get("/agendamentos/filtro")).andExpect(status().isOk());
+    }
+
+    @Test
+    @LimiteComandosSql(2)
+    void filtrarFiliais() throws Exception {
+        mockMvc.perform(get("/filiais/filtro")).andExpect(status().isOk());
+    }
+
+    @Test
+    @LimiteComandosSql(1)
+    void listarMotos() throws Exception {
+        mockMvc.perform(get("/motos")).andExpect(status().isOk());
+    }
+
+    @Test
+    @LimiteComandosSql(1)
+    void listarEventos() throws Exception {
+        mockMvc.perform(get("/eventos")).andExpect(status().isOk());
+    }
+
+    @Test
+    @LimiteComandosSql(1)
+    void listarAgendamentos() throws Exception {
+        mockMvc.perform(get("/agendamentos")).andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,86 @@
+package br.com.fiap.mototrack.scheduler;
+
+import br.com.fiap.mototrack.repository.AgendamentoRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Sincronização do agendador com as escritas: reagendar substitui o temporizador anterior,
+ * cancelar o remove, datas além da janela ficam fora da roda e atrasados disparam no próximo tick.
+ */
+class AgendadorAgendamentosTests {
+
+    private final DisparoAgendamentoService disparoService = mock(DisparoAgendamentoService.class);
+    private AgendadorAgendamentos agendador;
+
+    @BeforeEach
+    void iniciar() {
+        agendador = new AgendadorAgendamentos(mock(AgendamentoRepository.class), disparoService);
+        ReflectionTestUtils.setField(agendador, "tickMs", 100L);
+        ReflectionTestUtils.setField(agendador, "janelaHoras", 168L);
+        ReflectionTestUtils.setField(agendador, "atrasoMaximoHoras", 24L);
+        ReflectionTestUtils.setField(agendador, "tamanhoLote", 100);
+        ReflectionTestUtils.setField(agendador, "threads", 1);
+        ReflectionTestUtils.setField(agendador, "novaTentativaSegundos", 60L);
+        agendador.iniciar();
+    }
+
+    @AfterEach
+    void parar() {
+        agendador.parar();
+    }
+
+    @Test
+    void reagendarSubstituiOTemporizadorAnterior() {
+        agendador.agendar(1L, LocalDateTime.now().plus(300, ChronoUnit.MILLIS));
+        agendador.agendar(1L, LocalDateTime.now().plusHours(1));
+
+        assertThat(agendador.pendentes()).isEqualTo(1);
+        verify(disparoService, after(800).never()).disparar(1L);
+    }
+
+    @Test
+    void reagendarAntecipaODisparo() {
+        agendador.agendar(1L, LocalDateTime.now().plusHours(1));
+        agendador.agendar(1L, LocalDateTime.now().plus(200, ChronoUnit.MILLIS));
+
+        verify(disparoService, timeout(2000)).disparar(1L);
+        assertThat(agendador.pendentes()).isZero();
+    }
+
+    @Test
+    void cancelarRemoveDaRoda() {
+        agendador.agendar(1L, LocalDateTime.now().plus(300, ChronoUnit.MILLIS));
+        agendador.cancelar(1L);
+        agendador.cancelar(1L);
+
+        assertThat(agendador.pendentes()).isZero();
+        verify(disparoService, after(800).never()).disparar(1L);
+    }
+
+    @Test
+    void dataAlemDaJanelaFicaParaAAmpliacao() {
+        agendador.agendar(1L, LocalDateTime.now().plusHours(1));
+        agendador.agendar(1L, LocalDateTime.now().plusHours(169));
+
+        assertThat(agendador.pendentes()).isZero();
+    }
+
+    @Test
+    void agendamentoAtrasadoDisparaNoProximoTick() {
+        agendador.agendar(1L, LocalDateTime.now().minusMinutes(5));
+
+        verify(disparoService, timeout(1000)).disparar(1L);
+    }
+}
@@ -0,0 +1,190 @@
+package br.com.fiap.mototrack.scheduler;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Roda de tempo hierárquica: cada temporizador vence exatamente no tick do prazo, passando pela
+ * cascata entre níveis, e cancelamentos/reagendamentos nunca disparam o prazo antigo.
+ *
+ * Roda pequena nos testes: 2 bits x 3 níveis = baldes de 1, 4 e 16 ticks, horizonte de 64 ticks.
+ */
+class TimingWheelTests {
+
+    private static final int BITS = 2;
+    private static final int NIVEIS = 3;
+    private static final long HORIZONTE = 64;
+
+    /** Tick em que cada valor venceu */
+    private final Map<String, Long> vencidos = new HashMap<>();
+
+    private void avancar(TimingWheel<String> roda, long ateTick) {
+        while (roda.tickAtual() < ateTick) {
+            roda.avancar(roda.tickAtual() + 1, valor -> {
+                assertThat(vencidos).doesNotContainKey(valor);
+                vencidos.put(valor, roda.tickAtual());
+            });
+        }
+    }
+
+    @Test
+    void venceNoTickDoPrazoEmTodosOsNiveis() {
+        TimingWheel<String> roda = new TimingWheel<>(BITS, NIVEIS, 0);
+        long[] prazos = {1, 3, 4, 5, 15, 16, 17, 40, 63};
+        for (long prazo : prazos) {
+            roda.agendar("t" + prazo, prazo);
+        }
+
+        avancar(roda, HORIZONTE);
+
+        for (long prazo : prazos) {
+            assertThat(vencidos).containsEntry("t" + prazo, prazo);
+        }
+        assertThat(roda.tamanho()).isZero();
+    }
+
+    @Test
+    void cascataComTickInicialDesalinhado() {
+        long inicio = 1_000_003;
+        TimingWheel<String> roda = new TimingWheel<>(BITS, NIVEIS, inicio);
+        // Deltas que cruzam as fronteiras de balde dos níveis 1 e 2 a partir de um tick não alinhado
+        long[] deltas = {1, 2, 3, 4, 12, 13, 14, 29, 45, 60, 63};
+        for (long delta : deltas) {
+            roda.agendar("d" + delta, inicio + delta);
+        }
+
+        avancar(roda, inicio + HORIZONTE);
+
+        for (long delta : deltas) {
+            assertThat(vencidos).containsEntry("d" + delta, inicio + delta);
+        }
+    }
+
+    @Test
+    void prazoAlemDoHorizonteEReavaliadoAteVencer() {
+        TimingWheel<String> roda = new TimingWheel<>(BITS, NIVEIS, 0);
+        roda.agendar("longe", 3 * HORIZONTE + 7);
+        roda.agendar("horizonte", HORIZONTE);
+
+        avancar(roda, 3 * HORIZONTE + 6);
+        assertThat(vencidos).containsOnlyKeys("horizonte").containsEntry("horizonte", HORIZONTE);
+        assertThat(roda.tamanho()).isEqualTo(1);
+
+        avancar(roda, 3 * HORIZONTE + 7);
+        assertThat(vencidos).containsEntry("longe", 3 * HORIZONTE + 7);
+        assertThat(roda.tamanho()).isZero();
+    }
+
+    @Test
+    void prazoJaVencidoDisparaNoProximoTick() {
+        TimingWheel<String> roda = new TimingWheel<>(BITS, NIVEIS, 100);
+        TimingWheel.Temporizador<String> passado = roda.agendar("passado", 40);
+        roda.agendar("agora", 100);
+
+        assertThat(passado.prazo()).isEqualTo(101);
+        avancar(roda, 101);
+
+        assertThat(vencidos).containsEntry("passado", 101L).containsEntry("agora", 101L);
+        assertThat(passado.ativo()).isFalse();
+    }
+
+    @Test
+    void avancoEmSaltoEntregaOsVencidosEmOrdemDeTick() {
+        TimingWheel<String> roda = new TimingWheel<>(BITS, NIVEIS, 0);
+        roda.agendar("c", 50);
+        roda.agendar("a", 2);
+        roda.agendar("b", 17);
+        roda.agendar("depois", 51);
+
+        List<String> ordem = new ArrayList<>();
+        roda.avancar(50, ordem::add);
+
+        assertThat(ordem).containsExactly("a", "b", "c");
+        assertThat(roda.tickAtual()).isEqualTo(50);
+        assertThat(roda.tamanho()).isEqualTo(1);
+    }
+
+    @Test
+    void cancelamentoRemoveDaRoda() {
+        TimingWheel<String> roda = new TimingWheel<>(BITS, NIVEIS, 0);
+        TimingWheel.Temporizador<String> cancelado = roda.agendar("cancelado", 20);
+        TimingWheel.Temporizador<String> mantido = roda.agendar("mantido", 20);
+
+        assertThat(roda.cancelar(cancelado)).isTrue();
+        assertThat(roda.cancelar(cancelado)).isFalse();
+        assertThat(cancelado.ativo()).isFalse();
+        assertThat(roda.tamanho()).isEqualTo(1);
+
+        avancar(roda, 20);
+
+        assertThat(vencidos).containsOnlyKeys("mantido");
+        assertThat(roda.cancelar(mantido)).isFalse();
+        assertThat(roda.tamanho()).isZero();
+    }
+
+    @Test
+    void cancelamentoDepoisDaCascata() {
+        TimingWheel<String> roda = new TimingWheel<>(BITS, NIVEIS, 0);
+        TimingWheel.Temporizador<String> temporizador = roda.agendar("t", 37);
+
+        // Em 32 o temporizador desce do nível 2 para o nível 1, e em 36 para o nível 0
+        avancar(roda, 36);
+        assertThat(roda.cancelar(temporizador)).isTrue();
+        avancar(roda, HORIZONTE);
+
+        assertThat(vencidos).isEmpty();
+    }
+
+    @Test
+    void reagendamentoDisparaApenasONovoPrazo() {
+        TimingWheel<String> roda = new TimingWheel<>(BITS, NIVEIS, 0);
+        TimingWheel.Temporizador<String> original = roda.agendar("t", 30);
+
+        avancar(roda, 10);
+        roda.cancelar(original);
+        roda.agendar("t", 12);
+        avancar(roda, 12);
+        assertThat(vencidos).containsEntry("t", 12L);
+
+        vencidos.clear();
+        TimingWheel.Temporizador<String> adiado = roda.agendar("u", 14);
+        roda.cancelar(adiado);
+        roda.agendar("u", 200);
+        avancar(roda, 200);
+
+        assertThat(vencidos).containsOnlyKeys("u").containsEntry("u", 200L);
+        assertThat(roda.tamanho()).isZero();
+    }
+
+    @Test
+    void prazosAleatoriosComCancelamentos() {
+        Random random = new Random(42);
+        long inicio = 12_345;
+        TimingWheel<String> roda = new TimingWheel<>(BITS, NIVEIS, inicio);
+        Map<String, Long> esperados = new HashMap<>();
+        List<TimingWheel.Temporizador<String>> ativos = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            long prazo = inicio + 1 + random.nextInt((int) (4 * HORIZONTE));
+            ativos.add(roda.agendar("v" + i, prazo));
+            esperados.put("v" + i, prazo);
+        }
+        for (int i = 0; i < 500; i++) {
+            TimingWheel.Temporizador<String> temporizador = ativos.get(random.nextInt(ativos.size()));
+            if (roda.cancelar(temporizador)) {
+                esperados.remove(temporizador.valor());
+            }
+        }
+
+        avancar(roda, inicio + 4 * HORIZONTE + 1);
+
+        assertThat(vencidos).isEqualTo(esperados);
+        assertThat(roda.tamanho()).isZero();
+    }
+}